@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.util.function.BooleanSupplier;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import lombok.NonNull;
+
+/**
+ * Bounded node-local cache for results of model inference. Entries are evicted once the cache holds more than the
+ * configured number of entries or once they are older than the configured time to live. Hits, misses and evictions
+ * are reported as event stats so the effectiveness of the cache is visible through the neural stats API.
+ *
+ * @param <K> cache key type, must implement equals and hashCode
+ * @param <V> cached inference result type
+ */
+public class InferenceResultCache<K, V> {
+    private final Cache<K, V> cache;
+    private final long maxEntries;
+    private final BooleanSupplier enabledSupplier;
+    private final EventStatName hitStatName;
+    private final EventStatName missStatName;
+    private final EventStatName evictionStatName;
+
+    /**
+     * Constructor
+     * @param maxEntries maximum number of entries the cache can hold, 0 disables the cache
+     * @param expireAfterWrite time to live of an entry, a non-positive value disables time based eviction
+     * @param enabledSupplier supplier of the dynamic flag that turns the cache on and off
+     * @param hitStatName event stat incremented on a cache hit
+     * @param missStatName event stat incremented on a cache miss
+     * @param evictionStatName event stat incremented when an entry is evicted by size or time
+     */
+    public InferenceResultCache(
+        final long maxEntries,
+        @NonNull final TimeValue expireAfterWrite,
+        @NonNull final BooleanSupplier enabledSupplier,
+        @NonNull final EventStatName hitStatName,
+        @NonNull final EventStatName missStatName,
+        @NonNull final EventStatName evictionStatName
+    ) {
+        this.maxEntries = maxEntries;
+        this.enabledSupplier = enabledSupplier;
+        this.hitStatName = hitStatName;
+        this.missStatName = missStatName;
+        this.evictionStatName = evictionStatName;
+
+        CacheBuilder<K, V> cacheBuilder = CacheBuilder.<K, V>builder()
+            .setMaximumWeight(Math.max(maxEntries, 0L))
+            .removalListener(this::onRemoval);
+        if (expireAfterWrite.nanos() > 0) {
+            cacheBuilder.setExpireAfterWrite(expireAfterWrite);
+        }
+        this.cache = cacheBuilder.build();
+    }
+
+    /**
+     * Checks if the cache should be consulted and populated
+     * @return true if the cache has capacity and is enabled by settings
+     */
+    public boolean isEnabled() {
+        return maxEntries > 0 && enabledSupplier.getAsBoolean();
+    }
+
+    /**
+     * Gets the cached inference result for the key and records a hit or miss
+     * @param key cache key
+     * @return cached value or null if the cache is disabled or does not contain the key
+     */
+    public V get(@NonNull final K key) {
+        if (isEnabled() == false) {
+            return null;
+        }
+        final V value = cache.get(key);
+        EventStatsManager.increment(value == null ? missStatName : hitStatName);
+        return value;
+    }
+
+    /**
+     * Stores the inference result for the key, no-op if the cache is disabled
+     * @param key cache key
+     * @param value inference result
+     */
+    public void put(@NonNull final K key, final V value) {
+        if (value == null || isEnabled() == false) {
+            return;
+        }
+        cache.put(key, value);
+    }
+
+    /**
+     * Drops all entries, used when the cache is turned off by settings
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Callback for updates of the dynamic setting that turns the cache on and off. Entries are dropped when the cache is
+     * turned off, so they don't hold memory while the cache is off and stale results are not served once it's turned back on
+     * @param enabled new value of the setting
+     */
+    public void onEnabledSettingUpdate(final boolean enabled) {
+        if (enabled == false) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Gets the number of entries currently held by the cache
+     * @return number of entries
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    private void onRemoval(final RemovalNotification<K, V> notification) {
+        if (notification.getRemovalReason() == RemovalReason.EVICTED) {
+            EventStatsManager.increment(evictionStatName);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import org.opensearch.common.hash.MessageDigests;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Key of cached ingest-time inference results. The key is content addressed: documents sharing a text reuse the same
+ * result regardless of their ids. Ingested texts can be long, so only their SHA-256 digest is kept in the key.
+ */
+@Value
+public class IngestInferenceCacheKey {
+    String modelId;
+    // distinguishes results of the same model that are post-processed differently, e.g. by the prune settings
+    String resultType;
+    String textHash;
+
+    /**
+     * Creates the cache key for an ingested text
+     * @param modelId id of the model used for inference
+     * @param resultType type of the cached result
+     * @param text ingested text
+     * @return cache key
+     */
+    public static IngestInferenceCacheKey of(@NonNull final String modelId, @NonNull final String resultType, @NonNull final String text) {
+        return new IngestInferenceCacheKey(
+            modelId,
+            resultType,
+            MessageDigests.toHexString(MessageDigests.sha256().digest(text.getBytes(StandardCharsets.UTF_8)))
+        );
+    }
+}
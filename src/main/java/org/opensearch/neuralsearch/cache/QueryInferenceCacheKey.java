@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang.StringUtils;
+import org.opensearch.common.hash.MessageDigests;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Key of cached search-time inference results. Query images can be large base64 strings, so only their SHA-256
+ * digest is kept in the key.
+ */
+@Value
+public class QueryInferenceCacheKey {
+    String modelId;
+    String queryText;
+    String queryImageHash;
+
+    /**
+     * Creates the cache key for a query
+     * @param modelId id of the model used for inference
+     * @param queryText query text, may be null
+     * @param queryImage base64 encoded query image, may be null
+     * @return cache key
+     */
+    public static QueryInferenceCacheKey of(@NonNull final String modelId, final String queryText, final String queryImage) {
+        return new QueryInferenceCacheKey(modelId, queryText, hash(queryImage));
+    }
+
+    private static String hash(final String value) {
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        return MessageDigests.toHexString(MessageDigests.sha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
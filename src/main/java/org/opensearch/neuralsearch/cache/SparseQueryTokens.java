@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.neuralsearch.util.prune.PruneType;
+import org.opensearch.neuralsearch.util.prune.PruneUtils;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Query tokens produced by a sparse model for one query text. Besides the full token map it memoizes the phase one
+ * and phase two token sets of the two-phase search, one pair per prune type and prune ratio, so repeated queries do
+ * not split the same tokens again. All maps handed out are read only.
+ */
+public class SparseQueryTokens {
+    @Getter
+    private final Map<String, Float> queryTokens;
+    private final Map<Tuple<PruneType, Float>, Tuple<Map<String, Float>, Map<String, Float>>> splitQueryTokens = new ConcurrentHashMap<>();
+
+    public SparseQueryTokens(@NonNull final Map<String, Float> queryTokens) {
+        this.queryTokens = Collections.unmodifiableMap(queryTokens);
+    }
+
+    /**
+     * Gets the query tokens split by the prune type and ratio
+     * @param pruneType prune type of the two-phase search
+     * @param pruneRatio prune ratio of the two-phase search
+     * @return tuple of phase one tokens with high scores and phase two tokens with low scores
+     */
+    public Tuple<Map<String, Float>, Map<String, Float>> getSplitQueryTokens(@NonNull final PruneType pruneType, final float pruneRatio) {
+        return splitQueryTokens.computeIfAbsent(new Tuple<>(pruneType, pruneRatio), key -> {
+            final Tuple<Map<String, Float>, Map<String, Float>> splitTokens = PruneUtils.splitSparseVector(
+                pruneType,
+                pruneRatio,
+                queryTokens
+            );
+            return new Tuple<>(Collections.unmodifiableMap(splitTokens.v1()), Collections.unmodifiableMap(splitTokens.v2()));
+        });
+    }
+}
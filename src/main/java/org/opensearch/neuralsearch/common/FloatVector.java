@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.common;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import lombok.NonNull;
+
+/**
+ * Immutable {@link List} view of a dense vector backed by a primitive float array. Model outputs are decoded into this
+ * list so an embedding is carried through result mapping as a single array instead of a list of boxed numbers. Values
+ * are boxed once the vector is written to a document, see {@link VectorUtil#toSourceValue(Object)}.
+ */
+public final class FloatVector extends AbstractList<Float> implements RandomAccess {
+    private final float[] values;
+
+    private FloatVector(final float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Creates a vector from the given values, the array is not copied and must not be modified afterwards
+     * @param values values of the vector
+     * @return vector backed by the array
+     */
+    public static FloatVector wrap(@NonNull final float[] values) {
+        return new FloatVector(values);
+    }
+
+    /**
+     * Creates a vector from model output data if all values are floats, so the values are kept exactly as returned by the
+     * model
+     * @param data model output data
+     * @return vector with the values of the data, or null if the data has values of other types
+     */
+    public static FloatVector fromFloats(@NonNull final Number[] data) {
+        final float[] values = new float[data.length];
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] instanceof Float value) {
+                values[i] = value;
+            } else {
+                return null;
+            }
+        }
+        return new FloatVector(values);
+    }
+
+    @Override
+    public Float get(final int index) {
+        return values[index];
+    }
+
+    /**
+     * Gets the value at the index without boxing it
+     * @param index index of the value
+     * @return value at the index
+     */
+    public float getFloat(final int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Copies the values of the vector into a new array
+     * @return array of the values
+     */
+    public float[] toFloatArray() {
+        return Arrays.copyOf(values, values.length);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof FloatVector other) {
+            return Arrays.equals(values, other.values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // same as the hash code of a list of the boxed values, see List#hashCode
+        int hashCode = 1;
+        for (float value : values) {
+            hashCode = 31 * hashCode + Float.hashCode(value);
+        }
+        return hashCode;
+    }
+}
@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.common;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import lombok.AccessLevel;
@@ -22,10 +23,27 @@ public class VectorUtil {
      * @return array of floats produced from input list
      */
     public static float[] vectorAsListToArray(List<Number> vectorAsList) {
+        if (vectorAsList instanceof FloatVector floatVector) {
+            return floatVector.toFloatArray();
+        }
         float[] vector = new float[vectorAsList.size()];
         for (int i = 0; i < vectorAsList.size(); i++) {
             vector[i] = vectorAsList.get(i).floatValue();
         }
         return vector;
     }
+
+    /**
+     * Converts an inference result to the value written to the document source. A {@link FloatVector} is copied into a
+     * mutable list, so later processors of the pipeline can modify the embedding like any other source value.
+     *
+     * @param inferenceResult inference result of a single input
+     * @return value to write to the document source
+     */
+    public static Object toSourceValue(Object inferenceResult) {
+        if (inferenceResult instanceof FloatVector floatVector) {
+            return new ArrayList<>(floatVector);
+        }
+        return inferenceResult;
+    }
 }
@@ -10,16 +10,29 @@ import lombok.experimental.PackagePrivate;
 import org.apache.lucene.search.TaskExecutor;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.LongSupplier;
+
 /**
  * {@link HybridQueryExecutor} provides necessary implementation and instances to execute
  * sub-queries from hybrid query in parallel as a Task by caller. This ensures that one thread pool
  * is used for hybrid query execution per node. The number of parallelization is also constrained
  * by twice allocated processor count since most of the operation from hybrid search is expected to be
  * short-lived thread. This will help us to achieve optimal parallelization and reasonable throughput.
+ * Tasks are run per {@link HybridQueryTaskType}, so task count, queue wait and execution time of each type is exposed in
+ * neural stats, while active threads, queue size and rejections of the pool are available from the node thread pool stats.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HybridQueryExecutor {
@@ -28,7 +41,11 @@ public final class HybridQueryExecutor {
     private static final Integer MAX_THREAD_SIZE = 1000;
     private static final Integer MIN_THREAD_SIZE = 2;
     private static final Integer PROCESSOR_COUNT_MULTIPLIER = 2;
+    private static final TaskExecutor INLINE_TASK_EXECUTOR = new TaskExecutor(Runnable::run);
     private static TaskExecutor taskExecutor;
+    private static ExecutorService executorService;
+    private static int threadPoolSize = 1;
+    private static NeuralSearchSettingsAccessor settingsAccessor;
 
     /**
      * Provide fixed executor builder to use for hybrid query executors
@@ -52,12 +69,88 @@ public final class HybridQueryExecutor {
      * @param threadPool OpenSearch's thread pool instance
      */
     public static void initialize(ThreadPool threadPool) {
+        initialize(threadPool, null);
+    }
+
+    /**
+     * Initialize @{@link TaskExecutor} to run tasks concurrently using {@link ThreadPool}
+     * @param threadPool OpenSearch's thread pool instance
+     * @param settingsAccessor accessor of settings that control how tasks are run, defaults are used if null
+     */
+    public static void initialize(ThreadPool threadPool, NeuralSearchSettingsAccessor settingsAccessor) {
         if (threadPool == null) {
             throw new IllegalArgumentException(
                 "Argument thread-pool to Hybrid Query Executor cannot be null. This is required to build executor to run actions in parallel"
             );
         }
-        taskExecutor = new TaskExecutor(threadPool.executor(HYBRID_QUERY_EXEC_THREAD_POOL_NAME));
+        ExecutorService executorService = threadPool.executor(HYBRID_QUERY_EXEC_THREAD_POOL_NAME);
+        ThreadPool.Info threadPoolInfo = threadPool.info(HYBRID_QUERY_EXEC_THREAD_POOL_NAME);
+        taskExecutor = new TaskExecutor(new HybridQueryInstrumentedExecutor(executorService));
+        HybridQueryExecutor.executorService = executorService;
+        threadPoolSize = threadPoolInfo != null ? Math.max(threadPoolInfo.getMax(), 1) : 1;
+        HybridQueryExecutor.settingsAccessor = settingsAccessor;
+    }
+
+    /**
+     * Check if sub-queries of a hybrid query should be scored in parallel, each as its own task
+     * @return true if the executor is initialized and parallel scoring of sub-queries is enabled
+     */
+    public static boolean isParallelSubQueryScoringEnabled() {
+        return taskExecutor != null && settingsAccessor != null && settingsAccessor.isHybridQueryParallelSubQueryScoringEnabled();
+    }
+
+    /**
+     * Get the number of tasks to process results of shards with on the coordinator node
+     * @param numOfShards number of shards
+     * @param numOfCandidates supplier of the number of candidate docs summed over all shards and sub-queries, only called
+     * if parallel processing of shard results is enabled
+     * @return 1 if results must be processed on the calling thread, i.e. the executor is not initialized, parallel processing
+     * of shard results is disabled, or there are fewer than two shards or too few candidates to benefit from it, otherwise
+     * the number of shards capped by the size of the hybrid query thread pool
+     */
+    public static int getShardResultsParallelism(int numOfShards, LongSupplier numOfCandidates) {
+        if (taskExecutor == null
+            || settingsAccessor == null
+            || settingsAccessor.isHybridQueryParallelShardResultsProcessingEnabled() == false
+            || numOfShards < 2
+            || numOfCandidates.getAsLong() < settingsAccessor.getHybridQueryParallelShardResultsProcessingMinCandidates()) {
+            return 1;
+        }
+        return Math.min(numOfShards, threadPoolSize);
+    }
+
+    /**
+     * Run tasks of the given type on the hybrid query thread pool and wait for all of them to finish
+     * @param taskType type of the tasks
+     * @param tasks tasks to run
+     * @return results of the tasks in the order of the tasks
+     * @throws IOException if any of the tasks throws IOException
+     */
+    public static <T> List<T> invokeAll(HybridQueryTaskType taskType, List<Callable<T>> tasks) throws IOException {
+        return invokeAll(getExecutor(), taskType, tasks);
+    }
+
+    /**
+     * Run tasks of the given type on the given executor and wait for all of them to finish. Every task records its queue
+     * wait and execution time in the stats of its type, no matter if it runs on the thread pool or on the calling thread.
+     * In adaptive inline mode tasks are run on the calling thread if there are too few of them to benefit from running in
+     * parallel, or if all threads of the hybrid query thread pool are busy, as queueing them would only add the wait to
+     * the latency of the query.
+     * @param executor executor to run the tasks with
+     * @param taskType type of the tasks
+     * @param tasks tasks to run
+     * @return results of the tasks in the order of the tasks
+     * @throws IOException if any of the tasks throws IOException
+     */
+    public static <T> List<T> invokeAll(TaskExecutor executor, HybridQueryTaskType taskType, List<Callable<T>> tasks)
+        throws IOException {
+        final List<Callable<T>> instrumentedTasks = instrument(taskType, tasks, System::nanoTime);
+        if (isAdaptiveInlineEnabled()
+            && (tasks.size() < settingsAccessor.getHybridQueryExecutorAdaptiveInlineMinTasks() || isThreadPoolSaturated())) {
+            EventStatsManager.incrementBy(EventStatName.HYBRID_QUERY_TASKS_RUN_INLINE, tasks.size());
+            return INLINE_TASK_EXECUTOR.invokeAll(instrumentedTasks);
+        }
+        return executor.invokeAll(instrumentedTasks);
     }
 
     /**
@@ -65,7 +158,7 @@ public final class HybridQueryExecutor {
      * @return TaskExecutor instance to help run search tasks in parallel
      */
     public static TaskExecutor getExecutor() {
-        return taskExecutor != null ? taskExecutor : new TaskExecutor(Runnable::run);
+        return taskExecutor != null ? taskExecutor : INLINE_TASK_EXECUTOR;
     }
 
     @PackagePrivate
@@ -73,6 +166,26 @@ public final class HybridQueryExecutor {
         return HYBRID_QUERY_EXEC_THREAD_POOL_NAME;
     }
 
+    private static boolean isAdaptiveInlineEnabled() {
+        return settingsAccessor != null && settingsAccessor.isHybridQueryExecutorAdaptiveInlineEnabled();
+    }
+
+    private static boolean isThreadPoolSaturated() {
+        if (executorService instanceof ThreadPoolExecutor threadPoolExecutor) {
+            return threadPoolExecutor.getActiveCount() >= threadPoolExecutor.getMaximumPoolSize();
+        }
+        return false;
+    }
+
+    static <T> List<Callable<T>> instrument(HybridQueryTaskType taskType, List<Callable<T>> tasks, LongSupplier nanoTime) {
+        final long submitTime = nanoTime.getAsLong();
+        final List<Callable<T>> instrumentedTasks = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            instrumentedTasks.add(new HybridQueryInstrumentedTask<>(task, taskType, nanoTime, submitTime));
+        }
+        return instrumentedTasks;
+    }
+
     /**
      * Will use thread size as twice the default allocated processor. We selected twice allocated processor
      * since hybrid query action is expected to be short-lived . This will balance throughput and latency
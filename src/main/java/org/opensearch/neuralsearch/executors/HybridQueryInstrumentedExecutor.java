@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import lombok.AllArgsConstructor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link Executor} that runs hybrid query tasks on the hybrid query thread pool and counts rejections of the pool.
+ * Rejections are rethrown, so they are handled by the caller the same way as without instrumentation. Queue wait and
+ * execution time are recorded per task by {@link HybridQueryInstrumentedTask}, as the runnables passed to this executor
+ * by Lucene's TaskExecutor do not map one to one to the tasks.
+ */
+@AllArgsConstructor
+class HybridQueryInstrumentedExecutor implements Executor {
+    private final Executor delegate;
+
+    @Override
+    public void execute(Runnable command) {
+        try {
+            delegate.execute(command);
+        } catch (RejectedExecutionException e) {
+            EventStatsManager.increment(EventStatName.HYBRID_QUERY_TASKS_REJECTED);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import lombok.AllArgsConstructor;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Task of one {@link HybridQueryTaskType} that records how long it waited from submission until it started and how long
+ * it ran. The stats are recorded no matter if the task runs on the hybrid query thread pool or on the calling thread.
+ */
+@AllArgsConstructor
+class HybridQueryInstrumentedTask<T> implements Callable<T> {
+    private final Callable<T> delegate;
+    private final HybridQueryTaskType taskType;
+    private final LongSupplier nanoTime;
+    private final long submitTime;
+
+    @Override
+    public T call() throws Exception {
+        final long startTime = nanoTime.getAsLong();
+        try {
+            return delegate.call();
+        } finally {
+            final long endTime = nanoTime.getAsLong();
+            EventStatsManager.increment(taskType.getTasksStatName());
+            EventStatsManager.incrementBy(taskType.getQueueWaitStatName(), TimeUnit.NANOSECONDS.toMicros(startTime - submitTime));
+            EventStatsManager.incrementBy(taskType.getExecutionStatName(), TimeUnit.NANOSECONDS.toMicros(endTime - startTime));
+        }
+    }
+}
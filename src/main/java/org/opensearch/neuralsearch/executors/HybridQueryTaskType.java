@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+
+/**
+ * Types of tasks run by {@link HybridQueryExecutor}, each type tracks its own task count, queue wait and execution time
+ */
+@Getter
+@AllArgsConstructor
+public enum HybridQueryTaskType {
+    REWRITE(
+        EventStatName.HYBRID_QUERY_REWRITE_TASKS,
+        EventStatName.HYBRID_QUERY_REWRITE_QUEUE_WAIT_MICROS,
+        EventStatName.HYBRID_QUERY_REWRITE_EXECUTION_MICROS
+    ),
+    SCORER_SUPPLIER(
+        EventStatName.HYBRID_QUERY_SCORER_SUPPLIER_TASKS,
+        EventStatName.HYBRID_QUERY_SCORER_SUPPLIER_QUEUE_WAIT_MICROS,
+        EventStatName.HYBRID_QUERY_SCORER_SUPPLIER_EXECUTION_MICROS
+    ),
+    SUBQUERY_SCORING(
+        EventStatName.HYBRID_QUERY_SUBQUERY_SCORING_TASKS,
+        EventStatName.HYBRID_QUERY_SUBQUERY_SCORING_QUEUE_WAIT_MICROS,
+        EventStatName.HYBRID_QUERY_SUBQUERY_SCORING_EXECUTION_MICROS
+    ),
+    SHARD_RESULTS(
+        EventStatName.HYBRID_QUERY_SHARD_RESULTS_TASKS,
+        EventStatName.HYBRID_QUERY_SHARD_RESULTS_QUEUE_WAIT_MICROS,
+        EventStatName.HYBRID_QUERY_SHARD_RESULTS_EXECUTION_MICROS
+    );
+
+    private final EventStatName tasksStatName;
+    private final EventStatName queueWaitStatName;
+    private final EventStatName executionStatName;
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.neuralsearch.util.RetryUtil;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Tracks connection failures of inference calls per model to protect the node while the ML nodes serving a model are
+ * unreachable.
+ * <p>
+ * After a number of consecutive connection failures the breaker of the model opens and calls to the model fail fast
+ * without being sent. Once the open duration has passed calls are let through again, the next connection failure opens
+ * the breaker again while a successful call closes it.
+ * <p>
+ * Retries are limited by a token bucket per model: each connection failure takes a token, each successful call returns
+ * a fraction of a token, and retries are only allowed while more than half of the tokens are left. This caps the share
+ * of retries in the traffic to a model during longer outages.
+ */
+@Log4j2
+public class InferenceCircuitBreaker {
+    private static final int DEFAULT_FAILURE_THRESHOLD = 10;
+    private static final TimeValue DEFAULT_OPEN_DURATION = TimeValue.timeValueSeconds(5);
+    private static final double MAX_RETRY_TOKENS = 10;
+    private static final double RETRY_TOKEN_RATIO = 0.1;
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoTimeSupplier;
+    private final Map<String, ModelCallState> modelCallStates = new ConcurrentHashMap<>();
+
+    public InferenceCircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION, System::nanoTime);
+    }
+
+    InferenceCircuitBreaker(final int failureThreshold, final TimeValue openDuration, final LongSupplier nanoTimeSupplier) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.nanos();
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    /**
+     * Checks if a call to the model may be sent. If the breaker of the model is open the listener is failed.
+     * @param modelId id of the model
+     * @param listener listener of the call
+     * @return true if the call may be sent
+     */
+    public boolean tryAcquire(@NonNull final String modelId, @NonNull final ActionListener<?> listener) {
+        final ModelCallState state = modelCallStates.get(modelId);
+        if (state == null || state.isOpen(nanoTimeSupplier.getAsLong()) == false) {
+            return true;
+        }
+        EventStatsManager.increment(EventStatName.INFERENCE_CALLS_SHORT_CIRCUITED);
+        listener.onFailure(
+            new OpenSearchStatusException(
+                "Inference call to model [{}] is short-circuited after [{}] consecutive connection failures",
+                RestStatus.SERVICE_UNAVAILABLE,
+                modelId,
+                failureThreshold
+            )
+        );
+        return false;
+    }
+
+    /**
+     * Checks if the retry budget of the model allows another retry
+     * @param modelId id of the model
+     * @return true if the call may be retried
+     */
+    public boolean tryAcquireRetry(@NonNull final String modelId) {
+        final ModelCallState state = modelCallStates.get(modelId);
+        return state == null || state.hasRetryTokens();
+    }
+
+    /**
+     * Records a successful call to the model
+     * @param modelId id of the model
+     */
+    public void onSuccess(@NonNull final String modelId) {
+        final ModelCallState state = modelCallStates.get(modelId);
+        if (state == null) {
+            return;
+        }
+        state.onSuccess();
+        if (state.isHealthy()) {
+            modelCallStates.remove(modelId, state);
+        }
+    }
+
+    /**
+     * Records a failed call to the model, only connection failures count towards the breaker and the retry budget
+     * @param modelId id of the model
+     * @param exception failure of the call
+     */
+    public void onFailure(@NonNull final String modelId, final Exception exception) {
+        if (RetryUtil.isRetryableException(exception) == false) {
+            return;
+        }
+        final ModelCallState state = modelCallStates.computeIfAbsent(modelId, id -> new ModelCallState());
+        if (state.onFailure(nanoTimeSupplier.getAsLong())) {
+            log.warn(
+                "Opening circuit breaker for inference calls to model [{}] after [{}] consecutive failures",
+                modelId,
+                failureThreshold
+            );
+        }
+    }
+
+    private class ModelCallState {
+        private int consecutiveFailures;
+        private long openUntilNanos;
+        private double retryTokens = MAX_RETRY_TOKENS;
+
+        private synchronized boolean isOpen(final long nowNanos) {
+            return consecutiveFailures >= failureThreshold && nowNanos - openUntilNanos < 0;
+        }
+
+        private synchronized boolean hasRetryTokens() {
+            return retryTokens > MAX_RETRY_TOKENS / 2;
+        }
+
+        private synchronized boolean isHealthy() {
+            return consecutiveFailures == 0 && retryTokens >= MAX_RETRY_TOKENS;
+        }
+
+        private synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            retryTokens = Math.min(MAX_RETRY_TOKENS, retryTokens + RETRY_TOKEN_RATIO);
+        }
+
+        /**
+         * @return true if this failure opened the breaker
+         */
+        private synchronized boolean onFailure(final long nowNanos) {
+            consecutiveFailures++;
+            retryTokens = Math.max(0, retryTokens - 1);
+            if (consecutiveFailures < failureThreshold) {
+                return false;
+            }
+            openUntilNanos = nowNanos + openDurationNanos;
+            return consecutiveFailures == failureThreshold;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Caps the number of in-flight inference calls per model with a limit that adapts to the latency of the model, using
+ * additive increase and multiplicative decrease (AIMD).
+ * <p>
+ * A call that completes while at least half of the limit is in use raises the limit by one. A call that is much slower
+ * than the recent average latency of the model, or that fails with a server side error, lowers the limit by a constant
+ * ratio. Calls above the limit wait in a bounded queue per model and are rejected once the queue is full, so a degraded
+ * model endpoint pushes back on ingest and search instead of piling up calls.
+ */
+@Log4j2
+public class InferenceConcurrencyLimiter {
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 1;
+    private static final int MAX_LIMIT = 1000;
+    private static final double BACKOFF_RATIO = 0.9;
+    // a call is considered degraded if it takes longer than this factor times the average latency of the model
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double LATENCY_SMOOTHING = 0.05;
+
+    private final LongSupplier nanoTimeSupplier;
+    private final Map<String, ModelLimit> modelLimits = new ConcurrentHashMap<>();
+
+    public InferenceConcurrencyLimiter() {
+        this(System::nanoTime);
+    }
+
+    InferenceConcurrencyLimiter(final LongSupplier nanoTimeSupplier) {
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    /**
+     * Executes the call if the limit of the model allows it, queues it if the queue of the model has room, or rejects it
+     * @param modelId id of the model
+     * @param listener listener to notify with the result of the call
+     * @param call function executing the call and notifying the passed listener
+     * @param maxQueueSize maximum number of calls waiting for the limit of the model
+     * @param <T> result type of the call
+     */
+    public <T> void execute(
+        @NonNull final String modelId,
+        @NonNull final ActionListener<T> listener,
+        @NonNull final Consumer<ActionListener<T>> call,
+        final int maxQueueSize
+    ) {
+        final ModelLimit modelLimit = modelLimits.computeIfAbsent(modelId, id -> new ModelLimit());
+        final String rejectionReason;
+        synchronized (modelLimit) {
+            if (modelLimit.inFlight < modelLimit.getLimit()) {
+                modelLimit.inFlight++;
+                rejectionReason = null;
+            } else if (modelLimit.queue.size() < maxQueueSize) {
+                modelLimit.queue.add(() -> run(modelId, modelLimit, listener, call));
+                EventStatsManager.increment(EventStatName.INFERENCE_CALLS_QUEUED);
+                return;
+            } else {
+                rejectionReason = String.format(
+                    Locale.ROOT,
+                    "Inference call to model [%s] rejected, [%d] calls in flight and [%d] calls queued",
+                    modelId,
+                    modelLimit.inFlight,
+                    modelLimit.queue.size()
+                );
+            }
+        }
+
+        if (rejectionReason != null) {
+            EventStatsManager.increment(EventStatName.INFERENCE_CALLS_REJECTED);
+            listener.onFailure(new OpenSearchRejectedExecutionException(rejectionReason));
+            return;
+        }
+        run(modelId, modelLimit, listener, call);
+    }
+
+    /**
+     * Gets the current concurrency limit of the model
+     * @param modelId id of the model
+     * @return the limit, or the initial limit if no call was made to the model yet
+     */
+    public int getLimit(@NonNull final String modelId) {
+        final ModelLimit modelLimit = modelLimits.get(modelId);
+        if (modelLimit == null) {
+            return INITIAL_LIMIT;
+        }
+        synchronized (modelLimit) {
+            return modelLimit.getLimit();
+        }
+    }
+
+    /**
+     * Gets the number of calls waiting for the limit of the model
+     * @param modelId id of the model
+     * @return number of queued calls
+     */
+    public int getQueueDepth(@NonNull final String modelId) {
+        final ModelLimit modelLimit = modelLimits.get(modelId);
+        if (modelLimit == null) {
+            return 0;
+        }
+        synchronized (modelLimit) {
+            return modelLimit.queue.size();
+        }
+    }
+
+    /**
+     * Gets the sum of the current concurrency limits of the models called so far, exported as a gauge stat
+     * @return sum of the limits
+     */
+    public long getTotalLimit() {
+        long totalLimit = 0;
+        for (ModelLimit modelLimit : modelLimits.values()) {
+            synchronized (modelLimit) {
+                totalLimit += modelLimit.getLimit();
+            }
+        }
+        return totalLimit;
+    }
+
+    /**
+     * Gets the number of calls waiting for the limit of any model, exported as a gauge stat
+     * @return number of queued calls
+     */
+    public long getTotalQueueDepth() {
+        long totalQueueDepth = 0;
+        for (ModelLimit modelLimit : modelLimits.values()) {
+            synchronized (modelLimit) {
+                totalQueueDepth += modelLimit.queue.size();
+            }
+        }
+        return totalQueueDepth;
+    }
+
+    private <T> void run(
+        final String modelId,
+        final ModelLimit modelLimit,
+        final ActionListener<T> listener,
+        final Consumer<ActionListener<T>> call
+    ) {
+        final long startNanos = nanoTimeSupplier.getAsLong();
+        final AtomicBoolean released = new AtomicBoolean(false);
+        final ActionListener<T> releasingListener = new ActionListener<>() {
+            @Override
+            public void onResponse(final T response) {
+                if (released.compareAndSet(false, true)) {
+                    release(modelId, modelLimit, startNanos, false);
+                }
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(final Exception e) {
+                if (released.compareAndSet(false, true)) {
+                    release(modelId, modelLimit, startNanos, isOverloaded(e));
+                }
+                listener.onFailure(e);
+            }
+        };
+        try {
+            call.accept(releasingListener);
+        } catch (Exception e) {
+            releasingListener.onFailure(e);
+        }
+    }
+
+    private void release(final String modelId, final ModelLimit modelLimit, final long startNanos, final boolean overloaded) {
+        final long latencyNanos = nanoTimeSupplier.getAsLong() - startNanos;
+        final List<Runnable> dequeuedCalls = new ArrayList<>();
+        synchronized (modelLimit) {
+            if (modelLimit.onSample(latencyNanos, overloaded)) {
+                EventStatsManager.increment(EventStatName.INFERENCE_CONCURRENCY_LIMIT_DECREASES);
+                log.debug(
+                    "Lowered inference concurrency limit of model [{}] to [{}], [{}] calls queued",
+                    modelId,
+                    modelLimit.getLimit(),
+                    modelLimit.queue.size()
+                );
+            }
+            modelLimit.inFlight--;
+            while (modelLimit.queue.isEmpty() == false && modelLimit.inFlight < modelLimit.getLimit()) {
+                modelLimit.inFlight++;
+                dequeuedCalls.add(modelLimit.queue.poll());
+            }
+        }
+        dequeuedCalls.forEach(Runnable::run);
+    }
+
+    private static boolean isOverloaded(final Exception e) {
+        final RestStatus status = ExceptionsHelper.status(e);
+        return status == RestStatus.TOO_MANY_REQUESTS || status.getStatus() >= 500;
+    }
+
+    /**
+     * Limit state of a model, guarded by the monitor of the instance
+     */
+    private static class ModelLimit {
+        private final Queue<Runnable> queue = new ArrayDeque<>();
+        private double limit = INITIAL_LIMIT;
+        private int inFlight;
+        private double averageLatencyNanos;
+
+        private int getLimit() {
+            return (int) limit;
+        }
+
+        /**
+         * Adjusts the limit with the outcome of a completed call
+         * @return true if the limit was lowered
+         */
+        private boolean onSample(final long latencyNanos, final boolean overloaded) {
+            final boolean degraded = overloaded
+                || (averageLatencyNanos > 0 && latencyNanos > averageLatencyNanos * LATENCY_TOLERANCE);
+            if (overloaded == false) {
+                averageLatencyNanos = averageLatencyNanos == 0
+                    ? latencyNanos
+                    : averageLatencyNanos + (latencyNanos - averageLatencyNanos) * LATENCY_SMOOTHING;
+            }
+            if (degraded) {
+                final double lowered = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+                final boolean changed = (int) lowered < (int) limit;
+                limit = lowered;
+                return changed;
+            }
+            if (inFlight * 2 >= limit) {
+                limit = Math.min(MAX_LIMIT, limit + 1);
+            }
+            return false;
+        }
+    }
+}
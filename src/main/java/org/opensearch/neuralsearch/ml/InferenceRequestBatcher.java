@@ -0,0 +1,220 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.neuralsearch.util.RetryUtil;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Merges concurrent single-input inference calls to the same model into one multi-input call. A call waits at most for
+ * the batching window for other calls to join its batch, a batch that reaches the maximum size is sent right away. The
+ * results of the multi-input call are fanned out to the waiting listeners in input order.
+ * <p>
+ * If a batch fails with a client error, its calls are sent one by one so a single bad input does not fail every caller.
+ * Any other failure of a batch, like a connection error, overload or an open circuit breaker, fails all of its calls.
+ * If a model does not return exactly one result per input, the calls of the batch are sent one by one and the model is
+ * excluded from batching from then on.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class InferenceRequestBatcher {
+    private final ThreadPool threadPool;
+    private final Map<Key, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+    private final Set<Key> unbatchableKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Adds the call to the pending batch of its key, or executes it directly if the key cannot be batched
+     * @param key identity of the batch, calls with equal keys must only differ in their input
+     * @param input single input of the call
+     * @param listener listener to notify with the result of the call
+     * @param singleCall function executing the call on its own and notifying the passed listener
+     * @param batchCall function executing the call for a list of inputs and notifying the passed listener with one result per input
+     * @param window maximum time to wait for other calls to join the batch
+     * @param maxBatchSize maximum number of calls in a batch
+     * @param <R> result type of the call
+     */
+    @SuppressWarnings("unchecked")
+    public <R> void submit(
+        @NonNull final Key key,
+        @NonNull final String input,
+        @NonNull final ActionListener<R> listener,
+        @NonNull final Consumer<ActionListener<R>> singleCall,
+        @NonNull final BiConsumer<List<String>, ActionListener<List<R>>> batchCall,
+        @NonNull final TimeValue window,
+        final int maxBatchSize
+    ) {
+        if (maxBatchSize <= 1 || unbatchableKeys.contains(key)) {
+            singleCall.accept(listener);
+            return;
+        }
+
+        final PendingCall pendingCall = new PendingCall(
+            input,
+            (ActionListener<Object>) (ActionListener<?>) listener,
+            (Consumer<ActionListener<Object>>) (Consumer<?>) singleCall
+        );
+        final PendingBatch[] createdBatch = new PendingBatch[1];
+        final PendingBatch[] fullBatch = new PendingBatch[1];
+        pendingBatches.compute(key, (k, batch) -> {
+            if (batch == null) {
+                batch = new PendingBatch((BiConsumer<List<String>, ActionListener<List<Object>>>) (BiConsumer<?, ?>) batchCall);
+                createdBatch[0] = batch;
+            }
+            batch.calls.add(pendingCall);
+            if (batch.calls.size() >= maxBatchSize) {
+                fullBatch[0] = batch;
+                return null;
+            }
+            return batch;
+        });
+
+        if (fullBatch[0] != null) {
+            flush(key, fullBatch[0]);
+        } else if (createdBatch[0] != null) {
+            final PendingBatch batch = createdBatch[0];
+            threadPool.schedule(() -> {
+                if (pendingBatches.remove(key, batch)) {
+                    flush(key, batch);
+                }
+            }, window, ThreadPool.Names.GENERIC);
+        }
+    }
+
+    /**
+     * Gets the number of batches waiting to be sent
+     * @return number of pending batches
+     */
+    public int pendingBatchCount() {
+        return pendingBatches.size();
+    }
+
+    private void flush(final Key key, final PendingBatch batch) {
+        final List<PendingCall> calls = batch.calls;
+        if (calls.size() == 1) {
+            executeSingle(calls.getFirst());
+            return;
+        }
+
+        EventStatsManager.increment(EventStatName.INFERENCE_MICRO_BATCHES);
+        EventStatsManager.incrementBy(EventStatName.INFERENCE_MICRO_BATCHED_REQUESTS, calls.size());
+
+        final List<String> inputs = new ArrayList<>(calls.size());
+        for (PendingCall call : calls) {
+            inputs.add(call.input);
+        }
+        try {
+            batch.batchCall.accept(
+                inputs,
+                ActionListener.wrap(results -> onBatchResponse(key, calls, results), e -> onBatchFailure(calls, e))
+            );
+        } catch (Exception e) {
+            onBatchFailure(calls, e);
+        }
+    }
+
+    private void onBatchResponse(final Key key, final List<PendingCall> calls, final List<Object> results) {
+        if (results == null || results.size() != calls.size()) {
+            log.warn(
+                "Model [{}] returned [{}] results for a batch of [{}] inputs, disabling micro-batching for this model",
+                key.getModelId(),
+                results == null ? 0 : results.size(),
+                calls.size()
+            );
+            unbatchableKeys.add(key);
+            calls.forEach(this::executeSingle);
+            return;
+        }
+        for (int i = 0; i < calls.size(); i++) {
+            final ActionListener<Object> listener = calls.get(i).listener;
+            try {
+                listener.onResponse(results.get(i));
+            } catch (Exception e) {
+                // the listener has been notified already, notifying it again with the failure would complete it twice
+                log.error("Failed to notify listener of batched inference call", e);
+            }
+        }
+    }
+
+    private void onBatchFailure(final List<PendingCall> calls, final Exception exception) {
+        if (isInputSpecificFailure(exception)) {
+            log.warn("Batched inference call of [{}] inputs failed, sending the calls one by one", calls.size(), exception);
+            calls.forEach(this::executeSingle);
+            return;
+        }
+        log.warn("Batched inference call of [{}] inputs failed, failing all calls of the batch", calls.size(), exception);
+        for (PendingCall call : calls) {
+            try {
+                call.listener.onFailure(exception);
+            } catch (Exception e) {
+                log.error("Failed to notify listener of batched inference call", e);
+            }
+        }
+    }
+
+    /**
+     * Checks if the failure of a batch may be caused by some of its inputs, in which case sending the calls one by one
+     * lets the calls with valid inputs succeed. Connection errors, overload, rejections and open circuit breakers are
+     * not input specific, the batch has gone through retries already and resending its calls would only add load.
+     */
+    private static boolean isInputSpecificFailure(final Exception exception) {
+        if (RetryUtil.isRetryableException(exception)
+            || ExceptionsHelper.unwrap(exception, OpenSearchRejectedExecutionException.class) != null) {
+            return false;
+        }
+        final RestStatus status = ExceptionsHelper.status(ExceptionsHelper.unwrapCause(exception));
+        return status.getStatus() >= 400 && status.getStatus() < 500 && status != RestStatus.TOO_MANY_REQUESTS;
+    }
+
+    private void executeSingle(final PendingCall call) {
+        try {
+            call.singleCall.accept(call.listener);
+        } catch (Exception e) {
+            call.listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Identity of a batch. Calls of the same type to the same model with the same response filters can share a batch.
+     */
+    @Value
+    public static class Key {
+        String callType;
+        String modelId;
+        List<String> targetResponseFilters;
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingCall {
+        private final String input;
+        private final ActionListener<Object> listener;
+        private final Consumer<ActionListener<Object>> singleCall;
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingBatch {
+        private final BiConsumer<List<String>, ActionListener<List<Object>>> batchCall;
+        private final List<PendingCall> calls = new ArrayList<>();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Deduplicates concurrent identical inference calls. The first caller for a key executes the call, callers that arrive
+ * while the call is in flight attach their listeners to it and receive the same result or failure. Once the call
+ * completes the key is released, so there is no caching of results beyond the lifetime of the call.
+ */
+@Log4j2
+public class InferenceRequestCoalescer {
+    private final Map<Key, List<ActionListener<Object>>> inFlightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the call or attaches the listener to an identical call that is already in flight
+     * @param key identity of the call, calls with equal keys must produce equal results
+     * @param listener listener to notify with the result of the call
+     * @param call function executing the call and notifying the passed listener
+     * @param <T> result type of the call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void execute(
+        @NonNull final Key key,
+        @NonNull final ActionListener<T> listener,
+        @NonNull final Consumer<ActionListener<T>> call
+    ) {
+        final boolean[] isLeader = new boolean[1];
+        inFlightRequests.compute(key, (k, listeners) -> {
+            if (listeners == null) {
+                listeners = new ArrayList<>();
+                isLeader[0] = true;
+            }
+            listeners.add((ActionListener<Object>) listener);
+            return listeners;
+        });
+
+        if (isLeader[0] == false) {
+            EventStatsManager.increment(EventStatName.INFERENCE_REQUESTS_COALESCED);
+            return;
+        }
+
+        try {
+            call.accept(ActionListener.wrap(response -> onResponse(key, response), e -> onFailure(key, e)));
+        } catch (Exception e) {
+            onFailure(key, e);
+        }
+    }
+
+    /**
+     * Gets the number of distinct calls currently in flight
+     * @return number of in flight calls
+     */
+    public int inFlightCount() {
+        return inFlightRequests.size();
+    }
+
+    private void onResponse(final Key key, final Object response) {
+        for (ActionListener<Object> listener : release(key)) {
+            // each listener is notified exactly once, a listener failing to handle the result must not affect other
+            // listeners nor be notified again with the failure
+            try {
+                listener.onResponse(response);
+            } catch (Exception e) {
+                log.error("Failed to notify listener of coalesced inference call", e);
+            }
+        }
+    }
+
+    private void onFailure(final Key key, final Exception exception) {
+        for (ActionListener<Object> listener : release(key)) {
+            try {
+                listener.onFailure(exception);
+            } catch (Exception e) {
+                log.error("Failed to notify listener of failed coalesced inference call", e);
+            }
+        }
+    }
+
+    private List<ActionListener<Object>> release(final Key key) {
+        final List<ActionListener<Object>> listeners = inFlightRequests.remove(key);
+        return listeners == null ? List.of() : listeners;
+    }
+
+    /**
+     * Identity of an inference call. The call type distinguishes calls that produce differently shaped results for
+     * the same model and input.
+     */
+    @Value
+    public static class Key {
+        String callType;
+        String modelId;
+        Object input;
+        List<String> targetResponseFilters;
+
+        /**
+         * Creates the key, copying the input so later changes by the caller do not alter the identity of a call in flight
+         * @param callType type of the call
+         * @param modelId id of the model
+         * @param input list or map of inputs of the call
+         * @param targetResponseFilters response filters of the call, may be null
+         * @return key of the call
+         */
+        public static Key of(final String callType, final String modelId, final Object input, final List<String> targetResponseFilters) {
+            return new Key(callType, modelId, copyOf(input), targetResponseFilters == null ? null : new ArrayList<>(targetResponseFilters));
+        }
+
+        private static Object copyOf(final Object input) {
+            if (input instanceof List<?> list) {
+                return new ArrayList<>(list);
+            }
+            if (input instanceof Map<?, ?> map) {
+                return new HashMap<>(map);
+            }
+            return input;
+        }
+    }
+}
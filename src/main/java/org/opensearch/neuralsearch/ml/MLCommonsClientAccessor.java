@@ -16,7 +16,9 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.opensearch.core.action.ActionListener;
@@ -33,11 +35,16 @@ import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.neuralsearch.common.FloatVector;
 import org.opensearch.neuralsearch.processor.InferenceRequest;
 import org.opensearch.neuralsearch.processor.MapInferenceRequest;
 import org.opensearch.neuralsearch.processor.SimilarityInferenceRequest;
 import org.opensearch.neuralsearch.processor.TextInferenceRequest;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 import org.opensearch.neuralsearch.util.RetryUtil;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.ml.common.dataset.QuestionAnsweringInputDataSet;
 import org.opensearch.neuralsearch.processor.highlight.SentenceHighlightingRequest;
 
@@ -51,7 +58,31 @@ import lombok.extern.log4j.Log4j2;
 @RequiredArgsConstructor
 @Log4j2
 public class MLCommonsClientAccessor {
+    private static final String SENTENCES_VECTOR_CALL = "sentences_vector";
+    private static final String SENTENCES_MAP_CALL = "sentences_map";
+    private static final String MULTIMODAL_VECTOR_CALL = "multimodal_vector";
+    private static final String SIMILARITY_CALL = "similarity";
+
     private final MachineLearningNodeClient mlClient;
+    private final InferenceRequestCoalescer inferenceRequestCoalescer = new InferenceRequestCoalescer();
+    private NeuralSearchSettingsAccessor settingsAccessor;
+    private final InferenceCircuitBreaker inferenceCircuitBreaker = new InferenceCircuitBreaker();
+    private final InferenceConcurrencyLimiter inferenceConcurrencyLimiter = new InferenceConcurrencyLimiter();
+    private ThreadPool threadPool;
+    private InferenceRequestBatcher inferenceRequestBatcher;
+
+    /**
+     * Initializes dependencies that are only available once the plugin components are created
+     * @param settingsAccessor settings accessor to read dynamic settings
+     * @param threadPool thread pool to schedule retries and the sending of micro-batches
+     */
+    public void initialize(final NeuralSearchSettingsAccessor settingsAccessor, final ThreadPool threadPool) {
+        this.settingsAccessor = settingsAccessor;
+        this.threadPool = threadPool;
+        this.inferenceRequestBatcher = new InferenceRequestBatcher(threadPool);
+        EventStatsManager.registerGauge(EventStatName.INFERENCE_CONCURRENCY_LIMIT, inferenceConcurrencyLimiter::getTotalLimit);
+        EventStatsManager.registerGauge(EventStatName.INFERENCE_CALLS_QUEUE_DEPTH, inferenceConcurrencyLimiter::getTotalQueueDepth);
+    }
 
     /**
      * Wrapper around {@link #inferenceSentences} that expected a single input text and produces a single floating
@@ -98,14 +129,54 @@ public class MLCommonsClientAccessor {
         @NonNull final TextInferenceRequest inferenceRequest,
         @NonNull final ActionListener<List<List<Number>>> listener
     ) {
-        retryableInferenceSentencesWithVectorResult(inferenceRequest, 0, listener);
+        coalesce(
+            () -> InferenceRequestCoalescer.Key.of(
+                SENTENCES_VECTOR_CALL,
+                inferenceRequest.getModelId(),
+                inferenceRequest.getInputTexts(),
+                inferenceRequest.getTargetResponseFilters()
+            ),
+            listener,
+            coalescedListener -> retryableInferenceSentencesWithVectorResult(inferenceRequest, 0, coalescedListener)
+        );
     }
 
     public void inferenceSentencesWithMapResult(
         @NonNull final TextInferenceRequest inferenceRequest,
         @NonNull final ActionListener<List<Map<String, ?>>> listener
     ) {
-        retryableInferenceSentencesWithMapResult(inferenceRequest, 0, listener);
+        // target response filters are not applied for map results, so they are not part of the call identity
+        coalesce(
+            () -> InferenceRequestCoalescer.Key.of(
+                SENTENCES_MAP_CALL,
+                inferenceRequest.getModelId(),
+                inferenceRequest.getInputTexts(),
+                null
+            ),
+            listener,
+            coalescedListener -> {
+                if (inferenceRequest.isQueryInference() == false || inferenceRequest.getInputTexts().size() != 1) {
+                    retryableInferenceSentencesWithMapResult(inferenceRequest, 0, coalescedListener);
+                    return;
+                }
+                batch(
+                    new InferenceRequestBatcher.Key(SENTENCES_MAP_CALL, inferenceRequest.getModelId(), null),
+                    inferenceRequest.getInputTexts().getFirst(),
+                    coalescedListener,
+                    singleListener -> retryableInferenceSentencesWithMapResult(inferenceRequest, 0, singleListener),
+                    (inputTexts, batchListener) -> retryableInferenceSentencesWithMapResult(
+                        TextInferenceRequest.builder().modelId(inferenceRequest.getModelId()).inputTexts(inputTexts).build(),
+                        0,
+                        ActionListener.wrap(
+                            results -> batchListener.onResponse(
+                                results.stream().map(result -> Collections.<Map<String, ?>>singletonList(result)).toList()
+                            ),
+                            batchListener::onFailure
+                        )
+                    )
+                );
+            }
+        );
     }
 
     /**
@@ -117,7 +188,42 @@ public class MLCommonsClientAccessor {
      * @param listener {@link ActionListener} which will be called when prediction is completed or errored out.
      */
     public void inferenceSentencesMap(@NonNull MapInferenceRequest inferenceRequest, @NonNull final ActionListener<List<Number>> listener) {
-        retryableInferenceSentencesWithSingleVectorResult(inferenceRequest, 0, listener);
+        coalesce(
+            () -> InferenceRequestCoalescer.Key.of(
+                MULTIMODAL_VECTOR_CALL,
+                inferenceRequest.getModelId(),
+                inferenceRequest.getInputObjects(),
+                inferenceRequest.getTargetResponseFilters()
+            ),
+            listener,
+            coalescedListener -> {
+                final Map<String, String> inputObjects = inferenceRequest.getInputObjects();
+                if (inferenceRequest.isQueryInference() == false || inputObjects.size() != 1 || inputObjects.get(INPUT_TEXT) == null) {
+                    retryableInferenceSentencesWithSingleVectorResult(inferenceRequest, 0, coalescedListener);
+                    return;
+                }
+                // a text only input is sent as a single text document, so batches are sent as text documents as well
+                batch(
+                    new InferenceRequestBatcher.Key(
+                        MULTIMODAL_VECTOR_CALL,
+                        inferenceRequest.getModelId(),
+                        inferenceRequest.getTargetResponseFilters()
+                    ),
+                    inputObjects.get(INPUT_TEXT),
+                    coalescedListener,
+                    singleListener -> retryableInferenceSentencesWithSingleVectorResult(inferenceRequest, 0, singleListener),
+                    (inputTexts, batchListener) -> retryableInferenceSentencesWithVectorResult(
+                        TextInferenceRequest.builder()
+                            .modelId(inferenceRequest.getModelId())
+                            .inputTexts(inputTexts)
+                            .targetResponseFilters(inferenceRequest.getTargetResponseFilters())
+                            .build(),
+                        0,
+                        batchListener
+                    )
+                );
+            }
+        );
     }
 
     /**
@@ -132,7 +238,93 @@ public class MLCommonsClientAccessor {
         @NonNull SimilarityInferenceRequest inferenceRequest,
         @NonNull final ActionListener<List<Float>> listener
     ) {
-        retryableInferenceSimilarityWithVectorResult(inferenceRequest, 0, listener);
+        coalesce(
+            () -> InferenceRequestCoalescer.Key.of(
+                SIMILARITY_CALL,
+                inferenceRequest.getModelId(),
+                Arrays.asList(inferenceRequest.getQueryText(), inferenceRequest.getInputTexts()),
+                null
+            ),
+            listener,
+            coalescedListener -> retryableInferenceSimilarityWithVectorResult(inferenceRequest, 0, coalescedListener)
+        );
+    }
+
+    /**
+     * Executes the inference call, attaching to an identical call in flight if request coalescing is enabled.
+     * Coalesced callers share the same result instance and must not modify it.
+     */
+    private <T> void coalesce(
+        final Supplier<InferenceRequestCoalescer.Key> keySupplier,
+        final ActionListener<T> listener,
+        final Consumer<ActionListener<T>> inferenceCall
+    ) {
+        if (settingsAccessor != null && settingsAccessor.isInferenceRequestCoalescingEnabled()) {
+            inferenceRequestCoalescer.execute(keySupplier.get(), listener, inferenceCall);
+        } else {
+            inferenceCall.accept(listener);
+        }
+    }
+
+    /**
+     * Executes the single-input query inference call as part of a micro-batch if micro-batching is enabled.
+     */
+    private <T> void batch(
+        final InferenceRequestBatcher.Key key,
+        final String input,
+        final ActionListener<T> listener,
+        final Consumer<ActionListener<T>> singleCall,
+        final BiConsumer<List<String>, ActionListener<List<T>>> batchCall
+    ) {
+        if (settingsAccessor != null && inferenceRequestBatcher != null && settingsAccessor.isInferenceMicroBatchingEnabled()) {
+            inferenceRequestBatcher.submit(
+                key,
+                input,
+                listener,
+                singleCall,
+                batchCall,
+                settingsAccessor.getInferenceMicroBatchingWindow(),
+                settingsAccessor.getInferenceMicroBatchingMaxBatchSize()
+            );
+        } else {
+            singleCall.accept(listener);
+        }
+    }
+
+    /**
+     * Sends the predict request, within the concurrency limit of the model if the limit is enabled.
+     */
+    private void predict(final String modelId, final MLInput mlInput, final ActionListener<MLOutput> listener) {
+        if (settingsAccessor != null && settingsAccessor.isInferenceConcurrencyLimitEnabled()) {
+            inferenceConcurrencyLimiter.execute(
+                modelId,
+                listener,
+                limitedListener -> mlClient.predict(modelId, mlInput, limitedListener),
+                settingsAccessor.getInferenceConcurrencyLimitMaxQueueSize()
+            );
+        } else {
+            mlClient.predict(modelId, mlInput, listener);
+        }
+    }
+
+    /**
+     * Records the failure of an inference call with the circuit breaker of the model and schedules a retry if the failure
+     * is retryable and the retry budget of the model allows it.
+     */
+    private void handleRetryOrFailure(
+        final String modelId,
+        final Exception e,
+        final int retryTime,
+        final Runnable retryAction,
+        final ActionListener<?> listener
+    ) {
+        inferenceCircuitBreaker.onFailure(modelId, e);
+        if (RetryUtil.shouldRetry(e, retryTime) && inferenceCircuitBreaker.tryAcquireRetry(modelId)) {
+            EventStatsManager.increment(EventStatName.INFERENCE_RETRIES);
+            RetryUtil.scheduleRetry(e, retryTime, retryAction, listener, threadPool);
+        } else {
+            listener.onFailure(e);
+        }
     }
 
     private void retryableInferenceSentencesWithMapResult(
@@ -140,12 +332,17 @@ public class MLCommonsClientAccessor {
         final int retryTime,
         final ActionListener<List<Map<String, ?>>> listener
     ) {
+        if (inferenceCircuitBreaker.tryAcquire(inferenceRequest.getModelId(), listener) == false) {
+            return;
+        }
         MLInput mlInput = createMLTextInput(null, inferenceRequest.getInputTexts());
-        mlClient.predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+        predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+            inferenceCircuitBreaker.onSuccess(inferenceRequest.getModelId());
             final List<Map<String, ?>> result = buildMapResultFromResponse(mlOutput);
             listener.onResponse(result);
         },
-            e -> RetryUtil.handleRetryOrFailure(
+            e -> handleRetryOrFailure(
+                inferenceRequest.getModelId(),
                 e,
                 retryTime,
                 () -> retryableInferenceSentencesWithMapResult(inferenceRequest, retryTime + 1, listener),
@@ -159,12 +356,17 @@ public class MLCommonsClientAccessor {
         final int retryTime,
         final ActionListener<List<List<Number>>> listener
     ) {
+        if (inferenceCircuitBreaker.tryAcquire(inferenceRequest.getModelId(), listener) == false) {
+            return;
+        }
         MLInput mlInput = createMLTextInput(inferenceRequest.getTargetResponseFilters(), inferenceRequest.getInputTexts());
-        mlClient.predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+        predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+            inferenceCircuitBreaker.onSuccess(inferenceRequest.getModelId());
             final List<List<Number>> vector = buildVectorFromResponse(mlOutput);
             listener.onResponse(vector);
         },
-            e -> RetryUtil.handleRetryOrFailure(
+            e -> handleRetryOrFailure(
+                inferenceRequest.getModelId(),
                 e,
                 retryTime,
                 () -> retryableInferenceSentencesWithVectorResult(inferenceRequest, retryTime + 1, listener),
@@ -178,14 +380,19 @@ public class MLCommonsClientAccessor {
         final int retryTime,
         final ActionListener<List<Float>> listener
     ) {
+        if (inferenceCircuitBreaker.tryAcquire(inferenceRequest.getModelId(), listener) == false) {
+            return;
+        }
         MLInput mlInput = createMLTextPairsInput(inferenceRequest.getQueryText(), inferenceRequest.getInputTexts());
-        mlClient.predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+        predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+            inferenceCircuitBreaker.onSuccess(inferenceRequest.getModelId());
             final List<Float> scores = buildVectorFromResponse(mlOutput).stream()
                 .map(v -> v.getFirst().floatValue())
                 .collect(Collectors.toList());
             listener.onResponse(scores);
         },
-            e -> RetryUtil.handleRetryOrFailure(
+            e -> handleRetryOrFailure(
+                inferenceRequest.getModelId(),
                 e,
                 retryTime,
                 () -> retryableInferenceSimilarityWithVectorResult(inferenceRequest, retryTime + 1, listener),
@@ -212,12 +419,25 @@ public class MLCommonsClientAccessor {
         for (final ModelTensors tensors : tensorOutputList) {
             final List<ModelTensor> tensorsList = tensors.getMlModelTensors();
             for (final ModelTensor tensor : tensorsList) {
-                vector.add(Arrays.stream(tensor.getData()).map(value -> (T) value).collect(Collectors.toList()));
+                vector.add(buildVectorFromTensorData(tensor.getData()));
             }
         }
         return vector;
     }
 
+    /**
+     * Float embeddings are decoded into a vector backed by a primitive array, so the ingest processors do not hold a
+     * boxed value per dimension while the results of a bulk request are mapped to its documents
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Number> List<T> buildVectorFromTensorData(final Number[] data) {
+        final FloatVector floatVector = FloatVector.fromFloats(data);
+        if (floatVector != null) {
+            return (List<T>) floatVector;
+        }
+        return Arrays.stream(data).map(value -> (T) value).collect(Collectors.toList());
+    }
+
     private List<Map<String, ?>> buildMapResultFromResponse(MLOutput mlOutput) {
         final ModelTensorOutput modelTensorOutput = (ModelTensorOutput) mlOutput;
         final List<ModelTensors> tensorOutputList = modelTensorOutput.getMlModelOutputs();
@@ -246,13 +466,18 @@ public class MLCommonsClientAccessor {
         final int retryTime,
         final ActionListener<List<Number>> listener
     ) {
+        if (inferenceCircuitBreaker.tryAcquire(inferenceRequest.getModelId(), listener) == false) {
+            return;
+        }
         MLInput mlInput = createMLMultimodalInput(inferenceRequest.getTargetResponseFilters(), inferenceRequest.getInputObjects());
-        mlClient.predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+        predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+            inferenceCircuitBreaker.onSuccess(inferenceRequest.getModelId());
             final List<Number> vector = buildSingleVectorFromResponse(mlOutput);
             log.debug("Inference Response for input sentence is : {} ", vector);
             listener.onResponse(vector);
         },
-            e -> RetryUtil.handleRetryOrFailure(
+            e -> handleRetryOrFailure(
+                inferenceRequest.getModelId(),
                 e,
                 retryTime,
                 () -> retryableInferenceSentencesWithSingleVectorResult(inferenceRequest, retryTime + 1, listener),
@@ -392,7 +617,13 @@ public class MLCommonsClientAccessor {
             null,
             ActionListener.wrap(
                 listener::onResponse,
-                e -> RetryUtil.handleRetryOrFailure(e, retryTime, () -> retryableGetModel(modelId, retryTime + 1, listener), listener)
+                e -> RetryUtil.handleRetryOrFailure(
+                    e,
+                    retryTime,
+                    () -> retryableGetModel(modelId, retryTime + 1, listener),
+                    listener,
+                    threadPool
+                )
             )
         );
     }
@@ -409,8 +640,13 @@ public class MLCommonsClientAccessor {
         try {
             MLInputDataset inputDataset = new QuestionAnsweringInputDataSet(inferenceRequest.getQuestion(), inferenceRequest.getContext());
             MLInput mlInput = new MLInput(FunctionName.QUESTION_ANSWERING, null, inputDataset);
+            if (inferenceCircuitBreaker.tryAcquire(inferenceRequest.getModelId(), listener) == false) {
+                return;
+            }
+
+            predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
 
-            mlClient.predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+                inferenceCircuitBreaker.onSuccess(inferenceRequest.getModelId());
                 try {
                     List<Map<String, Object>> result = processHighlightingOutput((ModelTensorOutput) mlOutput);
                     listener.onResponse(result);
@@ -418,7 +654,8 @@ public class MLCommonsClientAccessor {
                     listener.onFailure(e);
                 }
             },
-                e -> RetryUtil.handleRetryOrFailure(
+                e -> handleRetryOrFailure(
+                    inferenceRequest.getModelId(),
                     e,
                     retryTime,
                     () -> retryableInferenceSentenceHighlighting(inferenceRequest, retryTime + 1, listener),
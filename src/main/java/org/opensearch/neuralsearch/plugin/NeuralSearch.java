@@ -4,8 +4,28 @@
  */
 package org.opensearch.neuralsearch.plugin;
 
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_ADAPTIVE_INLINE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_ADAPTIVE_INLINE_MIN_TASKS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SHARD_RESULTS_PROCESSING_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SHARD_RESULTS_PROCESSING_MIN_CANDIDATES;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SUBQUERY_SCORING_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_CONCURRENCY_LIMIT_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_CONCURRENCY_LIMIT_MAX_QUEUE_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_MICRO_BATCHING_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_MICRO_BATCHING_MAX_BATCH_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_MICRO_BATCHING_WINDOW;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_REQUEST_COALESCING_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_CACHE_EXPIRE_AFTER;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_CACHE_MAX_ENTRIES;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.RERANKER_MAX_DOC_FIELDS;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.NEURAL_STATS_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_EXPIRE_AFTER;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_MAX_ENTRIES;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.SPARSE_QUERY_TOKENS_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.SPARSE_QUERY_TOKENS_CACHE_EXPIRE_AFTER;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.SPARSE_QUERY_TOKENS_CACHE_MAX_ENTRIES;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -16,12 +36,17 @@ import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.IngestInferenceCacheKey;
+import org.opensearch.neuralsearch.cache.QueryInferenceCacheKey;
+import org.opensearch.neuralsearch.cache.SparseQueryTokens;
 import org.opensearch.neuralsearch.highlight.SemanticHighlighter;
 import org.opensearch.neuralsearch.highlight.SemanticHighlighterEngine;
 import org.opensearch.neuralsearch.highlight.extractor.QueryTextExtractorRegistry;
 import com.google.common.collect.ImmutableList;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 import org.opensearch.neuralsearch.stats.info.InfoStatsManager;
 import org.opensearch.index.mapper.Mapper;
@@ -118,6 +143,7 @@ public class NeuralSearch extends Plugin
     private NamedXContentRegistry xContentRegistry;
     private NormalizationProcessorWorkflow normalizationProcessorWorkflow;
     private NeuralSearchSettingsAccessor settingsAccessor;
+    private InferenceResultCache<IngestInferenceCacheKey, Object> ingestInferenceCache;
     private PipelineServiceUtil pipelineServiceUtil;
     private InfoStatsManager infoStatsManager;
     private final ScoreNormalizationFactory scoreNormalizationFactory = new ScoreNormalizationFactory();
@@ -145,17 +171,28 @@ public class NeuralSearch extends Plugin
         final Supplier<RepositoriesService> repositoriesServiceSupplier
     ) {
         NeuralSearchClusterUtil.instance().initialize(clusterService, indexNameExpressionResolver);
-        NeuralQueryBuilder.initialize(clientAccessor);
-        NeuralSparseQueryBuilder.initialize(clientAccessor);
+        settingsAccessor = new NeuralSearchSettingsAccessor(clusterService, environment.settings());
+        clientAccessor.initialize(settingsAccessor, threadPool);
+        final InferenceResultCache<QueryInferenceCacheKey, SparseQueryTokens> sparseQueryTokensCache = createSparseQueryTokensCache(
+            environment.settings()
+        );
+        final InferenceResultCache<QueryInferenceCacheKey, float[]> queryEmbeddingCache = createQueryEmbeddingCache(environment.settings());
+        NeuralQueryBuilder.initialize(clientAccessor, queryEmbeddingCache, sparseQueryTokensCache);
+        NeuralSparseQueryBuilder.initialize(clientAccessor, sparseQueryTokensCache);
+        ingestInferenceCache = createIngestInferenceCache(environment.settings());
+        // drop cached results when a cache is turned off
+        ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        clusterSettings.addSettingsUpdateConsumer(QUERY_EMBEDDING_CACHE_ENABLED, queryEmbeddingCache::onEnabledSettingUpdate);
+        clusterSettings.addSettingsUpdateConsumer(SPARSE_QUERY_TOKENS_CACHE_ENABLED, sparseQueryTokensCache::onEnabledSettingUpdate);
+        clusterSettings.addSettingsUpdateConsumer(INGEST_INFERENCE_CACHE_ENABLED, ingestInferenceCache::onEnabledSettingUpdate);
         QueryTextExtractorRegistry queryTextExtractorRegistry = new QueryTextExtractorRegistry();
         SemanticHighlighterEngine semanticHighlighterEngine = SemanticHighlighterEngine.builder()
             .mlCommonsClient(clientAccessor)
             .queryTextExtractorRegistry(queryTextExtractorRegistry)
             .build();
         semanticHighlighter.initialize(semanticHighlighterEngine);
-        HybridQueryExecutor.initialize(threadPool);
+        HybridQueryExecutor.initialize(threadPool, settingsAccessor);
         normalizationProcessorWorkflow = new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner());
-        settingsAccessor = new NeuralSearchSettingsAccessor(clusterService, environment.settings());
         pipelineServiceUtil = new PipelineServiceUtil(clusterService);
         infoStatsManager = new InfoStatsManager(NeuralSearchClusterUtil.instance(), settingsAccessor, pipelineServiceUtil);
         EventStatsManager.instance().initialize(settingsAccessor);
@@ -163,6 +200,39 @@ public class NeuralSearch extends Plugin
         return List.of(clientAccessor, EventStatsManager.instance(), infoStatsManager);
     }
 
+    private InferenceResultCache<QueryInferenceCacheKey, float[]> createQueryEmbeddingCache(final Settings settings) {
+        return new InferenceResultCache<>(
+            QUERY_EMBEDDING_CACHE_MAX_ENTRIES.get(settings),
+            QUERY_EMBEDDING_CACHE_EXPIRE_AFTER.get(settings),
+            settingsAccessor::isQueryEmbeddingCacheEnabled,
+            EventStatName.QUERY_EMBEDDING_CACHE_HITS,
+            EventStatName.QUERY_EMBEDDING_CACHE_MISSES,
+            EventStatName.QUERY_EMBEDDING_CACHE_EVICTIONS
+        );
+    }
+
+    private InferenceResultCache<QueryInferenceCacheKey, SparseQueryTokens> createSparseQueryTokensCache(final Settings settings) {
+        return new InferenceResultCache<>(
+            SPARSE_QUERY_TOKENS_CACHE_MAX_ENTRIES.get(settings),
+            SPARSE_QUERY_TOKENS_CACHE_EXPIRE_AFTER.get(settings),
+            settingsAccessor::isSparseQueryTokensCacheEnabled,
+            EventStatName.SPARSE_QUERY_TOKENS_CACHE_HITS,
+            EventStatName.SPARSE_QUERY_TOKENS_CACHE_MISSES,
+            EventStatName.SPARSE_QUERY_TOKENS_CACHE_EVICTIONS
+        );
+    }
+
+    private InferenceResultCache<IngestInferenceCacheKey, Object> createIngestInferenceCache(final Settings settings) {
+        return new InferenceResultCache<>(
+            INGEST_INFERENCE_CACHE_MAX_ENTRIES.get(settings),
+            INGEST_INFERENCE_CACHE_EXPIRE_AFTER.get(settings),
+            settingsAccessor::isIngestInferenceCacheEnabled,
+            EventStatName.INGEST_INFERENCE_CACHE_HITS,
+            EventStatName.INGEST_INFERENCE_CACHE_MISSES,
+            EventStatName.INGEST_INFERENCE_CACHE_EVICTIONS
+        );
+    }
+
     @Override
     public List<QuerySpec<?>> getQueries() {
         return Arrays.asList(
@@ -205,6 +275,7 @@ public class NeuralSearch extends Plugin
             new TextEmbeddingProcessorFactory(
                 parameters.client,
                 clientAccessor,
+                () -> ingestInferenceCache,
                 parameters.env,
                 parameters.ingestService.getClusterService()
             ),
@@ -212,6 +283,7 @@ public class NeuralSearch extends Plugin
             new SparseEncodingProcessorFactory(
                 parameters.client,
                 clientAccessor,
+                () -> ingestInferenceCache,
                 parameters.env,
                 parameters.ingestService.getClusterService()
             ),
@@ -246,7 +318,30 @@ public class NeuralSearch extends Plugin
 
     @Override
     public List<Setting<?>> getSettings() {
-        return List.of(RERANKER_MAX_DOC_FIELDS, NEURAL_STATS_ENABLED);
+        return List.of(
+            RERANKER_MAX_DOC_FIELDS,
+            NEURAL_STATS_ENABLED,
+            QUERY_EMBEDDING_CACHE_ENABLED,
+            QUERY_EMBEDDING_CACHE_MAX_ENTRIES,
+            QUERY_EMBEDDING_CACHE_EXPIRE_AFTER,
+            SPARSE_QUERY_TOKENS_CACHE_ENABLED,
+            SPARSE_QUERY_TOKENS_CACHE_MAX_ENTRIES,
+            SPARSE_QUERY_TOKENS_CACHE_EXPIRE_AFTER,
+            INFERENCE_REQUEST_COALESCING_ENABLED,
+            INFERENCE_MICRO_BATCHING_ENABLED,
+            INFERENCE_MICRO_BATCHING_WINDOW,
+            INFERENCE_MICRO_BATCHING_MAX_BATCH_SIZE,
+            INFERENCE_CONCURRENCY_LIMIT_ENABLED,
+            INFERENCE_CONCURRENCY_LIMIT_MAX_QUEUE_SIZE,
+            INGEST_INFERENCE_CACHE_ENABLED,
+            INGEST_INFERENCE_CACHE_MAX_ENTRIES,
+            INGEST_INFERENCE_CACHE_EXPIRE_AFTER,
+            HYBRID_QUERY_PARALLEL_SUBQUERY_SCORING_ENABLED,
+            HYBRID_QUERY_EXECUTOR_ADAPTIVE_INLINE_ENABLED,
+            HYBRID_QUERY_EXECUTOR_ADAPTIVE_INLINE_MIN_TASKS,
+            HYBRID_QUERY_PARALLEL_SHARD_RESULTS_PROCESSING_ENABLED,
+            HYBRID_QUERY_PARALLEL_SHARD_RESULTS_PROCESSING_MIN_CANDIDATES
+        );
     }
 
     @Override
@@ -97,13 +97,13 @@ public class CompoundTopDocs {
             return;
         }
         // skipping first two elements, it's a start-stop element and delimiter for first series
+        // every next delimiter or the stop element closes a series, hits of the series are copied with a single range copy
         List<TopDocs> topDocsList = new ArrayList<>();
-        List<ScoreDoc> scoreDocList = new ArrayList<>();
+        int seriesStart = 2;
         for (int index = 2; index < scoreDocs.length; index++) {
-            // getting first element of score's series
             ScoreDoc scoreDoc = scoreDocs[index];
             if (isHybridQueryDelimiterElement(scoreDoc) || isHybridQueryStartStopElement(scoreDoc)) {
-                ScoreDoc[] subQueryScores = scoreDocList.toArray(new ScoreDoc[0]);
+                ScoreDoc[] subQueryScores = Arrays.copyOfRange(scoreDocs, seriesStart, index, ScoreDoc[].class);
                 TotalHits totalHits = new TotalHits(subQueryScores.length, TotalHits.Relation.EQUAL_TO);
                 TopDocs subQueryTopDocs;
                 if (isSortEnabled) {
@@ -112,9 +112,7 @@ public class CompoundTopDocs {
                     subQueryTopDocs = new TopDocs(totalHits, subQueryScores);
                 }
                 topDocsList.add(subQueryTopDocs);
-                scoreDocList.clear();
-            } else {
-                scoreDocList.add(scoreDoc);
+                seriesStart = index + 1;
             }
         }
         initialize(topDocs.totalHits, topDocsList, isSortEnabled, searchShard);
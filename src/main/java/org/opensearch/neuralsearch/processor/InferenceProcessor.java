@@ -15,6 +15,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -26,6 +29,7 @@ import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.get.MultiGetItemResponse;
 import org.opensearch.action.get.MultiGetRequest;
@@ -40,6 +44,10 @@ import org.opensearch.index.mapper.IndexFieldMapper;
 import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.IngestInferenceCacheKey;
+import org.opensearch.neuralsearch.common.FloatVector;
+import org.opensearch.neuralsearch.common.VectorUtil;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -47,10 +55,13 @@ import com.google.common.collect.ImmutableMap;
 
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.processor.optimization.InferenceFilter;
+import org.opensearch.neuralsearch.processor.optimization.TextEmbeddingInferenceFilter;
+import org.opensearch.neuralsearch.processor.optimization.TextHashInferenceFilter;
 import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
 import org.opensearch.neuralsearch.util.TokenWeightUtil;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.neuralsearch.util.prune.PruneUtils;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 /**
  * The abstract class for text processing use cases. Users provide a field name map and a model id.
@@ -66,6 +77,17 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
     public static final String ID_FIELD = "_id";
     public static final String SKIP_EXISTING = "skip_existing";
     public static final boolean DEFAULT_SKIP_EXISTING = false;
+    public static final String SKIP_EXISTING_MODE = "skip_existing_mode";
+    // compare the texts of the existing document with the texts of the new document
+    public static final String SKIP_EXISTING_MODE_TEXT = "text";
+    // compare hashes of the texts stored next to the embeddings, so the texts of the existing document are not fetched
+    public static final String SKIP_EXISTING_MODE_HASH = "hash";
+    public static final String DEFAULT_SKIP_EXISTING_MODE = SKIP_EXISTING_MODE_TEXT;
+    public static final String INFERENCE_BATCH_MAX_CHARS_FIELD = "inference_batch_max_chars";
+    public static final String INFERENCE_BATCH_MAX_ITEMS_FIELD = "inference_batch_max_items";
+    // 0 means the texts of a sub batch are not split into several inference calls
+    public static final int DEFAULT_INFERENCE_BATCH_MAX_CHARS = 0;
+    public static final int DEFAULT_INFERENCE_BATCH_MAX_ITEMS = 0;
     private static final BiFunction<Object, Object, Object> REMAPPING_FUNCTION = (v1, v2) -> {
         if (v1 instanceof Collection && v2 instanceof Collection) {
             ((Collection) v1).addAll((Collection) v2);
@@ -93,6 +115,13 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
     private final Environment environment;
     private final ClusterService clusterService;
 
+    // limits of a single inference call when the texts of a sub batch are split into several calls
+    private final int inferenceBatchMaxChars;
+    private final int inferenceBatchMaxItems;
+
+    // node-local cache of inference results keyed by the content of the texts, null if not configured
+    private final InferenceResultCache<IngestInferenceCacheKey, Object> inferenceResultCache;
+
     public InferenceProcessor(
         String tag,
         String description,
@@ -104,19 +133,87 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         MLCommonsClientAccessor clientAccessor,
         Environment environment,
         ClusterService clusterService
+    ) {
+        this(
+            tag,
+            description,
+            batchSize,
+            type,
+            listTypeNestedMapKey,
+            modelId,
+            fieldMap,
+            DEFAULT_INFERENCE_BATCH_MAX_CHARS,
+            DEFAULT_INFERENCE_BATCH_MAX_ITEMS,
+            clientAccessor,
+            null,
+            environment,
+            clusterService
+        );
+    }
+
+    public InferenceProcessor(
+        String tag,
+        String description,
+        int batchSize,
+        String type,
+        String listTypeNestedMapKey,
+        String modelId,
+        Map<String, Object> fieldMap,
+        int inferenceBatchMaxChars,
+        int inferenceBatchMaxItems,
+        MLCommonsClientAccessor clientAccessor,
+        InferenceResultCache<IngestInferenceCacheKey, Object> inferenceResultCache,
+        Environment environment,
+        ClusterService clusterService
     ) {
         super(tag, description, batchSize);
         this.type = type;
         if (StringUtils.isBlank(modelId)) throw new IllegalArgumentException("model_id is null or empty, cannot process it");
         validateEmbeddingConfiguration(fieldMap);
+        if (inferenceBatchMaxChars < 0 || inferenceBatchMaxItems < 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "%s and %s must not be negative",
+                    INFERENCE_BATCH_MAX_CHARS_FIELD,
+                    INFERENCE_BATCH_MAX_ITEMS_FIELD
+                )
+            );
+        }
+        this.inferenceBatchMaxChars = inferenceBatchMaxChars;
+        this.inferenceBatchMaxItems = inferenceBatchMaxItems;
         this.listTypeNestedMapKey = listTypeNestedMapKey;
         this.modelId = modelId;
         this.fieldMap = fieldMap;
         this.mlCommonsClientAccessor = clientAccessor;
+        this.inferenceResultCache = inferenceResultCache;
         this.environment = environment;
         this.clusterService = clusterService;
     }
 
+    /**
+     * Creates the filter reusing embeddings of existing documents for the given skip existing mode
+     * @param fieldMap field map of the processor
+     * @param skipExistingMode {@value #SKIP_EXISTING_MODE_TEXT} or {@value #SKIP_EXISTING_MODE_HASH}
+     * @return the inference filter
+     */
+    public static TextEmbeddingInferenceFilter createTextEmbeddingInferenceFilter(Map<String, Object> fieldMap, String skipExistingMode) {
+        return switch (skipExistingMode) {
+            case SKIP_EXISTING_MODE_TEXT -> new TextEmbeddingInferenceFilter(fieldMap);
+            case SKIP_EXISTING_MODE_HASH -> new TextHashInferenceFilter(fieldMap);
+            default -> throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "%s must be one of [%s, %s], but was [%s]",
+                    SKIP_EXISTING_MODE,
+                    SKIP_EXISTING_MODE_TEXT,
+                    SKIP_EXISTING_MODE_HASH,
+                    skipExistingMode
+                )
+            );
+        };
+    }
+
     private void validateEmbeddingConfiguration(Map<String, Object> fieldMap) {
         if (fieldMap == null
             || fieldMap.size() == 0
@@ -208,6 +305,8 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
 
     /**
      * This is a helper function for subBatchExecute, which invokes doBatchExecute for given inference list.
+     * The texts are sorted by length and, if inference batch limits are configured, split into several inference calls
+     * of similar length texts that are sent concurrently.
      * @param ingestDocumentWrappers a list of IngestDocuments in a batch.
      * @param inferenceList a list of String for inference.
      * @param dataForInferences a list of data for inference, which includes ingestDocumentWrapper, processMap, inferenceList.
@@ -221,10 +320,183 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         Tuple<List<String>, Map<Integer, Integer>> sortedResult = sortByLengthAndReturnOriginalOrder(inferenceList);
         inferenceList = sortedResult.v1();
         Map<Integer, Integer> originalOrder = sortedResult.v2();
-        doBatchExecute(inferenceList, results -> {
+        Consumer<List<?>> resultHandler = results -> {
             batchExecuteHandler(results, ingestDocumentWrappers, dataForInferences, originalOrder, handler);
             handler.accept(ingestDocumentWrappers);
-        }, exception -> { updateWithExceptions(ingestDocumentWrappers, handler, exception); });
+        };
+        Consumer<Exception> exceptionHandler = exception -> { updateWithExceptions(ingestDocumentWrappers, handler, exception); };
+        executeWithInferenceCache(inferenceList, (texts, batchHandler, onException) -> {
+            List<List<String>> inferenceBatches = splitIntoInferenceBatches(texts);
+            if (inferenceBatches.size() == 1) {
+                doBatchExecute(texts, batchHandler, onException);
+                return;
+            }
+            doBatchExecuteConcurrently(inferenceBatches, batchHandler, onException);
+        }, resultHandler, exceptionHandler);
+    }
+
+    /**
+     * Type of the inference results of this processor in the inference result cache. Processors post-processing the
+     * results of a model differently must return different types.
+     * @return result type used in the cache keys
+     */
+    protected String getInferenceResultType() {
+        return type;
+    }
+
+    /**
+     * Serves the results of texts that are in the inference result cache from the cache and runs the inference only for
+     * the distinct texts that are not. The results of the inference are added to the cache. Results are passed to the
+     * handler in the order of the inference list.
+     * @param inferenceList a list of String for inference.
+     * @param inference inference of the texts missing in the cache.
+     * @param handler a callback handler to handle inference results which is a list of objects.
+     * @param onException an exception callback to handle exception.
+     */
+    @VisibleForTesting
+    void executeWithInferenceCache(
+        List<String> inferenceList,
+        BatchInference inference,
+        Consumer<List<?>> handler,
+        Consumer<Exception> onException
+    ) {
+        if (inferenceResultCache == null || inferenceResultCache.isEnabled() == false) {
+            inference.execute(inferenceList, handler, onException);
+            return;
+        }
+        String resultType = getInferenceResultType();
+        Object[] results = new Object[inferenceList.size()];
+        // positions of each distinct text missing in the cache, so duplicated texts are only sent once
+        Map<String, List<Integer>> missingTextPositions = new LinkedHashMap<>();
+        for (int i = 0; i < inferenceList.size(); i++) {
+            String text = inferenceList.get(i);
+            List<Integer> positions = missingTextPositions.get(text);
+            if (positions != null) {
+                positions.add(i);
+                continue;
+            }
+            Object cachedResult = inferenceResultCache.get(IngestInferenceCacheKey.of(modelId, resultType, text));
+            if (cachedResult != null) {
+                results[i] = copyInferenceResult(cachedResult);
+            } else {
+                missingTextPositions.computeIfAbsent(text, key -> new ArrayList<>()).add(i);
+            }
+        }
+        if (missingTextPositions.isEmpty()) {
+            handler.accept(Arrays.asList(results));
+            return;
+        }
+        List<String> missingTexts = new ArrayList<>(missingTextPositions.keySet());
+        inference.execute(missingTexts, inferenceResults -> {
+            if (inferenceResults.size() != missingTexts.size()) {
+                onException.accept(
+                    new IllegalStateException(
+                        String.format(
+                            Locale.ROOT,
+                            "inference returned [%d] results for [%d] texts",
+                            inferenceResults.size(),
+                            missingTexts.size()
+                        )
+                    )
+                );
+                return;
+            }
+            for (int i = 0; i < missingTexts.size(); i++) {
+                Object result = inferenceResults.get(i);
+                inferenceResultCache.put(IngestInferenceCacheKey.of(modelId, resultType, missingTexts.get(i)), copyInferenceResult(result));
+                List<Integer> positions = missingTextPositions.get(missingTexts.get(i));
+                // the first position gets the inference result itself, the other positions get copies
+                results[positions.getFirst()] = result;
+                for (int j = 1; j < positions.size(); j++) {
+                    results[positions.get(j)] = copyInferenceResult(result);
+                }
+            }
+            handler.accept(Arrays.asList(results));
+        }, onException);
+    }
+
+    /**
+     * Copies an inference result, so documents and the cache never share a result that can be modified by later processors
+     */
+    private static Object copyInferenceResult(Object result) {
+        if (result instanceof FloatVector) {
+            // immutable, can be shared
+            return result;
+        }
+        if (result instanceof List<?> list) {
+            return new ArrayList<>(list);
+        }
+        if (result instanceof Map<?, ?> map) {
+            return new HashMap<>(map);
+        }
+        return result;
+    }
+
+    /**
+     * Inference of a list of texts which notifies the handler with one result per text in the order of the texts
+     */
+    @FunctionalInterface
+    interface BatchInference {
+        void execute(List<String> inferenceList, Consumer<List<?>> handler, Consumer<Exception> onException);
+    }
+
+    /**
+     * Splits the texts sorted by length into consecutive batches bounded by the max chars and max items of an inference
+     * call. The model tokenizer is not available to the processor, so the character count is used as the size budget.
+     * A text exceeding the max chars on its own forms a batch by itself.
+     */
+    @VisibleForTesting
+    List<List<String>> splitIntoInferenceBatches(List<String> sortedInferenceList) {
+        if (inferenceBatchMaxChars == 0 && inferenceBatchMaxItems == 0) {
+            return List.of(sortedInferenceList);
+        }
+        List<List<String>> inferenceBatches = new ArrayList<>();
+        List<String> currentBatch = new ArrayList<>();
+        long currentChars = 0;
+        for (String text : sortedInferenceList) {
+            boolean exceedsMaxItems = inferenceBatchMaxItems > 0 && currentBatch.size() >= inferenceBatchMaxItems;
+            boolean exceedsMaxChars = inferenceBatchMaxChars > 0 && currentChars + text.length() > inferenceBatchMaxChars;
+            if (currentBatch.isEmpty() == false && (exceedsMaxItems || exceedsMaxChars)) {
+                inferenceBatches.add(currentBatch);
+                currentBatch = new ArrayList<>();
+                currentChars = 0;
+            }
+            currentBatch.add(text);
+            currentChars += text.length();
+        }
+        inferenceBatches.add(currentBatch);
+        return inferenceBatches;
+    }
+
+    /**
+     * Sends an inference call for each batch concurrently and passes the results of all batches, in batch order, to the
+     * result handler once all calls succeed. The first failure of a call is passed to the exception handler.
+     */
+    private void doBatchExecuteConcurrently(
+        List<List<String>> inferenceBatches,
+        Consumer<List<?>> resultHandler,
+        Consumer<Exception> exceptionHandler
+    ) {
+        AtomicReferenceArray<List<?>> batchResults = new AtomicReferenceArray<>(inferenceBatches.size());
+        AtomicInteger remainingBatches = new AtomicInteger(inferenceBatches.size());
+        AtomicBoolean failed = new AtomicBoolean(false);
+        for (int i = 0; i < inferenceBatches.size(); i++) {
+            int batchIndex = i;
+            doBatchExecute(inferenceBatches.get(batchIndex), results -> {
+                batchResults.set(batchIndex, results);
+                if (remainingBatches.decrementAndGet() == 0 && failed.get() == false) {
+                    List<Object> allResults = new ArrayList<>();
+                    for (int j = 0; j < batchResults.length(); j++) {
+                        allResults.addAll(batchResults.get(j));
+                    }
+                    resultHandler.accept(allResults);
+                }
+            }, exception -> {
+                if (failed.compareAndSet(false, true)) {
+                    exceptionHandler.accept(exception);
+                }
+            });
+        }
     }
 
     private void batchExecuteHandler(
@@ -448,7 +720,8 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
     protected void setVectorFieldsToDocument(IngestDocument ingestDocument, Map<String, Object> processorMap, List<?> results) {
         Objects.requireNonNull(results, "embedding failed, inference returns null result!");
         log.debug("Model inference result fetched, starting build vector output!");
-        Map<String, Object> nlpResult = buildNLPResult(processorMap, results, ingestDocument.getSourceAndMetadata());
+        List<?> sourceValues = results.stream().map(VectorUtil::toSourceValue).toList();
+        Map<String, Object> nlpResult = buildNLPResult(processorMap, sourceValues, ingestDocument.getSourceAndMetadata());
         nlpResult.forEach(ingestDocument::setFieldValue);
     }
 
@@ -457,17 +730,57 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
      * @param dataForInferences, list of data for inferences
      * */
     protected MultiGetRequest buildMultiGetRequest(List<DataForInference> dataForInferences) {
+        return buildMultiGetRequest(dataForInferences, null);
+    }
+
+    /**
+     * This method builds the multi get request of the existing documents, fetching only the source fields read by the
+     * given inferenceFilter
+     * @param dataForInferences a list of data for inference
+     * @param inferenceFilter filter comparing the existing documents, the full source is fetched if null
+     */
+    protected MultiGetRequest buildMultiGetRequest(List<DataForInference> dataForInferences, InferenceFilter inferenceFilter) {
+        FetchSourceContext fetchSourceContext = buildFetchSourceContext(inferenceFilter);
         MultiGetRequest multiGetRequest = new MultiGetRequest();
         for (DataForInference dataForInference : dataForInferences) {
             Object index = dataForInference.getIngestDocumentWrapper().getIngestDocument().getSourceAndMetadata().get(INDEX_FIELD);
             Object id = dataForInference.getIngestDocumentWrapper().getIngestDocument().getSourceAndMetadata().get(ID_FIELD);
             if (Objects.nonNull(index) && Objects.nonNull(id)) {
-                multiGetRequest.add(index.toString(), id.toString());
+                multiGetRequest.add(new MultiGetRequest.Item(index.toString(), id.toString()).fetchSourceContext(fetchSourceContext));
             }
         }
         return multiGetRequest;
     }
 
+    /**
+     * This method builds the get request of the existing document, fetching only the source fields read by the given
+     * inferenceFilter
+     */
+    protected GetRequest buildGetRequest(Object index, Object id, InferenceFilter inferenceFilter) {
+        return new GetRequest(index.toString(), id.toString()).fetchSourceContext(buildFetchSourceContext(inferenceFilter));
+    }
+
+    private FetchSourceContext buildFetchSourceContext(InferenceFilter inferenceFilter) {
+        if (inferenceFilter == null) {
+            return null;
+        }
+        return new FetchSourceContext(true, inferenceFilter.getSourceIncludes(), new String[0]);
+    }
+
+    /**
+     * This method prepares the documents for the given inferenceFilter, documents that failed validation are skipped
+     */
+    protected void prepareDocumentsForFiltering(InferenceFilter inferenceFilter, List<DataForInference> dataForInferences) {
+        for (DataForInference dataForInference : dataForInferences) {
+            if (Objects.nonNull(dataForInference.getProcessMap())) {
+                inferenceFilter.prepareDocument(
+                    dataForInference.getProcessMap(),
+                    dataForInference.getIngestDocumentWrapper().getIngestDocument().getSourceAndMetadata()
+                );
+            }
+        }
+    }
+
     /**
      * This method creates a map of documents from MultiGetItemResponse where the key is document ID and value is corresponding document
      * @param multiGetItemResponses, array of responses from Multi Get Request
@@ -785,12 +1098,17 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         List<String> inferenceList,
         BiConsumer<IngestDocument, Exception> handler
     ) {
-        mlCommonsClientAccessor.inferenceSentences(
-            TextInferenceRequest.builder().modelId(this.modelId).inputTexts(inferenceList).build(),
-            ActionListener.wrap(vectors -> {
+        executeWithInferenceCache(
+            inferenceList,
+            (texts, vectorsHandler, onException) -> mlCommonsClientAccessor.inferenceSentences(
+                TextInferenceRequest.builder().modelId(this.modelId).inputTexts(texts).build(),
+                ActionListener.wrap(vectorsHandler::accept, onException)
+            ),
+            vectors -> {
                 setVectorFieldsToDocument(ingestDocument, processMap, vectors);
                 handler.accept(ingestDocument, null);
-            }, e -> { handler.accept(null, e); })
+            },
+            e -> { handler.accept(null, e); }
         );
     }
 
@@ -813,16 +1131,23 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         float pruneRatio,
         BiConsumer<IngestDocument, Exception> handler
     ) {
-        mlCommonsClientAccessor.inferenceSentencesWithMapResult(
-            TextInferenceRequest.builder().modelId(this.modelId).inputTexts(inferenceList).build(),
-            ActionListener.wrap(resultMaps -> {
-                List<Map<String, Float>> sparseVectors = TokenWeightUtil.fetchListOfTokenWeightMap(resultMaps)
-                    .stream()
-                    .map(vector -> PruneUtils.pruneSparseVector(pruneType, pruneRatio, vector))
-                    .toList();
+        executeWithInferenceCache(
+            inferenceList,
+            (texts, sparseVectorsHandler, onException) -> mlCommonsClientAccessor.inferenceSentencesWithMapResult(
+                TextInferenceRequest.builder().modelId(this.modelId).inputTexts(texts).build(),
+                ActionListener.wrap(resultMaps -> {
+                    List<Map<String, Float>> sparseVectors = TokenWeightUtil.fetchListOfTokenWeightMap(resultMaps)
+                        .stream()
+                        .map(vector -> PruneUtils.pruneSparseVector(pruneType, pruneRatio, vector))
+                        .toList();
+                    sparseVectorsHandler.accept(sparseVectors);
+                }, onException)
+            ),
+            sparseVectors -> {
                 setVectorFieldsToDocument(ingestDocument, processMap, sparseVectors);
                 handler.accept(ingestDocument, null);
-            }, e -> { handler.accept(null, e); })
+            },
+            e -> { handler.accept(null, e); }
         );
     }
 
@@ -34,4 +34,10 @@ public abstract class InferenceRequest {
      */
     @Builder.Default
     private List<String> targetResponseFilters = List.of("sentence_embedding");
+    /**
+     * Whether the inference embeds a search query. Only query inference calls are merged into micro-batches, ingest
+     * calls already send all inputs of a document in one call.
+     */
+    @Builder.Default
+    private boolean queryInference = false;
 }
@@ -4,8 +4,6 @@
  */
 package org.opensearch.neuralsearch.processor;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -24,11 +22,10 @@ import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.neuralsearch.processor.combination.CombineScoresDto;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombiner;
 import org.opensearch.neuralsearch.processor.explain.CombinedExplanationDetails;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
-import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 import org.opensearch.neuralsearch.processor.explain.ExplanationPayload;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizer;
+import org.opensearch.neuralsearch.processor.normalization.SubQueryScoreNormalizer;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.fetch.FetchSearchResult;
@@ -40,6 +37,7 @@ import lombok.extern.log4j.Log4j2;
 
 import static org.opensearch.neuralsearch.plugin.NeuralSearch.EXPLANATION_RESPONSE_KEY;
 import static org.opensearch.neuralsearch.processor.combination.ScoreCombiner.MAX_SCORE_WHEN_NO_HITS_FOUND;
+import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getShardResultsParallelism;
 import static org.opensearch.neuralsearch.search.util.HybridSearchSortUtil.evaluateSortCriteria;
 
 /**
@@ -62,37 +60,47 @@ public class NormalizationProcessorWorkflow {
     public void execute(final NormalizationProcessorWorkflowExecuteRequest request) {
         List<QuerySearchResult> querySearchResults = request.getQuerySearchResults();
         Optional<FetchSearchResult> fetchSearchResultOptional = request.getFetchSearchResultOptional();
-        List<Integer> unprocessedDocIds = unprocessedDocIds(querySearchResults);
+        int[] unprocessedDocIds = unprocessedDocIds(querySearchResults);
 
         // pre-process data
         log.debug("Pre-process query results");
         List<CompoundTopDocs> queryTopDocs = getQueryTopDocs(querySearchResults);
 
-        explain(request, queryTopDocs);
+        // decided once per request whether results of shards are processed in parallel, every step follows that decision
+        int shardResultsParallelism = getShardResultsParallelism(queryTopDocs);
 
         // Data transfer object for score normalization used to pass nullable rankConstant which is only used in RRF
         NormalizeScoresDTO normalizeScoresDTO = NormalizeScoresDTO.builder()
             .queryTopDocs(queryTopDocs)
             .normalizationTechnique(request.getNormalizationTechnique())
+            .shardResultsParallelism(shardResultsParallelism)
             .build();
 
-        // normalize
-        log.debug("Do score normalization");
-        scoreNormalizer.normalizeScores(normalizeScoresDTO);
+        Sort sort = evaluateSortCriteria(querySearchResults, queryTopDocs);
+        // normalize, either in place or, when technique supports it, fused with combination into a single pass over the results
+        Optional<SubQueryScoreNormalizer> fusedScoreNormalizer = getFusedScoreNormalizer(request, normalizeScoresDTO, sort);
+        if (fusedScoreNormalizer.isEmpty()) {
+            log.debug("Do score normalization");
+            scoreNormalizer.normalizeScores(normalizeScoresDTO);
+        }
 
         CombineScoresDto combineScoresDTO = CombineScoresDto.builder()
             .queryTopDocs(queryTopDocs)
             .scoreCombinationTechnique(request.getCombinationTechnique())
             .querySearchResults(querySearchResults)
-            .sort(evaluateSortCriteria(querySearchResults, queryTopDocs))
+            .sort(sort)
             .fromValueForSingleShard(getFromValueIfSingleShard(request))
             .isSingleShard(getIsSingleShard(request))
+            .scoreNormalizer(fusedScoreNormalizer.orElse(null))
+            .shardResultsParallelism(shardResultsParallelism)
             .build();
 
         // combine
         log.debug("Do score combination");
         scoreCombiner.combineScores(combineScoresDTO);
 
+        explain(request, queryTopDocs);
+
         // post-process data
         log.debug("Post-process query results after score normalization and combination");
         updateOriginalQueryResults(combineScoresDTO, fetchSearchResultOptional.isPresent());
@@ -104,6 +112,21 @@ public class NormalizationProcessorWorkflow {
         );
     }
 
+    /**
+     * Normalization is fused with combination only when nothing reads normalized scores of sub-queries. Explanations are built
+     * from them, and sorting uses them to break ties between docs with the same sort values.
+     */
+    private Optional<SubQueryScoreNormalizer> getFusedScoreNormalizer(
+        final NormalizationProcessorWorkflowExecuteRequest request,
+        final NormalizeScoresDTO normalizeScoresDTO,
+        final Sort sort
+    ) {
+        if (request.isExplain() || Objects.nonNull(sort)) {
+            return Optional.empty();
+        }
+        return scoreNormalizer.getScoreNormalizer(normalizeScoresDTO);
+    }
+
     private boolean getIsSingleShard(final NormalizationProcessorWorkflowExecuteRequest request) {
         final SearchPhaseContext searchPhaseContext = request.getSearchPhaseContext();
         return searchPhaseContext.getNumShards() == 1 || request.fetchSearchResultOptional.isEmpty() == false;
@@ -132,8 +155,9 @@ public class NormalizationProcessorWorkflow {
     }
 
     /**
-     * Collects explanations from normalization and combination techniques and save thme into pipeline context. Later that
-     * information will be read by the response processor to add it to search response
+     * Collects explanations from normalization and combination techniques and save them into pipeline context. Later that
+     * information will be read by the response processor to add it to search response. Explanations are derived from
+     * normalized and combined scores when the response processor reads them, only for the hits of the search response
      */
     private void explain(NormalizationProcessorWorkflowExecuteRequest request, List<CompoundTopDocs> queryTopDocs) {
         if (!request.isExplain()) {
@@ -141,29 +165,11 @@ public class NormalizationProcessorWorkflow {
         }
         // build final result object with all explain related information
         if (Objects.nonNull(request.getPipelineProcessingContext())) {
-            Sort sortForQuery = evaluateSortCriteria(request.getQuerySearchResults(), queryTopDocs);
-            Map<DocIdAtSearchShard, ExplanationDetails> normalizationExplain = scoreNormalizer.explain(
-                queryTopDocs,
-                (ExplainableTechnique) request.getNormalizationTechnique()
-            );
-            Map<SearchShard, List<ExplanationDetails>> combinationExplain = scoreCombiner.explain(
+            Map<SearchShard, List<CombinedExplanationDetails>> combinedExplanations = scoreCombiner.explain(
                 queryTopDocs,
-                request.getCombinationTechnique(),
-                sortForQuery
+                (ExplainableTechnique) request.getNormalizationTechnique(),
+                request.getCombinationTechnique()
             );
-            Map<SearchShard, List<CombinedExplanationDetails>> combinedExplanations = new HashMap<>();
-            for (Map.Entry<SearchShard, List<ExplanationDetails>> entry : combinationExplain.entrySet()) {
-                List<CombinedExplanationDetails> combinedDetailsList = new ArrayList<>();
-                for (ExplanationDetails explainDetail : entry.getValue()) {
-                    DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(explainDetail.getDocId(), entry.getKey());
-                    CombinedExplanationDetails combinedDetail = CombinedExplanationDetails.builder()
-                        .normalizationExplanations(normalizationExplain.get(docIdAtSearchShard))
-                        .combinationExplanations(explainDetail)
-                        .build();
-                    combinedDetailsList.add(combinedDetail);
-                }
-                combinedExplanations.put(entry.getKey(), combinedDetailsList);
-            }
 
             ExplanationPayload explanationPayload = ExplanationPayload.builder()
                 .explainPayload(Map.of(ExplanationPayload.PayloadType.NORMALIZATION_PROCESSOR, combinedExplanations))
@@ -282,7 +288,7 @@ public class NormalizationProcessorWorkflow {
     private void updateOriginalFetchResults(
         final List<QuerySearchResult> querySearchResults,
         final Optional<FetchSearchResult> fetchSearchResultOptional,
-        final List<Integer> docIds,
+        final int[] docIds,
         final int fromValueForSingleShard
     ) {
         if (fetchSearchResultOptional.isEmpty()) {
@@ -303,22 +309,24 @@ public class NormalizationProcessorWorkflow {
 
         SearchHit[] searchHitArray = getSearchHits(docIds, fetchSearchResult, requestCache);
 
-        // create map of docId to index of search hits. This solves (2), duplicates are from
-        // delimiter and start/stop elements, they all have same valid doc_id. For this map
-        // we use doc_id as a key, and all those special elements are collapsed into a single
-        // key-value pair.
-        Map<Integer, SearchHit> docIdToSearchHit = new HashMap<>();
-        for (int i = 0; i < searchHitArray.length; i++) {
-            int originalDocId = docIds.get(i);
-            docIdToSearchHit.put(originalDocId, searchHitArray[i]);
-        }
-
         QuerySearchResult querySearchResult = querySearchResults.get(0);
         TopDocs topDocs = querySearchResult.topDocs().topDocs;
         // Scenario to handle when calculating the trimmed length of updated search hits
         // When normalization process runs after fetch phase, then search hits already fetched. Therefore, use the from value sent in the
         // search request to calculate the effective length of updated search hits array.
         int trimmedLengthOfSearchHits = topDocs.scoreDocs.length - fromValueForSingleShard;
+
+        // create map of docId to search hit only for the hits of the final page, the rest of fetched hits is not used. This solves (2),
+        // duplicates are from delimiter and start/stop elements, they all have same valid doc_id. For this map we use doc_id as a key,
+        // and all those special elements are collapsed into a single key-value pair.
+        Map<Integer, SearchHit> docIdToSearchHit = new HashMap<>(Math.max(16, trimmedLengthOfSearchHits * 2));
+        for (int i = 0; i < trimmedLengthOfSearchHits; i++) {
+            docIdToSearchHit.put(topDocs.scoreDocs[i + fromValueForSingleShard].doc, null);
+        }
+        for (int i = 0; i < searchHitArray.length; i++) {
+            docIdToSearchHit.replace(docIds[i], searchHitArray[i]);
+        }
+
         // iterate over the normalized/combined scores, that solves (1) and (3)
         SearchHit[] updatedSearchHitArray = new SearchHit[trimmedLengthOfSearchHits];
         for (int i = 0; i < trimmedLengthOfSearchHits; i++) {
@@ -338,7 +346,7 @@ public class NormalizationProcessorWorkflow {
         fetchSearchResult.hits(updatedSearchHits);
     }
 
-    private SearchHit[] getSearchHits(final List<Integer> docIds, final FetchSearchResult fetchSearchResult, final boolean requestCache) {
+    private SearchHit[] getSearchHits(final int[] docIds, final FetchSearchResult fetchSearchResult, final boolean requestCache) {
         SearchHits searchHits = fetchSearchResult.hits();
         SearchHit[] searchHitArray = searchHits.getHits();
         // validate the both collections are of the same size
@@ -349,25 +357,28 @@ public class NormalizationProcessorWorkflow {
         }
         // in case of cached request results of fetch and query may be different, only restriction is
         // that number of query results size is greater or equal size of fetch results
-        if ((!requestCache && searchHitArray.length != docIds.size()) || requestCache && docIds.size() < searchHitArray.length) {
+        if ((!requestCache && searchHitArray.length != docIds.length) || requestCache && docIds.length < searchHitArray.length) {
             throw new IllegalStateException(
                 String.format(
                     Locale.ROOT,
                     "score normalization processor cannot produce final query result, the number of documents after fetch phase [%d] is different from number of documents from query phase [%d]",
                     searchHitArray.length,
-                    docIds.size()
+                    docIds.length
                 )
             );
         }
         return searchHitArray;
     }
 
-    private List<Integer> unprocessedDocIds(final List<QuerySearchResult> querySearchResults) {
-        List<Integer> docIds = querySearchResults.isEmpty()
-            ? List.of()
-            : Arrays.stream(querySearchResults.get(0).topDocs().topDocs.scoreDocs)
-                .map(scoreDoc -> scoreDoc.doc)
-                .collect(Collectors.toList());
+    private int[] unprocessedDocIds(final List<QuerySearchResult> querySearchResults) {
+        if (querySearchResults.isEmpty()) {
+            return new int[0];
+        }
+        ScoreDoc[] scoreDocs = querySearchResults.get(0).topDocs().topDocs.scoreDocs;
+        int[] docIds = new int[scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            docIds[i] = scoreDocs[i].doc;
+        }
         return docIds;
     }
 }
@@ -23,4 +23,7 @@ public class NormalizeScoresDTO {
     private List<CompoundTopDocs> queryTopDocs;
     @NonNull
     private ScoreNormalizationTechnique normalizationTechnique;
+    // number of tasks to process results of shards with, 1 if they are processed on the calling thread
+    @Builder.Default
+    private int shardResultsParallelism = 1;
 }
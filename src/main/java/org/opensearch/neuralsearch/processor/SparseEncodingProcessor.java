@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.processor;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiConsumer;
@@ -21,6 +22,8 @@ import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.IngestInferenceCacheKey;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.optimization.TextEmbeddingInferenceFilter;
 import org.opensearch.neuralsearch.util.prune.PruneType;
@@ -54,16 +57,33 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
         int batchSize,
         String modelId,
         Map<String, Object> fieldMap,
+        int inferenceBatchMaxChars,
+        int inferenceBatchMaxItems,
         boolean skipExisting,
         TextEmbeddingInferenceFilter textEmbeddingInferenceFilter,
         PruneType pruneType,
         float pruneRatio,
         OpenSearchClient openSearchClient,
         MLCommonsClientAccessor clientAccessor,
+        InferenceResultCache<IngestInferenceCacheKey, Object> inferenceResultCache,
         Environment environment,
         ClusterService clusterService
     ) {
-        super(tag, description, batchSize, TYPE, LIST_TYPE_NESTED_MAP_KEY, modelId, fieldMap, clientAccessor, environment, clusterService);
+        super(
+            tag,
+            description,
+            batchSize,
+            TYPE,
+            LIST_TYPE_NESTED_MAP_KEY,
+            modelId,
+            fieldMap,
+            inferenceBatchMaxChars,
+            inferenceBatchMaxItems,
+            clientAccessor,
+            inferenceResultCache,
+            environment,
+            clusterService
+        );
         this.pruneType = pruneType;
         this.pruneRatio = pruneRatio;
         this.skipExisting = skipExisting;
@@ -83,13 +103,15 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
             return;
         }
         // if skipExisting flag is turned on, eligible inference texts will be compared and filtered after embeddings are copied
+        textEmbeddingInferenceFilter.prepareDocument(processMap, ingestDocument.getSourceAndMetadata());
         Object index = ingestDocument.getSourceAndMetadata().get(INDEX_FIELD);
         Object id = ingestDocument.getSourceAndMetadata().get(ID_FIELD);
         if (Objects.isNull(index) || Objects.isNull(id)) {
             generateAndSetMapInference(ingestDocument, processMap, inferenceList, pruneType, pruneRatio, handler);
             return;
         }
-        openSearchClient.execute(GetAction.INSTANCE, new GetRequest(index.toString(), id.toString()), ActionListener.wrap(response -> {
+        GetRequest getRequest = buildGetRequest(index, id, textEmbeddingInferenceFilter);
+        openSearchClient.execute(GetAction.INSTANCE, getRequest, ActionListener.wrap(response -> {
             final Map<String, Object> existingDocument = response.getSourceAsMap();
             if (existingDocument == null || existingDocument.isEmpty()) {
                 generateAndSetMapInference(ingestDocument, processMap, inferenceList, pruneType, pruneRatio, handler);
@@ -114,6 +136,12 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
         }, e -> { handler.accept(null, e); }));
     }
 
+    @Override
+    protected String getInferenceResultType() {
+        // cached sparse vectors are already pruned, so processors with different prune settings must not share them
+        return String.format(Locale.ROOT, "%s:%s:%s", TYPE, pruneType.getValue(), pruneRatio);
+    }
+
     @Override
     public void doBatchExecute(List<String> inferenceList, Consumer<List<?>> handler, Consumer<Exception> onException) {
         mlCommonsClientAccessor.inferenceSentencesWithMapResult(
@@ -148,9 +176,10 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
             }
             // skipExisting flag is turned on, eligible inference texts in dataForInferences will be compared and filtered after embeddings
             // are copied
+            prepareDocumentsForFiltering(textEmbeddingInferenceFilter, dataForInferences);
             openSearchClient.execute(
                 MultiGetAction.INSTANCE,
-                buildMultiGetRequest(dataForInferences),
+                buildMultiGetRequest(dataForInferences, textEmbeddingInferenceFilter),
                 ActionListener.wrap(
                     response -> reuseOrGenerateEmbedding(
                         response,
@@ -11,7 +11,6 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.opensearch.action.get.GetAction;
-import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.MultiGetAction;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.action.ActionListener;
@@ -19,6 +18,8 @@ import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.IngestInferenceCacheKey;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 
 import lombok.extern.log4j.Log4j2;
@@ -46,14 +47,31 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
         int batchSize,
         String modelId,
         Map<String, Object> fieldMap,
+        int inferenceBatchMaxChars,
+        int inferenceBatchMaxItems,
         boolean skipExisting,
         TextEmbeddingInferenceFilter textEmbeddingInferenceFilter,
         OpenSearchClient openSearchClient,
         MLCommonsClientAccessor clientAccessor,
+        InferenceResultCache<IngestInferenceCacheKey, Object> inferenceResultCache,
         Environment environment,
         ClusterService clusterService
     ) {
-        super(tag, description, batchSize, TYPE, LIST_TYPE_NESTED_MAP_KEY, modelId, fieldMap, clientAccessor, environment, clusterService);
+        super(
+            tag,
+            description,
+            batchSize,
+            TYPE,
+            LIST_TYPE_NESTED_MAP_KEY,
+            modelId,
+            fieldMap,
+            inferenceBatchMaxChars,
+            inferenceBatchMaxItems,
+            clientAccessor,
+            inferenceResultCache,
+            environment,
+            clusterService
+        );
         this.skipExisting = skipExisting;
         this.textEmbeddingInferenceFilter = textEmbeddingInferenceFilter;
         this.openSearchClient = openSearchClient;
@@ -73,6 +91,7 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
             return;
         }
         // if skipExisting flag is turned on, eligible inference texts will be compared and filtered after embeddings are copied
+        textEmbeddingInferenceFilter.prepareDocument(processMap, ingestDocument.getSourceAndMetadata());
         Object index = ingestDocument.getSourceAndMetadata().get(INDEX_FIELD);
         Object id = ingestDocument.getSourceAndMetadata().get(ID_FIELD);
         if (Objects.isNull(index) || Objects.isNull(id)) {
@@ -81,7 +100,7 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
         }
         openSearchClient.execute(
             GetAction.INSTANCE,
-            new GetRequest(index.toString(), id.toString()),
+            buildGetRequest(index, id, textEmbeddingInferenceFilter),
             ActionListener.wrap(
                 response -> reuseOrGenerateEmbedding(
                     response,
@@ -126,9 +145,10 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
             }
             // skipExisting flag is turned on, eligible inference texts in dataForInferences will be compared and filtered after embeddings
             // are copied
+            prepareDocumentsForFiltering(textEmbeddingInferenceFilter, dataForInferences);
             openSearchClient.execute(
                 MultiGetAction.INSTANCE,
-                buildMultiGetRequest(dataForInferences),
+                buildMultiGetRequest(dataForInferences, textEmbeddingInferenceFilter),
                 ActionListener.wrap(
                     response -> reuseOrGenerateEmbedding(
                         response,
@@ -4,8 +4,10 @@
  */
 package org.opensearch.neuralsearch.processor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -28,6 +30,7 @@ import com.google.common.annotations.VisibleForTesting;
 
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.processor.optimization.TextImageEmbeddingInferenceFilter;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.transport.client.OpenSearchClient;
 
 /**
@@ -141,7 +144,7 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
             }
             openSearchClient.execute(
                 GetAction.INSTANCE,
-                new GetRequest(index.toString(), id.toString()),
+                new GetRequest(index.toString(), id.toString()).fetchSourceContext(buildFetchSourceContext()),
                 ActionListener.wrap(
                     response -> reuseOrGenerateEmbedding(response, ingestDocument, knnMap, inferenceMap, handler),
                     e -> handler.accept(null, e)
@@ -153,10 +156,19 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
 
     }
 
+    /**
+     * Only the compared text and image fields and the embedding field are read from the existing document
+     */
+    private FetchSourceContext buildFetchSourceContext() {
+        Set<String> sourceIncludes = new LinkedHashSet<>(fieldMap.values());
+        sourceIncludes.add(embedding);
+        return new FetchSourceContext(true, sourceIncludes.toArray(new String[0]), new String[0]);
+    }
+
     private void setVectorFieldsToDocument(final IngestDocument ingestDocument, final List<Number> vectors) {
         Objects.requireNonNull(vectors, "embedding failed, inference returns null result!");
         log.debug("Text embedding result fetched, starting build vector output!");
-        Map<String, Object> textEmbeddingResult = buildTextEmbeddingResult(this.embedding, vectors);
+        Map<String, Object> textEmbeddingResult = buildTextEmbeddingResult(this.embedding, new ArrayList<>(vectors));
         textEmbeddingResult.forEach(ingestDocument::setFieldValue);
     }
 
@@ -12,6 +12,7 @@ import lombok.NonNull;
 import org.apache.lucene.search.Sort;
 import org.opensearch.common.Nullable;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.normalization.SubQueryScoreNormalizer;
 import org.opensearch.search.query.QuerySearchResult;
 
 /**
@@ -31,4 +32,10 @@ public class CombineScoresDto {
     private Sort sort;
     private int fromValueForSingleShard;
     private boolean isSingleShard;
+    // set when scores are not normalized yet and must be normalized while they are combined
+    @Nullable
+    private SubQueryScoreNormalizer scoreNormalizer;
+    // number of tasks to process results of shards with, 1 if they are processed on the calling thread
+    @Builder.Default
+    private int shardResultsParallelism = 1;
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.LongHeap;
+import org.opensearch.neuralsearch.processor.normalization.SubQueryScoreNormalizer;
+
+/**
+ * Table of sub-query scores of the docs of a single shard, keyed by doc id. Docs are stored in insertion order in primitive
+ * arrays and located by an open-addressing hash of doc ids, so building the table and looking up scores doesn't box doc ids
+ * or allocate per doc. Each doc is referenced by its index in the table.
+ */
+final class DocScoreTable {
+    private static final int EMPTY_SLOT = -1;
+    // multiplicative hashing constant, 2^32 divided by the golden ratio
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private final int numOfSubQueries;
+    private final int[] slots;
+    private final int hashShift;
+    private final int[] docs;
+    private final float[] scores;
+    private int size;
+
+    private DocScoreTable(final int maxSize, final int numOfSubQueries) {
+        this.numOfSubQueries = numOfSubQueries;
+        // keep load factor at or below 0.5, the number of docs is known upfront so the table never grows
+        int capacity = Integer.highestOneBit(Math.max(2, maxSize) * 2 - 1) << 1;
+        this.slots = new int[capacity];
+        Arrays.fill(slots, EMPTY_SLOT);
+        this.hashShift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+        this.docs = new int[maxSize];
+        this.scores = new float[maxSize * numOfSubQueries];
+    }
+
+    /**
+     * Creates a table with scores of every doc returned by any of the sub-queries. Scores of sub-queries that didn't return
+     * the doc are 0.0
+     * @param topDocsPerSubQuery results of each sub-query of a single shard
+     * @return table of scores
+     */
+    static DocScoreTable of(final List<TopDocs> topDocsPerSubQuery) {
+        return of(topDocsPerSubQuery, SubQueryScoreNormalizer.IDENTITY);
+    }
+
+    /**
+     * Creates a table with normalized scores of every doc returned by any of the sub-queries, so scores are normalized in the
+     * same pass that groups them by doc. Scores of sub-queries that didn't return the doc are 0.0
+     * @param topDocsPerSubQuery results of each sub-query of a single shard with raw scores
+     * @param scoreNormalizer normalizer of raw scores
+     * @return table of normalized scores
+     */
+    static DocScoreTable of(final List<TopDocs> topDocsPerSubQuery, final SubQueryScoreNormalizer scoreNormalizer) {
+        int maxSize = 0;
+        for (TopDocs topDocs : topDocsPerSubQuery) {
+            maxSize += topDocs.scoreDocs.length;
+        }
+        DocScoreTable table = new DocScoreTable(maxSize, topDocsPerSubQuery.size());
+        for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
+            for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(subQueryIndex).scoreDocs) {
+                int index = table.add(scoreDoc.doc);
+                table.scores[index * table.numOfSubQueries + subQueryIndex] = scoreNormalizer.normalize(subQueryIndex, scoreDoc.score);
+            }
+        }
+        return table;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int doc(final int index) {
+        return docs[index];
+    }
+
+    /**
+     * Copies scores of all sub-queries for the doc into the array
+     * @param index index of the doc in the table
+     * @param target array of size equal to the number of sub-queries
+     */
+    void copyScores(final int index, final float[] target) {
+        System.arraycopy(scores, index * numOfSubQueries, target, 0, numOfSubQueries);
+    }
+
+    /**
+     * @param doc doc id
+     * @return index of the doc in the table, or -1 if the table doesn't have the doc
+     */
+    int indexOf(final int doc) {
+        for (int slot = slot(doc);; slot = (slot + 1) & (slots.length - 1)) {
+            int index = slots[slot];
+            if (index == EMPTY_SLOT) {
+                return -1;
+            }
+            if (docs[index] == doc) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Combines scores of each doc with the combination technique
+     * @param scoreCombinationTechnique technique to combine scores of sub-queries
+     * @return combined scores, indexed same as docs in the table
+     */
+    float[] combine(final ScoreCombinationTechnique scoreCombinationTechnique) {
+        float[] combinedScores = new float[size];
+        float[] docScores = new float[numOfSubQueries];
+        for (int index = 0; index < size; index++) {
+            copyScores(index, docScores);
+            combinedScores[index] = scoreCombinationTechnique.combine(docScores);
+        }
+        return combinedScores;
+    }
+
+    /**
+     * Selects the docs with the highest combined scores, for equal scores docs with lower doc id go first. Only the top
+     * docs are ordered when the limit is lower than the number of docs in the table
+     * @param combinedScores combined scores of the docs
+     * @param limit max number of docs to select
+     * @return indexes of the selected docs in the table, ordered by descending score
+     */
+    int[] topIndexesByScore(final float[] combinedScores, final long limit) {
+        int topSize = (int) Math.min(size, Math.max(0, limit));
+        int[] topIndexes = new int[topSize];
+        if (topSize == 0) {
+            return topIndexes;
+        }
+        if (topSize == size) {
+            long[] keys = new long[size];
+            for (int index = 0; index < size; index++) {
+                keys[index] = sortKey(combinedScores[index], index);
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < size; i++) {
+                topIndexes[i] = docIndex(keys[i]);
+            }
+            return topIndexes;
+        }
+        // bounded heap of inverted keys keeps the lowest keys, i.e. the docs that sort first
+        LongHeap heap = new LongHeap(topSize);
+        for (int index = 0; index < size; index++) {
+            heap.insertWithOverflow(~sortKey(combinedScores[index], index));
+        }
+        for (int i = topSize - 1; i >= 0; i--) {
+            topIndexes[i] = docIndex(~heap.pop());
+        }
+        return topIndexes;
+    }
+
+    private int add(final int doc) {
+        int slot = slot(doc);
+        while (slots[slot] != EMPTY_SLOT) {
+            int index = slots[slot];
+            if (docs[index] == doc) {
+                return index;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        int index = size++;
+        slots[slot] = index;
+        docs[index] = doc;
+        return index;
+    }
+
+    private int slot(final int doc) {
+        return (doc * HASH_MULTIPLIER) >>> hashShift;
+    }
+
+    /**
+     * Builds a key that sorts ascending in the order of descending score and ascending doc id. Score bits are mapped to an
+     * int that sorts like {@link Float#compare} and inverted, doc id goes to the lower bits of the key
+     */
+    private long sortKey(final float score, final int index) {
+        int bits = Float.floatToIntBits(score);
+        int sortableScore = bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+        return ((long) ~sortableScore << Integer.SIZE) | (docs[index] & 0xFFFFFFFFL);
+    }
+
+    private int docIndex(final long key) {
+        return indexOf((int) key);
+    }
+}
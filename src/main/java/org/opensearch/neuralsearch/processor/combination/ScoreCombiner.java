@@ -5,7 +5,6 @@
 package org.opensearch.neuralsearch.processor.combination;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -15,9 +14,6 @@ import java.util.Objects;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 
-import java.util.stream.Collectors;
-
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.ScoreDoc;
@@ -30,7 +26,10 @@ import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.processor.SearchShard;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
-import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
+import org.opensearch.neuralsearch.processor.explain.CombinedExplanationDetails;
+import org.opensearch.neuralsearch.processor.normalization.SubQueryScoreNormalizer;
+
+import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.processShardResults;
 
 /**
  * Abstracts combination of scores in query search results.
@@ -57,12 +56,12 @@ public class ScoreCombiner {
     /**
      * Performs score combination based on input combination technique. Mutates input object by updating combined scores
      * Main steps we're doing for combination:
-     * - create map of normalized scores per doc id
-     * - using normalized scores create another map of combined scores per doc id
+     * - create table of normalized scores per doc id
+     * - using normalized scores create array of combined scores per doc
      * - count max number of hits among sub-queries
      * - sort documents by scores and take first "max number" of docs
      * - update query search results with normalized scores
-     * Different score combination techniques are different in step 2, where we create map of "doc id" - "combined score",
+     * Different score combination techniques are different in step 2, where we compute combined score of each doc,
      * other steps are same for all techniques.
      *
      * @param combineScoresDTO   contains details of query top docs, score combination technique and sort is enabled or disabled.
@@ -73,12 +72,20 @@ public class ScoreCombiner {
         ScoreCombinationTechnique scoreCombinationTechnique = combineScoresDTO.getScoreCombinationTechnique();
         Sort sort = combineScoresDTO.getSort();
         boolean isSingleShard = combineScoresDTO.isSingleShard();
-        combineScoresDTO.getQueryTopDocs()
-            .forEach(compoundQueryTopDocs -> combineShardScores(scoreCombinationTechnique, compoundQueryTopDocs, sort, isSingleShard));
+        SubQueryScoreNormalizer scoreNormalizer = Objects.requireNonNullElse(
+            combineScoresDTO.getScoreNormalizer(),
+            SubQueryScoreNormalizer.IDENTITY
+        );
+        // results of each shard are combined independently, so shards can be processed in parallel
+        processShardResults(combineScoresDTO.getQueryTopDocs(), combineScoresDTO.getShardResultsParallelism(), compoundQueryTopDocs -> {
+            combineShardScores(scoreCombinationTechnique, scoreNormalizer, compoundQueryTopDocs, sort, isSingleShard);
+            return null;
+        });
     }
 
     private void combineShardScores(
         final ScoreCombinationTechnique scoreCombinationTechnique,
+        final SubQueryScoreNormalizer scoreNormalizer,
         final CompoundTopDocs compoundQueryTopDocs,
         final Sort sort,
         final boolean isSingleShard
@@ -88,26 +95,28 @@ public class ScoreCombiner {
         }
         List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
 
-        // - create map of normalized scores results returned from the single shard
-        Map<Integer, float[]> normalizedScoresPerDoc = getNormalizedScoresPerDocument(topDocsPerSubQuery);
+        // - create table of normalized scores results returned from the single shard, scores are normalized here if
+        // normalization is fused with combination
+        DocScoreTable normalizedScoresPerDoc = DocScoreTable.of(topDocsPerSubQuery, scoreNormalizer);
 
-        // - create map of combined scores per doc id
-        Map<Integer, Float> combinedNormalizedScoresByDocId = combineScoresAndGetCombinedNormalizedScoresPerDocument(
-            normalizedScoresPerDoc,
-            scoreCombinationTechnique
-        );
+        // - create array of combined scores, indexed same as docs in the table
+        float[] combinedNormalizedScores = normalizedScoresPerDoc.combine(scoreCombinationTechnique);
+
+        // - max number of hits will be the same which are passed from QueryPhase
+        long maxHits = compoundQueryTopDocs.getTotalHits().value();
 
         // - sort documents by scores and take first "max number" of docs
-        // create a collection of doc ids that are sorted by their combined scores
-        Collection<Integer> sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, combinedNormalizedScoresByDocId);
+        // create an array of doc indexes in the table that are sorted by their combined scores
+        int[] sortedDocIndexes = getSortedDocIndexes(compoundQueryTopDocs, sort, normalizedScoresPerDoc, combinedNormalizedScores, maxHits);
 
         // - update query search results with combined scores
         updateQueryTopDocsWithCombinedScores(
             compoundQueryTopDocs,
             topDocsPerSubQuery,
-            combinedNormalizedScoresByDocId,
-            sortedDocsIds,
-            getDocIdSortFieldsMap(compoundQueryTopDocs, combinedNormalizedScoresByDocId, sort),
+            normalizedScoresPerDoc,
+            combinedNormalizedScores,
+            sortedDocIndexes,
+            getDocIdSortFieldsMap(compoundQueryTopDocs, normalizedScoresPerDoc, combinedNormalizedScores, sort),
             sort,
             isSingleShard
         );
@@ -149,13 +158,15 @@ public class ScoreCombiner {
 
     /**
      * @param compoundTopDocs top docs that represent on shard
-     * @param combinedNormalizedScoresByDocId docId to normalized scores map
+     * @param normalizedScoresPerDoc table of docs with normalized scores
+     * @param combinedNormalizedScores combined scores of docs in the table
      * @param sort sort criteria
      * @return map of docId and sort fields if sorting is enabled.
      */
     private Map<Integer, Object[]> getDocIdSortFieldsMap(
         final CompoundTopDocs compoundTopDocs,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
+        final DocScoreTable normalizedScoresPerDoc,
+        final float[] combinedNormalizedScores,
         final Sort sort
     ) {
         // If sort is null then no sort fields present therefore return null.
@@ -173,7 +184,8 @@ public class ScoreCombiner {
                 if (docIdSortFieldMap.get(fieldDoc.doc) == null) {
                     // If sort by score then replace sort field value with normalized score.
                     if (isSortByScore) {
-                        docIdSortFieldMap.put(fieldDoc.doc, new Object[] { combinedNormalizedScoresByDocId.get(fieldDoc.doc) });
+                        float combinedScore = combinedNormalizedScores[normalizedScoresPerDoc.indexOf(fieldDoc.doc)];
+                        docIdSortFieldMap.put(fieldDoc.doc, new Object[] { combinedScore });
                     } else {
                         docIdSortFieldMap.put(fieldDoc.doc, fieldDoc.fields);
                     }
@@ -183,13 +195,6 @@ public class ScoreCombiner {
         return docIdSortFieldMap;
     }
 
-    private List<Integer> getSortedDocIds(final Map<Integer, Float> combinedNormalizedScoresByDocId) {
-        // we're merging docs with normalized and combined scores. we need to have only maxHits results
-        List<Integer> sortedDocsIds = new ArrayList<>(combinedNormalizedScoresByDocId.keySet());
-        sortedDocsIds.sort((a, b) -> Float.compare(combinedNormalizedScoresByDocId.get(b), combinedNormalizedScoresByDocId.get(a)));
-        return sortedDocsIds;
-    }
-
     private Set<Integer> getSortedDocIdsBySortCriteria(final List<TopFieldDocs> topFieldDocs, final Sort sort) {
         if (Objects.isNull(topFieldDocs)) {
             throw new IllegalArgumentException("topFieldDocs cannot be null when sorting is enabled.");
@@ -224,8 +229,9 @@ public class ScoreCombiner {
 
     private List<ScoreDoc> getCombinedScoreDocs(
         final CompoundTopDocs compoundQueryTopDocs,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
-        final Collection<Integer> sortedScores,
+        final DocScoreTable normalizedScoresPerDoc,
+        final float[] combinedNormalizedScores,
+        final int[] sortedDocIndexes,
         final long maxHits,
         final Map<Integer, Object[]> docIdSortFieldMap,
         final Sort sort,
@@ -238,14 +244,20 @@ public class ScoreCombiner {
         if (!compoundQueryTopDocs.getScoreDocs().isEmpty()) {
             shardId = compoundQueryTopDocs.getScoreDocs().get(0).shardIndex;
         }
-        List<ScoreDoc> scoreDocs = new ArrayList<>();
-        int hitCount = 0;
-        for (Integer docId : sortedScores) {
-            if (hitCount == maxHits) {
-                break;
-            }
-            scoreDocs.add(getScoreDoc(sort, docId, shardId, combinedNormalizedScoresByDocId, docIdSortFieldMap, isSingleShard));
-            hitCount++;
+        int numOfHits = (int) Math.min(sortedDocIndexes.length, maxHits);
+        List<ScoreDoc> scoreDocs = new ArrayList<>(numOfHits);
+        for (int hitCount = 0; hitCount < numOfHits; hitCount++) {
+            int docIndex = sortedDocIndexes[hitCount];
+            scoreDocs.add(
+                getScoreDoc(
+                    sort,
+                    normalizedScoresPerDoc.doc(docIndex),
+                    shardId,
+                    combinedNormalizedScores[docIndex],
+                    docIdSortFieldMap,
+                    isSingleShard
+                )
+            );
         }
         return scoreDocs;
     }
@@ -254,7 +266,7 @@ public class ScoreCombiner {
         final Sort sort,
         final int docId,
         final int shardId,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
+        final float combinedScore,
         final Map<Integer, Object[]> docIdSortFieldMap,
         final boolean isSingleShard
     ) {
@@ -265,41 +277,17 @@ public class ScoreCombiner {
             return new FieldDoc(docId, Float.NaN, docIdSortFieldMap.get(docId), shardId);
         }
         if (isSortEnabled && docIdSortFieldMap != null) {
-            return new FieldDoc(docId, combinedNormalizedScoresByDocId.get(docId), docIdSortFieldMap.get(docId), shardId);
-        }
-        return new ScoreDoc(docId, combinedNormalizedScoresByDocId.get(docId), shardId);
-    }
-
-    public Map<Integer, float[]> getNormalizedScoresPerDocument(final List<TopDocs> topDocsPerSubQuery) {
-        Map<Integer, float[]> normalizedScoresPerDoc = new HashMap<>();
-        for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-            TopDocs topDocs = topDocsPerSubQuery.get(j);
-            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                normalizedScoresPerDoc.computeIfAbsent(scoreDoc.doc, key -> {
-                    float[] scores = new float[topDocsPerSubQuery.size()];
-                    // we initialize with -1.0, as after normalization it's possible that score is 0.0
-                    return scores;
-                });
-                normalizedScoresPerDoc.get(scoreDoc.doc)[j] = scoreDoc.score;
-            }
+            return new FieldDoc(docId, combinedScore, docIdSortFieldMap.get(docId), shardId);
         }
-        return normalizedScoresPerDoc;
-    }
-
-    private Map<Integer, Float> combineScoresAndGetCombinedNormalizedScoresPerDocument(
-        final Map<Integer, float[]> normalizedScoresPerDocument,
-        final ScoreCombinationTechnique scoreCombinationTechnique
-    ) {
-        return normalizedScoresPerDocument.entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, entry -> scoreCombinationTechnique.combine(entry.getValue())));
+        return new ScoreDoc(docId, combinedScore, shardId);
     }
 
     private void updateQueryTopDocsWithCombinedScores(
         final CompoundTopDocs compoundQueryTopDocs,
         final List<TopDocs> topDocsPerSubQuery,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
-        final Collection<Integer> sortedScores,
+        final DocScoreTable normalizedScoresPerDoc,
+        final float[] combinedNormalizedScores,
+        final int[] sortedDocIndexes,
         Map<Integer, Object[]> docIdSortFieldMap,
         final Sort sort,
         final boolean isSingleShard
@@ -310,8 +298,9 @@ public class ScoreCombiner {
         compoundQueryTopDocs.setScoreDocs(
             getCombinedScoreDocs(
                 compoundQueryTopDocs,
-                combinedNormalizedScoresByDocId,
-                sortedScores,
+                normalizedScoresPerDoc,
+                combinedNormalizedScores,
+                sortedDocIndexes,
                 maxHits,
                 docIdSortFieldMap,
                 sort,
@@ -330,73 +319,64 @@ public class ScoreCombiner {
     }
 
     /**
-     * Explain the score combination technique for each document in the given queryTopDocs.
-     * @param queryTopDocs
-     * @param combinationTechnique
-     * @param sort
-     * @return a map of SearchShard and List of ExplainationDetails for each document
+     * Explain normalization and combination of scores for each document in the given queryTopDocs. Must be called after
+     * scores are normalized in place and combined, explanations follow the order of combined results of each shard.
+     * Explanation of a document is derived only when it's read from the list of its shard, so explanations are built only
+     * for documents that make it to the search response.
+     * @param queryTopDocs results of all shards with normalized sub-query scores and combined scores
+     * @param normalizationTechnique technique used to normalize scores
+     * @param combinationTechnique technique used to combine scores
+     * @return a map of SearchShard and List of explanations for each document of the shard
      */
-    public Map<SearchShard, List<ExplanationDetails>> explain(
+    public Map<SearchShard, List<CombinedExplanationDetails>> explain(
         final List<CompoundTopDocs> queryTopDocs,
-        final ScoreCombinationTechnique combinationTechnique,
-        final Sort sort
+        final ExplainableTechnique normalizationTechnique,
+        final ScoreCombinationTechnique combinationTechnique
     ) {
+        String normalizationDescription = String.format(Locale.ROOT, "%s normalization of:", normalizationTechnique.describe());
+        String combinationDescription = String.format(
+            Locale.ROOT,
+            "%s combination of:",
+            ((ExplainableTechnique) combinationTechnique).describe()
+        );
         // In case of duplicate keys, keep the first value
-        Map<SearchShard, List<ExplanationDetails>> explanations = new HashMap<>();
+        Map<SearchShard, List<CombinedExplanationDetails>> explanations = new HashMap<>();
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
+            if (Objects.isNull(compoundQueryTopDocs)) {
+                continue;
+            }
             explanations.putIfAbsent(
                 compoundQueryTopDocs.getSearchShard(),
-                explainByShard(combinationTechnique, compoundQueryTopDocs, sort)
+                new ShardExplanations(
+                    compoundQueryTopDocs.getTopDocs(),
+                    compoundQueryTopDocs.getScoreDocs(),
+                    combinationTechnique,
+                    normalizationDescription,
+                    combinationDescription
+                )
             );
         }
         return explanations;
     }
 
-    private List<ExplanationDetails> explainByShard(
-        final ScoreCombinationTechnique scoreCombinationTechnique,
+    private int[] getSortedDocIndexes(
         final CompoundTopDocs compoundQueryTopDocs,
-        final Sort sort
+        final Sort sort,
+        final DocScoreTable normalizedScoresPerDoc,
+        final float[] combinedNormalizedScores,
+        final long maxHits
     ) {
-        if (Objects.isNull(compoundQueryTopDocs) || compoundQueryTopDocs.getTotalHits().value() == 0) {
-            return List.of();
+        if (sort == null) {
+            // only the docs that make it into the results are ordered
+            return normalizedScoresPerDoc.topIndexesByScore(combinedNormalizedScores, maxHits);
         }
-        // create map of normalized scores results returned from the single shard
-        Map<Integer, float[]> normalizedScoresPerDoc = getNormalizedScoresPerDocument(compoundQueryTopDocs.getTopDocs());
-        // combine scores
-        Map<Integer, Float> combinedNormalizedScoresByDocId = normalizedScoresPerDoc.entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, entry -> scoreCombinationTechnique.combine(entry.getValue())));
-        // sort combined scores as per sorting criteria - either score desc or field sorting
-        Collection<Integer> sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, combinedNormalizedScoresByDocId);
-
-        List<ExplanationDetails> listOfExplanations = new ArrayList<>();
-        String combinationDescription = String.format(
-            Locale.ROOT,
-            "%s combination of:",
-            ((ExplainableTechnique) scoreCombinationTechnique).describe()
-        );
+        List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
+        Set<Integer> sortedDocsIds = getSortedDocIdsBySortCriteria(getTopFieldDocs(sort, topDocsPerSubQuery), sort);
+        int[] sortedDocIndexes = new int[sortedDocsIds.size()];
+        int i = 0;
         for (int docId : sortedDocsIds) {
-            ExplanationDetails explanation = new ExplanationDetails(
-                docId,
-                List.of(Pair.of(combinedNormalizedScoresByDocId.get(docId), combinationDescription))
-            );
-            listOfExplanations.add(explanation);
-        }
-        return listOfExplanations;
-    }
-
-    private Collection<Integer> getSortedDocsIds(
-        final CompoundTopDocs compoundQueryTopDocs,
-        final Sort sort,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId
-    ) {
-        Collection<Integer> sortedDocsIds;
-        if (sort != null) {
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            sortedDocsIds = getSortedDocIdsBySortCriteria(getTopFieldDocs(sort, topDocsPerSubQuery), sort);
-        } else {
-            sortedDocsIds = getSortedDocIds(combinedNormalizedScoresByDocId);
+            sortedDocIndexes[i++] = normalizedScoresPerDoc.indexOf(docId);
         }
-        return sortedDocsIds;
+        return sortedDocIndexes;
     }
 }
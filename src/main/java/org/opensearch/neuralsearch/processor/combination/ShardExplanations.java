@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.neuralsearch.processor.explain.CombinedExplanationDetails;
+import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
+
+/**
+ * Explanations of normalized and combined scores of the docs of a single shard, in the order of the combined results of the
+ * shard. Only normalized scores of sub-queries and combined results are kept, explanation of a doc is derived when it is
+ * read, so explanations are built only for docs that make it to the search response. Instances are read by a single thread.
+ */
+final class ShardExplanations extends AbstractList<CombinedExplanationDetails> implements RandomAccess {
+    private final List<TopDocs> topDocsPerSubQuery;
+    private final List<ScoreDoc> combinedScoreDocs;
+    private final ScoreCombinationTechnique scoreCombinationTechnique;
+    private final String normalizationDescription;
+    private final String combinationDescription;
+    private DocScoreTable normalizedScoresPerDoc;
+
+    /**
+     * @param topDocsPerSubQuery results of each sub-query of the shard with normalized scores
+     * @param combinedScoreDocs combined results of the shard, in the order of the final results
+     * @param scoreCombinationTechnique technique that combined normalized scores
+     * @param normalizationDescription description of the normalization technique
+     * @param combinationDescription description of the combination technique
+     */
+    ShardExplanations(
+        final List<TopDocs> topDocsPerSubQuery,
+        final List<ScoreDoc> combinedScoreDocs,
+        final ScoreCombinationTechnique scoreCombinationTechnique,
+        final String normalizationDescription,
+        final String combinationDescription
+    ) {
+        this.topDocsPerSubQuery = topDocsPerSubQuery;
+        this.combinedScoreDocs = combinedScoreDocs;
+        this.scoreCombinationTechnique = scoreCombinationTechnique;
+        this.normalizationDescription = normalizationDescription;
+        this.combinationDescription = combinationDescription;
+    }
+
+    @Override
+    public CombinedExplanationDetails get(final int index) {
+        int docId = combinedScoreDocs.get(index).doc;
+        if (normalizedScoresPerDoc == null) {
+            normalizedScoresPerDoc = DocScoreTable.of(topDocsPerSubQuery);
+        }
+        // scores of sub-queries that didn't return the doc are 0.0
+        float[] normalizedScores = new float[topDocsPerSubQuery.size()];
+        int docIndex = normalizedScoresPerDoc.indexOf(docId);
+        if (docIndex >= 0) {
+            normalizedScoresPerDoc.copyScores(docIndex, normalizedScores);
+        }
+        List<Pair<Float, String>> normalizationDetails = new ArrayList<>(normalizedScores.length);
+        for (float normalizedScore : normalizedScores) {
+            normalizationDetails.add(Pair.of(normalizedScore, normalizationDescription));
+        }
+        float combinedScore = scoreCombinationTechnique.combine(normalizedScores);
+        return CombinedExplanationDetails.builder()
+            .normalizationExplanations(new ExplanationDetails(normalizationDetails))
+            .combinationExplanations(new ExplanationDetails(docId, List.of(Pair.of(combinedScore, combinationDescription))))
+            .build();
+    }
+
+    @Override
+    public int size() {
+        return combinedScoreDocs.size();
+    }
+}
@@ -4,13 +4,8 @@
  */
 package org.opensearch.neuralsearch.processor.explain;
 
-import org.apache.commons.lang3.tuple.Pair;
-
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -19,29 +14,6 @@ import java.util.Optional;
  */
 public class ExplanationUtils {
 
-    /**
-     * Creates map of DocIdAtQueryPhase to String containing source and normalized scores
-     * @param normalizedScores map of DocIdAtQueryPhase to normalized scores
-     * @return map of DocIdAtQueryPhase to String containing source and normalized scores
-     */
-    public static Map<DocIdAtSearchShard, ExplanationDetails> getDocIdAtQueryForNormalization(
-        final Map<DocIdAtSearchShard, List<Float>> normalizedScores,
-        final ExplainableTechnique technique
-    ) {
-        Map<DocIdAtSearchShard, ExplanationDetails> explain = new HashMap<>();
-        for (Map.Entry<DocIdAtSearchShard, List<Float>> entry : normalizedScores.entrySet()) {
-            List<Float> normScores = normalizedScores.get(entry.getKey());
-            List<Pair<Float, String>> explanations = new ArrayList<>();
-            for (float score : normScores) {
-                String description = String.format(Locale.ROOT, "%s normalization of:", technique.describe());
-                explanations.add(Pair.of(score, description));
-            }
-            explain.put(entry.getKey(), new ExplanationDetails(explanations));
-        }
-
-        return explain;
-    }
-
     /**
      * Creates a string describing the combination technique and its parameters
      * @param techniqueName the name of the combination technique
@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.processor.factory;
 
 import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
+import static org.opensearch.ingest.ConfigurationUtils.readIntProperty;
 import static org.opensearch.ingest.ConfigurationUtils.readMap;
 import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
 import static org.opensearch.ingest.ConfigurationUtils.readOptionalStringProperty;
@@ -13,19 +14,28 @@ import static org.opensearch.neuralsearch.processor.SparseEncodingProcessor.DEFA
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.MODEL_ID_FIELD;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.FIELD_MAP_FIELD;
 import static org.opensearch.neuralsearch.processor.SparseEncodingProcessor.TYPE;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.DEFAULT_INFERENCE_BATCH_MAX_CHARS;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.DEFAULT_SKIP_EXISTING_MODE;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.DEFAULT_INFERENCE_BATCH_MAX_ITEMS;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.INFERENCE_BATCH_MAX_CHARS_FIELD;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.INFERENCE_BATCH_MAX_ITEMS_FIELD;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.SKIP_EXISTING_MODE;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.createTextEmbeddingInferenceFilter;
 import static org.opensearch.neuralsearch.processor.SparseEncodingProcessor.SKIP_EXISTING;
 
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.AbstractBatchingProcessor;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.IngestInferenceCacheKey;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.SparseEncodingProcessor;
 
 import lombok.extern.log4j.Log4j2;
-import org.opensearch.neuralsearch.processor.optimization.TextEmbeddingInferenceFilter;
 import org.opensearch.neuralsearch.util.prune.PruneUtils;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.transport.client.OpenSearchClient;
@@ -39,15 +49,28 @@ public class SparseEncodingProcessorFactory extends AbstractBatchingProcessor.Fa
     private final MLCommonsClientAccessor clientAccessor;
     private final Environment environment;
     private final ClusterService clusterService;
+    // the cache is created with the plugin components, after the processor factories
+    private final Supplier<InferenceResultCache<IngestInferenceCacheKey, Object>> inferenceResultCacheSupplier;
 
     public SparseEncodingProcessorFactory(
         OpenSearchClient openSearchClient,
         MLCommonsClientAccessor clientAccessor,
         Environment environment,
         ClusterService clusterService
+    ) {
+        this(openSearchClient, clientAccessor, () -> null, environment, clusterService);
+    }
+
+    public SparseEncodingProcessorFactory(
+        OpenSearchClient openSearchClient,
+        MLCommonsClientAccessor clientAccessor,
+        Supplier<InferenceResultCache<IngestInferenceCacheKey, Object>> inferenceResultCacheSupplier,
+        Environment environment,
+        ClusterService clusterService
     ) {
         super(TYPE);
         this.clientAccessor = clientAccessor;
+        this.inferenceResultCacheSupplier = inferenceResultCacheSupplier;
         this.environment = environment;
         this.clusterService = clusterService;
         this.openSearchClient = openSearchClient;
@@ -58,6 +81,9 @@ public class SparseEncodingProcessorFactory extends AbstractBatchingProcessor.Fa
         String modelId = readStringProperty(TYPE, tag, config, MODEL_ID_FIELD);
         Map<String, Object> fieldMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
         boolean skipExisting = readBooleanProperty(TYPE, tag, config, SKIP_EXISTING, DEFAULT_SKIP_EXISTING);
+        String skipExistingMode = readStringProperty(TYPE, tag, config, SKIP_EXISTING_MODE, DEFAULT_SKIP_EXISTING_MODE);
+        int inferenceBatchMaxChars = readIntProperty(TYPE, tag, config, INFERENCE_BATCH_MAX_CHARS_FIELD, DEFAULT_INFERENCE_BATCH_MAX_CHARS);
+        int inferenceBatchMaxItems = readIntProperty(TYPE, tag, config, INFERENCE_BATCH_MAX_ITEMS_FIELD, DEFAULT_INFERENCE_BATCH_MAX_ITEMS);
         // if the field is miss, will return PruneType.None
         PruneType pruneType = PruneType.fromString(readOptionalStringProperty(TYPE, tag, config, PruneUtils.PRUNE_TYPE_FIELD));
         float pruneRatio = 0;
@@ -87,12 +113,15 @@ public class SparseEncodingProcessorFactory extends AbstractBatchingProcessor.Fa
             batchSize,
             modelId,
             fieldMap,
+            inferenceBatchMaxChars,
+            inferenceBatchMaxItems,
             skipExisting,
-            skipExisting ? new TextEmbeddingInferenceFilter(fieldMap) : null,
+            skipExisting ? createTextEmbeddingInferenceFilter(fieldMap, skipExistingMode) : null,
             pruneType,
             pruneRatio,
             openSearchClient,
             clientAccessor,
+            inferenceResultCacheSupplier.get(),
             environment,
             clusterService
         );
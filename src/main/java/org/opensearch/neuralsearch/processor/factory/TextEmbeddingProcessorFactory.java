@@ -5,22 +5,32 @@
 package org.opensearch.neuralsearch.processor.factory;
 
 import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
+import static org.opensearch.ingest.ConfigurationUtils.readIntProperty;
 import static org.opensearch.ingest.ConfigurationUtils.readMap;
 import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.SKIP_EXISTING;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.DEFAULT_SKIP_EXISTING;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.TYPE;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.DEFAULT_INFERENCE_BATCH_MAX_CHARS;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.DEFAULT_SKIP_EXISTING_MODE;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.DEFAULT_INFERENCE_BATCH_MAX_ITEMS;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.INFERENCE_BATCH_MAX_CHARS_FIELD;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.INFERENCE_BATCH_MAX_ITEMS_FIELD;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.SKIP_EXISTING_MODE;
+import static org.opensearch.neuralsearch.processor.InferenceProcessor.createTextEmbeddingInferenceFilter;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.MODEL_ID_FIELD;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.FIELD_MAP_FIELD;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.AbstractBatchingProcessor;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.IngestInferenceCacheKey;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.TextEmbeddingProcessor;
-import org.opensearch.neuralsearch.processor.optimization.TextEmbeddingInferenceFilter;
 import org.opensearch.transport.client.OpenSearchClient;
 
 /**
@@ -36,15 +46,29 @@ public final class TextEmbeddingProcessorFactory extends AbstractBatchingProcess
 
     private final ClusterService clusterService;
 
+    // the cache is created with the plugin components, after the processor factories
+    private final Supplier<InferenceResultCache<IngestInferenceCacheKey, Object>> inferenceResultCacheSupplier;
+
+    public TextEmbeddingProcessorFactory(
+        final OpenSearchClient openSearchClient,
+        final MLCommonsClientAccessor clientAccessor,
+        final Environment environment,
+        final ClusterService clusterService
+    ) {
+        this(openSearchClient, clientAccessor, () -> null, environment, clusterService);
+    }
+
     public TextEmbeddingProcessorFactory(
         final OpenSearchClient openSearchClient,
         final MLCommonsClientAccessor clientAccessor,
+        final Supplier<InferenceResultCache<IngestInferenceCacheKey, Object>> inferenceResultCacheSupplier,
         final Environment environment,
         final ClusterService clusterService
     ) {
         super(TYPE);
         this.openSearchClient = openSearchClient;
         this.clientAccessor = clientAccessor;
+        this.inferenceResultCacheSupplier = inferenceResultCacheSupplier;
         this.environment = environment;
         this.clusterService = clusterService;
     }
@@ -54,16 +78,22 @@ public final class TextEmbeddingProcessorFactory extends AbstractBatchingProcess
         String modelId = readStringProperty(TYPE, tag, config, MODEL_ID_FIELD);
         Map<String, Object> fieldMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
         boolean skipExisting = readBooleanProperty(TYPE, tag, config, SKIP_EXISTING, DEFAULT_SKIP_EXISTING);
+        String skipExistingMode = readStringProperty(TYPE, tag, config, SKIP_EXISTING_MODE, DEFAULT_SKIP_EXISTING_MODE);
+        int inferenceBatchMaxChars = readIntProperty(TYPE, tag, config, INFERENCE_BATCH_MAX_CHARS_FIELD, DEFAULT_INFERENCE_BATCH_MAX_CHARS);
+        int inferenceBatchMaxItems = readIntProperty(TYPE, tag, config, INFERENCE_BATCH_MAX_ITEMS_FIELD, DEFAULT_INFERENCE_BATCH_MAX_ITEMS);
         return new TextEmbeddingProcessor(
             tag,
             description,
             batchSize,
             modelId,
             fieldMap,
+            inferenceBatchMaxChars,
+            inferenceBatchMaxItems,
             skipExisting,
-            skipExisting ? new TextEmbeddingInferenceFilter(fieldMap) : null,
+            skipExisting ? createTextEmbeddingInferenceFilter(fieldMap, skipExistingMode) : null,
             openSearchClient,
             clientAccessor,
+            inferenceResultCacheSupplier.get(),
             environment,
             clusterService
         );
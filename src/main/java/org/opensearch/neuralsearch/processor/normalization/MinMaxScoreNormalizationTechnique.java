@@ -5,7 +5,6 @@
 package org.opensearch.neuralsearch.processor.normalization;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -19,7 +18,6 @@ import lombok.Getter;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 
@@ -27,12 +25,8 @@ import com.google.common.primitives.Floats;
 
 import lombok.ToString;
 import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
-import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 
-import static org.opensearch.neuralsearch.processor.explain.ExplanationUtils.getDocIdAtQueryForNormalization;
-import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getNumOfSubqueries;
 import static org.opensearch.neuralsearch.query.HybridQueryBuilder.MAX_NUMBER_OF_SUB_QUERIES;
 
 /**
@@ -74,36 +68,41 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
      */
     @Override
     public void normalize(final NormalizeScoresDTO normalizeScoresDTO) {
-        final List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
-        MinMaxScores minMaxScores = getMinMaxScoresResult(queryTopDocs);
         // do normalization using actual score and min and max scores for corresponding sub query
+        ScoreNormalizationUtil.normalizeScores(normalizeScoresDTO, createScoreNormalizer(normalizeScoresDTO));
+    }
+
+    @Override
+    public Optional<SubQueryScoreNormalizer> getScoreNormalizer(final NormalizeScoresDTO normalizeScoresDTO) {
+        return Optional.of(createScoreNormalizer(normalizeScoresDTO));
+    }
+
+    private SubQueryScoreNormalizer createScoreNormalizer(final NormalizeScoresDTO normalizeScoresDTO) {
+        final List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            if (isLowerBoundsAndSubQueriesCountMismatched(topDocsPerSubQuery)) {
+            if (Objects.nonNull(compoundQueryTopDocs) && isLowerBoundsAndSubQueriesCountMismatched(compoundQueryTopDocs.getTopDocs())) {
                 throw new IllegalArgumentException(
                     String.format(
                         Locale.ROOT,
                         "expected lower bounds array to contain %d elements matching the number of sub-queries, but found a mismatch",
-                        topDocsPerSubQuery.size()
+                        compoundQueryTopDocs.getTopDocs().size()
                     )
                 );
             }
-            for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-                TopDocs subQueryTopDoc = topDocsPerSubQuery.get(j);
-                LowerBound lowerBound = getLowerBound(j);
-                for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
-                    scoreDoc.score = normalizeSingleScore(
-                        scoreDoc.score,
-                        minMaxScores.getMinScoresPerSubquery()[j],
-                        minMaxScores.getMaxScoresPerSubquery()[j],
-                        lowerBound
-                    );
-                }
-            }
         }
+        MinMaxScores minMaxScores = getMinMaxScoresResult(queryTopDocs, normalizeScoresDTO.getShardResultsParallelism());
+        float[] minScoresPerSubquery = minMaxScores.getMinScoresPerSubquery();
+        float[] maxScoresPerSubquery = minMaxScores.getMaxScoresPerSubquery();
+        LowerBound[] lowerBounds = new LowerBound[minScoresPerSubquery.length];
+        for (int subQueryIndex = 0; subQueryIndex < lowerBounds.length; subQueryIndex++) {
+            lowerBounds[subQueryIndex] = getLowerBound(subQueryIndex);
+        }
+        return (subQueryIndex, score) -> normalizeSingleScore(
+            score,
+            minScoresPerSubquery[subQueryIndex],
+            maxScoresPerSubquery[subQueryIndex],
+            lowerBounds[subQueryIndex]
+        );
     }
 
     private boolean isLowerBoundsAndSubQueriesCountMismatched(List<TopDocs> topDocsPerSubQuery) {
@@ -118,12 +117,15 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
         ).orElseGet(LowerBound::new);
     }
 
-    private MinMaxScores getMinMaxScoresResult(final List<CompoundTopDocs> queryTopDocs) {
-        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
-        // get min scores for each sub query
-        float[] minScoresPerSubquery = getMinScores(queryTopDocs, numOfSubqueries);
-        // get max scores for each sub query
-        float[] maxScoresPerSubquery = getMaxScores(queryTopDocs, numOfSubqueries);
+    private MinMaxScores getMinMaxScoresResult(final List<CompoundTopDocs> queryTopDocs, final int shardResultsParallelism) {
+        // collect min and max scores for each sub query in a single pass over the results of every shard
+        SubQueryScoreStats[] subQueryScoreStats = SubQueryScoreStats.collect(queryTopDocs, shardResultsParallelism);
+        float[] minScoresPerSubquery = new float[subQueryScoreStats.length];
+        float[] maxScoresPerSubquery = new float[subQueryScoreStats.length];
+        for (int subQueryIndex = 0; subQueryIndex < subQueryScoreStats.length; subQueryIndex++) {
+            minScoresPerSubquery[subQueryIndex] = subQueryScoreStats[subQueryIndex].getMinScore();
+            maxScoresPerSubquery[subQueryIndex] = subQueryScoreStats[subQueryIndex].getMaxScore();
+        }
         return new MinMaxScores(minScoresPerSubquery, maxScoresPerSubquery);
     }
 
@@ -142,84 +144,6 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
         }).orElse(String.format(Locale.ROOT, "%s", TECHNIQUE_NAME));
     }
 
-    @Override
-    public Map<DocIdAtSearchShard, ExplanationDetails> explain(final List<CompoundTopDocs> queryTopDocs) {
-        MinMaxScores minMaxScores = getMinMaxScoresResult(queryTopDocs);
-
-        Map<DocIdAtSearchShard, List<Float>> normalizedScores = new HashMap<>();
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            int numberOfSubQueries = topDocsPerSubQuery.size();
-            for (int subQueryIndex = 0; subQueryIndex < numberOfSubQueries; subQueryIndex++) {
-                TopDocs subQueryTopDoc = topDocsPerSubQuery.get(subQueryIndex);
-                for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
-                    DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(scoreDoc.doc, compoundQueryTopDocs.getSearchShard());
-                    LowerBound lowerBound = getLowerBound(subQueryIndex);
-                    float normalizedScore = normalizeSingleScore(
-                        scoreDoc.score,
-                        minMaxScores.getMinScoresPerSubquery()[subQueryIndex],
-                        minMaxScores.getMaxScoresPerSubquery()[subQueryIndex],
-                        lowerBound
-                    );
-                    ScoreNormalizationUtil.setNormalizedScore(
-                        normalizedScores,
-                        docIdAtSearchShard,
-                        subQueryIndex,
-                        numberOfSubQueries,
-                        normalizedScore
-                    );
-                    scoreDoc.score = normalizedScore;
-                }
-            }
-        }
-        return getDocIdAtQueryForNormalization(normalizedScores, this);
-    }
-
-    private float[] getMaxScores(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        float[] maxScores = new float[numOfSubqueries];
-        Arrays.fill(maxScores, Float.MIN_VALUE);
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-                maxScores[j] = Math.max(
-                    maxScores[j],
-                    Arrays.stream(topDocsPerSubQuery.get(j).scoreDocs)
-                        .map(scoreDoc -> scoreDoc.score)
-                        .max(Float::compare)
-                        .orElse(Float.MIN_VALUE)
-                );
-            }
-        }
-        return maxScores;
-    }
-
-    private float[] getMinScores(final List<CompoundTopDocs> queryTopDocs, final int numOfScores) {
-        float[] minScores = new float[numOfScores];
-        Arrays.fill(minScores, Float.MAX_VALUE);
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-                minScores[j] = Math.min(
-                    minScores[j],
-                    Arrays.stream(topDocsPerSubQuery.get(j).scoreDocs)
-                        .map(scoreDoc -> scoreDoc.score)
-                        .min(Float::compare)
-                        .orElse(Float.MAX_VALUE)
-                );
-            }
-        }
-        return minScores;
-    }
-
     private float normalizeSingleScore(final float score, final float minScore, final float maxScore, final LowerBound lowerBound) {
         // edge case when there is only one score and min and max scores are same
         if (Floats.compare(maxScore, minScore) == 0 && Floats.compare(maxScore, score) == 0) {
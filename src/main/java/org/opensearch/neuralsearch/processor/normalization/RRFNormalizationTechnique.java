@@ -6,8 +6,6 @@ package org.opensearch.neuralsearch.processor.normalization;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -18,17 +16,11 @@ import org.apache.commons.lang3.Range;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.opensearch.common.TriConsumer;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 
 import lombok.ToString;
 import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
-import org.opensearch.neuralsearch.processor.SearchShard;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
-import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
-
-import static org.opensearch.neuralsearch.processor.explain.ExplanationUtils.getDocIdAtQueryForNormalization;
 
 /**
  * Abstracts calculation of rank scores for each document returned as part of
@@ -46,6 +38,8 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
     private static final Range<Integer> RANK_CONSTANT_RANGE = Range.of(MIN_RANK_CONSTANT, MAX_RANK_CONSTANT);
     @ToString.Include
     private final int rankConstant;
+    // reciprocal rank scores by 0-based rank position, shared by all searches and grown on demand to the deepest rank seen
+    private volatile float[] rankScores = new float[0];
 
     public RRFNormalizationTechnique(final Map<String, Object> params, final ScoreNormalizationUtil scoreNormalizationUtil) {
         scoreNormalizationUtil.validateParameters(params, SUPPORTED_PARAMS, Map.of());
@@ -66,8 +60,18 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
     @Override
     public void normalize(final NormalizeScoresDTO normalizeScoresDTO) {
         final List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
+        final float[] rankScores = getRankScores(queryTopDocs);
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            processTopDocs(compoundQueryTopDocs, (docId, score, subQueryIndex) -> {});
+            if (Objects.isNull(compoundQueryTopDocs)) {
+                continue;
+            }
+            // only the rank of a doc matters, so the score is set by position without materializing doc ids per sub-query
+            for (TopDocs topDocs : compoundQueryTopDocs.getTopDocs()) {
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int position = 0; position < scoreDocs.length; position++) {
+                    scoreDocs[position].score = rankScores[position];
+                }
+            }
         }
     }
 
@@ -81,59 +85,35 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
         return TECHNIQUE_NAME;
     }
 
-    @Override
-    public Map<DocIdAtSearchShard, ExplanationDetails> explain(List<CompoundTopDocs> queryTopDocs) {
-        Map<DocIdAtSearchShard, List<Float>> normalizedScores = new HashMap<>();
-
+    /**
+     * Returns reciprocal rank scores for every rank position of the given results. Scores only depend on the rank constant
+     * and the position, so they are computed once and reused by all searches that don't go deeper than previous ones.
+     */
+    private float[] getRankScores(final List<CompoundTopDocs> queryTopDocs) {
+        int maxDepth = 0;
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
             if (Objects.isNull(compoundQueryTopDocs)) {
                 continue;
             }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            int numberOfSubQueries = topDocsPerSubQuery.size();
-            processTopDocs(
-                compoundQueryTopDocs,
-                (docId, score, subQueryIndex) -> ScoreNormalizationUtil.setNormalizedScore(
-                    normalizedScores,
-                    docId,
-                    subQueryIndex,
-                    numberOfSubQueries,
-                    score
-                )
-            );
-        }
-
-        return getDocIdAtQueryForNormalization(normalizedScores, this);
-    }
-
-    private void processTopDocs(CompoundTopDocs compoundQueryTopDocs, TriConsumer<DocIdAtSearchShard, Float, Integer> scoreProcessor) {
-        if (Objects.isNull(compoundQueryTopDocs)) {
-            return;
+            for (TopDocs topDocs : compoundQueryTopDocs.getTopDocs()) {
+                maxDepth = Math.max(maxDepth, topDocs.scoreDocs.length);
+            }
         }
-
-        List<TopDocs> topDocsList = compoundQueryTopDocs.getTopDocs();
-        SearchShard searchShard = compoundQueryTopDocs.getSearchShard();
-
-        for (int topDocsIndex = 0; topDocsIndex < topDocsList.size(); topDocsIndex++) {
-            processTopDocsEntry(topDocsList.get(topDocsIndex), searchShard, topDocsIndex, scoreProcessor);
+        float[] scores = rankScores;
+        if (scores.length >= maxDepth) {
+            return scores;
         }
-    }
-
-    private void processTopDocsEntry(
-        TopDocs topDocs,
-        SearchShard searchShard,
-        int topDocsIndex,
-        TriConsumer<DocIdAtSearchShard, Float, Integer> scoreProcessor
-    ) {
-        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-            float normalizedScore = calculateNormalizedScore(Arrays.asList(topDocs.scoreDocs).indexOf(scoreDoc));
-            DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(scoreDoc.doc, searchShard);
-            scoreProcessor.apply(docIdAtSearchShard, normalizedScore, topDocsIndex);
-            scoreDoc.score = normalizedScore;
+        // grow at least twice to amortize the cost for gradually deeper rank windows, the array is published only when complete
+        float[] newScores = new float[Math.max(maxDepth, scores.length * 2)];
+        for (int position = 0; position < newScores.length; position++) {
+            newScores[position] = calculateNormalizedScore(position);
         }
+        rankScores = newScores;
+        return newScores;
     }
 
     private float calculateNormalizedScore(int position) {
+        // rounded to 10 decimal places as it has always been, the table makes the cost of BigDecimal a one time cost
         return BigDecimal.ONE.divide(BigDecimal.valueOf(rankConstant + position + 1), 10, RoundingMode.HALF_UP).floatValue();
     }
 
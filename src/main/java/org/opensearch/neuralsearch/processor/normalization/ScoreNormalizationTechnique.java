@@ -4,6 +4,8 @@
  */
 package org.opensearch.neuralsearch.processor.normalization;
 
+import java.util.Optional;
+
 import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
 
 /**
@@ -20,6 +22,19 @@ public interface ScoreNormalizationTechnique {
      */
     void normalize(final NormalizeScoresDTO normalizeScoresDTO);
 
+    /**
+     * Creates normalizer of single scores for the given query results, without mutating the results. Allows normalization to be
+     * fused with score combination into a single pass over the results. Techniques where normalized score doesn't depend only
+     * on the raw score and sub-query statistics don't provide such normalizer, results are normalized by
+     * {@link #normalize(NormalizeScoresDTO)} in that case.
+     * @param normalizeScoresDTO is a data transfer object that contains queryTopDocs original query results from multiple
+     * shards and multiple sub-queries, and the number of tasks to process results of shards with
+     * @return normalizer of single scores, or empty if technique can only normalize results in place
+     */
+    default Optional<SubQueryScoreNormalizer> getScoreNormalizer(final NormalizeScoresDTO normalizeScoresDTO) {
+        return Optional.empty();
+    }
+
     /**
      * Returns the name of the normalization technique.
      */
@@ -5,9 +5,11 @@
 package org.opensearch.neuralsearch.processor.normalization;
 
 import lombok.extern.log4j.Log4j2;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -15,6 +17,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.processShardResults;
+
 /**
  * Collection of utility methods for score combination technique classes
  */
@@ -58,29 +62,22 @@ class ScoreNormalizationUtil {
     }
 
     /**
-     * Sets a normalized score for a specific document at a specific subquery index
-     *
-     * @param normalizedScores map of document IDs to their list of scores
-     * @param docIdAtSearchShard document ID
-     * @param subQueryIndex index of the subquery
-     * @param normalizedScore normalized score to set
+     * Replaces every score of the query results with the score normalized by the normalizer
+     * @param normalizeScoresDTO original query results from multiple shards and multiple sub-queries, and the number of tasks
+     * to process results of shards with
+     * @param scoreNormalizer normalizer of single scores
      */
-    public static void setNormalizedScore(
-        Map<DocIdAtSearchShard, List<Float>> normalizedScores,
-        DocIdAtSearchShard docIdAtSearchShard,
-        int subQueryIndex,
-        int numberOfSubQueries,
-        float normalizedScore
-    ) {
-        List<Float> scores = normalizedScores.get(docIdAtSearchShard);
-        if (Objects.isNull(scores)) {
-            scores = new ArrayList<>(numberOfSubQueries);
-            for (int i = 0; i < numberOfSubQueries; i++) {
-                scores.add(0.0f);
+    public static void normalizeScores(final NormalizeScoresDTO normalizeScoresDTO, final SubQueryScoreNormalizer scoreNormalizer) {
+        List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
+        processShardResults(queryTopDocs, normalizeScoresDTO.getShardResultsParallelism(), compoundQueryTopDocs -> {
+            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
+            for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
+                for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(subQueryIndex).scoreDocs) {
+                    scoreDoc.score = scoreNormalizer.normalize(subQueryIndex, scoreDoc.score);
+                }
             }
-            normalizedScores.put(docIdAtSearchShard, scores);
-        }
-        scores.set(subQueryIndex, normalizedScore);
+            return null;
+        });
     }
 
     /**
@@ -5,13 +5,10 @@
 package org.opensearch.neuralsearch.processor.normalization;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
-import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
-import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
 
 public class ScoreNormalizer {
@@ -31,24 +28,22 @@ public class ScoreNormalizer {
         }
     }
 
-    private boolean canQueryResultsBeNormalized(final List<CompoundTopDocs> queryTopDocs) {
-        return queryTopDocs.stream().filter(Objects::nonNull).anyMatch(topDocs -> topDocs.getTopDocs().size() > 0);
-    }
-
     /**
-     * Explain normalized scores based on input normalization technique. Does not mutate input object.
-     * @param queryTopDocs original query results from multiple shards and multiple sub-queries
-     * @param queryTopDocs
-     * @param scoreNormalizationTechnique
-     * @return map of doc id to explanation details
+     * Creates normalizer of single scores if the normalization technique supports it, so scores can be normalized as part of
+     * score combination. Does not mutate input object.
+     * @param normalizeScoresDTO used as data transfer object to pass in queryTopDocs, original query results
+     * from multiple shards and multiple sub-queries, and scoreNormalizationTechnique exact normalization technique
+     * @return normalizer of single scores, or empty if results must be normalized by {@link #normalizeScores(NormalizeScoresDTO)}
      */
-    public Map<DocIdAtSearchShard, ExplanationDetails> explain(
-        final List<CompoundTopDocs> queryTopDocs,
-        final ExplainableTechnique scoreNormalizationTechnique
-    ) {
-        if (canQueryResultsBeNormalized(queryTopDocs)) {
-            return scoreNormalizationTechnique.explain(queryTopDocs);
+    public Optional<SubQueryScoreNormalizer> getScoreNormalizer(final NormalizeScoresDTO normalizeScoresDTO) {
+        final List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
+        if (canQueryResultsBeNormalized(queryTopDocs) == false) {
+            return Optional.of(SubQueryScoreNormalizer.IDENTITY);
         }
-        return Map.of();
+        return normalizeScoresDTO.getNormalizationTechnique().getScoreNormalizer(normalizeScoresDTO);
+    }
+
+    private boolean canQueryResultsBeNormalized(final List<CompoundTopDocs> queryTopDocs) {
+        return queryTopDocs.stream().filter(Objects::nonNull).anyMatch(topDocs -> topDocs.getTopDocs().size() > 0);
     }
 }
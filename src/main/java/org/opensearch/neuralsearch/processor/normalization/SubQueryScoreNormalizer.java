@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization;
+
+/**
+ * Normalizes a single raw score of a sub-query. An instance is created by a normalization technique for results of a particular
+ * search, with all statistics of those results already collected, so scores can be normalized in any order and without
+ * mutating the results.
+ */
+@FunctionalInterface
+public interface SubQueryScoreNormalizer {
+    /**
+     * Normalizer that keeps scores as they are, used when results have no scores to normalize
+     */
+    SubQueryScoreNormalizer IDENTITY = (subQueryIndex, score) -> score;
+
+    /**
+     * @param subQueryIndex index of the sub-query that returned the score
+     * @param score raw score returned by the sub-query
+     * @return normalized score
+     */
+    float normalize(int subQueryIndex, float score);
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getNumOfSubqueries;
+import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.processShardResults;
+
+/**
+ * Mergeable score statistics of a single sub-query: min and max score, sum of squared scores and number of scores.
+ * Statistics are collected for the results of all shards in one pass, so score based normalization techniques don't need to
+ * scan the scores of all shards once per statistic.
+ * <p>
+ * With shard results parallelism of 1, the default as parallel processing of shard results is opt-in, squared scores of all
+ * shards are summed as floats in the order of shards and docs, the same way the L2 norm has always been computed, so
+ * normalized scores are bit-for-bit the same. With higher parallelism the statistics of each shard are collected as a
+ * separate task with squared scores summed as doubles, and merged in the order of shards. The L2 norm may then differ from
+ * the float sum in the last bits, but it does not depend on the parallelism or on the order the tasks run in.
+ */
+@Getter
+@NoArgsConstructor
+public class SubQueryScoreStats {
+    private float minScore = Float.MAX_VALUE;
+    private float maxScore = Float.MIN_VALUE;
+    private double sumOfSquares;
+    private long count;
+
+    /**
+     * Adds a single score to the statistics, the squared score is added to the sum in double precision
+     * @param score score of a doc
+     */
+    public void add(final float score) {
+        addMinMaxAndCount(score);
+        sumOfSquares += (double) score * score;
+    }
+
+    /**
+     * Merges statistics collected for another set of scores of the same sub-query, e.g. results of another shard
+     * @param other statistics to merge into this one
+     */
+    public void merge(final SubQueryScoreStats other) {
+        minScore = Math.min(minScore, other.minScore);
+        maxScore = Math.max(maxScore, other.maxScore);
+        sumOfSquares += other.sumOfSquares;
+        count += other.count;
+    }
+
+    /**
+     * @return L2 norm of the scores, square root of the sum of squared scores
+     */
+    public float getL2Norm() {
+        return (float) Math.sqrt(sumOfSquares);
+    }
+
+    /**
+     * Collects statistics of each sub-query for results of a single shard, squared scores are summed in double precision
+     * @param compoundTopDocs results of a shard
+     * @param numOfSubqueries number of sub-queries of the hybrid query
+     * @return array of statistics, one element per sub-query
+     */
+    public static SubQueryScoreStats[] collect(final CompoundTopDocs compoundTopDocs, final int numOfSubqueries) {
+        SubQueryScoreStats[] stats = newStats(numOfSubqueries);
+        forEachScore(compoundTopDocs, stats, SubQueryScoreStats::add);
+        return stats;
+    }
+
+    /**
+     * Collects statistics of each sub-query for the results of every shard
+     * @param queryTopDocs results of all shards
+     * @param shardResultsParallelism number of tasks to collect statistics of shards with, with 1 scores are summed as floats
+     * in the order of shards on the calling thread, otherwise per shard statistics are collected in double precision and merged
+     * in the order of shards
+     * @return array of statistics, one element per sub-query
+     */
+    public static SubQueryScoreStats[] collect(final List<CompoundTopDocs> queryTopDocs, final int shardResultsParallelism) {
+        // find any non-empty compound top docs, it's either empty if shard does not have any results for all of sub-queries,
+        // or it has results for all the sub-queries
+        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
+        SubQueryScoreStats[] stats = newStats(numOfSubqueries);
+        if (shardResultsParallelism <= 1) {
+            for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
+                if (Objects.isNull(compoundQueryTopDocs)) {
+                    continue;
+                }
+                forEachScore(compoundQueryTopDocs, stats, SubQueryScoreStats::addInFloatPrecision);
+            }
+            return stats;
+        }
+        List<SubQueryScoreStats[]> statsPerShard = processShardResults(
+            queryTopDocs,
+            shardResultsParallelism,
+            compoundTopDocs -> collect(compoundTopDocs, numOfSubqueries)
+        );
+        for (SubQueryScoreStats[] shardStats : statsPerShard) {
+            if (Objects.isNull(shardStats)) {
+                continue;
+            }
+            for (int subQueryIndex = 0; subQueryIndex < numOfSubqueries; subQueryIndex++) {
+                stats[subQueryIndex].merge(shardStats[subQueryIndex]);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Adds a single score with the squared score added to the sum in float precision, the sum only holds float values if
+     * all scores are added this way
+     */
+    private void addInFloatPrecision(final float score) {
+        addMinMaxAndCount(score);
+        sumOfSquares = (float) sumOfSquares + score * score;
+    }
+
+    private void addMinMaxAndCount(final float score) {
+        minScore = Math.min(minScore, score);
+        maxScore = Math.max(maxScore, score);
+        count++;
+    }
+
+    private static void forEachScore(final CompoundTopDocs compoundTopDocs, final SubQueryScoreStats[] stats, final ScoreAdder adder) {
+        List<TopDocs> topDocsPerSubQuery = compoundTopDocs.getTopDocs();
+        int bound = Math.min(topDocsPerSubQuery.size(), stats.length);
+        for (int subQueryIndex = 0; subQueryIndex < bound; subQueryIndex++) {
+            SubQueryScoreStats subQueryStats = stats[subQueryIndex];
+            for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(subQueryIndex).scoreDocs) {
+                adder.add(subQueryStats, scoreDoc.score);
+            }
+        }
+    }
+
+    private static SubQueryScoreStats[] newStats(final int numOfSubqueries) {
+        SubQueryScoreStats[] stats = new SubQueryScoreStats[numOfSubqueries];
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubqueries; subQueryIndex++) {
+            stats[subQueryIndex] = new SubQueryScoreStats();
+        }
+        return stats;
+    }
+
+    @FunctionalInterface
+    private interface ScoreAdder {
+        void add(SubQueryScoreStats stats, float score);
+    }
+}
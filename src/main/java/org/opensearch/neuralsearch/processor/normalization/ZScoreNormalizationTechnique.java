@@ -9,8 +9,7 @@ import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
 import java.util.List;
 import java.util.Objects;
-import java.util.Map;
-import java.util.HashMap;
+import java.util.Optional;
 import java.util.Locale;
 
 import org.apache.lucene.search.ScoreDoc;
@@ -19,11 +18,8 @@ import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 
 import com.google.common.primitives.Floats;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
-import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 
-import static org.opensearch.neuralsearch.processor.explain.ExplanationUtils.getDocIdAtQueryForNormalization;
 import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getNumOfSubqueries;
 
 /**
@@ -53,29 +49,24 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
      */
     @Override
     public void normalize(NormalizeScoresDTO normalizeScoresDTO) {
-        List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
+        // do normalization using actual score and z-scores for corresponding sub query
+        ScoreNormalizationUtil.normalizeScores(normalizeScoresDTO, createScoreNormalizer(normalizeScoresDTO.getQueryTopDocs()));
+    }
 
-        ZScores zscores = getZScoreResults(queryTopDocs);
+    @Override
+    public Optional<SubQueryScoreNormalizer> getScoreNormalizer(final NormalizeScoresDTO normalizeScoresDTO) {
+        return Optional.of(createScoreNormalizer(normalizeScoresDTO.getQueryTopDocs()));
+    }
 
-        // do normalization using actual score and z-scores for corresponding sub query
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-                TopDocs subQueryTopDoc = topDocsPerSubQuery.get(j);
-                for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
-                    scoreDoc.score = normalizeSingleScore(
-                        scoreDoc.score,
-                        zscores.stdPerSubquery[j],
-                        zscores.meanPerSubQuery[j],
-                        zscores.maxPerSubQuery[j],
-                        zscores.minPerSubQuery[j]
-                    );
-                }
-            }
-        }
+    private SubQueryScoreNormalizer createScoreNormalizer(final List<CompoundTopDocs> queryTopDocs) {
+        ZScores zscores = getZScoreResults(queryTopDocs);
+        return (subQueryIndex, score) -> normalizeSingleScore(
+            score,
+            zscores.stdPerSubquery[subQueryIndex],
+            zscores.meanPerSubQuery[subQueryIndex],
+            zscores.maxPerSubQuery[subQueryIndex],
+            zscores.minPerSubQuery[subQueryIndex]
+        );
     }
 
     @Override
@@ -88,64 +79,6 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
         return String.format(Locale.ROOT, "%s", TECHNIQUE_NAME);
     }
 
-    @Override
-    public Map<DocIdAtSearchShard, ExplanationDetails> explain(final List<CompoundTopDocs> queryTopDocs) {
-        ZScoreNormalizationTechnique.ZScores zScores = getZScoreResults(queryTopDocs);
-
-        Map<DocIdAtSearchShard, List<Float>> normalizedScores = new HashMap<>();
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            int numberOfSubQueries = topDocsPerSubQuery.size();
-            for (int subQueryIndex = 0; subQueryIndex < numberOfSubQueries; subQueryIndex++) {
-                TopDocs subQueryTopDoc = topDocsPerSubQuery.get(subQueryIndex);
-                for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
-                    DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(scoreDoc.doc, compoundQueryTopDocs.getSearchShard());
-                    float normalizedScore = normalizeSingleScore(
-                        scoreDoc.score,
-                        zScores.stdPerSubquery[subQueryIndex],
-                        zScores.meanPerSubQuery[subQueryIndex],
-                        zScores.maxPerSubQuery[subQueryIndex],
-                        zScores.minPerSubQuery[subQueryIndex]
-                    );
-                    ScoreNormalizationUtil.setNormalizedScore(
-                        normalizedScores,
-                        docIdAtSearchShard,
-                        subQueryIndex,
-                        numberOfSubQueries,
-                        normalizedScore
-                    );
-                    scoreDoc.score = normalizedScore;
-                }
-            }
-        }
-        return getDocIdAtQueryForNormalization(normalizedScores, this);
-    }
-
-    private static float[] calculateMaxScorePerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] maxPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            maxPerSubQuery[i] = (float) statsPerSubquery[i].getMax();
-        }
-
-        return maxPerSubQuery;
-    }
-
-    private static float[] calculateMinScorePerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] minPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            minPerSubQuery[i] = (float) statsPerSubquery[i].getMin();
-        }
-
-        return minPerSubQuery;
-    }
-
     private static DescriptiveStatistics[] calculateStatsPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
         DescriptiveStatistics[] statsPerSubquery = new DescriptiveStatistics[numOfSubqueries];
         for (int i = 0; i < numOfSubqueries; i++) {
@@ -168,36 +101,21 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
         return statsPerSubquery;
     }
 
-    private static float[] calculateMeanPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
+    private ZScores getZScoreResults(final List<CompoundTopDocs> queryTopDocs) {
+        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
 
+        // statistics of all scores are collected once and used for each subquery
+        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
+        float[] maxPerSubquery = new float[numOfSubqueries];
+        float[] minPerSubquery = new float[numOfSubqueries];
         float[] meanPerSubQuery = new float[numOfSubqueries];
+        float[] stdPerSubquery = new float[numOfSubqueries];
         for (int i = 0; i < numOfSubqueries; i++) {
+            maxPerSubquery[i] = (float) statsPerSubquery[i].getMax();
+            minPerSubquery[i] = (float) statsPerSubquery[i].getMin();
             meanPerSubQuery[i] = (float) statsPerSubquery[i].getMean();
+            stdPerSubquery[i] = (float) statsPerSubquery[i].getStandardDeviation();
         }
-
-        return meanPerSubQuery;
-    }
-
-    private static float[] calculateStandardDeviationPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] stdPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            stdPerSubQuery[i] = (float) statsPerSubquery[i].getStandardDeviation();
-        }
-
-        return stdPerSubQuery;
-    }
-
-    private ZScores getZScoreResults(final List<CompoundTopDocs> queryTopDocs) {
-        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
-
-        // to be done for each subquery
-        float[] maxPerSubquery = calculateMaxScorePerSubquery(queryTopDocs, numOfSubqueries);
-        float[] minPerSubquery = calculateMinScorePerSubquery(queryTopDocs, numOfSubqueries);
-        float[] meanPerSubQuery = calculateMeanPerSubquery(queryTopDocs, numOfSubqueries);
-        float[] stdPerSubquery = calculateStandardDeviationPerSubquery(queryTopDocs, numOfSubqueries);
         return new ZScores(meanPerSubQuery, stdPerSubquery, maxPerSubquery, minPerSubquery);
     }
 
@@ -10,11 +10,13 @@ import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Abstract class for selective text processing and embedding optimization.
@@ -40,6 +42,41 @@ public abstract class InferenceFilter {
         this.reversedFieldMap = ProcessorDocumentUtils.flattenAndFlip(fieldMap);
     }
 
+    /**
+     * Gets the path of the field in the existing document that is compared with the text of the new document to decide
+     * if the embedding at the given path can be reused. By default, this is the text field mapped to the embedding field.
+     *
+     * @param embeddingKey The dot-notation path for the embedding field
+     * @return The dot-notation path of the compared field
+     */
+    protected String getComparedPath(String embeddingKey) {
+        return reversedFieldMap.get(embeddingKey);
+    }
+
+    /**
+     * Gets the fields of the existing document that are read by this filter: the embedding fields and the fields they
+     * are compared by. Used as source includes when fetching existing documents, so large unrelated fields are not loaded.
+     *
+     * @return The dot-notation paths of the fields to fetch
+     */
+    public String[] getSourceIncludes() {
+        Set<String> sourceIncludes = new LinkedHashSet<>();
+        for (String embeddingKey : reversedFieldMap.keySet()) {
+            sourceIncludes.add(embeddingKey);
+            sourceIncludes.add(getComparedPath(embeddingKey));
+        }
+        return sourceIncludes.toArray(new String[0]);
+    }
+
+    /**
+     * Prepares the new document before it is filtered, called for every document processed with skip existing enabled,
+     * including documents without an existing version. No-op by default.
+     *
+     * @param processMap The map of embedding keys to the texts of the new document
+     * @param sourceAndMetadataMap The metadata map of the new document
+     */
+    public void prepareDocument(Map<String, Object> processMap, Map<String, Object> sourceAndMetadataMap) {}
+
     /**
      * Abstract method to filter individual values based on the existing and new metadata maps.
      * Implementations should provide logic to compare values and determine if embeddings can be reused.
@@ -186,7 +223,7 @@ public abstract class InferenceFilter {
         Map<String, Object> sourceAndMetadataMap,
         Map<String, Object> existingSourceAndMetadataMap
     ) {
-        String textKey = reversedFieldMap.get(embeddingKey);
+        String textKey = getComparedPath(embeddingKey);
         Optional<Object> existingListOptional = ProcessorUtils.getValueFromSource(existingSourceAndMetadataMap, textKey);
         Optional<Object> embeddingListOptional = ProcessorUtils.getValueFromSource(existingSourceAndMetadataMap, embeddingKey);
         if (existingListOptional.isPresent() == false || embeddingListOptional.isPresent() == false) {
@@ -42,7 +42,7 @@ public class TextEmbeddingInferenceFilter extends InferenceFilter {
         Map<String, Object> existingSourceAndMetadataMap,
         int index
     ) {
-        String textPath = reversedFieldMap.get(embeddingKey);
+        String textPath = getComparedPath(embeddingKey);
         Optional<Object> existingValueOptional = ProcessorUtils.getValueFromSource(existingSourceAndMetadataMap, textPath);
         Optional<Object> embeddingValueOptional = ProcessorUtils.getValueFromSource(existingSourceAndMetadataMap, embeddingKey);
         if (existingValueOptional.isPresent() && embeddingValueOptional.isPresent()) {
@@ -74,7 +74,7 @@ public class TextEmbeddingInferenceFilter extends InferenceFilter {
         Map<String, Object> sourceAndMetadataMap,
         int index
     ) {
-        if (Objects.equals(existingValue, processValue)) {
+        if (isSameValue(existingValue, processValue)) {
             ProcessorUtils.setValueToSource(sourceAndMetadataMap, embeddingKey, embeddingValue, index);
             // if successfully copied, return null to be filtered out from process map
             return null;
@@ -96,7 +96,7 @@ public class TextEmbeddingInferenceFilter extends InferenceFilter {
         List<Object> embeddingList,
         Map<String, Object> sourceAndMetadataMap
     ) {
-        if (Objects.equals(processList, existingList)) {
+        if (isSameValue(existingList, processList)) {
             ProcessorUtils.setValueToSource(sourceAndMetadataMap, embeddingKey, embeddingList);
             // if successfully copied, return null to be filtered out from process map
             return null;
@@ -104,4 +104,15 @@ public class TextEmbeddingInferenceFilter extends InferenceFilter {
         // source list and existing list are different, return processList to be included in process map
         return processList;
     }
+
+    /**
+     * Checks if the value of the existing document matches the value of the new document
+     *
+     * @param existingValue The value read from the compared field of the existing document
+     * @param processValue The text or list of texts of the new document
+     * @return true if the embedding of the existing document can be reused
+     */
+    protected boolean isSameValue(Object existingValue, Object processValue) {
+        return Objects.equals(existingValue, processValue);
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.optimization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.neuralsearch.processor.util.ProcessorUtils;
+
+/**
+ * TextHashInferenceFilter is a TextEmbeddingInferenceFilter that compares compact hashes of the texts instead of the
+ * texts themselves. The hash of each input text is stored next to its embedding, in a field named after the embedding
+ * field with the {@value #TEXT_HASH_FIELD_SUFFIX} suffix, so only embeddings and hashes have to be fetched from the
+ * existing document.
+ */
+public class TextHashInferenceFilter extends TextEmbeddingInferenceFilter {
+    public static final String TEXT_HASH_FIELD_SUFFIX = "_text_hash";
+
+    /**
+     * Constructs a TextHashInferenceFilter instance with the specified field map.
+     */
+    public TextHashInferenceFilter(Map<String, Object> fieldMap) {
+        super(fieldMap);
+    }
+
+    /**
+     * Compares by the hash field stored next to the embedding field
+     */
+    @Override
+    protected String getComparedPath(String embeddingKey) {
+        return embeddingKey + TEXT_HASH_FIELD_SUFFIX;
+    }
+
+    /**
+     * Compares the stored hashes of the existing document with the hashes of the texts of the new document
+     */
+    @Override
+    protected boolean isSameValue(Object existingValue, Object processValue) {
+        return Objects.equals(existingValue, toTextHash(processValue));
+    }
+
+    /**
+     * Stores the hashes of all texts of the new document next to their embedding fields, so the next update of the
+     * document can be compared by hashes
+     */
+    @Override
+    public void prepareDocument(Map<String, Object> processMap, Map<String, Object> sourceAndMetadataMap) {
+        setTextHashes(processMap, sourceAndMetadataMap, "");
+    }
+
+    private void setTextHashes(Map<String, Object> processMap, Map<String, Object> sourceAndMetadataMap, String traversedPath) {
+        for (Map.Entry<String, Object> entry : processMap.entrySet()) {
+            String currentPath = traversedPath.isEmpty() ? entry.getKey() : traversedPath + "." + entry.getKey();
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                setTextHashes(ProcessorUtils.unsafeCastToObjectMap(value), sourceAndMetadataMap, currentPath);
+            } else if (value instanceof String) {
+                ProcessorUtils.setValueToSource(sourceAndMetadataMap, getComparedPath(currentPath), toTextHash(value));
+            } else if (value instanceof List<?> list) {
+                setTextHashesForList(currentPath, list, sourceAndMetadataMap);
+            }
+        }
+    }
+
+    private void setTextHashesForList(String embeddingKey, List<?> processList, Map<String, Object> sourceAndMetadataMap) {
+        Object textValue = ProcessorUtils.getValueFromSource(sourceAndMetadataMap, reversedFieldMap.get(embeddingKey)).orElse(null);
+        if (textValue instanceof List<?> textList && textList.isEmpty() == false && textList.getFirst() instanceof List) {
+            // list of texts, the embeddings are stored as a list in a single field
+            ProcessorUtils.setValueToSource(sourceAndMetadataMap, getComparedPath(embeddingKey), toTextHash(processList));
+            return;
+        }
+        // texts in a list of objects, the embedding of each text is stored in its object
+        for (int index = 0; index < processList.size(); index++) {
+            Object processValue = processList.get(index);
+            if (processValue instanceof String) {
+                ProcessorUtils.setValueToSource(sourceAndMetadataMap, getComparedPath(embeddingKey), toTextHash(processValue), index);
+            }
+        }
+    }
+
+    private static Object toTextHash(Object value) {
+        if (value instanceof String text) {
+            return hash(text);
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(TextHashInferenceFilter::toTextHash).toList();
+        }
+        return value;
+    }
+
+    private static String hash(String text) {
+        byte[] digest = MessageDigests.sha256().digest(text.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+}
@@ -15,6 +15,7 @@ import org.opensearch.ingest.AbstractBatchingSystemProcessor;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.neuralsearch.common.VectorUtil;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.TextInferenceRequest;
 import org.opensearch.neuralsearch.processor.chunker.Chunker;
@@ -263,7 +264,7 @@ public class SemanticFieldProcessor extends AbstractBatchingSystemProcessor {
                     embedding = PruneUtils.pruneSparseVector(PruneType.MAX_RATIO, pruneRatio, (Map<String, Float>) embedding);
                 }
                 final String embeddingFullPath = semanticFieldInfo.getFullPathForEmbeddingInDoc(i);
-                ingestDocument.setFieldValue(embeddingFullPath, embedding);
+                ingestDocument.setFieldValue(embeddingFullPath, VectorUtil.toSourceValue(embedding));
             }
         }
     }
@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.processor.util;
 
 import lombok.NonNull;
+import org.apache.lucene.search.TopDocs;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
@@ -13,8 +14,13 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.IndexFieldMapper;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
+import org.opensearch.neuralsearch.executors.HybridQueryTaskType;
 import org.opensearch.search.SearchHit;
+import org.opensearch.transport.Transports;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +28,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Stack;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
 
 /**
  * Utility class for evaluating SearchResponse data. This is useful when you want
@@ -320,6 +328,89 @@ public class ProcessorUtils {
             .size();
     }
 
+    /**
+     * Returns the number of candidate docs in the queryTopDocs, summed over all shards and sub-queries
+     * @param queryTopDocs results of all shards
+     * @return number of candidate docs
+     */
+    public static long getNumOfCandidates(final List<CompoundTopDocs> queryTopDocs) {
+        long numOfCandidates = 0;
+        for (CompoundTopDocs compoundTopDocs : queryTopDocs) {
+            if (Objects.isNull(compoundTopDocs)) {
+                continue;
+            }
+            for (TopDocs topDocs : compoundTopDocs.getTopDocs()) {
+                numOfCandidates += topDocs.scoreDocs.length;
+            }
+        }
+        return numOfCandidates;
+    }
+
+    /**
+     * Returns the number of tasks to process results of shards with, see {@link #processShardResults}. Meant to be computed
+     * once per search request and passed to every step that processes results of shards.
+     * @param queryTopDocs results of all shards
+     * @return number of tasks, 1 if results of shards must be processed on the calling thread
+     */
+    public static int getShardResultsParallelism(final List<CompoundTopDocs> queryTopDocs) {
+        return HybridQueryExecutor.getShardResultsParallelism(queryTopDocs.size(), () -> getNumOfCandidates(queryTopDocs));
+    }
+
+    /**
+     * Applies the function to the results of each shard. This runs in the search phase results processor on the coordinator
+     * node, i.e. on the thread that completed the query phase, so with parallelism of 1 the results are processed on that
+     * thread. With higher parallelism shards are split into that many tasks on the hybrid query thread pool, one of the tasks
+     * runs on the calling thread, and the calling thread blocks until all tasks are done. A transport thread must never block
+     * waiting for other threads, so results are processed on the calling thread regardless of the parallelism if it is a
+     * transport thread. The function is only called for non-null shard results and must not modify results of other shards.
+     * @param queryTopDocs results of all shards
+     * @param shardResultsParallelism number of tasks, see {@link #getShardResultsParallelism}
+     * @param shardFunction function to apply to the results of a single shard
+     * @return results of the function in the order of shards, null for shards without results
+     */
+    public static <T> List<T> processShardResults(
+        final List<CompoundTopDocs> queryTopDocs,
+        final int shardResultsParallelism,
+        final Function<CompoundTopDocs, T> shardFunction
+    ) {
+        final int numOfShards = queryTopDocs.size();
+        final int numOfTasks = Math.min(shardResultsParallelism, numOfShards);
+        if (numOfTasks <= 1 || Transports.isTransportThread(Thread.currentThread())) {
+            return processShardResults(queryTopDocs, 0, 1, shardFunction);
+        }
+        // each task processes every numOfTasks-th shard, starting from the index of the task
+        List<Callable<List<T>>> tasks = new ArrayList<>(numOfTasks);
+        for (int taskIndex = 0; taskIndex < numOfTasks; taskIndex++) {
+            final int firstShard = taskIndex;
+            tasks.add(() -> processShardResults(queryTopDocs, firstShard, numOfTasks, shardFunction));
+        }
+        List<List<T>> resultsPerTask;
+        try {
+            resultsPerTask = HybridQueryExecutor.invokeAll(HybridQueryTaskType.SHARD_RESULTS, tasks);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<T> results = new ArrayList<>(numOfShards);
+        for (int shard = 0; shard < numOfShards; shard++) {
+            results.add(resultsPerTask.get(shard % numOfTasks).get(shard / numOfTasks));
+        }
+        return results;
+    }
+
+    private static <T> List<T> processShardResults(
+        final List<CompoundTopDocs> queryTopDocs,
+        final int firstShard,
+        final int step,
+        final Function<CompoundTopDocs, T> shardFunction
+    ) {
+        List<T> results = new ArrayList<>((queryTopDocs.size() - firstShard + step - 1) / step);
+        for (int shard = firstShard; shard < queryTopDocs.size(); shard += step) {
+            CompoundTopDocs compoundTopDocs = queryTopDocs.get(shard);
+            results.add(Objects.isNull(compoundTopDocs) ? null : shardFunction.apply(compoundTopDocs));
+        }
+        return results;
+    }
+
     // This method should be used only when you are certain the object is a `Map<String, Object>`.
     // It is recommended to use this method as a last resort.
     @SuppressWarnings("unchecked")
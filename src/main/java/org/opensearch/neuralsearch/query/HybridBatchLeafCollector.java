@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.util.FixedBitSet;
+
+import java.io.IOException;
+
+/**
+ * Leaf collector that consumes a whole scored window of {@link HybridBulkScorer} at once. Such a collector reads the sub
+ * query scores of matching docs directly from the score columns of the window, instead of getting them doc by doc through
+ * {@link HybridSubQueryScorer}.
+ */
+public interface HybridBatchLeafCollector extends LeafCollector {
+
+    /**
+     * Collect all matching docs of a window
+     * @param windowBase doc id of the first doc of the window, relative to the segment
+     * @param matching bitset of matching docs in the window, bit index is the doc id offset from the window base
+     * @param windowScores scores of sub queries by sub query index and doc id offset, 0 if the doc is not a competitive
+     *                     hit of the sub query. Columns are null if scores are not needed. Both structures are reused for
+     *                     the next window and must not be retained
+     * @throws IOException in case of IO exception
+     */
+    void collectWindow(int windowBase, FixedBitSet matching, float[][] windowScores) throws IOException;
+}
@@ -8,28 +8,47 @@ import lombok.Getter;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
+import org.opensearch.neuralsearch.executors.HybridQueryTaskType;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 /**
- * Bulk scorer for hybrid query
+ * Bulk scorer for hybrid query. Each sub query is collected into its own top docs, so in top scores mode every sub query
+ * is pruned by its own min competitive score: the score is pushed down to the sub query scorer, and windows where the
+ * block max score of the sub query is not competitive are skipped for that sub query. The collector publishes min
+ * competitive scores only once the hits to count exactly have been collected, so pruning never makes an exact total
+ * hits count inaccurate.
+ * If a task executor is provided and the segment is large enough, sub queries of a window are scored in parallel, so the
+ * latency of a window is close to the latency of the slowest sub query instead of the sum for all sub queries. Collection
+ * of the window stays serial.
  */
 public class HybridBulkScorer extends BulkScorer {
     private static final int SHIFT = 12;
     private static final int WINDOW_SIZE = 1 << SHIFT;
     private static final int MASK = WINDOW_SIZE - 1;
+    // sub queries of smaller segments are scored serially, as the per window fork and join costs more than it saves
+    static final int MIN_DOCS_FOR_PARALLEL_SCORING = 8 * WINDOW_SIZE;
 
     private final long cost;
     private final Scorer[] scorers;
     @Getter
     private final HybridSubQueryScorer hybridSubQueryScorer;
+    @Getter
     private final boolean needsScores;
+    private final boolean pruneNonCompetitive;
+    // min competitive scores already pushed down to sub query scorers
+    private final float[] propagatedMinScores;
     @Getter
     private final FixedBitSet matching;
     @Getter
@@ -38,6 +57,20 @@ public class HybridBulkScorer extends BulkScorer {
     @Getter
     private final int maxDoc;
     private int[] docIds;
+    private final TaskExecutor taskExecutor;
+    // matching docs of the window per sub query, only used when sub queries are scored in parallel
+    private final FixedBitSet[] subQueryMatching;
+    // one task per sub query, created once and reused for every window scored in parallel
+    private final List<Callable<Void>> subQueryScoringTasks;
+    // tasks of the active sub queries of the window, refilled for every window scored in parallel
+    private final List<Callable<Void>> windowScoringTasks;
+    // indexes of the sub queries with docs left to score, the first numOfActiveSubQueries entries are set for a window
+    private final int[] activeSubQueries;
+    private int numOfActiveSubQueries;
+    // window scored by the sub query scoring tasks
+    private Bits windowAcceptDocs;
+    private int windowMinDoc;
+    private int windowMaxDoc;
 
     /**
      * Constructor for HybridBulkScorer
@@ -46,6 +79,28 @@ public class HybridBulkScorer extends BulkScorer {
      * @param maxDoc maximum document id
      */
     public HybridBulkScorer(List<Scorer> scorers, boolean needsScores, int maxDoc) {
+        this(scorers, needsScores ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES, maxDoc);
+    }
+
+    /**
+     * Constructor for HybridBulkScorer
+     * @param scorers list of scorers for each sub query
+     * @param scoreMode score mode of the hybrid query, non-competitive hits are pruned in top scores mode
+     * @param maxDoc maximum document id
+     */
+    public HybridBulkScorer(List<Scorer> scorers, ScoreMode scoreMode, int maxDoc) {
+        this(scorers, scoreMode, maxDoc, null);
+    }
+
+    /**
+     * Constructor for HybridBulkScorer
+     * @param scorers list of scorers for each sub query
+     * @param scoreMode score mode of the hybrid query, non-competitive hits are pruned in top scores mode
+     * @param maxDoc maximum document id
+     * @param taskExecutor executor to score sub queries of a window in parallel, sub queries are scored serially if null or
+     *                     if the segment has less than {@link #MIN_DOCS_FOR_PARALLEL_SCORING} docs
+     */
+    public HybridBulkScorer(List<Scorer> scorers, ScoreMode scoreMode, int maxDoc, TaskExecutor taskExecutor) {
         long cost = 0;
         int numOfQueries = scorers.size();
         this.scorers = new Scorer[numOfQueries];
@@ -59,13 +114,41 @@ public class HybridBulkScorer extends BulkScorer {
         }
         this.cost = cost;
         this.hybridSubQueryScorer = new HybridSubQueryScorer(numOfQueries);
-        this.needsScores = needsScores;
+        this.pruneNonCompetitive = scoreMode == ScoreMode.TOP_SCORES;
+        this.propagatedMinScores = new float[numOfQueries];
+        this.needsScores = scoreMode.needsScores();
         this.matching = new FixedBitSet(WINDOW_SIZE);
-        this.windowScores = new float[this.scorers.length][WINDOW_SIZE];
+        // without scores only matching docs are tracked, score columns are not allocated
+        this.windowScores = needsScores ? new float[this.scorers.length][WINDOW_SIZE] : new float[this.scorers.length][];
         this.maxDoc = maxDoc;
         this.hybridQueryDocIdStream = new HybridQueryDocIdStream(this);
         this.docIds = new int[numOfQueries];
         Arrays.fill(docIds, DocIdSetIterator.NO_MORE_DOCS);
+        this.taskExecutor = maxDoc >= MIN_DOCS_FOR_PARALLEL_SCORING ? taskExecutor : null;
+        this.subQueryMatching = new FixedBitSet[numOfQueries];
+        this.activeSubQueries = new int[numOfQueries];
+        if (Objects.nonNull(this.taskExecutor)) {
+            this.windowScoringTasks = new ArrayList<>(numOfQueries);
+            this.subQueryScoringTasks = new ArrayList<>(numOfQueries);
+            for (int subQueryIndex = 0; subQueryIndex < numOfQueries; subQueryIndex++) {
+                subQueryMatching[subQueryIndex] = new FixedBitSet(WINDOW_SIZE);
+                final int taskSubQueryIndex = subQueryIndex;
+                subQueryScoringTasks.add(() -> {
+                    scoreSubQueryWindow(
+                        taskSubQueryIndex,
+                        windowAcceptDocs,
+                        docIds,
+                        windowMinDoc,
+                        windowMaxDoc,
+                        subQueryMatching[taskSubQueryIndex]
+                    );
+                    return null;
+                });
+            }
+        } else {
+            this.windowScoringTasks = null;
+            this.subQueryScoringTasks = null;
+        }
     }
 
     @Override
@@ -118,38 +201,126 @@ public class HybridBulkScorer extends BulkScorer {
         int windowMax,
         int windowBase
     ) throws IOException {
+        numOfActiveSubQueries = 0;
         for (int subQueryIndex = 0; subQueryIndex < scorers.length; subQueryIndex++) {
-            if (Objects.isNull(scorers[subQueryIndex]) || docIds[subQueryIndex] >= max) {
-                continue;
+            if (Objects.nonNull(scorers[subQueryIndex]) && docIds[subQueryIndex] < max) {
+                activeSubQueries[numOfActiveSubQueries++] = subQueryIndex;
             }
-            DocIdSetIterator it = scorers[subQueryIndex].iterator();
-            int doc = docIds[subQueryIndex];
-            if (doc < windowMin) {
-                doc = it.advance(windowMin);
+        }
+        if (Objects.nonNull(taskExecutor) && numOfActiveSubQueries > 1) {
+            scoreWindowInParallel(acceptDocs, windowMin, windowMax);
+        } else {
+            for (int i = 0; i < numOfActiveSubQueries; i++) {
+                scoreSubQueryWindow(activeSubQueries[i], acceptDocs, docIds, windowMin, windowMax, matching);
             }
-            while (doc < windowMax) {
-                if (Objects.isNull(acceptDocs) || acceptDocs.get(doc)) {
-                    int d = doc & MASK;
-                    if (needsScores) {
-                        float score = scorers[subQueryIndex].score();
-                        // collect score only in case it's gt competitive score
-                        if (score > hybridSubQueryScorer.getMinScores()[subQueryIndex]) {
-                            matching.set(d);
-                            windowScores[subQueryIndex][d] = score;
-                        }
-                    } else {
-                        matching.set(d);
+        }
+
+        if (collector instanceof HybridBatchLeafCollector batchLeafCollector) {
+            batchLeafCollector.collectWindow(windowBase, matching, windowScores);
+        } else {
+            hybridQueryDocIdStream.setBase(windowBase);
+            collector.collect(hybridQueryDocIdStream);
+        }
+
+        resetWindowState();
+    }
+
+    /**
+     * Each active sub query scores the window into its own bitset and score column, bitsets are merged once all are done
+     * @param acceptDocs bitset with live docs
+     * @param windowMin min doc id of this collector window
+     * @param windowMax max doc id of this collector window
+     * @throws IOException
+     */
+    private void scoreWindowInParallel(Bits acceptDocs, int windowMin, int windowMax) throws IOException {
+        windowAcceptDocs = acceptDocs;
+        windowMinDoc = windowMin;
+        windowMaxDoc = windowMax;
+        windowScoringTasks.clear();
+        for (int i = 0; i < numOfActiveSubQueries; i++) {
+            windowScoringTasks.add(subQueryScoringTasks.get(activeSubQueries[i]));
+        }
+        HybridQueryExecutor.invokeAll(taskExecutor, HybridQueryTaskType.SUBQUERY_SCORING, windowScoringTasks);
+        for (int i = 0; i < numOfActiveSubQueries; i++) {
+            FixedBitSet windowMatching = subQueryMatching[activeSubQueries[i]];
+            matching.or(windowMatching);
+            windowMatching.clear();
+        }
+    }
+
+    /**
+     * Score docs of one sub query in the window. Only touches the state of this sub query and the given bitset, so sub
+     * queries can be scored concurrently into separate bitsets
+     * @param subQueryIndex index of the sub query
+     * @param acceptDocs bitset with live docs
+     * @param docIds last used doc ids per scorer
+     * @param windowMin min doc id of this collector window
+     * @param windowMax max doc id of this collector window
+     * @param windowMatching bitset to mark matching docs of the window in
+     * @throws IOException
+     */
+    private void scoreSubQueryWindow(
+        int subQueryIndex,
+        Bits acceptDocs,
+        int[] docIds,
+        int windowMin,
+        int windowMax,
+        FixedBitSet windowMatching
+    ) throws IOException {
+        DocIdSetIterator it = scorers[subQueryIndex].iterator();
+        int doc = docIds[subQueryIndex];
+        if (pruneNonCompetitive && isWindowNonCompetitive(subQueryIndex, Math.max(doc, windowMin), windowMax)) {
+            // no doc of this sub query in the window can make it to the sub query top docs
+            hybridSubQueryScorer.setNonCompetitiveHitsSkipped(true);
+            docIds[subQueryIndex] = doc < windowMax ? it.advance(windowMax) : doc;
+            return;
+        }
+        if (doc < windowMin) {
+            doc = it.advance(windowMin);
+        }
+        while (doc < windowMax) {
+            if (Objects.isNull(acceptDocs) || acceptDocs.get(doc)) {
+                int d = doc & MASK;
+                if (needsScores) {
+                    float score = scorers[subQueryIndex].score();
+                    // collect score only in case it's gt competitive score
+                    if (score > hybridSubQueryScorer.getMinScores()[subQueryIndex]) {
+                        windowMatching.set(d);
+                        windowScores[subQueryIndex][d] = score;
+                    } else if (hybridSubQueryScorer.getMinScores()[subQueryIndex] > 0) {
+                        hybridSubQueryScorer.setNonCompetitiveHitsSkipped(true);
                     }
+                } else {
+                    windowMatching.set(d);
                 }
-                doc = it.nextDoc();
             }
-            docIds[subQueryIndex] = doc;
+            doc = it.nextDoc();
         }
+        docIds[subQueryIndex] = doc;
+    }
 
-        hybridQueryDocIdStream.setBase(windowBase);
-        collector.collect(hybridQueryDocIdStream);
-
-        resetWindowState();
+    /**
+     * Pushes the min competitive score of the sub query down to its scorer, and checks if the block max score of the sub
+     * query in the window is below it. Only scores greater than the min competitive score are collected, so such a window
+     * has no hits for the sub query.
+     * @param subQueryIndex index of the sub query
+     * @param target first doc id of the sub query to score in the window
+     * @param windowMax max doc id of the window, exclusive
+     * @return true if the sub query can skip the window
+     */
+    private boolean isWindowNonCompetitive(int subQueryIndex, int target, int windowMax) throws IOException {
+        float minScore = hybridSubQueryScorer.getMinScores()[subQueryIndex];
+        if (minScore <= 0 || target >= windowMax) {
+            return false;
+        }
+        Scorer scorer = scorers[subQueryIndex];
+        if (minScore > propagatedMinScores[subQueryIndex]) {
+            // scorer may skip docs scoring below the min score, docs scoring exactly the min score are filtered out later
+            scorer.setMinCompetitiveScore(minScore);
+            propagatedMinScores[subQueryIndex] = minScore;
+        }
+        scorer.advanceShallow(target);
+        return scorer.getMaxScore(windowMax - 1) <= minScore;
     }
 
     /**
@@ -192,11 +363,24 @@ public class HybridBulkScorer extends BulkScorer {
      * Reset the internal state for the next window of documents
      */
     private void resetWindowState() {
-        matching.clear();
-
-        for (float[] windowScore : windowScores) {
-            Arrays.fill(windowScore, 0.0f);
+        if (needsScores == false) {
+            matching.clear();
+            return;
         }
+        // scores are only set for matching docs, so only their entries need to be cleared
+        long[] bits = matching.getBits();
+        for (int idx = 0; idx < bits.length; idx++) {
+            long word = bits[idx];
+            while (word != 0L) {
+                int numberOfTrailingZeros = Long.numberOfTrailingZeros(word);
+                int d = (idx << 6) | numberOfTrailingZeros;
+                for (float[] windowScore : windowScores) {
+                    windowScore[d] = 0.0f;
+                }
+                word ^= 1L << numberOfTrailingZeros;
+            }
+        }
+        matching.clear();
     }
 
     @Override
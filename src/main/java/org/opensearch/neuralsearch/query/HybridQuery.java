@@ -27,6 +27,7 @@ import org.apache.lucene.search.Weight;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutorCollector;
 import org.opensearch.neuralsearch.executors.HybridQueryRewriteCollectorManager;
+import org.opensearch.neuralsearch.executors.HybridQueryTaskType;
 
 /**
  * Implementation of Query interface for type "hybrid". It allows execution of multiple sub-queries and collect individual
@@ -148,7 +149,7 @@ public final class HybridQuery extends Query implements Iterable<Query> {
             queryRewriteTasks.add(() -> rewriteQuery(subQuery, collector));
         }
 
-        HybridQueryExecutor.getExecutor().invokeAll(queryRewriteTasks);
+        HybridQueryExecutor.invokeAll(HybridQueryTaskType.REWRITE, queryRewriteTasks);
 
         final boolean isAnyQueryRewritten = manager.anyQueryRewrite(collectors);
         if (isAnyQueryRewritten == false) {
@@ -33,6 +33,8 @@ public class HybridQueryDocIdStream extends DocIdStream {
         // bitset that represents matching documents, bit is set (1) if doc id is a match
         FixedBitSet matchingBitSet = hybridBulkScorer.getMatching();
         long[] bitArray = matchingBitSet.getBits();
+        // without scores there are no sub query scores to pass to the scorer
+        boolean needsScores = hybridBulkScorer.isNeedsScores();
         // iterate through each block of 64 documents (since each long contains 64 bits)
         for (int idx = 0; idx < bitArray.length; idx++) {
             long bits = bitArray[idx];
@@ -43,13 +45,15 @@ public class HybridQueryDocIdStream extends DocIdStream {
                 // idx << 6 is equivalent to idx * 64 (block offset)
                 // numberOfTrailingZeros gives position within the block
                 final int docIndexInWindow = (idx << BLOCK_SHIFT) | numberOfTrailingZeros;
-                float[][] windowScores = hybridBulkScorer.getWindowScores();
-                for (int subQueryIndex = 0; subQueryIndex < windowScores.length; subQueryIndex++) {
-                    if (Objects.isNull(windowScores[subQueryIndex])) {
-                        continue;
+                if (needsScores) {
+                    float[][] windowScores = hybridBulkScorer.getWindowScores();
+                    for (int subQueryIndex = 0; subQueryIndex < windowScores.length; subQueryIndex++) {
+                        if (Objects.isNull(windowScores[subQueryIndex])) {
+                            continue;
+                        }
+                        float scoreOfDocIdForSubQuery = windowScores[subQueryIndex][docIndexInWindow];
+                        hybridBulkScorer.getHybridSubQueryScorer().getSubQueryScores()[subQueryIndex] = scoreOfDocIdForSubQuery;
                     }
-                    float scoreOfDocIdForSubQuery = windowScores[subQueryIndex][docIndexInWindow];
-                    hybridBulkScorer.getHybridSubQueryScorer().getSubQueryScores()[subQueryIndex] = scoreOfDocIdForSubQuery;
                 }
                 // process the document with its base offset
                 int doc = base | docIndexInWindow;
@@ -57,19 +61,41 @@ public class HybridQueryDocIdStream extends DocIdStream {
                     consumer.accept(doc);
                     this.upTo++;
                 }
-                // reset scores after processing of one doc, this is required because scorer object is re-used
-                hybridBulkScorer.getHybridSubQueryScorer().resetScores();
+                if (needsScores) {
+                    // reset scores after processing of one doc, this is required because scorer object is re-used
+                    hybridBulkScorer.getHybridSubQueryScorer().resetScores();
+                }
                 // reset bit for this doc id to indicate that it has been consumed
                 bits ^= 1L << numberOfTrailingZeros;
             }
         }
     }
 
+    /**
+     * Count matching doc ids by counting the set bits of the matching bitset, without visiting each doc
+     * @param upTo upper bound of the doc ids to count
+     * @return number of matching doc ids
+     */
     @Override
     public int count(int upTo) throws IOException {
-        int[] count = new int[1];
-        forEach(upTo, (doc -> count[0]++));
-        return count[0];
+        upTo = Math.min(upTo, hybridBulkScorer.getMaxDoc());
+        long[] bitArray = hybridBulkScorer.getMatching().getBits();
+        // same bound as in forEach, doc ids at window offset upTo and above are not counted
+        int limit = Math.min(upTo, bitArray.length << BLOCK_SHIFT);
+        if (limit <= 0) {
+            return 0;
+        }
+        int fullWords = limit >>> BLOCK_SHIFT;
+        int count = 0;
+        for (int idx = 0; idx < fullWords; idx++) {
+            count += Long.bitCount(bitArray[idx]);
+        }
+        int remainingBits = limit & ((1 << BLOCK_SHIFT) - 1);
+        if (remainingBits > 0) {
+            count += Long.bitCount(bitArray[fullWords] & ((1L << remainingBits) - 1));
+        }
+        this.upTo += count;
+        return count;
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.apache.lucene.search.Weight;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutorCollector;
 import org.opensearch.neuralsearch.executors.HybridQueryScoreSupplierCollectorManager;
+import org.opensearch.neuralsearch.executors.HybridQueryTaskType;
 
 import static org.opensearch.neuralsearch.query.HybridQueryBuilder.MAX_NUMBER_OF_SUB_QUERIES;
 
@@ -87,7 +88,7 @@ public final class HybridQueryWeight extends Weight {
             collectors.add(collector);
             scoreSupplierTasks.add(() -> addScoreSupplier(weight, collector));
         }
-        HybridQueryExecutor.getExecutor().invokeAll(scoreSupplierTasks);
+        HybridQueryExecutor.invokeAll(HybridQueryTaskType.SCORER_SUPPLIER, scoreSupplierTasks);
         final List<ScorerSupplier> scorerSuppliers = manager.mergeScoreSuppliers(collectors);
         if (scorerSuppliers.isEmpty()) {
             return null;
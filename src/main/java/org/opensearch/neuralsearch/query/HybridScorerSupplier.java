@@ -11,7 +11,9 @@ import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.search.Weight;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -76,6 +78,9 @@ public class HybridScorerSupplier extends ScorerSupplier {
             Scorer scorer = weight.scorer(context);
             scorers.add(scorer);
         }
-        return new HybridBulkScorer(scorers, scoreMode.needsScores(), context.reader().maxDoc());
+        TaskExecutor taskExecutor = HybridQueryExecutor.isParallelSubQueryScoringEnabled()
+            ? HybridQueryExecutor.getExecutor()
+            : null;
+        return new HybridBulkScorer(scorers, scoreMode, context.reader().maxDoc(), taskExecutor);
     }
 }
@@ -19,6 +19,8 @@ public class HybridSubQueryScorer extends Scorable {
     private final float[] subQueryScores;
     // array of min competitive scores, score is shard level
     private final float[] minScores;
+    // set if hits were skipped because they are not competitive, total hits are then a lower bound
+    private boolean nonCompetitiveHitsSkipped;
 
     public HybridSubQueryScorer(int numOfSubQueries) {
         this.minScores = new float[numOfSubQueries];
@@ -79,6 +79,9 @@ import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
 import org.opensearch.knn.index.query.parser.MethodParametersParser;
 import org.opensearch.knn.index.query.parser.RescoreParser;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.QueryInferenceCacheKey;
+import org.opensearch.neuralsearch.cache.SparseQueryTokens;
 import org.opensearch.neuralsearch.common.MinClusterVersionUtil;
 import org.opensearch.neuralsearch.mapper.SemanticFieldMapper;
 import org.opensearch.neuralsearch.query.dto.NeuralQueryBuildStage;
@@ -140,9 +143,23 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
 
     // client to invoke ml-common APIs
     private static MLCommonsClientAccessor ML_CLIENT;
+    // node-local cache of query embeddings, null if not configured
+    private static InferenceResultCache<QueryInferenceCacheKey, float[]> QUERY_EMBEDDING_CACHE;
+    // node-local cache of sparse query tokens, null if not configured
+    private static InferenceResultCache<QueryInferenceCacheKey, SparseQueryTokens> QUERY_TOKENS_CACHE;
 
     public static void initialize(MLCommonsClientAccessor mlClient) {
+        initialize(mlClient, null, null);
+    }
+
+    public static void initialize(
+        MLCommonsClientAccessor mlClient,
+        InferenceResultCache<QueryInferenceCacheKey, float[]> queryEmbeddingCache,
+        InferenceResultCache<QueryInferenceCacheKey, SparseQueryTokens> queryTokensCache
+    ) {
         NeuralQueryBuilder.ML_CLIENT = mlClient;
+        NeuralQueryBuilder.QUERY_EMBEDDING_CACHE = queryEmbeddingCache;
+        NeuralQueryBuilder.QUERY_TOKENS_CACHE = queryTokensCache;
     }
 
     // common fields used for both dense and sparse model
@@ -778,8 +795,14 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             return createKNNQueryBuilder(fieldName(), vectorSupplier.get());
         }
 
+        final Map<String, String> inferenceInput = getInferenceInputForDenseModel();
+        final float[] cachedVector = getCachedQueryEmbedding(modelId());
+        if (cachedVector != null) {
+            // Embedding of the same query is cached, skip the inference and feed the vector supplier directly
+            return createNeuralQueryBuilder(KNNVectorFieldMapper.CONTENT_TYPE, () -> cachedVector, false);
+        }
+
         SetOnce<float[]> vectorSetOnce = new SetOnce<>();
-        Map<String, String> inferenceInput = new HashMap<>();
         // build first to leverage the validation in the build function
         final NeuralQueryBuilder neuralQueryBuilder = createNeuralQueryBuilder(
             KNNVectorFieldMapper.CONTENT_TYPE,
@@ -787,18 +810,13 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             false
         );
 
-        if (StringUtils.isNotBlank(queryText())) {
-            inferenceInput.put(INPUT_TEXT, queryText());
-        }
-        if (StringUtils.isNotBlank(queryImage())) {
-            inferenceInput.put(INPUT_IMAGE, queryImage());
-        }
-
         queryRewriteContext.registerAsyncAction(
             ((client, actionListener) -> ML_CLIENT.inferenceSentencesMap(
-                MapInferenceRequest.builder().modelId(modelId()).inputObjects(inferenceInput).build(),
+                MapInferenceRequest.builder().modelId(modelId()).inputObjects(inferenceInput).queryInference(true).build(),
                 ActionListener.wrap(floatList -> {
-                    vectorSetOnce.set(vectorAsListToArray(floatList));
+                    final float[] vector = vectorAsListToArray(floatList);
+                    cacheQueryEmbedding(modelId(), vector);
+                    vectorSetOnce.set(vector);
                     actionListener.onResponse(null);
                 }, actionListener::onFailure)
             ))
@@ -807,6 +825,27 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         return neuralQueryBuilder;
     }
 
+    /**
+     * Looks up the embedding of the query text and image for the model in the node-local cache
+     * @param modelId id of the model used for inference
+     * @return copy of the cached embedding or null if it is not cached
+     */
+    private float[] getCachedQueryEmbedding(final String modelId) {
+        if (QUERY_EMBEDDING_CACHE == null || modelId == null) {
+            return null;
+        }
+        final float[] cachedVector = QUERY_EMBEDDING_CACHE.get(QueryInferenceCacheKey.of(modelId, queryText(), queryImage()));
+        // hand out a copy, the vector can be transformed in place later by the knn query
+        return cachedVector == null ? null : Arrays.copyOf(cachedVector, cachedVector.length);
+    }
+
+    private void cacheQueryEmbedding(final String modelId, final float[] vector) {
+        if (QUERY_EMBEDDING_CACHE == null || modelId == null) {
+            return;
+        }
+        QUERY_EMBEDDING_CACHE.put(QueryInferenceCacheKey.of(modelId, queryText(), queryImage()), Arrays.copyOf(vector, vector.length));
+    }
+
     private NeuralKNNQueryBuilder createKNNQueryBuilder(String fieldName, float[] vector) {
         return NeuralKNNQueryBuilder.builder()
             .fieldName(fieldName)
@@ -993,16 +1032,27 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
 
     private void inferenceBySparseModel(@NonNull final Set<String> modelIds, @NonNull QueryRewriteContext queryRewriteContext) {
         for (String modelId : modelIds) {
+            final QueryInferenceCacheKey cacheKey = QueryInferenceCacheKey.of(modelId, queryText, null);
+            final SparseQueryTokens cachedQueryTokens = QUERY_TOKENS_CACHE == null ? null : QUERY_TOKENS_CACHE.get(cacheKey);
+            if (cachedQueryTokens != null) {
+                modelIdToQueryTokensSupplierMap.put(modelId, cachedQueryTokens::getQueryTokens);
+                continue;
+            }
             final SetOnce<Map<String, Float>> setOnce = new SetOnce<>();
             modelIdToQueryTokensSupplierMap.put(modelId, setOnce::get);
             queryRewriteContext.registerAsyncAction(
                 ((client, actionListener) -> ML_CLIENT.inferenceSentencesWithMapResult(
-                    TextInferenceRequest.builder().modelId(modelId).inputTexts(List.of(queryText)).build(),
+                    TextInferenceRequest.builder().modelId(modelId).inputTexts(List.of(queryText)).queryInference(true).build(),
                     ActionListener.wrap(mapResultList -> {
-                        final Map<String, Float> queryTokens = TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0);
+                        final SparseQueryTokens sparseQueryTokens = new SparseQueryTokens(
+                            TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0)
+                        );
+                        if (QUERY_TOKENS_CACHE != null) {
+                            QUERY_TOKENS_CACHE.put(cacheKey, sparseQueryTokens);
+                        }
                         // Currently we don't support NeuralSparseTwoPhaseProcessor which can be supported
                         // in the future.
-                        setOnce.set(queryTokens);
+                        setOnce.set(sparseQueryTokens.getQueryTokens());
                         actionListener.onResponse(null);
                     }, actionListener::onFailure)
                 ))
@@ -1013,13 +1063,20 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
     private void inferenceByDenseModel(@NonNull final Set<String> modelIds, @NonNull QueryRewriteContext queryRewriteContext) {
         final Map<String, String> inferenceInput = getInferenceInputForDenseModel();
         for (String modelId : modelIds) {
+            final float[] cachedVector = getCachedQueryEmbedding(modelId);
+            if (cachedVector != null) {
+                modelIdToVectorSupplierMap.put(modelId, () -> cachedVector);
+                continue;
+            }
             final SetOnce<float[]> vectorSetOnce = new SetOnce<>();
             modelIdToVectorSupplierMap.put(modelId, vectorSetOnce::get);
             queryRewriteContext.registerAsyncAction(
                 ((client, actionListener) -> ML_CLIENT.inferenceSentencesMap(
-                    MapInferenceRequest.builder().modelId(modelId).inputObjects(inferenceInput).build(),
+                    MapInferenceRequest.builder().modelId(modelId).inputObjects(inferenceInput).queryInference(true).build(),
                     ActionListener.wrap(floatList -> {
-                        vectorSetOnce.set(vectorAsListToArray(floatList));
+                        final float[] vector = vectorAsListToArray(floatList);
+                        cacheQueryEmbedding(modelId, vector);
+                        vectorSetOnce.set(vector);
                         actionListener.onResponse(null);
                     }, actionListener::onFailure)
                 ))
@@ -44,6 +44,9 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.WithFieldName;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.QueryInferenceCacheKey;
+import org.opensearch.neuralsearch.cache.SparseQueryTokens;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.TextInferenceRequest;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
@@ -89,10 +92,20 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
     @VisibleForTesting
     static final ParseField ANALYZER_FIELD = new ParseField("analyzer");
     private static MLCommonsClientAccessor ML_CLIENT;
+    // node-local cache of query tokens, null if not configured
+    private static InferenceResultCache<QueryInferenceCacheKey, SparseQueryTokens> QUERY_TOKENS_CACHE;
     private static final String DEFAULT_ANALYZER = "bert-uncased";
 
     public static void initialize(MLCommonsClientAccessor mlClient) {
+        initialize(mlClient, null);
+    }
+
+    public static void initialize(
+        MLCommonsClientAccessor mlClient,
+        InferenceResultCache<QueryInferenceCacheKey, SparseQueryTokens> queryTokensCache
+    ) {
         NeuralSparseQueryBuilder.ML_CLIENT = mlClient;
+        NeuralSparseQueryBuilder.QUERY_TOKENS_CACHE = queryTokensCache;
     }
 
     private String fieldName;
@@ -365,7 +378,13 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         }
         validateForRewrite(queryText, modelId);
         SetOnce<Map<String, Float>> queryTokensSetOnce = new SetOnce<>();
-        queryRewriteContext.registerAsyncAction(getModelInferenceAsync(queryTokensSetOnce));
+        final SparseQueryTokens cachedQueryTokens = getCachedQueryTokens();
+        if (Objects.nonNull(cachedQueryTokens)) {
+            // Tokens of the same query text are cached, skip the inference and set the supplier directly
+            setQueryTokens(cachedQueryTokens, queryTokensSetOnce);
+        } else {
+            queryRewriteContext.registerAsyncAction(getModelInferenceAsync(queryTokensSetOnce));
+        }
         return new NeuralSparseQueryBuilder().fieldName(fieldName)
             .queryText(queryText)
             .modelId(modelId)
@@ -376,31 +395,46 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
     }
 
     private BiConsumer<Client, ActionListener<?>> getModelInferenceAsync(SetOnce<Map<String, Float>> setOnce) {
-        // When Two-phase shared query tokens is null,
-        // it set queryTokensSupplier to the inference result which has all query tokens with score.
-        // When Two-phase shared query tokens exist,
-        // it splits the tokens using a threshold defined by a ratio of the maximum score of tokens, updating the token set
-        // accordingly.
         return ((client, actionListener) -> ML_CLIENT.inferenceSentencesWithMapResult(
-            TextInferenceRequest.builder().modelId(modelId()).inputTexts(List.of(queryText)).build(),
+            TextInferenceRequest.builder().modelId(modelId()).inputTexts(List.of(queryText)).queryInference(true).build(),
             ActionListener.wrap(mapResultList -> {
-                Map<String, Float> queryTokens = TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0);
-                if (Objects.nonNull(twoPhaseSharedQueryToken)) {
-                    Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = PruneUtils.splitSparseVector(
-                        neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType(),
-                        neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio(),
-                        queryTokens
-                    );
-                    setOnce.set(splitQueryTokens.v1());
-                    twoPhaseSharedQueryToken = splitQueryTokens.v2();
-                } else {
-                    setOnce.set(queryTokens);
+                final SparseQueryTokens sparseQueryTokens = new SparseQueryTokens(
+                    TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0)
+                );
+                if (Objects.nonNull(QUERY_TOKENS_CACHE)) {
+                    QUERY_TOKENS_CACHE.put(QueryInferenceCacheKey.of(modelId(), queryText, null), sparseQueryTokens);
                 }
+                setQueryTokens(sparseQueryTokens, setOnce);
                 actionListener.onResponse(null);
             }, actionListener::onFailure)
         ));
     }
 
+    private void setQueryTokens(SparseQueryTokens sparseQueryTokens, SetOnce<Map<String, Float>> setOnce) {
+        // When Two-phase shared query tokens is null,
+        // it set queryTokensSupplier to the inference result which has all query tokens with score.
+        // When Two-phase shared query tokens exist,
+        // it splits the tokens using a threshold defined by a ratio of the maximum score of tokens, updating the token set
+        // accordingly.
+        if (Objects.nonNull(twoPhaseSharedQueryToken)) {
+            Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = sparseQueryTokens.getSplitQueryTokens(
+                neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType(),
+                neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio()
+            );
+            setOnce.set(splitQueryTokens.v1());
+            twoPhaseSharedQueryToken = splitQueryTokens.v2();
+        } else {
+            setOnce.set(sparseQueryTokens.getQueryTokens());
+        }
+    }
+
+    private SparseQueryTokens getCachedQueryTokens() {
+        if (Objects.isNull(QUERY_TOKENS_CACHE)) {
+            return null;
+        }
+        return QUERY_TOKENS_CACHE.get(QueryInferenceCacheKey.of(modelId, queryText, null));
+    }
+
     Map<String, Float> getQueryTokens(QueryShardContext context) {
         if (Objects.nonNull(queryTokensSupplier)) {
             return queryTokensSupplier.get();
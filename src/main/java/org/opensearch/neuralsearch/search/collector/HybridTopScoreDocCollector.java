@@ -13,16 +13,16 @@ import java.util.Objects;
 
 import lombok.Getter;
 import org.apache.lucene.index.LeafReaderContext;
-import org.apache.lucene.search.HitQueue;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
-import org.apache.lucene.util.PriorityQueue;
+import org.apache.lucene.util.FixedBitSet;
 
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.neuralsearch.query.HybridBatchLeafCollector;
 import org.opensearch.neuralsearch.query.HybridSubQueryScorer;
 import org.opensearch.neuralsearch.search.HitsThresholdChecker;
 
@@ -39,7 +39,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
     private int totalHits;
     private int[] collectedHitsPerSubQuery;
     private final int numOfHits;
-    private List<PriorityQueue<ScoreDoc>> compoundScores;
+    private List<TopScoreDocQueue> compoundScores;
     @Getter
     private float maxScore = 0.0f;
 
@@ -81,7 +81,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
         return topDocs;
     }
 
-    private TopDocs topDocsPerQuery(int start, int howMany, PriorityQueue<ScoreDoc> pq, int totalHits) {
+    private TopDocs topDocsPerQuery(int start, int howMany, TopScoreDocQueue pq, int totalHits) {
         if (howMany < 0) {
             throw new IllegalArgumentException(
                 String.format(Locale.ROOT, "Number of hits requested must be greater than 0 but value was %d", howMany)
@@ -102,24 +102,15 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
         ScoreDoc[] results = new ScoreDoc[size];
 
         // Get the requested results from pq.
-        populateResults(results, size, pq);
+        pq.popInto(results, size);
 
         return new TopDocs(new TotalHits(totalHits, totalHitsRelation), results);
     }
 
-    protected void populateResults(ScoreDoc[] results, int howMany, PriorityQueue<ScoreDoc> pq) {
-        for (int i = howMany - 1; i >= 0 && pq.size() > 0; i--) {
-            // adding to array if index is within [0..array_length - 1]
-            if (i < results.length) {
-                results[i] = pq.pop();
-            }
-        }
-    }
-
     /**
      * Leaf collector to collect top docs for each sub query
      */
-    protected class HybridTopScoreLeafCollector extends HybridLeafCollector {
+    protected class HybridTopScoreLeafCollector extends HybridLeafCollector implements HybridBatchLeafCollector {
         float[] minScoreThresholds;
 
         @Override
@@ -143,32 +134,84 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
             float[] scores = compoundQueryScorer.getSubQueryScores();
             int docWithBase = doc + docBase;
             for (int subQueryIndex = 0; subQueryIndex < scores.length; subQueryIndex++) {
-                float score = scores[subQueryIndex];
-                if (isNonCompetitiveScore(score, subQueryIndex)) {
-                    continue;
-                }
+                collectSubQueryScore(compoundQueryScorer, subQueryIndex, docWithBase, scores[subQueryIndex]);
+            }
+        }
 
-                if (hitsThresholdChecker.isThresholdReached() && totalHitsRelation == TotalHits.Relation.EQUAL_TO) {
-                    totalHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+        /**
+         * Collects a window of the bulk scorer by reading the score columns directly, without copying the scores of each
+         * doc to the scorer
+         */
+        @Override
+        public void collectWindow(int windowBase, FixedBitSet matching, float[][] windowScores) throws IOException {
+            HybridSubQueryScorer compoundQueryScorer = getCompoundQueryScorer();
+            if (Objects.isNull(compoundQueryScorer)) {
+                return;
+            }
+            ensureSubQueryScoreQueues();
+            long[] bits = matching.getBits();
+            for (int idx = 0; idx < bits.length; idx++) {
+                long word = bits[idx];
+                while (word != 0L) {
+                    int numberOfTrailingZeros = Long.numberOfTrailingZeros(word);
+                    int docIndexInWindow = (idx << 6) | numberOfTrailingZeros;
+                    totalHits++;
+                    int docWithBase = windowBase + docIndexInWindow + docBase;
+                    for (int subQueryIndex = 0; subQueryIndex < windowScores.length; subQueryIndex++) {
+                        float[] subQueryScores = windowScores[subQueryIndex];
+                        float score = Objects.isNull(subQueryScores) ? 0.0f : subQueryScores[docIndexInWindow];
+                        collectSubQueryScore(compoundQueryScorer, subQueryIndex, docWithBase, score);
+                    }
+                    word ^= 1L << numberOfTrailingZeros;
                 }
-                collectedHitsPerSubQuery[subQueryIndex]++;
-                PriorityQueue<ScoreDoc> pq = compoundScores.get(subQueryIndex);
-                ScoreDoc currentDoc = new ScoreDoc(docWithBase, score);
-                maxScore = Math.max(currentDoc.score, maxScore);
-                // this way we're inserting into heap and do nothing else unless we reach the capacity
-                // after that we pull out the lowest score element on each insert
-                ScoreDoc evictedScoreDoc = pq.insertWithOverflow(currentDoc);
-                if (Objects.nonNull(evictedScoreDoc)) {
-                    float newThresholdScore = evictedScoreDoc.score;
-                    minScoreThresholds[subQueryIndex] = Math.max(minScoreThresholds[subQueryIndex], newThresholdScore);
+            }
+        }
+
+        private void collectSubQueryScore(HybridSubQueryScorer compoundQueryScorer, int subQueryIndex, int docWithBase, float score) {
+            if (isNonCompetitiveScore(score, subQueryIndex)) {
+                return;
+            }
+
+            if (hitsThresholdChecker.isThresholdReached() && totalHitsRelation == TotalHits.Relation.EQUAL_TO) {
+                totalHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+            }
+            collectedHitsPerSubQuery[subQueryIndex]++;
+            TopScoreDocQueue pq = compoundScores.get(subQueryIndex);
+            maxScore = Math.max(score, maxScore);
+            // this way we're inserting into heap and do nothing else unless we reach the capacity
+            // after that we replace the lowest score element in place on each insert
+            float newThresholdScore = pq.insertWithOverflow(docWithBase, score);
+            if (newThresholdScore != TopScoreDocQueue.NO_OVERFLOW) {
+                minScoreThresholds[subQueryIndex] = Math.max(minScoreThresholds[subQueryIndex], newThresholdScore);
+                // the scorer skips hits scoring below the min score, which makes the total hits count a lower bound, so
+                // the min score is only published once the hits to count exactly have been collected
+                if (isTotalHitsThresholdReached()) {
                     compoundQueryScorer.getMinScores()[subQueryIndex] = Math.max(
                         compoundQueryScorer.getMinScores()[subQueryIndex],
-                        newThresholdScore
+                        minScoreThresholds[subQueryIndex]
                     );
                 }
             }
         }
 
+        /**
+         * Checks if this collector has counted as many hits as must be counted exactly. Hits are never skipped if all hits
+         * must be counted, i.e. the threshold is {@link Integer#MAX_VALUE}
+         */
+        private boolean isTotalHitsThresholdReached() {
+            int totalHitsThreshold = hitsThresholdChecker.getTotalHitsThreshold();
+            return totalHitsThreshold != Integer.MAX_VALUE && totalHits >= totalHitsThreshold;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            HybridSubQueryScorer compoundQueryScorer = getCompoundQueryScorer();
+            // hits skipped by the scorer as non-competitive are not counted, total hits are a lower bound
+            if (Objects.nonNull(compoundQueryScorer) && compoundQueryScorer.isNonCompetitiveHitsSkipped()) {
+                totalHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+            }
+        }
+
         private boolean isNonCompetitiveScore(float score, int subQueryIndex) {
             return score <= 0 && score < minScoreThresholds[subQueryIndex];
         }
@@ -180,7 +223,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
             if (Objects.isNull(compoundScores)) {
                 compoundScores = new ArrayList<>(compoundQueryScorer.getNumOfSubQueries());
                 for (int i = 0; i < compoundQueryScorer.getNumOfSubQueries(); i++) {
-                    compoundScores.add(new HitQueue(numOfHits, false));
+                    compoundScores.add(new TopScoreDocQueue(numOfHits));
                 }
                 collectedHitsPerSubQuery = new int[compoundQueryScorer.getNumOfSubQueries()];
             }
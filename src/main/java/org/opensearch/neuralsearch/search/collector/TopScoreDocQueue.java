@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * Bounded min-heap of top scoring docs backed by parallel arrays of doc ids and scores. Keeps the same order as Lucene's
+ * {@link org.apache.lucene.search.HitQueue}: lower score first, and for equal scores higher doc id first. Entries are
+ * replaced in place, so collecting a hit does not allocate, {@link ScoreDoc}s are only created when the heap is drained.
+ */
+final class TopScoreDocQueue {
+    /**
+     * Returned by {@link #insertWithOverflow(int, float)} when no entry overflowed, lower than any competitive score
+     */
+    static final float NO_OVERFLOW = Float.NEGATIVE_INFINITY;
+
+    private final int maxSize;
+    private final int[] docs;
+    private final float[] scores;
+    private int size;
+
+    TopScoreDocQueue(final int maxSize) {
+        this.maxSize = maxSize;
+        this.docs = new int[maxSize];
+        this.scores = new float[maxSize];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds the doc if the heap is not full, otherwise replaces the lowest entry if the doc sorts above it
+     * @param doc doc id
+     * @param score score of the doc
+     * @return score of the entry that didn't fit in the heap, either the replaced lowest entry or the doc itself, or
+     * {@link #NO_OVERFLOW} if the heap was not full
+     */
+    float insertWithOverflow(final int doc, final float score) {
+        if (size < maxSize) {
+            docs[size] = doc;
+            scores[size] = score;
+            upHeap(size++);
+            return NO_OVERFLOW;
+        }
+        if (size > 0 && lessThan(scores[0], docs[0], score, doc)) {
+            final float overflowScore = scores[0];
+            docs[0] = doc;
+            scores[0] = score;
+            downHeap(0);
+            return overflowScore;
+        }
+        return score;
+    }
+
+    /**
+     * Removes the entries of the heap from the lowest to the highest and stores them in the array in descending order
+     * @param results array to fill, entries that don't fit in the array are dropped
+     * @param howMany number of entries to remove from the heap
+     */
+    void popInto(final ScoreDoc[] results, final int howMany) {
+        for (int i = howMany - 1; i >= 0 && size > 0; i--) {
+            final int doc = docs[0];
+            final float score = scores[0];
+            size--;
+            docs[0] = docs[size];
+            scores[0] = scores[size];
+            downHeap(0);
+            // adding to array if index is within [0..array_length - 1]
+            if (i < results.length) {
+                results[i] = new ScoreDoc(doc, score);
+            }
+        }
+    }
+
+    private static boolean lessThan(final float scoreA, final int docA, final float scoreB, final int docB) {
+        if (scoreA == scoreB) {
+            return docA > docB;
+        }
+        return scoreA < scoreB;
+    }
+
+    private void upHeap(int i) {
+        final int doc = docs[i];
+        final float score = scores[i];
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (lessThan(score, doc, scores[parent], docs[parent]) == false) {
+                break;
+            }
+            docs[i] = docs[parent];
+            scores[i] = scores[parent];
+            i = parent;
+        }
+        docs[i] = doc;
+        scores[i] = score;
+    }
+
+    private void downHeap(int i) {
+        final int doc = docs[i];
+        final float score = scores[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            final int right = child + 1;
+            if (right < size && lessThan(scores[right], docs[right], scores[child], docs[child])) {
+                child = right;
+            }
+            if (lessThan(scores[child], docs[child], score, doc) == false) {
+                break;
+            }
+            docs[i] = docs[child];
+            scores[i] = scores[child];
+            i = child;
+        }
+        docs[i] = doc;
+        scores[i] = score;
+    }
+}
@@ -42,7 +42,6 @@ import org.opensearch.neuralsearch.search.query.exception.HybridSearchRescoreQue
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -174,18 +173,17 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
         if (hybridSearchCollectors.isEmpty()) {
             throw new IllegalStateException("cannot collect results of hybrid search query, there are no proper collectors");
         }
-        return reduceSearchResults(getSearchResults(hybridSearchCollectors));
+        return getSearchResult(hybridSearchCollectors);
     }
 
-    private List<ReduceableSearchResult> getSearchResults(final List<HybridSearchCollector> hybridSearchCollectors) {
-        List<ReduceableSearchResult> results = new ArrayList<>();
+    private ReduceableSearchResult getSearchResult(final List<HybridSearchCollector> hybridSearchCollectors) {
+        List<TopDocsAndMaxScore> topDocsAndMaxScores = new ArrayList<>(hybridSearchCollectors.size());
         DocValueFormat[] docValueFormats = getSortValueFormats(sortAndFormats);
+        boolean isSortEnabled = docValueFormats != null;
         for (HybridSearchCollector collector : hybridSearchCollectors) {
-            boolean isSortEnabled = docValueFormats != null;
-            TopDocsAndMaxScore topDocsAndMaxScore = getTopDocsAndAndMaxScore(collector, isSortEnabled);
-            results.add((QuerySearchResult result) -> reduceCollectorResults(result, topDocsAndMaxScore, docValueFormats));
+            topDocsAndMaxScores.add(getTopDocsAndAndMaxScore(collector, isSortEnabled));
         }
-        return results;
+        return (QuerySearchResult result) -> reduceCollectorResults(result, topDocsAndMaxScores, docValueFormats);
     }
 
     private TopDocsAndMaxScore getTopDocsAndAndMaxScore(final HybridSearchCollector hybridSearchCollector, final boolean isSortEnabled) {
@@ -353,22 +351,39 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
             // doc_id | magic_number_2
             // ...
             // doc_id | magic_number_1
-            List<ScoreDoc> result = new ArrayList<>();
-            result.add(createStartStopElementForHybridSearchResults(delimiterDocId));
+            // result is written directly into an array presized for start-stop elements, delimiters and all hits
+            scoreDocs = new ScoreDoc[getHybridResultsSize(topDocs)];
+            int index = 0;
+            scoreDocs[index++] = createStartStopElementForHybridSearchResults(delimiterDocId);
             for (TopDocs topDoc : topDocs) {
+                scoreDocs[index++] = createDelimiterElementForHybridSearchResults(delimiterDocId);
                 if (Objects.isNull(topDoc) || Objects.isNull(topDoc.scoreDocs)) {
-                    result.add(createDelimiterElementForHybridSearchResults(delimiterDocId));
                     continue;
                 }
-                result.add(createDelimiterElementForHybridSearchResults(delimiterDocId));
-                result.addAll(Arrays.asList(topDoc.scoreDocs));
+                for (ScoreDoc scoreDoc : topDoc.scoreDocs) {
+                    scoreDocs[index++] = new ScoreDoc(scoreDoc.doc, scoreDoc.score, scoreDoc.shardIndex);
+                }
             }
-            result.add(createStartStopElementForHybridSearchResults(delimiterDocId));
-            scoreDocs = result.stream().map(doc -> new ScoreDoc(doc.doc, doc.score, doc.shardIndex)).toArray(ScoreDoc[]::new);
+            scoreDocs[index] = createStartStopElementForHybridSearchResults(delimiterDocId);
         }
         return new TopDocs(totalHits, scoreDocs);
     }
 
+    /**
+     * Gets size of hybrid query results in the format with start-stop elements and a delimiter per sub-query
+     * @param topDocs top docs of sub-queries
+     * @return number of elements in the formatted results
+     */
+    private static int getHybridResultsSize(final List<? extends TopDocs> topDocs) {
+        int size = 2 + topDocs.size();
+        for (TopDocs topDoc : topDocs) {
+            if (Objects.nonNull(topDoc) && Objects.nonNull(topDoc.scoreDocs)) {
+                size += topDoc.scoreDocs.length;
+            }
+        }
+        return size;
+    }
+
     private TotalHits getTotalHits(int trackTotalHitsUpTo, final List<?> topDocs, final long maxTotalHits) {
         final Relation relation = trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED
             ? Relation.GREATER_THAN_OR_EQUAL_TO
@@ -414,24 +429,20 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
         // ...
         // doc_id | magic_number_1 | [1,1.0f]
         final Object[] sortFieldsForDelimiterResults = createSortFieldsForDelimiterResults(sortFields);
-        List<FieldDoc> result = new ArrayList<>();
-        result.add(createFieldDocStartStopElementForHybridSearchResults(delimiterDocId, sortFieldsForDelimiterResults));
+        // result is written directly into an array presized for start-stop elements, delimiters and all hits
+        FieldDoc[] fieldDocs = new FieldDoc[getHybridResultsSize(topFieldDocs)];
+        int index = 0;
+        fieldDocs[index++] = createFieldDocStartStopElementForHybridSearchResults(delimiterDocId, sortFieldsForDelimiterResults);
         for (TopFieldDocs topFieldDoc : topFieldDocs) {
+            fieldDocs[index++] = createFieldDocDelimiterElementForHybridSearchResults(delimiterDocId, sortFieldsForDelimiterResults);
             if (Objects.isNull(topFieldDoc) || Objects.isNull(topFieldDoc.scoreDocs)) {
-                result.add(createFieldDocDelimiterElementForHybridSearchResults(delimiterDocId, sortFieldsForDelimiterResults));
                 continue;
             }
-
-            List<FieldDoc> fieldDocsPerQuery = new ArrayList<>();
             for (ScoreDoc scoreDoc : topFieldDoc.scoreDocs) {
-                fieldDocsPerQuery.add((FieldDoc) scoreDoc);
+                fieldDocs[index++] = (FieldDoc) scoreDoc;
             }
-            result.add(createFieldDocDelimiterElementForHybridSearchResults(delimiterDocId, sortFieldsForDelimiterResults));
-            result.addAll(fieldDocsPerQuery);
         }
-        result.add(createFieldDocStartStopElementForHybridSearchResults(delimiterDocId, sortFieldsForDelimiterResults));
-
-        FieldDoc[] fieldDocs = result.toArray(new FieldDoc[0]);
+        fieldDocs[index] = createFieldDocStartStopElementForHybridSearchResults(delimiterDocId, sortFieldsForDelimiterResults);
 
         return new TopFieldDocs(totalHits, fieldDocs, sortFields);
     }
@@ -442,40 +453,19 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
 
     private void reduceCollectorResults(
         final QuerySearchResult result,
-        final TopDocsAndMaxScore topDocsAndMaxScore,
+        final List<TopDocsAndMaxScore> topDocsAndMaxScores,
         final DocValueFormat[] docValueFormats
     ) {
-        // this is case of first collector, query result object doesn't have any top docs set, so we can
-        // just set new top docs without merge
-        // this call is effectively checking if QuerySearchResult.topDoc is null. using it in such way because
-        // getter throws exception in case topDocs is null
-        if (result.hasConsumedTopDocs()) {
-            result.topDocs(topDocsAndMaxScore, docValueFormats);
-            return;
-        }
-        // in this case top docs are already present in result, and we need to merge next result object with what we have.
-        // if collector doesn't have any hits we can just skip it and save some cycles by not doing merge
-        if (topDocsAndMaxScore.topDocs.totalHits.value() == 0) {
-            return;
-        }
-        // we need to do actual merge because query result and current collector both have some score hits
-        TopDocsAndMaxScore originalTotalDocsAndHits = result.topDocs();
-        TopDocsAndMaxScore mergeTopDocsAndMaxScores = topDocsMerger.merge(originalTotalDocsAndHits, topDocsAndMaxScore);
-        result.topDocs(mergeTopDocsAndMaxScores, docValueFormats);
-    }
-
-    /**
-     * For collection of search results, return a single one that has results from all individual result objects.
-     * @param results collection of search results
-     * @return single search result that represents all results as one object
-     */
-    private ReduceableSearchResult reduceSearchResults(final List<ReduceableSearchResult> results) {
-        return (result) -> {
-            for (ReduceableSearchResult r : results) {
-                // call reduce for results of each single collector, this will update top docs in query result
-                r.reduce(result);
-            }
-        };
+        // results of all collectors are merged in one pass, so results of concurrent search slices are not copied again
+        // for every next slice. If query result already has top docs set, they are merged together with results of collectors.
+        // Checking if QuerySearchResult.topDoc is null with hasConsumedTopDocs because getter throws exception in case
+        // topDocs is null
+        List<TopDocsAndMaxScore> results = new ArrayList<>(topDocsAndMaxScores.size() + 1);
+        if (result.hasConsumedTopDocs() == false) {
+            results.add(result.topDocs());
+        }
+        results.addAll(topDocsAndMaxScores);
+        result.topDocs(topDocsMerger.merge(results), docValueFormats);
     }
 
     /**
@@ -10,6 +10,7 @@ import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.ScoreDoc;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -17,7 +18,7 @@ import java.util.Objects;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryScoreDocElement;
 
 /**
- * Merges two ScoreDoc arrays into one
+ * Merges ScoreDoc arrays of hybrid query results into one
  */
 @NoArgsConstructor(access = AccessLevel.PACKAGE)
 class HybridQueryScoreDocsMerger<T extends ScoreDoc> {
@@ -37,7 +38,24 @@ class HybridQueryScoreDocsMerger<T extends ScoreDoc> {
      * @return merged array of ScoreDocs objects
      */
     public T[] merge(final T[] sourceScoreDocs, final T[] newScoreDocs, final Comparator<T> comparator, final boolean isSortEnabled) {
-        // The length of sourceScoreDocs or newScoreDocs can be 0 in the following conditions
+        return merge(Arrays.asList(sourceScoreDocs, newScoreDocs), comparator, isSortEnabled);
+    }
+
+    /**
+     * Merge any number of score docs objects in one pass, result ScoreDocs[] object will have all hits per sub-query from all
+     * original objects. Hits of every sub-query are merged with a heap over the heads of all objects, so merging results of
+     * many concurrent search slices doesn't copy hits of earlier slices again for every next slice. Hits that compare equal
+     * are ordered the same way as merging the objects pairwise from first to last.
+     * Input and output ScoreDocs are in format that is specific to Hybrid Query, the start-stop and delimiter elements
+     * of the first object are used for the result.
+     * Method returns new object and doesn't mutate original ScoreDocs arrays.
+     * @param scoreDocsList score docs from query results, in order of collection
+     * @param comparator comparator to compare the score docs
+     * @param isSortEnabled flag that show if sort is enabled or disabled
+     * @return merged array of ScoreDocs objects
+     */
+    public T[] merge(final List<T[]> scoreDocsList, final Comparator<T> comparator, final boolean isSortEnabled) {
+        // The length of score docs can be 0 in the following conditions
         // 1. When concurrent segment search is enabled then there can be multiple collector instances that can have search results.
         // 2. The total hits count of every collector instance represent the actual count of search results present in the shard
         // irrespective of pagination.
@@ -46,72 +64,171 @@ class HybridQueryScoreDocsMerger<T extends ScoreDoc> {
         // then the newTopFieldDocs method in the HybridCollectorManager will set the fieldDocs as TopFieldDocs(totalHits, new FieldDoc[0],
         // sortFields).
         // In this case the size of fieldDocs is 0 with no delimiters.
-        if (Objects.requireNonNull(sourceScoreDocs, "score docs cannot be null").length == 0) {
-            return newScoreDocs;
+        List<T[]> inputs = new ArrayList<>(scoreDocsList.size());
+        for (T[] scoreDocs : scoreDocsList) {
+            if (Objects.requireNonNull(scoreDocs, "score docs cannot be null").length > 0) {
+                inputs.add(scoreDocs);
+            }
+        }
+        if (inputs.isEmpty()) {
+            return scoreDocsList.getFirst();
+        }
+        if (inputs.size() == 1) {
+            return inputs.getFirst();
         }
-        if (Objects.requireNonNull(newScoreDocs, "score docs cannot be null").length == 0) {
-            return sourceScoreDocs;
+        for (T[] scoreDocs : inputs) {
+            if (scoreDocs.length < MIN_NUMBER_OF_ELEMENTS_IN_SCORE_DOC) {
+                throw new IllegalArgumentException("cannot merge top docs because it does not have enough elements");
+            }
+        }
+        final int numOfInputs = inputs.size();
+        // positions of the sub-query delimiters in every input, the last position is the stop element
+        final int[][] delimiters = new int[numOfInputs][];
+        int numOfSubQueries = Integer.MAX_VALUE;
+        for (int i = 0; i < numOfInputs; i++) {
+            delimiters[i] = findDelimiters(inputs.get(i));
+            numOfSubQueries = Math.min(numOfSubQueries, delimiters[i].length - 1);
         }
-        if (sourceScoreDocs.length < MIN_NUMBER_OF_ELEMENTS_IN_SCORE_DOC || newScoreDocs.length < MIN_NUMBER_OF_ELEMENTS_IN_SCORE_DOC) {
-            throw new IllegalArgumentException("cannot merge top docs because it does not have enough elements");
+        // presize the result: start and stop elements, one delimiter per sub-query and hits of all sub-queries
+        int size = 2 + numOfSubQueries;
+        for (int i = 0; i < numOfInputs; i++) {
+            size += delimiters[i][numOfSubQueries] - delimiters[i][0] - numOfSubQueries;
         }
-        // we overshoot and preallocate more than we need - length of both top docs combined.
-        // we will take only portion of the array at the end
-        List<T> mergedScoreDocs = new ArrayList<>(sourceScoreDocs.length + newScoreDocs.length);
-        int sourcePointer = 0;
+        final T[] first = inputs.getFirst();
+        final T[] mergedScoreDocs = newArray(size, isSortEnabled);
+        int mergedPointer = 0;
         // mark beginning of hybrid query results by start element
-        mergedScoreDocs.add(sourceScoreDocs[sourcePointer]);
-        sourcePointer++;
-        // new pointer is set to 1 as we don't care about it start-stop element
-        int newPointer = 1;
+        mergedScoreDocs[mergedPointer++] = first[0];
 
-        while (sourcePointer < sourceScoreDocs.length - 1 && newPointer < newScoreDocs.length - 1) {
+        final int[] pointers = new int[numOfInputs];
+        final int[] ends = new int[numOfInputs];
+        final int[] heap = new int[numOfInputs];
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
             // every iteration is for results of one sub-query
-            mergedScoreDocs.add(sourceScoreDocs[sourcePointer]);
-            sourcePointer++;
-            newPointer++;
-            // simplest case when both arrays have results for sub-query
-            while (sourcePointer < sourceScoreDocs.length
-                && isHybridQueryScoreDocElement(sourceScoreDocs[sourcePointer])
-                && newPointer < newScoreDocs.length
-                && isHybridQueryScoreDocElement(newScoreDocs[newPointer])) {
-                if (compareCondition(sourceScoreDocs[sourcePointer], newScoreDocs[newPointer], comparator, isSortEnabled)) {
-                    mergedScoreDocs.add(sourceScoreDocs[sourcePointer]);
-                    sourcePointer++;
-                } else {
-                    mergedScoreDocs.add(newScoreDocs[newPointer]);
-                    newPointer++;
+            mergedScoreDocs[mergedPointer++] = first[delimiters[0][subQueryIndex]];
+            int heapSize = 0;
+            for (int i = 0; i < numOfInputs; i++) {
+                pointers[i] = delimiters[i][subQueryIndex] + 1;
+                ends[i] = delimiters[i][subQueryIndex + 1];
+                if (pointers[i] < ends[i]) {
+                    heap[heapSize] = i;
+                    upHeap(heap, heapSize++, inputs, pointers, comparator, isSortEnabled);
                 }
             }
-            // at least one object got exhausted at this point, now merge all elements from object that's left
-            while (sourcePointer < sourceScoreDocs.length && isHybridQueryScoreDocElement(sourceScoreDocs[sourcePointer])) {
-                mergedScoreDocs.add(sourceScoreDocs[sourcePointer]);
-                sourcePointer++;
-            }
-            while (newPointer < newScoreDocs.length && isHybridQueryScoreDocElement(newScoreDocs[newPointer])) {
-                mergedScoreDocs.add(newScoreDocs[newPointer]);
-                newPointer++;
+            while (heapSize > 0) {
+                final int top = heap[0];
+                mergedScoreDocs[mergedPointer++] = inputs.get(top)[pointers[top]++];
+                if (pointers[top] == ends[top]) {
+                    heap[0] = heap[--heapSize];
+                }
+                downHeap(heap, heapSize, inputs, pointers, comparator, isSortEnabled);
             }
         }
         // mark end of hybrid query results by end element
-        mergedScoreDocs.add(sourceScoreDocs[sourceScoreDocs.length - 1]);
+        mergedScoreDocs[mergedPointer] = first[first.length - 1];
+        return mergedScoreDocs;
+    }
+
+    /**
+     * Finds positions of the sub-query delimiters in the score docs, the last position is the stop element
+     */
+    private int[] findDelimiters(final T[] scoreDocs) {
+        int numOfDelimiters = 0;
+        for (int i = 1; i < scoreDocs.length - 1; i++) {
+            if (isHybridQueryScoreDocElement(scoreDocs[i]) == false) {
+                numOfDelimiters++;
+            }
+        }
+        int[] delimiters = new int[numOfDelimiters + 1];
+        int delimiterIndex = 0;
+        for (int i = 1; i < scoreDocs.length - 1; i++) {
+            if (isHybridQueryScoreDocElement(scoreDocs[i]) == false) {
+                delimiters[delimiterIndex++] = i;
+            }
+        }
+        delimiters[numOfDelimiters] = scoreDocs.length - 1;
+        return delimiters;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] newArray(final int size, final boolean isSortEnabled) {
         if (isSortEnabled) {
-            return mergedScoreDocs.toArray((T[]) new FieldDoc[0]);
+            return (T[]) new FieldDoc[size];
+        }
+        return (T[]) new ScoreDoc[size];
+    }
+
+    private void upHeap(
+        final int[] heap,
+        int i,
+        final List<T[]> inputs,
+        final int[] pointers,
+        final Comparator<T> comparator,
+        final boolean isSortEnabled
+    ) {
+        final int input = heap[i];
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (comesFirst(input, heap[parent], inputs, pointers, comparator, isSortEnabled) == false) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = input;
+    }
+
+    private void downHeap(
+        final int[] heap,
+        final int heapSize,
+        final List<T[]> inputs,
+        final int[] pointers,
+        final Comparator<T> comparator,
+        final boolean isSortEnabled
+    ) {
+        if (heapSize == 0) {
+            return;
         }
-        return mergedScoreDocs.toArray((T[]) new ScoreDoc[0]);
+        int i = 0;
+        final int input = heap[0];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            final int right = child + 1;
+            if (right < heapSize && comesFirst(heap[right], heap[child], inputs, pointers, comparator, isSortEnabled)) {
+                child = right;
+            }
+            if (comesFirst(heap[child], input, inputs, pointers, comparator, isSortEnabled) == false) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = input;
     }
 
-    private boolean compareCondition(
-        final ScoreDoc oldScoreDoc,
-        final ScoreDoc secondScoreDoc,
+    /**
+     * Checks if the current hit of the first input goes to the merged results before the current hit of the second input
+     */
+    private boolean comesFirst(
+        final int firstInput,
+        final int secondInput,
+        final List<T[]> inputs,
+        final int[] pointers,
         final Comparator<T> comparator,
         final boolean isSortEnabled
     ) {
+        final T first = inputs.get(firstInput)[pointers[firstInput]];
+        final T second = inputs.get(secondInput)[pointers[secondInput]];
+        final int comparison = comparator.compare(first, second);
         // If sorting is enabled then compare condition will be different then normal HybridQuery
         if (isSortEnabled) {
-            return comparator.compare((T) oldScoreDoc, (T) secondScoreDoc) < 0;
-        } else {
-            return comparator.compare((T) oldScoreDoc, (T) secondScoreDoc) >= 0;
+            // equal hits are taken from the later input first
+            return comparison < 0 || (comparison == 0 && firstInput > secondInput);
         }
+        // equal hits are taken from the earlier input first
+        return comparison > 0 || (comparison == 0 && firstInput < secondInput);
     }
 }
@@ -14,7 +14,10 @@ import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import org.opensearch.search.sort.SortAndFormats;
 
@@ -55,21 +58,38 @@ class TopDocsMerger {
      * @return merged TopDocsAndMaxScore object
      */
     public TopDocsAndMaxScore merge(final TopDocsAndMaxScore source, final TopDocsAndMaxScore newTopDocs) {
-        // we need to check if any of source and destination top docs are empty. This is needed for case when concurrent segment search
+        return merge(Arrays.asList(source, newTopDocs));
+    }
+
+    /**
+     * Merge TopDocs and MaxScore from any number of search queries into a single TopDocsAndMaxScore object in one pass.
+     * @param topDocsAndMaxScores TopDocsAndMaxScore objects in order of collection
+     * @return merged TopDocsAndMaxScore object, or the first object if all of them are empty
+     */
+    public TopDocsAndMaxScore merge(final List<TopDocsAndMaxScore> topDocsAndMaxScores) {
+        // we need to check if any of top docs are empty. This is needed for case when concurrent segment search
         // is enabled. In such case search is done by multiple workers, and results are saved in multiple doc collectors. Any on those
-        // results can be empty, in such case we can skip actual merge logic and just return result object.
-        if (isEmpty(newTopDocs)) {
-            return source;
+        // results can be empty, in such case we can skip them and if only one is left just return that result object.
+        List<TopDocsAndMaxScore> nonEmptyTopDocs = new ArrayList<>(topDocsAndMaxScores.size());
+        for (TopDocsAndMaxScore topDocsAndMaxScore : topDocsAndMaxScores) {
+            if (isEmpty(topDocsAndMaxScore) == false) {
+                nonEmptyTopDocs.add(topDocsAndMaxScore);
+            }
         }
-        if (isEmpty(source)) {
-            return newTopDocs;
+        if (nonEmptyTopDocs.isEmpty()) {
+            return topDocsAndMaxScores.isEmpty() ? null : topDocsAndMaxScores.getFirst();
         }
-        TotalHits mergedTotalHits = getMergedTotalHits(source, newTopDocs);
-        TopDocsAndMaxScore result = new TopDocsAndMaxScore(
-            getTopDocs(getMergedScoreDocs(source.topDocs.scoreDocs, newTopDocs.topDocs.scoreDocs), mergedTotalHits),
-            Math.max(source.maxScore, newTopDocs.maxScore)
-        );
-        return result;
+        if (nonEmptyTopDocs.size() == 1) {
+            return nonEmptyTopDocs.getFirst();
+        }
+        TotalHits mergedTotalHits = getMergedTotalHits(nonEmptyTopDocs);
+        List<ScoreDoc[]> scoreDocs = new ArrayList<>(nonEmptyTopDocs.size());
+        float maxScore = Float.NEGATIVE_INFINITY;
+        for (TopDocsAndMaxScore topDocsAndMaxScore : nonEmptyTopDocs) {
+            scoreDocs.add(topDocsAndMaxScore.topDocs.scoreDocs);
+            maxScore = Math.max(maxScore, topDocsAndMaxScore.maxScore);
+        }
+        return new TopDocsAndMaxScore(getTopDocs(getMergedScoreDocs(scoreDocs), mergedTotalHits), maxScore);
     }
 
     /**
@@ -86,14 +106,18 @@ class TopDocsMerger {
         return false;
     }
 
-    private TotalHits getMergedTotalHits(final TopDocsAndMaxScore source, final TopDocsAndMaxScore newTopDocs) {
-        // merged value is a lower bound - if both are equal_to than merged will also be equal_to,
+    private TotalHits getMergedTotalHits(final List<TopDocsAndMaxScore> topDocsAndMaxScores) {
+        // merged value is a lower bound - if all are equal_to than merged will also be equal_to,
         // otherwise assign greater_than_or_equal
-        TotalHits.Relation mergedHitsRelation = source.topDocs.totalHits.relation() == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO
-            || newTopDocs.topDocs.totalHits.relation() == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO
-                ? TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO
-                : TotalHits.Relation.EQUAL_TO;
-        return new TotalHits(source.topDocs.totalHits.value() + newTopDocs.topDocs.totalHits.value(), mergedHitsRelation);
+        long mergedHitsValue = 0;
+        TotalHits.Relation mergedHitsRelation = TotalHits.Relation.EQUAL_TO;
+        for (TopDocsAndMaxScore topDocsAndMaxScore : topDocsAndMaxScores) {
+            mergedHitsValue += topDocsAndMaxScore.topDocs.totalHits.value();
+            if (topDocsAndMaxScore.topDocs.totalHits.relation() == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO) {
+                mergedHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+            }
+        }
+        return new TotalHits(mergedHitsValue, mergedHitsRelation);
     }
 
     private TopDocs getTopDocs(ScoreDoc[] mergedScoreDocs, TotalHits mergedTotalHits) {
@@ -103,10 +127,10 @@ class TopDocsMerger {
         return new TopDocs(mergedTotalHits, mergedScoreDocs);
     }
 
-    private ScoreDoc[] getMergedScoreDocs(ScoreDoc[] source, ScoreDoc[] newScoreDocs) {
+    private ScoreDoc[] getMergedScoreDocs(List<ScoreDoc[]> scoreDocs) {
         // Case 1 when sorting is enabled then below will be the TopDocs format
         // we need to merge hits per individual sub-query
-        // format of results in both new and source TopDocs is following
+        // format of results in all TopDocs is following
         // doc_id | magic_number_1 | [1]
         // doc_id | magic_number_2 | [1]
         // ...
@@ -118,7 +142,7 @@ class TopDocsMerger {
 
         // Case 2 when sorting is disabled then below will be the TopDocs format
         // we need to merge hits per individual sub-query
-        // format of results in both new and source TopDocs is following
+        // format of results in all TopDocs is following
         // doc_id | magic_number_1
         // doc_id | magic_number_2
         // ...
@@ -127,7 +151,7 @@ class TopDocsMerger {
         // doc_id | magic_number_2
         // ...
         // doc_id | magic_number_1
-        return docsMerger.merge(source, newScoreDocs, comparator(), isSortingEnabled());
+        return docsMerger.merge(scoreDocs, comparator(), isSortingEnabled());
     }
 
     private Comparator<? extends ScoreDoc> comparator() {
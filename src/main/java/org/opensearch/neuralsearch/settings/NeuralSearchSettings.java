@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.settings;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -35,4 +36,218 @@ public final class NeuralSearchSettings {
         Setting.Property.NodeScope,
         Setting.Property.Dynamic
     );
+
+    /**
+     * Enables or disables the node-local cache of query embeddings used by the neural query.
+     */
+    public static final Setting<Boolean> QUERY_EMBEDDING_CACHE_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.query_embedding_cache.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of query embeddings kept in the node-local cache.
+     */
+    public static final Setting<Integer> QUERY_EMBEDDING_CACHE_MAX_ENTRIES = Setting.intSetting(
+        "plugins.neural_search.query_embedding_cache.max_entries",
+        10_000,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Time to live of a query embedding in the node-local cache.
+     */
+    public static final Setting<TimeValue> QUERY_EMBEDDING_CACHE_EXPIRE_AFTER = Setting.timeSetting(
+        "plugins.neural_search.query_embedding_cache.expire_after",
+        TimeValue.timeValueMinutes(10),
+        TimeValue.timeValueSeconds(1),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Enables or disables the node-local cache of query tokens used by the neural sparse query.
+     */
+    public static final Setting<Boolean> SPARSE_QUERY_TOKENS_CACHE_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.sparse_query_tokens_cache.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of query token maps kept in the node-local cache.
+     */
+    public static final Setting<Integer> SPARSE_QUERY_TOKENS_CACHE_MAX_ENTRIES = Setting.intSetting(
+        "plugins.neural_search.sparse_query_tokens_cache.max_entries",
+        10_000,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Time to live of a query token map in the node-local cache.
+     */
+    public static final Setting<TimeValue> SPARSE_QUERY_TOKENS_CACHE_EXPIRE_AFTER = Setting.timeSetting(
+        "plugins.neural_search.sparse_query_tokens_cache.expire_after",
+        TimeValue.timeValueMinutes(10),
+        TimeValue.timeValueSeconds(1),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Enables or disables coalescing of concurrent identical inference calls into a single call to the model.
+     */
+    public static final Setting<Boolean> INFERENCE_REQUEST_COALESCING_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.inference_request_coalescing.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables micro-batching of single-input inference calls, which merges concurrent query-time calls to the
+     * same model into one multi-input call.
+     */
+    public static final Setting<Boolean> INFERENCE_MICRO_BATCHING_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.inference_micro_batching.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum time an inference call waits for other calls to join its batch.
+     */
+    public static final Setting<TimeValue> INFERENCE_MICRO_BATCHING_WINDOW = Setting.timeSetting(
+        "plugins.neural_search.inference_micro_batching.window",
+        TimeValue.timeValueMillis(2),
+        TimeValue.timeValueMillis(0),
+        TimeValue.timeValueSeconds(1),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of inference calls merged into one batch, a full batch is sent without waiting for the window.
+     */
+    public static final Setting<Integer> INFERENCE_MICRO_BATCHING_MAX_BATCH_SIZE = Setting.intSetting(
+        "plugins.neural_search.inference_micro_batching.max_batch_size",
+        16,
+        1,
+        1024,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables the adaptive limit of in-flight inference calls per model.
+     */
+    public static final Setting<Boolean> INFERENCE_CONCURRENCY_LIMIT_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.inference_concurrency_limit.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of inference calls per model waiting for the concurrency limit, calls beyond it are rejected.
+     */
+    public static final Setting<Integer> INFERENCE_CONCURRENCY_LIMIT_MAX_QUEUE_SIZE = Setting.intSetting(
+        "plugins.neural_search.inference_concurrency_limit.max_queue_size",
+        1000,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables the node-local cache of inference results used by the text embedding and sparse encoding
+     * ingest processors.
+     */
+    public static final Setting<Boolean> INGEST_INFERENCE_CACHE_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.ingest_inference_cache.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of ingest inference results kept in the node-local cache.
+     */
+    public static final Setting<Integer> INGEST_INFERENCE_CACHE_MAX_ENTRIES = Setting.intSetting(
+        "plugins.neural_search.ingest_inference_cache.max_entries",
+        10_000,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Time to live of an ingest inference result in the node-local cache.
+     */
+    public static final Setting<TimeValue> INGEST_INFERENCE_CACHE_EXPIRE_AFTER = Setting.timeSetting(
+        "plugins.neural_search.ingest_inference_cache.expire_after",
+        TimeValue.timeValueHours(1),
+        TimeValue.timeValueSeconds(1),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Enables or disables scoring the sub-queries of a hybrid query in parallel, each sub-query as its own task on the
+     * hybrid query thread pool.
+     */
+    public static final Setting<Boolean> HYBRID_QUERY_PARALLEL_SUBQUERY_SCORING_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_query.parallel_subquery_scoring.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables running hybrid query tasks inline on the calling thread when the hybrid query thread pool is
+     * saturated, or when there are too few tasks to benefit from running them in parallel.
+     */
+    public static final Setting<Boolean> HYBRID_QUERY_EXECUTOR_ADAPTIVE_INLINE_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_query.executor.adaptive_inline.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Minimum number of tasks to run them on the hybrid query thread pool when adaptive inline mode is enabled, fewer
+     * tasks are run inline on the calling thread.
+     */
+    public static final Setting<Integer> HYBRID_QUERY_EXECUTOR_ADAPTIVE_INLINE_MIN_TASKS = Setting.intSetting(
+        "plugins.neural_search.hybrid_query.executor.adaptive_inline.min_tasks",
+        3,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables processing the results of each shard as its own task on the hybrid query thread pool when
+     * hybrid search results are normalized and combined on the coordinator node.
+     */
+    public static final Setting<Boolean> HYBRID_QUERY_PARALLEL_SHARD_RESULTS_PROCESSING_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_query.parallel_shard_results_processing.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Minimum number of candidate docs, summed over all shards and sub-queries, to process the results of each shard in
+     * parallel when parallel processing of shard results is enabled, results with fewer candidates are processed inline.
+     */
+    public static final Setting<Integer> HYBRID_QUERY_PARALLEL_SHARD_RESULTS_PROCESSING_MIN_CANDIDATES = Setting.intSetting(
+        "plugins.neural_search.hybrid_query.parallel_shard_results_processing.min_candidates",
+        10_000,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
 }
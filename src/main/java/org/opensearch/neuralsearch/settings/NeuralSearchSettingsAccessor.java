@@ -7,6 +7,7 @@ package org.opensearch.neuralsearch.settings;
 import lombok.Getter;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 
 /**
@@ -15,6 +16,34 @@ import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 public class NeuralSearchSettingsAccessor {
     @Getter
     private volatile boolean isStatsEnabled;
+    @Getter
+    private volatile boolean isQueryEmbeddingCacheEnabled;
+    @Getter
+    private volatile boolean isSparseQueryTokensCacheEnabled;
+    @Getter
+    private volatile boolean isInferenceRequestCoalescingEnabled;
+    @Getter
+    private volatile boolean isInferenceMicroBatchingEnabled;
+    @Getter
+    private volatile TimeValue inferenceMicroBatchingWindow;
+    @Getter
+    private volatile int inferenceMicroBatchingMaxBatchSize;
+    @Getter
+    private volatile boolean isInferenceConcurrencyLimitEnabled;
+    @Getter
+    private volatile int inferenceConcurrencyLimitMaxQueueSize;
+    @Getter
+    private volatile boolean isIngestInferenceCacheEnabled;
+    @Getter
+    private volatile boolean isHybridQueryParallelSubQueryScoringEnabled;
+    @Getter
+    private volatile boolean isHybridQueryExecutorAdaptiveInlineEnabled;
+    @Getter
+    private volatile int hybridQueryExecutorAdaptiveInlineMinTasks;
+    @Getter
+    private volatile boolean isHybridQueryParallelShardResultsProcessingEnabled;
+    @Getter
+    private volatile int hybridQueryParallelShardResultsProcessingMinCandidates;
 
     /**
      * Constructor, registers callbacks to update settings
@@ -23,6 +52,22 @@ public class NeuralSearchSettingsAccessor {
      */
     public NeuralSearchSettingsAccessor(ClusterService clusterService, Settings settings) {
         isStatsEnabled = NeuralSearchSettings.NEURAL_STATS_ENABLED.get(settings);
+        isQueryEmbeddingCacheEnabled = NeuralSearchSettings.QUERY_EMBEDDING_CACHE_ENABLED.get(settings);
+        isSparseQueryTokensCacheEnabled = NeuralSearchSettings.SPARSE_QUERY_TOKENS_CACHE_ENABLED.get(settings);
+        isInferenceRequestCoalescingEnabled = NeuralSearchSettings.INFERENCE_REQUEST_COALESCING_ENABLED.get(settings);
+        isInferenceMicroBatchingEnabled = NeuralSearchSettings.INFERENCE_MICRO_BATCHING_ENABLED.get(settings);
+        inferenceMicroBatchingWindow = NeuralSearchSettings.INFERENCE_MICRO_BATCHING_WINDOW.get(settings);
+        inferenceMicroBatchingMaxBatchSize = NeuralSearchSettings.INFERENCE_MICRO_BATCHING_MAX_BATCH_SIZE.get(settings);
+        isInferenceConcurrencyLimitEnabled = NeuralSearchSettings.INFERENCE_CONCURRENCY_LIMIT_ENABLED.get(settings);
+        inferenceConcurrencyLimitMaxQueueSize = NeuralSearchSettings.INFERENCE_CONCURRENCY_LIMIT_MAX_QUEUE_SIZE.get(settings);
+        isIngestInferenceCacheEnabled = NeuralSearchSettings.INGEST_INFERENCE_CACHE_ENABLED.get(settings);
+        isHybridQueryParallelSubQueryScoringEnabled = NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SUBQUERY_SCORING_ENABLED.get(settings);
+        isHybridQueryExecutorAdaptiveInlineEnabled = NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_ADAPTIVE_INLINE_ENABLED.get(settings);
+        hybridQueryExecutorAdaptiveInlineMinTasks = NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_ADAPTIVE_INLINE_MIN_TASKS.get(settings);
+        isHybridQueryParallelShardResultsProcessingEnabled = NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SHARD_RESULTS_PROCESSING_ENABLED
+            .get(settings);
+        hybridQueryParallelShardResultsProcessingMinCandidates =
+            NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SHARD_RESULTS_PROCESSING_MIN_CANDIDATES.get(settings);
         registerSettingsCallbacks(clusterService);
     }
 
@@ -34,5 +79,66 @@ public class NeuralSearchSettingsAccessor {
             }
             isStatsEnabled = value;
         });
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.QUERY_EMBEDDING_CACHE_ENABLED, value -> isQueryEmbeddingCacheEnabled = value);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.SPARSE_QUERY_TOKENS_CACHE_ENABLED,
+                value -> isSparseQueryTokensCacheEnabled = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.INFERENCE_REQUEST_COALESCING_ENABLED,
+                value -> isInferenceRequestCoalescingEnabled = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.INFERENCE_MICRO_BATCHING_ENABLED,
+                value -> isInferenceMicroBatchingEnabled = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.INFERENCE_MICRO_BATCHING_WINDOW, value -> inferenceMicroBatchingWindow = value);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.INFERENCE_MICRO_BATCHING_MAX_BATCH_SIZE,
+                value -> inferenceMicroBatchingMaxBatchSize = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.INFERENCE_CONCURRENCY_LIMIT_ENABLED,
+                value -> isInferenceConcurrencyLimitEnabled = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.INFERENCE_CONCURRENCY_LIMIT_MAX_QUEUE_SIZE,
+                value -> inferenceConcurrencyLimitMaxQueueSize = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.INGEST_INFERENCE_CACHE_ENABLED, value -> isIngestInferenceCacheEnabled = value);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SUBQUERY_SCORING_ENABLED,
+                value -> isHybridQueryParallelSubQueryScoringEnabled = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_ADAPTIVE_INLINE_ENABLED,
+                value -> isHybridQueryExecutorAdaptiveInlineEnabled = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_ADAPTIVE_INLINE_MIN_TASKS,
+                value -> hybridQueryExecutorAdaptiveInlineMinTasks = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SHARD_RESULTS_PROCESSING_ENABLED,
+                value -> isHybridQueryParallelShardResultsProcessingEnabled = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SHARD_RESULTS_PROCESSING_MIN_CANDIDATES,
+                value -> hybridQueryParallelShardResultsProcessingMinCandidates = value
+            );
     }
 }
@@ -27,6 +27,12 @@ public interface EventStat {
      */
     void increment();
 
+    /**
+     * Increments the stat by the given amount
+     * @param amount amount to add to the stat
+     */
+    void incrementBy(long amount);
+
     /**
      * Resets the stat value
      */
@@ -30,7 +30,96 @@ public enum EventStatName implements StatName {
         "semantic_highlighting_request_count",
         "semantic_highlighting",
         EventStatType.TIMESTAMPED_EVENT_COUNTER
-    );
+    ),
+    QUERY_EMBEDDING_CACHE_HITS("neural_query_embedding_cache_hits", "query.cache", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    QUERY_EMBEDDING_CACHE_MISSES("neural_query_embedding_cache_misses", "query.cache", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    QUERY_EMBEDDING_CACHE_EVICTIONS("neural_query_embedding_cache_evictions", "query.cache", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    SPARSE_QUERY_TOKENS_CACHE_HITS("neural_sparse_query_tokens_cache_hits", "query.cache", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    SPARSE_QUERY_TOKENS_CACHE_MISSES("neural_sparse_query_tokens_cache_misses", "query.cache", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    SPARSE_QUERY_TOKENS_CACHE_EVICTIONS(
+        "neural_sparse_query_tokens_cache_evictions",
+        "query.cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    INFERENCE_REQUESTS_COALESCED("inference_requests_coalesced", "ml_inference", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    INFERENCE_MICRO_BATCHES("inference_micro_batches", "ml_inference", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    INFERENCE_MICRO_BATCHED_REQUESTS("inference_micro_batched_requests", "ml_inference", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    INFERENCE_RETRIES("inference_retries", "ml_inference", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    INFERENCE_CALLS_SHORT_CIRCUITED("inference_calls_short_circuited", "ml_inference", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    INFERENCE_CALLS_QUEUED("inference_calls_queued", "ml_inference", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    INFERENCE_CALLS_REJECTED("inference_calls_rejected", "ml_inference", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    INFERENCE_CONCURRENCY_LIMIT_DECREASES(
+        "inference_concurrency_limit_decreases",
+        "ml_inference",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    INFERENCE_CONCURRENCY_LIMIT("inference_concurrency_limit", "ml_inference", EventStatType.GAUGE),
+    INFERENCE_CALLS_QUEUE_DEPTH("inference_calls_queue_depth", "ml_inference", EventStatType.GAUGE),
+    INGEST_INFERENCE_CACHE_HITS("ingest_inference_cache_hits", "processors.ingest.cache", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    INGEST_INFERENCE_CACHE_MISSES("ingest_inference_cache_misses", "processors.ingest.cache", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    INGEST_INFERENCE_CACHE_EVICTIONS(
+        "ingest_inference_cache_evictions",
+        "processors.ingest.cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_REWRITE_TASKS("hybrid_query_rewrite_tasks", "query.hybrid.executor", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    HYBRID_QUERY_REWRITE_QUEUE_WAIT_MICROS(
+        "hybrid_query_rewrite_queue_wait_micros",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_REWRITE_EXECUTION_MICROS(
+        "hybrid_query_rewrite_execution_micros",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_SCORER_SUPPLIER_TASKS(
+        "hybrid_query_scorer_supplier_tasks",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_SCORER_SUPPLIER_QUEUE_WAIT_MICROS(
+        "hybrid_query_scorer_supplier_queue_wait_micros",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_SCORER_SUPPLIER_EXECUTION_MICROS(
+        "hybrid_query_scorer_supplier_execution_micros",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_SUBQUERY_SCORING_TASKS(
+        "hybrid_query_subquery_scoring_tasks",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_SUBQUERY_SCORING_QUEUE_WAIT_MICROS(
+        "hybrid_query_subquery_scoring_queue_wait_micros",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_SUBQUERY_SCORING_EXECUTION_MICROS(
+        "hybrid_query_subquery_scoring_execution_micros",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_SHARD_RESULTS_TASKS(
+        "hybrid_query_shard_results_tasks",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_SHARD_RESULTS_QUEUE_WAIT_MICROS(
+        "hybrid_query_shard_results_queue_wait_micros",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_SHARD_RESULTS_EXECUTION_MICROS(
+        "hybrid_query_shard_results_execution_micros",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER
+    ),
+    HYBRID_QUERY_TASKS_RUN_INLINE("hybrid_query_tasks_run_inline", "query.hybrid.executor", EventStatType.TIMESTAMPED_EVENT_COUNTER),
+    HYBRID_QUERY_TASKS_REJECTED("hybrid_query_tasks_rejected", "query.hybrid.executor", EventStatType.TIMESTAMPED_EVENT_COUNTER);
 
     private final String nameString;
     private final String path;
@@ -58,6 +147,9 @@ public enum EventStatName implements StatName {
             case EventStatType.TIMESTAMPED_EVENT_COUNTER:
                 eventStat = new TimestampedEventStat(this);
                 break;
+            case EventStatType.GAUGE:
+                eventStat = new GaugeEventStat(this);
+                break;
         }
 
         // Validates all event stats are instantiated correctly. This is covered by unit tests as well.
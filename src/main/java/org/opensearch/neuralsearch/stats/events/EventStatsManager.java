@@ -10,7 +10,9 @@ import org.opensearch.neuralsearch.stats.common.StatSnapshot;
 
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 /**
  * Singleton manager class for event stats, used to increment and store event stat related data
@@ -43,6 +45,30 @@ public class EventStatsManager {
         instance().inc(eventStatName);
     }
 
+    /**
+     * Static helper to increment the counter for a specified event statistic on the singleton by the given amount
+     *
+     * @param eventStatName The name of the event stat to increment
+     * @param amount The amount to add to the counter
+     */
+    public static void incrementBy(EventStatName eventStatName, long amount) {
+        instance().incBy(eventStatName, amount);
+    }
+
+    /**
+     * Static helper to register the function reading the current value of a gauge event statistic
+     *
+     * @param eventStatName The name of the gauge event stat
+     * @param valueSupplier The function returning the current value of the gauge
+     */
+    public static void registerGauge(EventStatName eventStatName, LongSupplier valueSupplier) {
+        if (eventStatName.getEventStat() instanceof GaugeEventStat gaugeEventStat) {
+            gaugeEventStat.setValueSupplier(valueSupplier);
+        } else {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Event stat [%s] is not a gauge", eventStatName));
+        }
+    }
+
     /**
      * Initializes dependencies for the EventStats manager
      * @param settingsAccessor
@@ -62,6 +88,18 @@ public class EventStatsManager {
         }
     }
 
+    /**
+     *  Instance level method to increment the counter for a specified event statistic by the given amount.
+     *
+     * @param eventStatName The name of the event stat to increment
+     * @param amount The amount to add to the counter
+     */
+    public void incBy(EventStatName eventStatName, long amount) {
+        if (settingsAccessor.isStatsEnabled()) {
+            eventStatName.getEventStat().incrementBy(amount);
+        }
+    }
+
     /**
      * Retrieves snapshots of specified event statistics.
      *
@@ -72,7 +110,7 @@ public class EventStatsManager {
         // Filter stats based on passed in collection
         Map<EventStatName, TimestampedEventStatSnapshot> eventStatsDataMap = new HashMap<>();
         for (EventStatName statName : statsToRetrieve) {
-            if (statName.getStatType() == EventStatType.TIMESTAMPED_EVENT_COUNTER) {
+            if (statName.getStatType() == EventStatType.TIMESTAMPED_EVENT_COUNTER || statName.getStatType() == EventStatType.GAUGE) {
                 StatSnapshot<?> snapshot = statName.getEventStat().getStatSnapshot();
                 if (snapshot instanceof TimestampedEventStatSnapshot) {
                     // Get event data snapshot
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.stats.events;
+
+import lombok.NonNull;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Event stat holding the current value of a quantity of the node, e.g. the size of a queue. The value is read from the
+ * component owning the quantity when a snapshot is taken, so the stat cannot be incremented or reset.
+ */
+public class GaugeEventStat implements EventStat {
+    private final EventStatName statName;
+    private volatile LongSupplier valueSupplier = () -> 0L;
+
+    /**
+     * Constructor
+     * @param statName the associate stat name identifier
+     */
+    public GaugeEventStat(EventStatName statName) {
+        this.statName = statName;
+    }
+
+    /**
+     * Sets the function returning the current value of the gauge
+     * @param valueSupplier the function returning the current value
+     */
+    public void setValueSupplier(@NonNull LongSupplier valueSupplier) {
+        this.valueSupplier = valueSupplier;
+    }
+
+    /**
+     * Gets the current value of the gauge
+     * @return the current value, 0 if no value supplier is registered
+     */
+    public long getValue() {
+        return valueSupplier.getAsLong();
+    }
+
+    /**
+     * Gets the StatSnapshot for the current value of the gauge
+     * @return the snapshot
+     */
+    public TimestampedEventStatSnapshot getStatSnapshot() {
+        return TimestampedEventStatSnapshot.builder().statName(statName).value(getValue()).build();
+    }
+
+    /**
+     * Gauges are not incremented, their value is read from the registered value supplier. Incrementing a gauge is a bug
+     * of the caller, it trips an assertion in tests and is ignored otherwise, so it never fails a request.
+     */
+    public void increment() {
+        assert false : "Gauge event stat [" + statName + "] cannot be incremented";
+    }
+
+    /**
+     * Gauges are not incremented, their value is read from the registered value supplier. Incrementing a gauge is a bug
+     * of the caller, it trips an assertion in tests and is ignored otherwise, so it never fails a request.
+     * @param amount amount to add to the stat
+     */
+    public void incrementBy(long amount) {
+        assert false : "Gauge event stat [" + statName + "] cannot be incremented";
+    }
+
+    /**
+     * The value of a gauge reflects the current state of the node, so there is nothing to reset
+     */
+    public void reset() {}
+}
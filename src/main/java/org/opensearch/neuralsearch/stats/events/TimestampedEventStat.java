@@ -55,15 +55,24 @@ public class TimestampedEventStat implements EventStat {
      * Increments the counter
      */
     public void increment() {
-        totalCounter.increment();
+        incrementBy(1L);
+    }
+
+    /**
+     * Increments the counter by the given amount, e.g. to accumulate durations of events
+     * @param amount amount to add to the counter
+     */
+    public void incrementBy(long amount) {
+        totalCounter.add(amount);
         lastEventTimestamp = getCurrentTimeInMillis();
-        incrementCurrentBucket();
+        incrementCurrentBucket(amount);
     }
 
     /**
      * Helper to increment the current bucket based on system time
+     * @param amount amount to add to the bucket
      */
-    private void incrementCurrentBucket() {
+    private void incrementCurrentBucket(long amount) {
         long now = getCurrentTimeInMillis();
 
         // Align current time to current minute
@@ -79,7 +88,7 @@ public class TimestampedEventStat implements EventStat {
         if (bucketTimestamp != currentBucketTime && bucket.timestamp.compareAndSet(bucketTimestamp, currentBucketTime)) {
             bucket.count.reset();
         }
-        bucket.count.add(1);
+        bucket.count.add(amount);
     }
 
     /**
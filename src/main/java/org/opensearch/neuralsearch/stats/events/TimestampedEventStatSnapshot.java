@@ -133,8 +133,11 @@ public class TimestampedEventStatSnapshot implements Writeable, StatSnapshot<Lon
         builder.startObject();
         builder.field(StatSnapshot.VALUE_FIELD, value);
         builder.field(StatSnapshot.STAT_TYPE_FIELD, statName.getStatType().getTypeString());
-        builder.field(TRAILING_INTERVAL_KEY, trailingIntervalValue);
-        builder.field(MINUTES_SINCE_LAST_EVENT_KEY, minutesSinceLastEvent);
+        // a gauge holds the current value of a quantity, it has no events to track over time
+        if (statName.getStatType() != EventStatType.GAUGE) {
+            builder.field(TRAILING_INTERVAL_KEY, trailingIntervalValue);
+            builder.field(MINUTES_SINCE_LAST_EVENT_KEY, minutesSinceLastEvent);
+        }
         builder.endObject();
         return builder;
     }
@@ -8,7 +8,9 @@ import java.util.List;
 
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeDisconnectedException;
 import org.opensearch.transport.NodeNotConnectedException;
 
@@ -33,9 +35,44 @@ public class RetryUtil {
      * @param listener Listener to handle success or failure
      */
     public static void handleRetryOrFailure(Exception e, int retryTime, Runnable retryAction, ActionListener<?> listener) {
+        handleRetryOrFailure(e, retryTime, retryAction, listener, null);
+    }
+
+    /**
+     * Handle retry or failure based on the exception and retry time, scheduling the retry on the thread pool
+     * @param e Exception
+     * @param retryTime Retry time
+     * @param retryAction Action to retry
+     * @param listener Listener to handle success or failure
+     * @param threadPool Thread pool to schedule the retry, the current thread sleeps through the backoff if null
+     */
+    public static void handleRetryOrFailure(
+        Exception e,
+        int retryTime,
+        Runnable retryAction,
+        ActionListener<?> listener,
+        ThreadPool threadPool
+    ) {
         if (shouldRetry(e, retryTime)) {
-            long backoffTime = calculateBackoffTime(retryTime);
-            log.warn("Retrying connection for ML inference due to [{}] after [{}ms]", e.getMessage(), backoffTime, e);
+            scheduleRetry(e, retryTime, retryAction, listener, threadPool);
+        } else {
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Runs the retry action after the backoff time of the retry. The retry is scheduled on the generic thread pool so the
+     * thread that delivered the failure, which may be a transport or search thread, is not blocked.
+     * @param e Exception that caused the retry
+     * @param retryTime Retry time
+     * @param retryAction Action to retry
+     * @param listener Listener to notify if the retry cannot be executed
+     * @param threadPool Thread pool to schedule the retry, the current thread sleeps through the backoff if null
+     */
+    public static void scheduleRetry(Exception e, int retryTime, Runnable retryAction, ActionListener<?> listener, ThreadPool threadPool) {
+        long backoffTime = calculateBackoffTime(retryTime);
+        log.warn("Retrying connection for ML inference due to [{}] after [{}ms]", e.getMessage(), backoffTime, e);
+        if (threadPool == null) {
             try {
                 Thread.sleep(backoffTime);
             } catch (InterruptedException interruptedException) {
@@ -44,17 +81,39 @@ public class RetryUtil {
                 return;
             }
             retryAction.run();
-        } else {
+            return;
+        }
+        try {
+            threadPool.schedule(() -> {
+                try {
+                    retryAction.run();
+                } catch (Exception retryException) {
+                    listener.onFailure(retryException);
+                }
+            }, TimeValue.timeValueMillis(backoffTime), ThreadPool.Names.GENERIC);
+        } catch (Exception scheduleException) {
+            // the scheduler rejects tasks when the node is shutting down
             listener.onFailure(e);
         }
     }
 
-    private static boolean shouldRetry(final Exception e, int retryTime) {
+    /**
+     * Checks if the call should be retried
+     * @param e Exception of the call
+     * @param retryTime Retry time
+     * @return true if the exception is retryable and the retries are not exhausted
+     */
+    public static boolean shouldRetry(final Exception e, int retryTime) {
         return isRetryableException(e) && retryTime < DEFAULT_MAX_RETRY;
     }
 
-    private static boolean isRetryableException(final Exception e) {
-        return RETRYABLE_EXCEPTIONS.stream().anyMatch(x -> ExceptionUtils.indexOfThrowable(e, x) != -1);
+    /**
+     * Checks if the exception is caused by a lost connection to the node serving the call
+     * @param e Exception of the call
+     * @return true if the exception is retryable
+     */
+    public static boolean isRetryableException(final Exception e) {
+        return e != null && RETRYABLE_EXCEPTIONS.stream().anyMatch(x -> ExceptionUtils.indexOfThrowable(e, x) != -1);
     }
 
     private static long calculateBackoffTime(int retryTime) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.util.function.BooleanSupplier;
+
+import org.junit.Before;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InferenceResultCacheTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+    }
+
+    public void testGet_whenKeyCached_thenReturnValueAndCountHit() {
+        InferenceResultCache<QueryInferenceCacheKey, float[]> cache = createCache(10, () -> true);
+        QueryInferenceCacheKey key = QueryInferenceCacheKey.of(MODEL_ID, "hello world", null);
+        float[] vector = new float[] { 1.0f, 2.0f };
+
+        long hits = EventStatName.QUERY_EMBEDDING_CACHE_HITS.getEventStat().getValue();
+        long misses = EventStatName.QUERY_EMBEDDING_CACHE_MISSES.getEventStat().getValue();
+
+        assertNull(cache.get(key));
+        cache.put(key, vector);
+        assertArrayEquals(vector, cache.get(QueryInferenceCacheKey.of(MODEL_ID, "hello world", null)), 0.0f);
+
+        assertEquals(hits + 1, EventStatName.QUERY_EMBEDDING_CACHE_HITS.getEventStat().getValue());
+        assertEquals(misses + 1, EventStatName.QUERY_EMBEDDING_CACHE_MISSES.getEventStat().getValue());
+    }
+
+    public void testGet_whenDisabled_thenSkipCache() {
+        InferenceResultCache<QueryInferenceCacheKey, float[]> cache = createCache(10, () -> false);
+        QueryInferenceCacheKey key = QueryInferenceCacheKey.of(MODEL_ID, "hello world", null);
+
+        cache.put(key, new float[] { 1.0f });
+
+        assertFalse(cache.isEnabled());
+        assertEquals(0, cache.count());
+        assertNull(cache.get(key));
+    }
+
+    public void testPut_whenMaxEntriesExceeded_thenEvictAndCountEviction() {
+        InferenceResultCache<QueryInferenceCacheKey, float[]> cache = createCache(2, () -> true);
+        long evictions = EventStatName.QUERY_EMBEDDING_CACHE_EVICTIONS.getEventStat().getValue();
+
+        cache.put(QueryInferenceCacheKey.of(MODEL_ID, "text1", null), new float[] { 1.0f });
+        cache.put(QueryInferenceCacheKey.of(MODEL_ID, "text2", null), new float[] { 2.0f });
+        cache.put(QueryInferenceCacheKey.of(MODEL_ID, "text3", null), new float[] { 3.0f });
+
+        assertEquals(2, cache.count());
+        assertEquals(evictions + 1, EventStatName.QUERY_EMBEDDING_CACHE_EVICTIONS.getEventStat().getValue());
+    }
+
+    public void testOnEnabledSettingUpdate_whenTurnedOff_thenDropEntries() {
+        InferenceResultCache<QueryInferenceCacheKey, float[]> cache = createCache(10, () -> true);
+        cache.put(QueryInferenceCacheKey.of(MODEL_ID, "text1", null), new float[] { 1.0f });
+        cache.put(QueryInferenceCacheKey.of(MODEL_ID, "text2", null), new float[] { 2.0f });
+
+        cache.onEnabledSettingUpdate(true);
+        assertEquals(2, cache.count());
+
+        cache.onEnabledSettingUpdate(false);
+        assertEquals(0, cache.count());
+    }
+
+    public void testKey_whenImageDiffers_thenKeysDiffer() {
+        QueryInferenceCacheKey key1 = QueryInferenceCacheKey.of(MODEL_ID, "text", "base64image1");
+        QueryInferenceCacheKey key2 = QueryInferenceCacheKey.of(MODEL_ID, "text", "base64image2");
+
+        assertNotEquals(key1, key2);
+        assertEquals(key1, QueryInferenceCacheKey.of(MODEL_ID, "text", "base64image1"));
+        assertNotEquals("base64image1", key1.getQueryImageHash());
+    }
+
+    private InferenceResultCache<QueryInferenceCacheKey, float[]> createCache(
+        long maxEntries,
+        BooleanSupplier enabledSupplier
+    ) {
+        return new InferenceResultCache<>(
+            maxEntries,
+            TimeValue.timeValueMinutes(10),
+            enabledSupplier,
+            EventStatName.QUERY_EMBEDDING_CACHE_HITS,
+            EventStatName.QUERY_EMBEDDING_CACHE_MISSES,
+            EventStatName.QUERY_EMBEDDING_CACHE_EVICTIONS
+        );
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.util.Map;
+
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.neuralsearch.util.prune.PruneType;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SparseQueryTokensTests extends OpenSearchTestCase {
+
+    public void testGetSplitQueryTokens_whenCalledTwice_thenReuseSplit() {
+        SparseQueryTokens sparseQueryTokens = new SparseQueryTokens(Map.of("a", 1f, "b", 5f, "c", 4f));
+
+        Tuple<Map<String, Float>, Map<String, Float>> split = sparseQueryTokens.getSplitQueryTokens(PruneType.ABS_VALUE, 3f);
+
+        assertEquals(Map.of("b", 5f, "c", 4f), split.v1());
+        assertEquals(Map.of("a", 1f), split.v2());
+        assertSame(split, sparseQueryTokens.getSplitQueryTokens(PruneType.ABS_VALUE, 3f));
+        assertNotSame(split, sparseQueryTokens.getSplitQueryTokens(PruneType.ABS_VALUE, 4.5f));
+    }
+
+    public void testGetQueryTokens_whenMutated_thenThrowException() {
+        SparseQueryTokens sparseQueryTokens = new SparseQueryTokens(Map.of("a", 1f));
+
+        assertEquals(Map.of("a", 1f), sparseQueryTokens.getQueryTokens());
+        expectThrows(UnsupportedOperationException.class, () -> sparseQueryTokens.getQueryTokens().put("b", 2f));
+        expectThrows(
+            UnsupportedOperationException.class,
+            () -> sparseQueryTokens.getSplitQueryTokens(PruneType.TOP_K, 1f).v2().put("b", 2f)
+        );
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.common;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FloatVectorTests extends OpenSearchTestCase {
+
+    public void testFromFloats_whenAllValuesAreFloats_thenVector() {
+        FloatVector vector = FloatVector.fromFloats(new Number[] { 1.3f, 2.5f, 3.5f });
+
+        assertNotNull(vector);
+        assertEquals(3, vector.size());
+        assertEquals(Float.valueOf(2.5f), vector.get(1));
+        assertEquals(3.5f, vector.getFloat(2), 0.0f);
+        assertArrayEquals(new float[] { 1.3f, 2.5f, 3.5f }, vector.toFloatArray(), 0.0f);
+    }
+
+    public void testFromFloats_whenValuesAreNotFloats_thenNull() {
+        assertNull(FloatVector.fromFloats(new Number[] { 1.3f, 2.5d }));
+        assertNull(FloatVector.fromFloats(new Number[] { 1, 2 }));
+    }
+
+    public void testEqualsAndHashCode_thenSameAsBoxedList() {
+        FloatVector vector = FloatVector.wrap(new float[] { 1.3f, -0.0f, Float.NaN });
+        List<Float> boxedList = Arrays.asList(1.3f, -0.0f, Float.NaN);
+
+        assertEquals(boxedList, vector);
+        assertEquals(vector, boxedList);
+        assertEquals(boxedList.hashCode(), vector.hashCode());
+        assertEquals(FloatVector.wrap(new float[] { 1.3f, -0.0f, Float.NaN }), vector);
+        assertNotEquals(FloatVector.wrap(new float[] { 1.3f, 0.0f, Float.NaN }), vector);
+        assertNotEquals(List.of(1.3d, -0.0d, Double.NaN), vector);
+    }
+
+    public void testModification_thenUnsupported() {
+        FloatVector vector = FloatVector.wrap(new float[] { 1.3f });
+
+        expectThrows(UnsupportedOperationException.class, () -> vector.add(2.5f));
+        expectThrows(UnsupportedOperationException.class, () -> vector.set(0, 2.5f));
+    }
+
+    public void testToFloatArray_thenCopy() {
+        FloatVector vector = FloatVector.wrap(new float[] { 1.3f });
+
+        vector.toFloatArray()[0] = 2.5f;
+
+        assertEquals(1.3f, vector.getFloat(0), 0.0f);
+    }
+}
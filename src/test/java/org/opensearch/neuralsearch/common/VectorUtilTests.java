@@ -4,8 +4,10 @@
  */
 package org.opensearch.neuralsearch.common;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -25,4 +27,25 @@ public class VectorUtilTests extends OpenSearchTestCase {
         assertEquals(0, vectorAsArray_withNoElements.length);
     }
 
+    @SuppressWarnings("unchecked")
+    public void testToSourceValue_whenFloatVector_thenMutableCopy() {
+        FloatVector vector = FloatVector.wrap(new float[] { 1.3f, 2.5f });
+
+        Object sourceValue = VectorUtil.toSourceValue(vector);
+
+        assertTrue(sourceValue instanceof ArrayList);
+        assertEquals(List.of(1.3f, 2.5f), sourceValue);
+        ((List<Float>) sourceValue).add(3.5f);
+        assertEquals(2, vector.size());
+    }
+
+    public void testToSourceValue_whenOtherResult_thenSameInstance() {
+        Map<String, Float> sparseVector = Map.of("hello", 1.0f);
+        List<Number> vector = new ArrayList<>(List.of(1.3d));
+
+        assertSame(sparseVector, VectorUtil.toSourceValue(sparseVector));
+        assertSame(vector, VectorUtil.toSourceValue(vector));
+        assertNull(VectorUtil.toSourceValue(null));
+    }
+
 }
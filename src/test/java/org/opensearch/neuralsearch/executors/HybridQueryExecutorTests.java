@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.Before;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class HybridQueryExecutorTests extends OpenSearchTestCase {
+    private static final HybridQueryTaskType TASK_TYPE = HybridQueryTaskType.SCORER_SUPPLIER;
+
+    private ThreadPool threadPool;
+    // the pool never runs the forked runnables, the calling thread runs every task, so only the forks are observable
+    private ThreadPoolExecutor executorService;
+    private NeuralSearchSettingsAccessor settingsAccessor;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        executorService = mock(ThreadPoolExecutor.class);
+        when(executorService.getMaximumPoolSize()).thenReturn(4);
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(anyString())).thenReturn(executorService);
+        settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.getHybridQueryExecutorAdaptiveInlineMinTasks()).thenReturn(3);
+    }
+
+    public void testInvokeAll_whenAdaptiveInlineDisabled_thenRunOnThreadPool() throws Exception {
+        try {
+            HybridQueryExecutor.initialize(threadPool, settingsAccessor);
+
+            assertEquals(List.of(1, 1), HybridQueryExecutor.invokeAll(TASK_TYPE, tasks(2)));
+
+            verify(executorService, times(1)).execute(any(Runnable.class));
+            assertEquals(0, EventStatName.HYBRID_QUERY_TASKS_RUN_INLINE.getEventStat().getValue());
+            assertEquals(2, TASK_TYPE.getTasksStatName().getEventStat().getValue());
+        } finally {
+            HybridQueryExecutor.initialize(threadPool);
+        }
+    }
+
+    public void testInvokeAll_whenAdaptiveInlineAndFewerTasksThanMinTasks_thenRunInline() throws Exception {
+        when(settingsAccessor.isHybridQueryExecutorAdaptiveInlineEnabled()).thenReturn(true);
+        try {
+            HybridQueryExecutor.initialize(threadPool, settingsAccessor);
+
+            assertEquals(List.of(1, 1), HybridQueryExecutor.invokeAll(TASK_TYPE, tasks(2)));
+
+            verify(executorService, never()).execute(any(Runnable.class));
+            assertEquals(2, EventStatName.HYBRID_QUERY_TASKS_RUN_INLINE.getEventStat().getValue());
+            assertEquals(2, TASK_TYPE.getTasksStatName().getEventStat().getValue());
+        } finally {
+            HybridQueryExecutor.initialize(threadPool);
+        }
+    }
+
+    public void testInvokeAll_whenAdaptiveInlineAndEnoughTasks_thenRunOnThreadPool() throws Exception {
+        when(settingsAccessor.isHybridQueryExecutorAdaptiveInlineEnabled()).thenReturn(true);
+        try {
+            HybridQueryExecutor.initialize(threadPool, settingsAccessor);
+
+            assertEquals(List.of(1, 1, 1), HybridQueryExecutor.invokeAll(TASK_TYPE, tasks(3)));
+
+            verify(executorService, times(2)).execute(any(Runnable.class));
+            assertEquals(0, EventStatName.HYBRID_QUERY_TASKS_RUN_INLINE.getEventStat().getValue());
+            assertEquals(3, TASK_TYPE.getTasksStatName().getEventStat().getValue());
+        } finally {
+            HybridQueryExecutor.initialize(threadPool);
+        }
+    }
+
+    public void testInvokeAll_whenAdaptiveInlineAndThreadPoolSaturated_thenRunInline() throws Exception {
+        when(settingsAccessor.isHybridQueryExecutorAdaptiveInlineEnabled()).thenReturn(true);
+        when(executorService.getActiveCount()).thenReturn(4);
+        try {
+            HybridQueryExecutor.initialize(threadPool, settingsAccessor);
+
+            assertEquals(List.of(1, 1, 1), HybridQueryExecutor.invokeAll(TASK_TYPE, tasks(3)));
+
+            verify(executorService, never()).execute(any(Runnable.class));
+            assertEquals(3, EventStatName.HYBRID_QUERY_TASKS_RUN_INLINE.getEventStat().getValue());
+            assertEquals(3, TASK_TYPE.getTasksStatName().getEventStat().getValue());
+        } finally {
+            HybridQueryExecutor.initialize(threadPool);
+        }
+    }
+
+    private static List<Callable<Integer>> tasks(final int numOfTasks) {
+        return Collections.nCopies(numOfTasks, () -> 1);
+    }
+}
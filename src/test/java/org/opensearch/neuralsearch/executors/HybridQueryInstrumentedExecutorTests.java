@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridQueryInstrumentedExecutorTests extends OpenSearchTestCase {
+    private AtomicInteger numOfRunTasks;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        numOfRunTasks = new AtomicInteger();
+    }
+
+    public void testExecute_whenAccepted_thenRunOnDelegate() {
+        HybridQueryInstrumentedExecutor executor = new HybridQueryInstrumentedExecutor(Runnable::run);
+
+        executor.execute(numOfRunTasks::incrementAndGet);
+
+        assertEquals(1, numOfRunTasks.get());
+        assertEquals(0, EventStatName.HYBRID_QUERY_TASKS_REJECTED.getEventStat().getValue());
+    }
+
+    public void testExecute_whenRejected_thenCountAndRethrow() {
+        Executor rejectingExecutor = mock(Executor.class);
+        doThrow(new OpenSearchRejectedExecutionException("queue is full")).when(rejectingExecutor).execute(any(Runnable.class));
+        HybridQueryInstrumentedExecutor executor = new HybridQueryInstrumentedExecutor(rejectingExecutor);
+
+        expectThrows(RejectedExecutionException.class, () -> executor.execute(numOfRunTasks::incrementAndGet));
+
+        assertEquals(0, numOfRunTasks.get());
+        assertEquals(1, EventStatName.HYBRID_QUERY_TASKS_REJECTED.getEventStat().getValue());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.search.TaskExecutor;
+import org.junit.Before;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridQueryInstrumentedTaskTests extends OpenSearchTestCase {
+    private static final HybridQueryTaskType TASK_TYPE = HybridQueryTaskType.SCORER_SUPPLIER;
+
+    private AtomicLong nanoTime;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        nanoTime = new AtomicLong();
+    }
+
+    public void testCall_whenTaskRunOnPool_thenRecordWaitAndExecutionTime() throws Exception {
+        List<Callable<Integer>> tasks = List.of(this::runFor50Micros);
+        Callable<Integer> task = HybridQueryExecutor.instrument(TASK_TYPE, tasks, nanoTime::get).getFirst();
+        // time spent in the queue of the pool
+        nanoTime.addAndGet(TimeUnit.MICROSECONDS.toNanos(30));
+
+        assertEquals(Integer.valueOf(1), task.call());
+
+        assertEquals(1, TASK_TYPE.getTasksStatName().getEventStat().getValue());
+        assertEquals(30, TASK_TYPE.getQueueWaitStatName().getEventStat().getValue());
+        assertEquals(50, TASK_TYPE.getExecutionStatName().getEventStat().getValue());
+        assertEquals(0, HybridQueryTaskType.REWRITE.getTasksStatName().getEventStat().getValue());
+    }
+
+    public void testInvokeAll_whenTasksRunOnCallingThread_thenRecordEveryTask() throws Exception {
+        // the pool never gets to the forked runnables, so the calling thread runs every task one after another
+        List<Runnable> forkedRunnables = new ArrayList<>();
+        TaskExecutor taskExecutor = new TaskExecutor(forkedRunnables::add);
+        List<Callable<Integer>> tasks = List.of(this::runFor50Micros, this::runFor50Micros, this::runFor50Micros);
+
+        List<Integer> results = taskExecutor.invokeAll(HybridQueryExecutor.instrument(TASK_TYPE, tasks, nanoTime::get));
+        forkedRunnables.forEach(Runnable::run);
+
+        assertEquals(List.of(1, 1, 1), results);
+        assertEquals(3, TASK_TYPE.getTasksStatName().getEventStat().getValue());
+        // each task waits for the tasks run before it
+        assertEquals(150, TASK_TYPE.getQueueWaitStatName().getEventStat().getValue());
+        assertEquals(150, TASK_TYPE.getExecutionStatName().getEventStat().getValue());
+    }
+
+    private Integer runFor50Micros() {
+        nanoTime.addAndGet(TimeUnit.MICROSECONDS.toNanos(50));
+        return 1;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.NodeNotConnectedException;
+
+public class InferenceCircuitBreakerTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final TimeValue OPEN_DURATION = TimeValue.timeValueSeconds(5);
+
+    private AtomicLong nanoTime;
+    private InferenceCircuitBreaker circuitBreaker;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        nanoTime = new AtomicLong();
+        circuitBreaker = new InferenceCircuitBreaker(FAILURE_THRESHOLD, OPEN_DURATION, nanoTime::get);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testTryAcquire_whenNoFailures_thenAllowCall() {
+        ActionListener<Object> listener = mock(ActionListener.class);
+
+        assertTrue(circuitBreaker.tryAcquire(MODEL_ID, listener));
+        assertTrue(circuitBreaker.tryAcquireRetry(MODEL_ID));
+        verifyNoInteractions(listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testTryAcquire_whenConsecutiveFailuresReachThreshold_thenShortCircuit() {
+        ActionListener<Object> listener = mock(ActionListener.class);
+        long shortCircuited = EventStatName.INFERENCE_CALLS_SHORT_CIRCUITED.getEventStat().getValue();
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertTrue(circuitBreaker.tryAcquire(MODEL_ID, listener));
+            circuitBreaker.onFailure(MODEL_ID, createConnectionFailure());
+        }
+
+        assertFalse(circuitBreaker.tryAcquire(MODEL_ID, listener));
+        verify(listener).onFailure(any(OpenSearchStatusException.class));
+        assertEquals(shortCircuited + 1, EventStatName.INFERENCE_CALLS_SHORT_CIRCUITED.getEventStat().getValue());
+        // other models are not affected
+        assertTrue(circuitBreaker.tryAcquire("other_model_id", listener));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testTryAcquire_whenOpenDurationPassed_thenAllowCallAndCloseOnSuccess() {
+        ActionListener<Object> listener = mock(ActionListener.class);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            circuitBreaker.onFailure(MODEL_ID, createConnectionFailure());
+        }
+        assertFalse(circuitBreaker.tryAcquire(MODEL_ID, listener));
+
+        nanoTime.addAndGet(OPEN_DURATION.nanos());
+        assertTrue(circuitBreaker.tryAcquire(MODEL_ID, listener));
+
+        // a failure of the trial call opens the breaker again
+        circuitBreaker.onFailure(MODEL_ID, createConnectionFailure());
+        assertFalse(circuitBreaker.tryAcquire(MODEL_ID, listener));
+
+        nanoTime.addAndGet(OPEN_DURATION.nanos());
+        circuitBreaker.onSuccess(MODEL_ID);
+        circuitBreaker.onFailure(MODEL_ID, createConnectionFailure());
+        assertTrue(circuitBreaker.tryAcquire(MODEL_ID, listener));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testOnFailure_whenNotConnectionFailure_thenIgnore() {
+        ActionListener<Object> listener = mock(ActionListener.class);
+
+        for (int i = 0; i < FAILURE_THRESHOLD * 2; i++) {
+            circuitBreaker.onFailure(MODEL_ID, new IllegalArgumentException("bad input"));
+        }
+
+        assertTrue(circuitBreaker.tryAcquire(MODEL_ID, listener));
+        assertTrue(circuitBreaker.tryAcquireRetry(MODEL_ID));
+    }
+
+    public void testTryAcquireRetry_whenRetryTokensExhausted_thenDenyRetryUntilRecovered() {
+        InferenceCircuitBreaker breaker = new InferenceCircuitBreaker(Integer.MAX_VALUE, OPEN_DURATION, nanoTime::get);
+        for (int i = 0; i < 5; i++) {
+            breaker.onFailure(MODEL_ID, createConnectionFailure());
+        }
+        assertFalse(breaker.tryAcquireRetry(MODEL_ID));
+
+        // each success returns a tenth of a token
+        for (int i = 0; i < 10; i++) {
+            breaker.onSuccess(MODEL_ID);
+        }
+        assertTrue(breaker.tryAcquireRetry(MODEL_ID));
+    }
+
+    private NodeNotConnectedException createConnectionFailure() {
+        return new NodeNotConnectedException(mock(DiscoveryNode.class), "Node not connected");
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InferenceConcurrencyLimiterTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+    private static final int INITIAL_LIMIT = 20;
+
+    private AtomicLong nanoTime;
+    private InferenceConcurrencyLimiter limiter;
+    private List<ActionListener<String>> pendingCalls;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        nanoTime = new AtomicLong();
+        limiter = new InferenceConcurrencyLimiter(nanoTime::get);
+        pendingCalls = new ArrayList<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenLimitReached_thenQueueAndRunOnRelease() {
+        long queued = EventStatName.INFERENCE_CALLS_QUEUED.getEventStat().getValue();
+        for (int i = 0; i < INITIAL_LIMIT; i++) {
+            execute(mock(ActionListener.class), 10);
+        }
+        ActionListener<String> queuedListener = mock(ActionListener.class);
+        execute(queuedListener, 10);
+
+        assertEquals(INITIAL_LIMIT, pendingCalls.size());
+        assertEquals(1, limiter.getQueueDepth(MODEL_ID));
+        assertEquals(queued + 1, EventStatName.INFERENCE_CALLS_QUEUED.getEventStat().getValue());
+
+        pendingCalls.getFirst().onResponse("result");
+
+        assertEquals(INITIAL_LIMIT + 1, pendingCalls.size());
+        assertEquals(0, limiter.getQueueDepth(MODEL_ID));
+        pendingCalls.getLast().onResponse("queued result");
+        verify(queuedListener).onResponse("queued result");
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenQueueFull_thenReject() {
+        long rejected = EventStatName.INFERENCE_CALLS_REJECTED.getEventStat().getValue();
+        for (int i = 0; i < INITIAL_LIMIT; i++) {
+            execute(mock(ActionListener.class), 0);
+        }
+        ActionListener<String> rejectedListener = mock(ActionListener.class);
+        execute(rejectedListener, 0);
+
+        verify(rejectedListener).onFailure(any(OpenSearchRejectedExecutionException.class));
+        assertEquals(INITIAL_LIMIT, pendingCalls.size());
+        assertEquals(rejected + 1, EventStatName.INFERENCE_CALLS_REJECTED.getEventStat().getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenLatencyDegrades_thenLowerLimit() {
+        long decreases = EventStatName.INFERENCE_CONCURRENCY_LIMIT_DECREASES.getEventStat().getValue();
+        completeCall(TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(INITIAL_LIMIT, limiter.getLimit(MODEL_ID));
+
+        completeCall(TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertEquals((int) (INITIAL_LIMIT * 0.9), limiter.getLimit(MODEL_ID));
+        assertEquals(decreases + 1, EventStatName.INFERENCE_CONCURRENCY_LIMIT_DECREASES.getEventStat().getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenServerError_thenLowerLimit() {
+        ActionListener<String> listener = mock(ActionListener.class);
+        RuntimeException exception = new RuntimeException("model endpoint failed");
+        execute(listener, 10);
+
+        pendingCalls.getFirst().onFailure(exception);
+
+        verify(listener).onFailure(exception);
+        assertEquals((int) (INITIAL_LIMIT * 0.9), limiter.getLimit(MODEL_ID));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenBadRequest_thenKeepLimit() {
+        execute(mock(ActionListener.class), 10);
+
+        pendingCalls.getFirst().onFailure(new IllegalArgumentException("bad input"));
+
+        assertEquals(INITIAL_LIMIT, limiter.getLimit(MODEL_ID));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenBusyAndHealthy_thenRaiseLimit() {
+        for (int i = 0; i < INITIAL_LIMIT; i++) {
+            execute(mock(ActionListener.class), 10);
+        }
+
+        pendingCalls.getFirst().onResponse("result");
+
+        assertEquals(INITIAL_LIMIT + 1, limiter.getLimit(MODEL_ID));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenCallThrows_thenReleaseAndFail() {
+        ActionListener<String> listener = mock(ActionListener.class);
+        RuntimeException exception = new IllegalArgumentException("failed");
+
+        limiter.execute(MODEL_ID, listener, l -> { throw exception; }, 0);
+
+        verify(listener).onFailure(exception);
+        // the slot of the failed call is released
+        for (int i = 0; i < INITIAL_LIMIT; i++) {
+            ActionListener<String> next = mock(ActionListener.class);
+            execute(next, 0);
+            verifyNoInteractions(next);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testGetTotals_whenCallsQueuedForModels_thenSumOverModels() {
+        assertEquals(0, limiter.getTotalLimit());
+        assertEquals(0, limiter.getTotalQueueDepth());
+        for (int i = 0; i <= INITIAL_LIMIT; i++) {
+            execute(mock(ActionListener.class), 10);
+        }
+        limiter.execute("other_model_id", mock(ActionListener.class), pendingCalls::add, 10);
+
+        assertEquals(2 * INITIAL_LIMIT, limiter.getTotalLimit());
+        assertEquals(1, limiter.getTotalQueueDepth());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void completeCall(final long latencyNanos) {
+        execute(mock(ActionListener.class), 10);
+        nanoTime.addAndGet(latencyNanos);
+        pendingCalls.getLast().onResponse("result");
+    }
+
+    private void execute(final ActionListener<String> listener, final int maxQueueSize) {
+        limiter.execute(MODEL_ID, listener, pendingCalls::add, maxQueueSize);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.NodeNotConnectedException;
+
+public class InferenceRequestBatcherTests extends OpenSearchTestCase {
+    private static final InferenceRequestBatcher.Key KEY = new InferenceRequestBatcher.Key("sentences_vector", "model_id", null);
+    private static final TimeValue WINDOW = TimeValue.timeValueMillis(2);
+
+    private ThreadPool threadPool;
+    private InferenceRequestBatcher batcher;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        threadPool = mock(ThreadPool.class);
+        batcher = new InferenceRequestBatcher(threadPool);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_whenWindowElapses_thenSendOneBatch() {
+        List<List<String>> batches = new ArrayList<>();
+        ActionListener<String> firstListener = mock(ActionListener.class);
+        ActionListener<String> secondListener = mock(ActionListener.class);
+        long batchCount = EventStatName.INFERENCE_MICRO_BATCHES.getEventStat().getValue();
+        long batchedRequests = EventStatName.INFERENCE_MICRO_BATCHED_REQUESTS.getEventStat().getValue();
+
+        submit("hello", firstListener, batches, 16);
+        submit("world", secondListener, batches, 16);
+
+        assertTrue(batches.isEmpty());
+        assertEquals(1, batcher.pendingBatchCount());
+        verifyNoInteractions(firstListener, secondListener);
+
+        runScheduledFlush();
+
+        assertEquals(List.of(List.of("hello", "world")), batches);
+        assertEquals(0, batcher.pendingBatchCount());
+        verify(firstListener).onResponse("HELLO");
+        verify(secondListener).onResponse("WORLD");
+        assertEquals(batchCount + 1, EventStatName.INFERENCE_MICRO_BATCHES.getEventStat().getValue());
+        assertEquals(batchedRequests + 2, EventStatName.INFERENCE_MICRO_BATCHED_REQUESTS.getEventStat().getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_whenBatchFull_thenSendWithoutWaiting() {
+        List<List<String>> batches = new ArrayList<>();
+        ActionListener<String> listener = mock(ActionListener.class);
+
+        submit("a", listener, batches, 2);
+        submit("b", listener, batches, 2);
+
+        assertEquals(List.of(List.of("a", "b")), batches);
+        assertEquals(0, batcher.pendingBatchCount());
+        verify(listener).onResponse("A");
+        verify(listener).onResponse("B");
+
+        // the scheduled flush of the sent batch must be a no-op
+        runScheduledFlush();
+        assertEquals(1, batches.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_whenSingleCallInWindow_thenSendSingleCall() {
+        AtomicInteger singleCalls = new AtomicInteger();
+        ActionListener<String> listener = mock(ActionListener.class);
+
+        batcher.submit(KEY, "hello", listener, l -> {
+            singleCalls.incrementAndGet();
+            l.onResponse("HELLO");
+        }, (inputs, l) -> fail("single call must not be batched"), WINDOW, 16);
+        runScheduledFlush();
+
+        assertEquals(1, singleCalls.get());
+        verify(listener).onResponse("HELLO");
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_whenBatchFailsWithBadInput_thenSendCallsOneByOne() {
+        ActionListener<String> firstListener = mock(ActionListener.class);
+        ActionListener<String> secondListener = mock(ActionListener.class);
+        Exception exception = new OpenSearchStatusException("bad input", RestStatus.BAD_REQUEST);
+        BiConsumer<List<String>, ActionListener<List<String>>> batchCall = (inputs, l) -> l.onFailure(exception);
+
+        batcher.submit(KEY, "a", firstListener, l -> l.onResponse("A"), batchCall, WINDOW, 2);
+        batcher.submit(KEY, "b", secondListener, l -> l.onFailure(exception), batchCall, WINDOW, 2);
+
+        verify(firstListener).onResponse("A");
+        verify(firstListener, never()).onFailure(any());
+        verify(secondListener).onFailure(exception);
+        verify(secondListener, never()).onResponse(any());
+    }
+
+    public void testSubmit_whenBatchRejected_thenFailAllCallsWithoutSingleCalls() {
+        assertBatchFailureFailsAllCalls(new OpenSearchRejectedExecutionException("rejected"));
+    }
+
+    public void testSubmit_whenBatchConnectionFailed_thenFailAllCallsWithoutSingleCalls() {
+        assertBatchFailureFailsAllCalls(new NodeNotConnectedException(mock(DiscoveryNode.class), "Node not connected"));
+    }
+
+    public void testSubmit_whenBatchOverloaded_thenFailAllCallsWithoutSingleCalls() {
+        assertBatchFailureFailsAllCalls(new OpenSearchStatusException("too many requests", RestStatus.TOO_MANY_REQUESTS));
+        assertBatchFailureFailsAllCalls(new OpenSearchStatusException("short-circuited", RestStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_whenListenerThrowsOnResponse_thenListenerNotifiedOnce() {
+        List<List<String>> batches = new ArrayList<>();
+        ActionListener<String> firstListener = mock(ActionListener.class);
+        ActionListener<String> secondListener = mock(ActionListener.class);
+        doThrow(new RuntimeException("listener failed")).when(firstListener).onResponse("A");
+
+        submit("a", firstListener, batches, 2);
+        submit("b", secondListener, batches, 2);
+
+        verify(firstListener).onResponse("A");
+        verify(firstListener, never()).onFailure(any());
+        verify(secondListener).onResponse("B");
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_whenResultCountMismatch_thenFallBackToSingleCallsAndStopBatching() {
+        AtomicInteger singleCalls = new AtomicInteger();
+        AtomicInteger batchCalls = new AtomicInteger();
+        ActionListener<String> listener = mock(ActionListener.class);
+        Consumer<ActionListener<String>> singleCall = l -> {
+            singleCalls.incrementAndGet();
+            l.onResponse("single");
+        };
+        BiConsumer<List<String>, ActionListener<List<String>>> batchCall = (inputs, l) -> {
+            batchCalls.incrementAndGet();
+            l.onResponse(List.of("merged"));
+        };
+
+        batcher.submit(KEY, "a", listener, singleCall, batchCall, WINDOW, 2);
+        batcher.submit(KEY, "b", listener, singleCall, batchCall, WINDOW, 2);
+        batcher.submit(KEY, "c", listener, singleCall, batchCall, WINDOW, 2);
+
+        assertEquals(1, batchCalls.get());
+        assertEquals(3, singleCalls.get());
+        verify(listener, never()).onResponse("merged");
+        assertEquals(0, batcher.pendingBatchCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_whenDifferentKeys_thenBatchSeparately() {
+        List<List<String>> batches = new ArrayList<>();
+        InferenceRequestBatcher.Key otherKey = new InferenceRequestBatcher.Key("sentences_vector", "other_model_id", null);
+
+        submit("hello", mock(ActionListener.class), batches, 2);
+        batcher.submit(otherKey, "world", mock(ActionListener.class), l -> {}, (inputs, l) -> batches.add(inputs), WINDOW, 2);
+
+        assertTrue(batches.isEmpty());
+        assertEquals(2, batcher.pendingBatchCount());
+    }
+
+    private void submit(final String input, final ActionListener<String> listener, final List<List<String>> batches, final int maxSize) {
+        batcher.submit(KEY, input, listener, l -> fail("call must be batched"), (inputs, l) -> {
+            batches.add(inputs);
+            l.onResponse(inputs.stream().map(String::toUpperCase).toList());
+        }, WINDOW, maxSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assertBatchFailureFailsAllCalls(final Exception exception) {
+        AtomicInteger singleCalls = new AtomicInteger();
+        ActionListener<String> firstListener = mock(ActionListener.class);
+        ActionListener<String> secondListener = mock(ActionListener.class);
+        Consumer<ActionListener<String>> singleCall = l -> singleCalls.incrementAndGet();
+        BiConsumer<List<String>, ActionListener<List<String>>> batchCall = (inputs, l) -> l.onFailure(exception);
+
+        batcher.submit(KEY, "a", firstListener, singleCall, batchCall, WINDOW, 2);
+        batcher.submit(KEY, "b", secondListener, singleCall, batchCall, WINDOW, 2);
+
+        assertEquals(0, singleCalls.get());
+        verify(firstListener).onFailure(exception);
+        verify(secondListener).onFailure(exception);
+        verify(firstListener, never()).onResponse(any());
+        verify(secondListener, never()).onResponse(any());
+    }
+
+    private void runScheduledFlush() {
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(flushCaptor.capture(), eq(WINDOW), eq(ThreadPool.Names.GENERIC));
+        flushCaptor.getValue().run();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InferenceRequestCoalescerTests extends OpenSearchTestCase {
+    private static final String CALL_TYPE = "sentences_vector";
+    private static final String MODEL_ID = "model_id";
+
+    private InferenceRequestCoalescer coalescer;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        coalescer = new InferenceRequestCoalescer();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenIdenticalCallInFlight_thenShareResult() {
+        AtomicInteger callCount = new AtomicInteger();
+        AtomicReference<ActionListener<String>> pendingCall = new AtomicReference<>();
+        ActionListener<String> firstListener = mock(ActionListener.class);
+        ActionListener<String> secondListener = mock(ActionListener.class);
+        long coalesced = EventStatName.INFERENCE_REQUESTS_COALESCED.getEventStat().getValue();
+
+        coalescer.execute(createKey(List.of("hello")), firstListener, listener -> {
+            callCount.incrementAndGet();
+            pendingCall.set(listener);
+        });
+        coalescer.execute(createKey(List.of("hello")), secondListener, listener -> callCount.incrementAndGet());
+
+        assertEquals(1, callCount.get());
+        assertEquals(1, coalescer.inFlightCount());
+        assertEquals(coalesced + 1, EventStatName.INFERENCE_REQUESTS_COALESCED.getEventStat().getValue());
+        verifyNoInteractions(firstListener, secondListener);
+
+        pendingCall.get().onResponse("result");
+
+        verify(firstListener).onResponse("result");
+        verify(secondListener).onResponse("result");
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenListenerThrowsOnResponse_thenEachListenerNotifiedOnce() {
+        AtomicReference<ActionListener<String>> pendingCall = new AtomicReference<>();
+        ActionListener<String> throwingListener = mock(ActionListener.class);
+        doThrow(new IllegalStateException("listener failure")).when(throwingListener).onResponse("result");
+        ActionListener<String> otherListener = mock(ActionListener.class);
+
+        coalescer.execute(createKey(List.of("hello")), throwingListener, pendingCall::set);
+        coalescer.execute(createKey(List.of("hello")), otherListener, listener -> fail("call must be coalesced"));
+        pendingCall.get().onResponse("result");
+
+        verify(throwingListener).onResponse("result");
+        verify(throwingListener, never()).onFailure(any());
+        verify(otherListener).onResponse("result");
+        verify(otherListener, never()).onFailure(any());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenCallFails_thenNotifyAllListeners() {
+        AtomicReference<ActionListener<String>> pendingCall = new AtomicReference<>();
+        ActionListener<String> firstListener = mock(ActionListener.class);
+        ActionListener<String> secondListener = mock(ActionListener.class);
+        RuntimeException exception = new RuntimeException("failed");
+
+        coalescer.execute(createKey(List.of("hello")), firstListener, pendingCall::set);
+        coalescer.execute(createKey(List.of("hello")), secondListener, listener -> fail("call must be coalesced"));
+        pendingCall.get().onFailure(exception);
+
+        verify(firstListener).onFailure(exception);
+        verify(secondListener).onFailure(exception);
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenCallThrows_thenReleaseKey() {
+        ActionListener<String> listener = mock(ActionListener.class);
+        RuntimeException exception = new RuntimeException("failed");
+
+        coalescer.execute(createKey(List.of("hello")), listener, l -> { throw exception; });
+
+        verify(listener).onFailure(exception);
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenCallCompleted_thenDoNotCoalesceNextCall() {
+        AtomicInteger callCount = new AtomicInteger();
+
+        coalescer.execute(createKey(List.of("hello")), mock(ActionListener.class), listener -> {
+            callCount.incrementAndGet();
+            listener.onResponse("result");
+        });
+        coalescer.execute(createKey(List.of("hello")), mock(ActionListener.class), listener -> {
+            callCount.incrementAndGet();
+            listener.onResponse("result");
+        });
+
+        assertEquals(2, callCount.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenDifferentInputs_thenDoNotCoalesce() {
+        AtomicInteger callCount = new AtomicInteger();
+
+        coalescer.execute(createKey(List.of("hello")), mock(ActionListener.class), listener -> callCount.incrementAndGet());
+        coalescer.execute(createKey(List.of("world")), mock(ActionListener.class), listener -> callCount.incrementAndGet());
+
+        assertEquals(2, callCount.get());
+        assertEquals(2, coalescer.inFlightCount());
+    }
+
+    public void testKey_whenInputModifiedByCaller_thenKeyUnchanged() {
+        List<String> inputs = new ArrayList<>(List.of("hello"));
+        InferenceRequestCoalescer.Key key = createKey(inputs);
+
+        inputs.add("world");
+
+        assertEquals(createKey(List.of("hello")), key);
+    }
+
+    private InferenceRequestCoalescer.Key createKey(final List<String> inputs) {
+        return InferenceRequestCoalescer.Key.of(CALL_TYPE, MODEL_ID, inputs, null);
+    }
+}
@@ -27,6 +27,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.MLModel;
@@ -36,9 +37,14 @@ import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.neuralsearch.common.FloatVector;
 import org.opensearch.neuralsearch.constants.TestCommonConstants;
+import org.opensearch.neuralsearch.processor.TextInferenceRequest;
 import org.opensearch.neuralsearch.processor.highlight.SentenceHighlightingRequest;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeNotConnectedException;
 
 public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
@@ -61,6 +67,7 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
     @Before
     public void setup() {
         MockitoAnnotations.openMocks(this);
+        TestUtils.initializeEventStatsManager();
     }
 
     public void testInferenceSentence_whenValidInput_thenSuccess() {
@@ -93,6 +100,21 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verifyNoMoreInteractions(resultListener);
     }
 
+    public void testInferenceSentences_whenFloatResult_thenPrimitiveVector() {
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.inferenceSentences(TestCommonConstants.TEXT_INFERENCE_REQUEST, resultListener);
+
+        final ArgumentCaptor<List<List<Number>>> vectorsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(resultListener).onResponse(vectorsCaptor.capture());
+        final List<Number> vector = vectorsCaptor.getValue().getFirst();
+        assertTrue(vector instanceof FloatVector);
+        assertEquals(Arrays.asList(TestCommonConstants.PREDICT_VECTOR_ARRAY), vector);
+    }
+
     public void testInferenceSentences_whenResultFromClient_thenEmptyVectorList() {
         final List<List<Number>> vectorList = new ArrayList<>();
         vectorList.add(Collections.emptyList());
@@ -146,6 +168,30 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verifyNoMoreInteractions(similarityResultListener);
     }
 
+    public void testInferenceSentences_whenThreadPoolInitialized_thenScheduleRetry() {
+        final ThreadPool threadPool = mock(ThreadPool.class);
+        accessor.initialize(mock(NeuralSearchSettingsAccessor.class), threadPool);
+        final NodeNotConnectedException nodeNodeConnectedException = new NodeNotConnectedException(
+            mock(DiscoveryNode.class),
+            "Node not connected"
+        );
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(nodeNodeConnectedException);
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.inferenceSentences(TestCommonConstants.TEXT_INFERENCE_REQUEST, resultListener);
+
+        // the retry is scheduled instead of blocking the calling thread
+        verify(client, times(1)).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        final ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(retryCaptor.capture(), any(TimeValue.class), eq(ThreadPool.Names.GENERIC));
+        Mockito.verifyNoInteractions(resultListener);
+
+        retryCaptor.getValue().run();
+        verify(client, times(2)).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+    }
+
     public void testInferenceSentences_whenExceptionFromMLClient_thenRetry_thenFailure() {
         final NodeNotConnectedException nodeNodeConnectedException = new NodeNotConnectedException(
             mock(DiscoveryNode.class),
@@ -190,6 +236,69 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verifyNoMoreInteractions(resultListener);
     }
 
+    public void testInferenceSentencesWithMapResult_whenMicroBatchingEnabled_thenSendOneBatch() {
+        final NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        Mockito.when(settingsAccessor.isInferenceMicroBatchingEnabled()).thenReturn(true);
+        Mockito.when(settingsAccessor.getInferenceMicroBatchingWindow()).thenReturn(TimeValue.timeValueMillis(2));
+        Mockito.when(settingsAccessor.getInferenceMicroBatchingMaxBatchSize()).thenReturn(2);
+        accessor.initialize(settingsAccessor, mock(ThreadPool.class));
+        final Map<String, Object> firstMap = Map.of("hello", 1.0f);
+        final Map<String, Object> secondMap = Map.of("world", 2.0f);
+        final ActionListener<List<Map<String, ?>>> firstListener = mock(ActionListener.class);
+        final ActionListener<List<Map<String, ?>>> secondListener = mock(ActionListener.class);
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            final ModelTensorOutput first = createModelTensorOutput(firstMap);
+            final ModelTensorOutput second = createModelTensorOutput(secondMap);
+            actionListener.onResponse(
+                new ModelTensorOutput(List.of(first.getMlModelOutputs().getFirst(), second.getMlModelOutputs().getFirst()))
+            );
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+
+        accessor.inferenceSentencesWithMapResult(
+            TextInferenceRequest.builder().modelId(TestCommonConstants.MODEL_ID).inputTexts(List.of("hello")).queryInference(true).build(),
+            firstListener
+        );
+        accessor.inferenceSentencesWithMapResult(
+            TextInferenceRequest.builder().modelId(TestCommonConstants.MODEL_ID).inputTexts(List.of("world")).queryInference(true).build(),
+            secondListener
+        );
+
+        verify(client, times(1)).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        verify(firstListener).onResponse(List.of(firstMap));
+        verify(secondListener).onResponse(List.of(secondMap));
+    }
+
+    public void testInferenceSentencesWithMapResult_whenMicroBatchingEnabledAndIngestCall_thenSendSingleCalls() {
+        final NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        Mockito.when(settingsAccessor.isInferenceMicroBatchingEnabled()).thenReturn(true);
+        Mockito.when(settingsAccessor.getInferenceMicroBatchingWindow()).thenReturn(TimeValue.timeValueMillis(2));
+        Mockito.when(settingsAccessor.getInferenceMicroBatchingMaxBatchSize()).thenReturn(2);
+        accessor.initialize(settingsAccessor, mock(ThreadPool.class));
+        final Map<String, Object> map = Map.of("hello", 1.0f);
+        final ActionListener<List<Map<String, ?>>> firstListener = mock(ActionListener.class);
+        final ActionListener<List<Map<String, ?>>> secondListener = mock(ActionListener.class);
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(map));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+
+        accessor.inferenceSentencesWithMapResult(
+            TextInferenceRequest.builder().modelId(TestCommonConstants.MODEL_ID).inputTexts(List.of("hello")).build(),
+            firstListener
+        );
+        accessor.inferenceSentencesWithMapResult(
+            TextInferenceRequest.builder().modelId(TestCommonConstants.MODEL_ID).inputTexts(List.of("world")).build(),
+            secondListener
+        );
+
+        verify(client, times(2)).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        verify(firstListener).onResponse(List.of(map));
+        verify(secondListener).onResponse(List.of(map));
+    }
+
     public void testInferenceSentencesWithMapResult_whenTensorOutputListEmpty_thenException() {
         final ActionListener<List<Map<String, ?>>> resultListener = mock(ActionListener.class);
         final ModelTensorOutput modelTensorOutput = new ModelTensorOutput(Collections.emptyList());
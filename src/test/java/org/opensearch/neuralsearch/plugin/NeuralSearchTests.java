@@ -9,7 +9,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -43,7 +43,6 @@ import org.opensearch.neuralsearch.query.HybridQueryBuilder;
 import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
 import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
-import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
 import org.opensearch.plugins.SearchPipelinePlugin;
 import org.opensearch.plugins.SearchPlugin;
 import org.opensearch.plugins.SearchPlugin.SearchExtSpec;
@@ -94,7 +93,7 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
         when(environment.settings()).thenReturn(settings);
 
         // Mock ClusterSettings
-        ClusterSettings clusterSettings = new ClusterSettings(settings, Collections.singleton(NeuralSearchSettings.NEURAL_STATS_ENABLED));
+        ClusterSettings clusterSettings = new ClusterSettings(settings, new HashSet<>(plugin.getSettings()));
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
 
         Collection<Object> components = plugin.createComponents(
@@ -168,7 +167,7 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
     public void testGetSettings() {
         List<Setting<?>> settings = plugin.getSettings();
 
-        assertEquals(2, settings.size());
+        assertEquals(22, settings.size());
     }
 
     public void testRequestProcessors() {
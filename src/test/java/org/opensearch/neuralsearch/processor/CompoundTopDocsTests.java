@@ -13,7 +13,15 @@ import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.query.QuerySearchResult;
+
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createDelimiterElementForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
 
 public class CompoundTopDocsTests extends OpenSearchQueryTestCase {
     private static final SearchShard SEARCH_SHARD = new SearchShard("my_index", 0, "12345678");
@@ -36,6 +44,39 @@ public class CompoundTopDocsTests extends OpenSearchQueryTestCase {
         assertEquals(topDocs, compoundTopDocs.getTopDocs());
     }
 
+    public void testBasics_whenCreateFromQuerySearchResult_thenSplitBySubQuery() {
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        TopDocs topDocs = new TopDocs(
+            new TotalHits(4, TotalHits.Relation.EQUAL_TO),
+            new ScoreDoc[] {
+                createStartStopElementForHybridSearchResults(0),
+                createDelimiterElementForHybridSearchResults(0),
+                new ScoreDoc(0, 0.5f),
+                new ScoreDoc(2, 0.3f),
+                createDelimiterElementForHybridSearchResults(0),
+                createDelimiterElementForHybridSearchResults(0),
+                new ScoreDoc(4, 0.25f),
+                createStartStopElementForHybridSearchResults(0) }
+        );
+        querySearchResult.topDocs(new TopDocsAndMaxScore(topDocs, 0.5f), null);
+        ShardId shardId = new ShardId("my_index", "uuid", 0);
+        SearchShardTarget searchShardTarget = new SearchShardTarget("12345678", shardId, null, OriginalIndices.NONE);
+        querySearchResult.setSearchShardTarget(searchShardTarget);
+
+        CompoundTopDocs compoundTopDocs = new CompoundTopDocs(querySearchResult);
+
+        List<TopDocs> subQueryTopDocs = compoundTopDocs.getTopDocs();
+        assertEquals(3, subQueryTopDocs.size());
+        assertEquals(2, subQueryTopDocs.get(0).totalHits.value());
+        assertEquals(0, subQueryTopDocs.get(0).scoreDocs[0].doc);
+        assertEquals(2, subQueryTopDocs.get(0).scoreDocs[1].doc);
+        assertEquals(0, subQueryTopDocs.get(1).scoreDocs.length);
+        assertEquals(1, subQueryTopDocs.get(2).scoreDocs.length);
+        assertEquals(0.25f, subQueryTopDocs.get(2).scoreDocs[0].score, 0.0f);
+        assertEquals(2, compoundTopDocs.getScoreDocs().size());
+        assertEquals(SEARCH_SHARD, compoundTopDocs.getSearchShard());
+    }
+
     public void testBasics_whenCreateWithoutTopDocs_thenTopDocsIsNull() {
         CompoundTopDocs hybridQueryScoreTopDocs = new CompoundTopDocs(
             new TotalHits(3, TotalHits.Relation.EQUAL_TO),
@@ -14,8 +14,13 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.IngestInferenceCacheKey;
 import org.opensearch.neuralsearch.constants.TestCommonConstants;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -178,9 +183,153 @@ public class InferenceProcessorTests extends InferenceProcessorTestCase {
         assertEquals(List.of("value4"), processor.getAllInferenceInputs().get(2));
     }
 
+    public void test_batchExecute_whenInferenceBatchLimitsSet_thenSplitIntoConcurrentCalls() {
+        final int docCount = 2;
+        List<List<Float>> inferenceResults = createMockVectorWithLength(4);
+        TestInferenceProcessor processor = new TestInferenceProcessor(inferenceResults, BATCH_SIZE, null, 6, 0);
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(docCount);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("aaaaa", "bbb"));
+        wrapperList.get(1).getIngestDocument().setFieldValue("key1", Arrays.asList("cc", "ddd"));
+        Consumer resultHandler = mock(Consumer.class);
+        processor.batchExecute(wrapperList, resultHandler);
+        ArgumentCaptor<List<IngestDocumentWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(captor.capture());
+        assertEquals(docCount, captor.getValue().size());
+        for (int i = 0; i < docCount; ++i) {
+            assertNull(captor.getValue().get(i).getException());
+        }
+        // sorted by length ("cc", "bbb", "ddd", "aaaaa") and split by 6 chars per call
+        assertEquals(List.of(List.of("cc", "bbb"), List.of("ddd"), List.of("aaaaa")), processor.getAllInferenceInputs());
+
+        List<?> doc1Embeddings = (List) (captor.getValue().get(0).getIngestDocument().getFieldValue("embedding_key1", List.class));
+        List<?> doc2Embeddings = (List) (captor.getValue().get(1).getIngestDocument().getFieldValue("embedding_key1", List.class));
+        assertEquals(inferenceResults.get(3), ((Map) doc1Embeddings.get(0)).get("map_key"));
+        assertEquals(inferenceResults.get(1), ((Map) doc1Embeddings.get(1)).get("map_key"));
+        assertEquals(inferenceResults.get(0), ((Map) doc2Embeddings.get(0)).get("map_key"));
+        assertEquals(inferenceResults.get(2), ((Map) doc2Embeddings.get(1)).get("map_key"));
+    }
+
+    public void test_batchExecute_whenSplitCallsFail_thenReportFailureOnce() {
+        final int docCount = 2;
+        TestInferenceProcessor processor = new TestInferenceProcessor(
+            createMockVectorWithLength(4),
+            BATCH_SIZE,
+            new RuntimeException(),
+            0,
+            1
+        );
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(docCount);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("value1", "value2"));
+        wrapperList.get(1).getIngestDocument().setFieldValue("key1", Arrays.asList("value3", "value4"));
+        Consumer resultHandler = mock(Consumer.class);
+        processor.batchExecute(wrapperList, resultHandler);
+        ArgumentCaptor<List<IngestDocumentWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(captor.capture());
+        assertEquals(4, processor.getAllInferenceInputs().size());
+        for (int i = 0; i < docCount; ++i) {
+            assertNotNull(captor.getValue().get(i).getException());
+        }
+    }
+
+    public void test_splitIntoInferenceBatches_whenMaxItemsSet_thenSplitByItems() {
+        TestInferenceProcessor processor = new TestInferenceProcessor(null, BATCH_SIZE, null, 0, 2);
+        assertEquals(
+            List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")),
+            processor.splitIntoInferenceBatches(List.of("a", "b", "c", "d", "e"))
+        );
+    }
+
+    public void test_splitIntoInferenceBatches_whenTextExceedsMaxChars_thenOwnBatch() {
+        TestInferenceProcessor processor = new TestInferenceProcessor(null, BATCH_SIZE, null, 4, 0);
+        assertEquals(
+            List.of(List.of("a", "bb"), List.of("ccc"), List.of("dddddd")),
+            processor.splitIntoInferenceBatches(List.of("a", "bb", "ccc", "dddddd"))
+        );
+    }
+
+    public void test_splitIntoInferenceBatches_whenNoLimits_thenSingleBatch() {
+        TestInferenceProcessor processor = new TestInferenceProcessor(null, BATCH_SIZE, null);
+        List<String> texts = List.of("a", "bb", "ccc");
+        assertEquals(List.of(texts), processor.splitIntoInferenceBatches(texts));
+    }
+
+    public void test_constructor_whenNegativeInferenceBatchLimit_thenFail() {
+        expectThrows(IllegalArgumentException.class, () -> new TestInferenceProcessor(null, BATCH_SIZE, null, -1, 0));
+    }
+
+    public void test_batchExecute_whenInferenceResultCacheEnabled_thenInferOnlyMissingDistinctTexts() {
+        TestUtils.initializeEventStatsManager();
+        final int docCount = 2;
+        List<List<Float>> inferenceResults = createMockVectorWithLength(3);
+        TestInferenceProcessor processor = new TestInferenceProcessor(
+            inferenceResults,
+            BATCH_SIZE,
+            null,
+            0,
+            0,
+            createInferenceResultCache()
+        );
+        long hits = EventStatName.INGEST_INFERENCE_CACHE_HITS.getEventStat().getValue();
+
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(docCount);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("value1", "value2"));
+        wrapperList.get(1).getIngestDocument().setFieldValue("key1", Arrays.asList("value1", "value3"));
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        processor.batchExecute(wrapperList, results::addAll);
+
+        // the text shared by both documents is only sent once
+        assertEquals(List.of(List.of("value1", "value2", "value3")), processor.getAllInferenceInputs());
+        List<?> doc2Embeddings = (List) (results.get(1).getIngestDocument().getFieldValue("embedding_key1", List.class));
+        assertEquals(inferenceResults.get(0), ((Map) doc2Embeddings.get(0)).get("map_key"));
+        assertEquals(inferenceResults.get(2), ((Map) doc2Embeddings.get(1)).get("map_key"));
+
+        List<IngestDocumentWrapper> otherWrapperList = createIngestDocumentWrappers(1);
+        otherWrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("value3", "value2"));
+        List<IngestDocumentWrapper> otherResults = new ArrayList<>();
+        processor.batchExecute(otherWrapperList, otherResults::addAll);
+
+        // all texts of the other document are cached, no inference is made
+        assertEquals(1, processor.getAllInferenceInputs().size());
+        assertNull(otherResults.getFirst().getException());
+        List<?> otherEmbeddings = (List) (otherResults.getFirst().getIngestDocument().getFieldValue("embedding_key1", List.class));
+        assertEquals(inferenceResults.get(2), ((Map) otherEmbeddings.get(0)).get("map_key"));
+        assertEquals(inferenceResults.get(1), ((Map) otherEmbeddings.get(1)).get("map_key"));
+        assertEquals(hits + 2, EventStatName.INGEST_INFERENCE_CACHE_HITS.getEventStat().getValue());
+    }
+
+    public void test_executeWithInferenceCache_whenResultCountMismatch_thenFail() {
+        TestUtils.initializeEventStatsManager();
+        TestInferenceProcessor processor = new TestInferenceProcessor(null, BATCH_SIZE, null, 0, 0, createInferenceResultCache());
+        Consumer<List<?>> handler = mock(Consumer.class);
+        Consumer<Exception> onException = mock(Consumer.class);
+
+        processor.executeWithInferenceCache(
+            List.of("value1", "value2"),
+            (texts, resultHandler, exceptionHandler) -> resultHandler.accept(List.of(List.of(1.0f))),
+            handler,
+            onException
+        );
+
+        verify(onException).accept(any(IllegalStateException.class));
+        verify(handler, never()).accept(any());
+    }
+
+    private InferenceResultCache<IngestInferenceCacheKey, Object> createInferenceResultCache() {
+        return new InferenceResultCache<>(
+            100,
+            TimeValue.timeValueMinutes(1),
+            () -> true,
+            EventStatName.INGEST_INFERENCE_CACHE_HITS,
+            EventStatName.INGEST_INFERENCE_CACHE_MISSES,
+            EventStatName.INGEST_INFERENCE_CACHE_EVICTIONS
+        );
+    }
+
     private class TestInferenceProcessor extends InferenceProcessor {
         List<?> vectors;
         Exception exception;
+        boolean sliceVectors;
+        int vectorOffset;
 
         @Getter
         List<List<String>> allInferenceInputs = new ArrayList<>();
@@ -189,6 +338,46 @@ public class InferenceProcessorTests extends InferenceProcessorTestCase {
             super(TAG, DESCRIPTION, batchSize, TYPE, MAP_KEY, MODEL_ID, FIELD_MAP, clientAccessor, environment, clusterService);
             this.vectors = vectors;
             this.exception = exception;
+            this.sliceVectors = false;
+        }
+
+        public TestInferenceProcessor(
+            List<?> vectors,
+            int batchSize,
+            Exception exception,
+            int inferenceBatchMaxChars,
+            int inferenceBatchMaxItems
+        ) {
+            this(vectors, batchSize, exception, inferenceBatchMaxChars, inferenceBatchMaxItems, null);
+        }
+
+        public TestInferenceProcessor(
+            List<?> vectors,
+            int batchSize,
+            Exception exception,
+            int inferenceBatchMaxChars,
+            int inferenceBatchMaxItems,
+            InferenceResultCache<IngestInferenceCacheKey, Object> inferenceResultCache
+        ) {
+            super(
+                TAG,
+                DESCRIPTION,
+                batchSize,
+                TYPE,
+                MAP_KEY,
+                MODEL_ID,
+                FIELD_MAP,
+                inferenceBatchMaxChars,
+                inferenceBatchMaxItems,
+                clientAccessor,
+                inferenceResultCache,
+                environment,
+                clusterService
+            );
+            this.vectors = vectors;
+            this.exception = exception;
+            // each inference call returns the vectors of its own inputs
+            this.sliceVectors = true;
         }
 
         @Override
@@ -206,6 +395,9 @@ public class InferenceProcessorTests extends InferenceProcessorTestCase {
             allInferenceInputs.add(inferenceList);
             if (this.exception != null) {
                 onException.accept(this.exception);
+            } else if (sliceVectors) {
+                handler.accept(this.vectors.subList(vectorOffset, vectorOffset + inferenceList.size()));
+                vectorOffset += inferenceList.size();
             } else {
                 handler.accept(this.vectors);
             }
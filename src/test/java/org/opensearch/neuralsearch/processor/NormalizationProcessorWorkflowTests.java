@@ -9,6 +9,9 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createDelimiterElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
+import static org.opensearch.neuralsearch.plugin.NeuralSearch.EXPLANATION_RESPONSE_KEY;
+import static org.opensearch.neuralsearch.processor.explain.ExplanationPayload.PayloadType.NORMALIZATION_PROCESSOR;
+import static org.opensearch.neuralsearch.util.TestUtils.DELTA_FOR_SCORE_ASSERTION;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +19,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
@@ -27,6 +31,9 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombiner;
+import org.opensearch.neuralsearch.processor.explain.CombinedExplanationDetails;
+import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
+import org.opensearch.neuralsearch.processor.explain.ExplanationPayload;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationFactory;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizer;
 import org.opensearch.search.SearchHit;
@@ -35,6 +42,7 @@ import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -213,6 +221,78 @@ public class NormalizationProcessorWorkflowTests extends OpenSearchTestCase {
         TestUtils.assertFetchResultScores(fetchSearchResult, 4);
     }
 
+    public void testFetchResults_whenOneShardAndFromIsSet_thenFetchResultsHaveOnlyHitsOfPage() {
+        NormalizationProcessorWorkflow normalizationProcessorWorkflow = spy(
+            new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner())
+        );
+
+        List<QuerySearchResult> querySearchResults = new ArrayList<>();
+        FetchSearchResult fetchSearchResult = new FetchSearchResult();
+        int shardId = 0;
+        SearchShardTarget searchShardTarget = new SearchShardTarget(
+            "node",
+            new ShardId("index", "uuid", shardId),
+            null,
+            OriginalIndices.NONE
+        );
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        querySearchResult.topDocs(
+            new TopDocsAndMaxScore(
+                new TopDocs(
+                    new TotalHits(4, TotalHits.Relation.EQUAL_TO),
+                    new ScoreDoc[] {
+                        createStartStopElementForHybridSearchResults(0),
+                        createDelimiterElementForHybridSearchResults(0),
+                        new ScoreDoc(0, 0.5f),
+                        new ScoreDoc(2, 0.3f),
+                        new ScoreDoc(4, 0.25f),
+                        new ScoreDoc(10, 0.2f),
+                        createStartStopElementForHybridSearchResults(0) }
+                ),
+                0.5f
+            ),
+            null
+        );
+        querySearchResult.setSearchShardTarget(searchShardTarget);
+        querySearchResult.setShardIndex(shardId);
+        ShardSearchRequest shardSearchRequest = mock(ShardSearchRequest.class);
+        when(shardSearchRequest.requestCache()).thenReturn(Boolean.FALSE);
+        querySearchResult.setShardSearchRequest(shardSearchRequest);
+        querySearchResults.add(querySearchResult);
+        SearchHit[] searchHitArray = new SearchHit[] {
+            new SearchHit(0, "10", Map.of(), Map.of()),
+            new SearchHit(0, "10", Map.of(), Map.of()),
+            new SearchHit(0, "10", Map.of(), Map.of()),
+            new SearchHit(2, "1", Map.of(), Map.of()),
+            new SearchHit(4, "2", Map.of(), Map.of()),
+            new SearchHit(10, "3", Map.of(), Map.of()),
+            new SearchHit(0, "10", Map.of(), Map.of()), };
+        SearchHits searchHits = new SearchHits(searchHitArray, new TotalHits(7, TotalHits.Relation.EQUAL_TO), 10);
+        fetchSearchResult.hits(searchHits);
+        SearchPhaseContext searchPhaseContext = mock(SearchPhaseContext.class);
+        when(searchPhaseContext.getNumShards()).thenReturn(1);
+        SearchRequest searchRequest = mock(SearchRequest.class);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.from(2);
+        when(searchPhaseContext.getRequest()).thenReturn(searchRequest);
+        when(searchRequest.source()).thenReturn(searchSourceBuilder);
+        NormalizationProcessorWorkflowExecuteRequest normalizationExecuteDTO = NormalizationProcessorWorkflowExecuteRequest.builder()
+            .querySearchResults(querySearchResults)
+            .fetchSearchResultOptional(Optional.of(fetchSearchResult))
+            .normalizationTechnique(ScoreNormalizationFactory.DEFAULT_METHOD)
+            .combinationTechnique(ScoreCombinationFactory.DEFAULT_METHOD)
+            .searchPhaseContext(searchPhaseContext)
+            .build();
+
+        normalizationProcessorWorkflow.execute(normalizationExecuteDTO);
+
+        SearchHit[] pageHits = fetchSearchResult.hits().getHits();
+        assertEquals(2, pageHits.length);
+        assertEquals(4, pageHits[0].docId());
+        assertEquals(10, pageHits[1].docId());
+        assertTrue(pageHits[0].getScore() >= pageHits[1].getScore());
+    }
+
     public void testFetchResults_whenOneShardAndMultipleNodes_thenDoNormalizationCombination() {
         NormalizationProcessorWorkflow normalizationProcessorWorkflow = spy(
             new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner())
@@ -540,4 +620,97 @@ public class NormalizationProcessorWorkflowTests extends OpenSearchTestCase {
         SearchHits searchHits = new SearchHits(searchHitArray, new TotalHits(7, TotalHits.Relation.EQUAL_TO), 10);
         return searchHits;
     }
+
+    public void testExplain_whenExplainRequested_thenExplanationsFollowCombinedResultsOfShard() {
+        NormalizationProcessorWorkflow normalizationProcessorWorkflow = new NormalizationProcessorWorkflow(
+            new ScoreNormalizer(),
+            new ScoreCombiner()
+        );
+
+        List<QuerySearchResult> querySearchResults = new ArrayList<>();
+        ScoreDoc[][] scoreDocsPerShard = new ScoreDoc[][] {
+            {
+                createStartStopElementForHybridSearchResults(0),
+                createDelimiterElementForHybridSearchResults(0),
+                new ScoreDoc(0, 0.5f),
+                new ScoreDoc(2, 0.3f),
+                createDelimiterElementForHybridSearchResults(0),
+                new ScoreDoc(2, 0.8f),
+                new ScoreDoc(4, 0.1f),
+                createStartStopElementForHybridSearchResults(0) },
+            {
+                createStartStopElementForHybridSearchResults(0),
+                createDelimiterElementForHybridSearchResults(0),
+                new ScoreDoc(1, 0.9f),
+                createDelimiterElementForHybridSearchResults(0),
+                new ScoreDoc(3, 0.4f),
+                new ScoreDoc(1, 0.2f),
+                createStartStopElementForHybridSearchResults(0) } };
+        for (int shardId = 0; shardId < scoreDocsPerShard.length; shardId++) {
+            QuerySearchResult querySearchResult = new QuerySearchResult();
+            querySearchResult.topDocs(
+                new TopDocsAndMaxScore(new TopDocs(new TotalHits(3, TotalHits.Relation.EQUAL_TO), scoreDocsPerShard[shardId]), 0.9f),
+                null
+            );
+            querySearchResult.setSearchShardTarget(
+                new SearchShardTarget("node", new ShardId("index", "uuid", shardId), null, OriginalIndices.NONE)
+            );
+            querySearchResult.setShardIndex(shardId);
+            querySearchResults.add(querySearchResult);
+        }
+        SearchPhaseContext searchPhaseContext = mock(SearchPhaseContext.class);
+        SearchRequest searchRequest = mock(SearchRequest.class);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.from(0);
+        when(searchPhaseContext.getRequest()).thenReturn(searchRequest);
+        when(searchRequest.source()).thenReturn(searchSourceBuilder);
+        PipelineProcessingContext pipelineProcessingContext = new PipelineProcessingContext();
+        NormalizationProcessorWorkflowExecuteRequest normalizationExecuteDTO = NormalizationProcessorWorkflowExecuteRequest.builder()
+            .querySearchResults(querySearchResults)
+            .fetchSearchResultOptional(Optional.empty())
+            .normalizationTechnique(ScoreNormalizationFactory.DEFAULT_METHOD)
+            .combinationTechnique(ScoreCombinationFactory.DEFAULT_METHOD)
+            .explain(true)
+            .pipelineProcessingContext(pipelineProcessingContext)
+            .searchPhaseContext(searchPhaseContext)
+            .build();
+
+        normalizationProcessorWorkflow.execute(normalizationExecuteDTO);
+
+        ExplanationPayload explanationPayload = (ExplanationPayload) pipelineProcessingContext.getAttribute(EXPLANATION_RESPONSE_KEY);
+        assertNotNull(explanationPayload);
+        @SuppressWarnings("unchecked")
+        Map<SearchShard, List<CombinedExplanationDetails>> combinedExplanations = (Map<
+            SearchShard,
+            List<CombinedExplanationDetails>>) explanationPayload.getExplainPayload().get(NORMALIZATION_PROCESSOR);
+        assertEquals(2, combinedExplanations.size());
+        for (QuerySearchResult querySearchResult : querySearchResults) {
+            SearchShard searchShard = SearchShard.createSearchShard(querySearchResult.getSearchShardTarget());
+            List<CombinedExplanationDetails> shardExplanations = combinedExplanations.get(searchShard);
+            ScoreDoc[] combinedScoreDocs = querySearchResult.topDocs().topDocs.scoreDocs;
+            assertEquals(combinedScoreDocs.length, shardExplanations.size());
+            for (int i = 0; i < combinedScoreDocs.length; i++) {
+                CombinedExplanationDetails explanation = shardExplanations.get(i);
+                ExplanationDetails combinationExplanation = explanation.getCombinationExplanations();
+                assertEquals(combinedScoreDocs[i].doc, combinationExplanation.getDocId());
+                Pair<Float, String> combinationDetails = combinationExplanation.getScoreDetails().get(0);
+                assertEquals(combinedScoreDocs[i].score, combinationDetails.getKey(), DELTA_FOR_SCORE_ASSERTION);
+                assertEquals("arithmetic_mean combination of:", combinationDetails.getValue());
+                List<Pair<Float, String>> normalizationDetails = explanation.getNormalizationExplanations().getScoreDetails();
+                assertEquals(2, normalizationDetails.size());
+                assertEquals("min_max normalization of:", normalizationDetails.get(0).getValue());
+            }
+        }
+        // doc 0 of the first shard is returned only by the first sub-query
+        List<CombinedExplanationDetails> firstShardExplanations = combinedExplanations.get(
+            SearchShard.createSearchShard(querySearchResults.get(0).getSearchShardTarget())
+        );
+        ExplanationDetails docExplanation = firstShardExplanations.stream()
+            .filter(details -> details.getCombinationExplanations().getDocId() == 0)
+            .findFirst()
+            .orElseThrow()
+            .getNormalizationExplanations();
+        assertTrue(docExplanation.getScoreDetails().get(0).getKey() > 0.0f);
+        assertEquals(0.0f, docExplanation.getScoreDetails().get(1).getKey(), 0.0f);
+    }
 }
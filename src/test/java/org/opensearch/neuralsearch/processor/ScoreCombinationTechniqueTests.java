@@ -4,7 +4,10 @@
  */
 package org.opensearch.neuralsearch.processor;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TopDocs;
@@ -21,7 +24,18 @@ import java.util.List;
 
 import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombiner;
+import org.opensearch.neuralsearch.processor.util.ProcessorUtils;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
+import org.opensearch.neuralsearch.executors.HybridQueryTaskType;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class ScoreCombinationTechniqueTests extends OpenSearchTestCase {
 
@@ -208,4 +222,157 @@ public class ScoreCombinationTechniqueTests extends OpenSearchTestCase {
             }
         }
     }
+
+    public void testCombination_whenParallelShardResultsProcessingEnabled_thenSameScoresAsInline() {
+        TestUtils.initializeEventStatsManager();
+        List<CompoundTopDocs> inlineQueryTopDocs = createQueryTopDocsOfMultipleShards();
+        List<CompoundTopDocs> parallelQueryTopDocs = createQueryTopDocsOfMultipleShards();
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        when(threadPool.info(anyString())).thenReturn(new ThreadPool.Info("hybrid", ThreadPool.ThreadPoolType.FIXED, 4));
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isHybridQueryParallelShardResultsProcessingEnabled()).thenReturn(true);
+        when(settingsAccessor.getHybridQueryParallelShardResultsProcessingMinCandidates()).thenReturn(9);
+        ScoreCombiner scoreCombiner = new ScoreCombiner();
+        try {
+            HybridQueryExecutor.initialize(threadPool, settingsAccessor);
+            // parallelism is capped by the number of shards
+            int shardResultsParallelism = ProcessorUtils.getShardResultsParallelism(parallelQueryTopDocs);
+            assertEquals(2, shardResultsParallelism);
+            scoreCombiner.combineScores(
+                CombineScoresDto.builder()
+                    .queryTopDocs(parallelQueryTopDocs)
+                    .scoreCombinationTechnique(ScoreCombinationFactory.DEFAULT_METHOD)
+                    .querySearchResults(Collections.emptyList())
+                    .shardResultsParallelism(shardResultsParallelism)
+                    .build()
+            );
+            long numOfParallelTasks = HybridQueryTaskType.SHARD_RESULTS.getTasksStatName().getEventStat().getValue();
+            assertTrue(numOfParallelTasks > 0);
+
+            // one candidate short of the threshold, results are combined inline
+            when(settingsAccessor.getHybridQueryParallelShardResultsProcessingMinCandidates()).thenReturn(10);
+            shardResultsParallelism = ProcessorUtils.getShardResultsParallelism(inlineQueryTopDocs);
+            assertEquals(1, shardResultsParallelism);
+            scoreCombiner.combineScores(
+                CombineScoresDto.builder()
+                    .queryTopDocs(inlineQueryTopDocs)
+                    .scoreCombinationTechnique(ScoreCombinationFactory.DEFAULT_METHOD)
+                    .querySearchResults(Collections.emptyList())
+                    .shardResultsParallelism(shardResultsParallelism)
+                    .build()
+            );
+            assertEquals(numOfParallelTasks, HybridQueryTaskType.SHARD_RESULTS.getTasksStatName().getEventStat().getValue());
+        } finally {
+            HybridQueryExecutor.initialize(threadPool);
+        }
+
+        assertEquals(inlineQueryTopDocs.size(), parallelQueryTopDocs.size());
+        for (int shard = 0; shard < inlineQueryTopDocs.size(); shard++) {
+            List<ScoreDoc> inlineScoreDocs = inlineQueryTopDocs.get(shard).getScoreDocs();
+            List<ScoreDoc> parallelScoreDocs = parallelQueryTopDocs.get(shard).getScoreDocs();
+            assertEquals(inlineScoreDocs.size(), parallelScoreDocs.size());
+            for (int i = 0; i < inlineScoreDocs.size(); i++) {
+                assertEquals(inlineScoreDocs.get(i).doc, parallelScoreDocs.get(i).doc);
+                assertEquals(inlineScoreDocs.get(i).score, parallelScoreDocs.get(i).score, 0.0f);
+            }
+        }
+    }
+
+    public void testGetShardResultsParallelism_whenThreadPoolSmallerThanNumOfShards_thenCappedByThreadPoolSize() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        when(threadPool.info(anyString())).thenReturn(new ThreadPool.Info("hybrid", ThreadPool.ThreadPoolType.FIXED, 1));
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isHybridQueryParallelShardResultsProcessingEnabled()).thenReturn(true);
+        when(settingsAccessor.getHybridQueryParallelShardResultsProcessingMinCandidates()).thenReturn(1);
+        try {
+            HybridQueryExecutor.initialize(threadPool, settingsAccessor);
+            assertEquals(1, ProcessorUtils.getShardResultsParallelism(createQueryTopDocsOfMultipleShards()));
+        } finally {
+            HybridQueryExecutor.initialize(threadPool);
+        }
+    }
+
+    public void testProcessShardResults_whenFewerTasksThanShards_thenResultsInOrderOfShards() {
+        TestUtils.initializeEventStatsManager();
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        List<CompoundTopDocs> queryTopDocs = new ArrayList<>(createQueryTopDocsOfMultipleShards());
+        queryTopDocs.add(null);
+        queryTopDocs.addAll(createQueryTopDocsOfMultipleShards());
+        try {
+            HybridQueryExecutor.initialize(threadPool);
+
+            List<Long> totalHitsPerShard = ProcessorUtils.processShardResults(
+                queryTopDocs,
+                2,
+                compoundTopDocs -> compoundTopDocs.getTotalHits().value()
+            );
+
+            assertEquals(Arrays.asList(5L, 4L, null, 5L, 4L), totalHitsPerShard);
+            assertTrue(HybridQueryTaskType.SHARD_RESULTS.getTasksStatName().getEventStat().getValue() > 0);
+        } finally {
+            HybridQueryExecutor.initialize(threadPool);
+        }
+    }
+
+    public void testProcessShardResults_whenCalledOnTransportThread_thenProcessInline() throws Exception {
+        TestUtils.initializeEventStatsManager();
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        List<CompoundTopDocs> queryTopDocs = createQueryTopDocsOfMultipleShards();
+        AtomicReference<List<Long>> totalHitsPerShard = new AtomicReference<>();
+        try {
+            HybridQueryExecutor.initialize(threadPool);
+            long numOfParallelTasks = HybridQueryTaskType.SHARD_RESULTS.getTasksStatName().getEventStat().getValue();
+
+            Thread transportThread = new Thread(
+                () -> totalHitsPerShard.set(
+                    ProcessorUtils.processShardResults(queryTopDocs, 2, compoundTopDocs -> compoundTopDocs.getTotalHits().value())
+                ),
+                "opensearch[node_1][transport_worker][T#1]"
+            );
+            transportThread.start();
+            transportThread.join();
+
+            assertEquals(Arrays.asList(5L, 4L), totalHitsPerShard.get());
+            assertEquals(numOfParallelTasks, HybridQueryTaskType.SHARD_RESULTS.getTasksStatName().getEventStat().getValue());
+        } finally {
+            HybridQueryExecutor.initialize(threadPool);
+        }
+    }
+
+    private List<CompoundTopDocs> createQueryTopDocsOfMultipleShards() {
+        // 9 candidate docs in total
+        return List.of(
+            new CompoundTopDocs(
+                new TotalHits(5, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(
+                        new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(1, 1.0f), new ScoreDoc(2, .25f), new ScoreDoc(4, 0.001f) }
+                    ),
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(3, 1.0f), new ScoreDoc(5, 0.001f) }
+                    )
+                ),
+                false,
+                SEARCH_SHARD
+            ),
+            new CompoundTopDocs(
+                new TotalHits(4, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]),
+                    new TopDocs(
+                        new TotalHits(4, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(2, 0.9f), new ScoreDoc(4, 0.6f), new ScoreDoc(7, 0.5f), new ScoreDoc(9, 0.01f) }
+                    )
+                ),
+                false,
+                SEARCH_SHARD
+            )
+        );
+    }
 }
@@ -5,13 +5,19 @@
 package org.opensearch.neuralsearch.processor;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.apache.commons.lang3.Range;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
+import org.opensearch.neuralsearch.processor.normalization.L2ScoreNormalizationTechnique;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationFactory;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationTechnique;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizer;
+import org.opensearch.neuralsearch.processor.normalization.SubQueryScoreNormalizer;
+import org.opensearch.neuralsearch.processor.normalization.ZScoreNormalizationTechnique;
 
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -261,4 +267,81 @@ public class ScoreNormalizationTechniqueTests extends OpenSearchTestCase {
         assertEquals(TotalHits.Relation.EQUAL_TO, topDocShardThreeSubqueryTwo.totalHits.relation());
         assertEquals(0, topDocShardThreeSubqueryTwo.scoreDocs.length);
     }
+
+    public void testScoreNormalizer_whenTechniqueSupportsFusedNormalization_thenSameScoresAsInPlaceNormalization() {
+        ScoreNormalizer scoreNormalizer = new ScoreNormalizer();
+        ScoreNormalizationFactory scoreNormalizationFactory = new ScoreNormalizationFactory();
+        List<ScoreNormalizationTechnique> techniques = List.of(
+            ScoreNormalizationFactory.DEFAULT_METHOD,
+            scoreNormalizationFactory.createNormalization(L2ScoreNormalizationTechnique.TECHNIQUE_NAME),
+            scoreNormalizationFactory.createNormalization(ZScoreNormalizationTechnique.TECHNIQUE_NAME)
+        );
+        for (ScoreNormalizationTechnique technique : techniques) {
+            List<CompoundTopDocs> queryTopDocs = createQueryTopDocsForTwoShards();
+            Optional<SubQueryScoreNormalizer> fusedScoreNormalizer = scoreNormalizer.getScoreNormalizer(
+                NormalizeScoresDTO.builder().queryTopDocs(queryTopDocs).normalizationTechnique(technique).build()
+            );
+            assertTrue(fusedScoreNormalizer.isPresent());
+
+            List<CompoundTopDocs> normalizedQueryTopDocs = createQueryTopDocsForTwoShards();
+            scoreNormalizer.normalizeScores(
+                NormalizeScoresDTO.builder().queryTopDocs(normalizedQueryTopDocs).normalizationTechnique(technique).build()
+            );
+
+            for (int shard = 0; shard < queryTopDocs.size(); shard++) {
+                List<TopDocs> rawTopDocs = queryTopDocs.get(shard).getTopDocs();
+                List<TopDocs> normalizedTopDocs = normalizedQueryTopDocs.get(shard).getTopDocs();
+                for (int subQueryIndex = 0; subQueryIndex < rawTopDocs.size(); subQueryIndex++) {
+                    ScoreDoc[] rawScoreDocs = rawTopDocs.get(subQueryIndex).scoreDocs;
+                    for (int i = 0; i < rawScoreDocs.length; i++) {
+                        assertEquals(
+                            normalizedTopDocs.get(subQueryIndex).scoreDocs[i].score,
+                            fusedScoreNormalizer.get().normalize(subQueryIndex, rawScoreDocs[i].score),
+                            0.0f
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    public void testScoreNormalizer_whenRRFTechnique_thenNoFusedNormalization() {
+        ScoreNormalizer scoreNormalizer = new ScoreNormalizer();
+        ScoreNormalizationTechnique rrfTechnique = new ScoreNormalizationFactory().createNormalization("rrf", Map.of());
+        NormalizeScoresDTO normalizeScoresDTO = NormalizeScoresDTO.builder()
+            .queryTopDocs(createQueryTopDocsForTwoShards())
+            .normalizationTechnique(rrfTechnique)
+            .build();
+
+        assertTrue(scoreNormalizer.getScoreNormalizer(normalizeScoresDTO).isEmpty());
+    }
+
+    private static List<CompoundTopDocs> createQueryTopDocsForTwoShards() {
+        return List.of(
+            new CompoundTopDocs(
+                new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(3, 1.0f), new ScoreDoc(5, 0.5f) }
+                    ),
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(2, 0.9f), new ScoreDoc(5, 0.2f) }
+                    )
+                ),
+                false,
+                SEARCH_SHARD
+            ),
+            new CompoundTopDocs(
+                new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(7, 2.9f) }),
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(9, 0.7f) })
+                ),
+                false,
+                new SearchShard("my_index", 1, "12345678")
+            )
+        );
+    }
 }
@@ -54,6 +54,7 @@ import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
+import org.opensearch.neuralsearch.common.FloatVector;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.factory.TextEmbeddingProcessorFactory;
 
@@ -279,6 +280,33 @@ public class TextEmbeddingProcessorTests extends InferenceProcessorTestCase {
         verify(handler).accept(any(IngestDocument.class), isNull());
     }
 
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenFloatVectorResult_thenMutableEmbeddingInDocument() {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, "my_index");
+        sourceAndMetadata.put("key1", "value1");
+        sourceAndMetadata.put("key2", "value2");
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        TextEmbeddingProcessor processor = createInstanceWithLevel1MapConfig(false);
+
+        List<List<Float>> modelTensorList = List.of(FloatVector.wrap(new float[] { 1.0f, 2.0f }), FloatVector.wrap(new float[] { 3.0f }));
+        doAnswer(invocation -> {
+            ActionListener<List<List<Float>>> listener = invocation.getArgument(1);
+            listener.onResponse(modelTensorList);
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(argThat(request -> request.getInputTexts() != null), isA(ActionListener.class));
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+        verify(handler).accept(any(IngestDocument.class), isNull());
+
+        List<Float> embedding = (List<Float>) ingestDocument.getSourceAndMetadata().get("key1_knn");
+        assertEquals(List.of(1.0f, 2.0f), embedding);
+        // later processors can modify the embedding like any other source value
+        embedding.add(5.0f);
+        assertEquals(List.of(1.0f, 2.0f, 5.0f), embedding);
+    }
+
     @SneakyThrows
     public void testExecute_whenInferenceThrowInterruptedException_throwRuntimeException() {
         Map<String, Object> sourceAndMetadata = new HashMap<>();
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class DocScoreTableTests extends OpenSearchTestCase {
+    private static final float DELTA_FOR_ASSERTION = 0.0001f;
+
+    public void testOf_whenDocsReturnedBySeveralSubQueries_thenScoresPerSubQuery() {
+        DocScoreTable table = DocScoreTable.of(
+            List.of(
+                topDocs(new ScoreDoc(5, 0.9f), new ScoreDoc(1_000_000, 0.4f)),
+                topDocs(),
+                topDocs(new ScoreDoc(1_000_000, 0.7f), new ScoreDoc(3, 0.2f))
+            )
+        );
+
+        assertEquals(3, table.size());
+        float[] scores = new float[3];
+        table.copyScores(table.indexOf(5), scores);
+        assertArrayEquals(new float[] { 0.9f, 0.0f, 0.0f }, scores, 0.0f);
+        table.copyScores(table.indexOf(1_000_000), scores);
+        assertArrayEquals(new float[] { 0.4f, 0.0f, 0.7f }, scores, 0.0f);
+        table.copyScores(table.indexOf(3), scores);
+        assertArrayEquals(new float[] { 0.0f, 0.0f, 0.2f }, scores, 0.0f);
+        assertEquals(-1, table.indexOf(4));
+    }
+
+    public void testTopIndexesByScore_whenLimitIsLowerThanSize_thenOnlyTopDocsInScoreOrder() {
+        DocScoreTable table = DocScoreTable.of(
+            List.of(
+                topDocs(new ScoreDoc(7, 0.5f), new ScoreDoc(2, 0.3f), new ScoreDoc(9, 0.3f)),
+                topDocs(new ScoreDoc(4, 0.6f), new ScoreDoc(2, 0.1f))
+            )
+        );
+        ScoreCombinationTechnique technique = new ArithmeticMeanScoreCombinationTechnique(Map.of(), new ScoreCombinationUtil());
+        float[] combinedScores = table.combine(technique);
+
+        // doc 4: 0.3, doc 7: 0.25, doc 2: 0.2, doc 9: 0.15
+        assertDocs(table, table.topIndexesByScore(combinedScores, Long.MAX_VALUE), 4, 7, 2, 9);
+        assertDocs(table, table.topIndexesByScore(combinedScores, 2), 4, 7);
+        assertDocs(table, table.topIndexesByScore(combinedScores, 0));
+        assertEquals(0.3f, combinedScores[table.indexOf(4)], DELTA_FOR_ASSERTION);
+    }
+
+    public void testTopIndexesByScore_whenEqualScores_thenLowerDocIdFirst() {
+        DocScoreTable table = DocScoreTable.of(
+            List.of(topDocs(new ScoreDoc(8, 0.5f), new ScoreDoc(1, 0.5f), new ScoreDoc(3, 0.5f), new ScoreDoc(6, 0.1f)))
+        );
+        float[] combinedScores = table.combine(new ArithmeticMeanScoreCombinationTechnique(Map.of(), new ScoreCombinationUtil()));
+
+        assertDocs(table, table.topIndexesByScore(combinedScores, 4), 1, 3, 8, 6);
+        assertDocs(table, table.topIndexesByScore(combinedScores, 2), 1, 3);
+    }
+
+    private static TopDocs topDocs(final ScoreDoc... scoreDocs) {
+        return new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
+    private static void assertDocs(final DocScoreTable table, final int[] indexes, final int... expectedDocs) {
+        assertEquals(expectedDocs.length, indexes.length);
+        for (int i = 0; i < expectedDocs.length; i++) {
+            assertEquals(expectedDocs[i], table.doc(indexes[i]));
+        }
+    }
+}
@@ -17,6 +17,7 @@ import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.env.Environment;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.InferenceProcessor;
 import org.opensearch.neuralsearch.processor.SparseEncodingProcessor;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.test.OpenSearchTestCase;
@@ -204,4 +205,37 @@ public class SparseEncodingEmbeddingProcessorFactoryTests extends OpenSearchTest
         assertEquals(PruneType.NONE, processor.getPruneType());
         assertEquals(0f, processor.getPruneRatio(), 1e-6);
     }
+
+    @SneakyThrows
+    public void testCreateProcessor_whenInvalidSkipExistingMode_thenFail() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID_FIELD, MODEL_ID);
+        config.put(FIELD_MAP_FIELD, Map.of("a", "b"));
+        config.put(SKIP_EXISTING, true);
+        config.put(InferenceProcessor.SKIP_EXISTING_MODE, "invalid");
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> sparseEncodingProcessorFactory.create(Map.of(), PROCESSOR_TAG, DESCRIPTION, config)
+        );
+        assertEquals("skip_existing_mode must be one of [text, hash], but was [invalid]", exception.getMessage());
+    }
+
+    @SneakyThrows
+    public void testCreateProcessor_whenHashSkipExistingMode_thenSuccessful() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID_FIELD, MODEL_ID);
+        config.put(FIELD_MAP_FIELD, Map.of("a", "b"));
+        config.put(SKIP_EXISTING, true);
+        config.put(InferenceProcessor.SKIP_EXISTING_MODE, InferenceProcessor.SKIP_EXISTING_MODE_HASH);
+
+        SparseEncodingProcessor processor = (SparseEncodingProcessor) sparseEncodingProcessorFactory.create(
+            Map.of(),
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            config
+        );
+
+        assertNotNull(processor);
+    }
 }
@@ -4,23 +4,23 @@
  */
 package org.opensearch.neuralsearch.processor.normalization;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.neuralsearch.executors.HybridQueryTaskType;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.neuralsearch.processor.SearchShard;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
-import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
 import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
+import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.search.SearchShardTarget;
 
 /**
@@ -243,6 +243,48 @@ public class L2ScoreNormalizationTechniqueTests extends OpenSearchQueryTestCase
         }
     }
 
+    public void testNormalization_whenShardResultsProcessedInParallel_thenScoresMatchInlineNormalization() {
+        TestUtils.initializeEventStatsManager();
+        L2ScoreNormalizationTechnique normalizationTechnique = new L2ScoreNormalizationTechnique();
+        float[][] scoresPerShard = new float[][] { { 0.9f, 0.7f, 0.1f }, { 2.9f, 0.7f }, { 0.6f, 0.5f } };
+        List<CompoundTopDocs> inlineQueryTopDocs = new ArrayList<>();
+        List<CompoundTopDocs> parallelQueryTopDocs = new ArrayList<>();
+        for (int shard = 0; shard < scoresPerShard.length; shard++) {
+            inlineQueryTopDocs.add(singleSubQueryTopDocs(shard, scoresPerShard[shard]));
+            parallelQueryTopDocs.add(singleSubQueryTopDocs(shard, scoresPerShard[shard]));
+        }
+        long numOfShardResultsTasks = HybridQueryTaskType.SHARD_RESULTS.getTasksStatName().getEventStat().getValue();
+
+        normalizationTechnique.normalize(
+            NormalizeScoresDTO.builder().queryTopDocs(inlineQueryTopDocs).normalizationTechnique(normalizationTechnique).build()
+        );
+        normalizationTechnique.normalize(
+            NormalizeScoresDTO.builder()
+                .queryTopDocs(parallelQueryTopDocs)
+                .normalizationTechnique(normalizationTechnique)
+                .shardResultsParallelism(2)
+                .build()
+        );
+
+        assertTrue(HybridQueryTaskType.SHARD_RESULTS.getTasksStatName().getEventStat().getValue() > numOfShardResultsTasks);
+        for (int shard = 0; shard < scoresPerShard.length; shard++) {
+            assertCompoundTopDocs(inlineQueryTopDocs.get(shard).getTopDocs().get(0), parallelQueryTopDocs.get(shard).getTopDocs().get(0));
+        }
+    }
+
+    private CompoundTopDocs singleSubQueryTopDocs(final int shard, final float[] scores) {
+        ScoreDoc[] scoreDocs = new ScoreDoc[scores.length];
+        for (int i = 0; i < scores.length; i++) {
+            scoreDocs[i] = new ScoreDoc(i, scores[i]);
+        }
+        return new CompoundTopDocs(
+            new TotalHits(scores.length, TotalHits.Relation.EQUAL_TO),
+            List.of(new TopDocs(new TotalHits(scores.length, TotalHits.Relation.EQUAL_TO), scoreDocs)),
+            false,
+            new SearchShard("my_index", shard, "12345678")
+        );
+    }
+
     public void testNormalizedScoresAreSetAtCorrectIndices() {
         // Setup test data
         SearchShardTarget shardTarget = new SearchShardTarget("node1", new ShardId("index", "_na_", 0), null, null);
@@ -280,33 +322,9 @@ public class L2ScoreNormalizationTechniqueTests extends OpenSearchQueryTestCase
         );
 
         L2ScoreNormalizationTechnique normalizer = new L2ScoreNormalizationTechnique();
-        Map<DocIdAtSearchShard, ExplanationDetails> result = normalizer.explain(Collections.singletonList(compoundTopDocs));
-
-        // Verify results
-        DocIdAtSearchShard doc1 = new DocIdAtSearchShard(1, searchShard);
-        DocIdAtSearchShard doc2 = new DocIdAtSearchShard(2, searchShard);
-
-        // Verify document 1 normalized scores
-        ExplanationDetails doc1Details = result.get(doc1);
-        assertNotNull(doc1Details);
-        List<Pair<Float, String>> doc1Scores = doc1Details.getScoreDetails();
-        assertEquals(3, doc1Scores.size());
-
-        // Verify L2 normalized scores for document 1
-        assertEquals(0.5547f, doc1Scores.get(0).getKey(), DELTA_FOR_ASSERTION); // First subquery
-        assertEquals(0.7809f, doc1Scores.get(1).getKey(), DELTA_FOR_ASSERTION); // Second subquery
-        assertEquals(1.0000f, doc1Scores.get(2).getKey(), DELTA_FOR_ASSERTION); // Third subquery
-
-        // Verify document 2 normalized scores
-        ExplanationDetails doc2Details = result.get(doc2);
-        assertNotNull(doc2Details);
-        List<Pair<Float, String>> doc2Scores = doc2Details.getScoreDetails();
-        assertEquals(3, doc2Scores.size());
-
-        // Verify L2 normalized scores for document 2
-        assertEquals(0.8321f, doc2Scores.get(0).getKey(), DELTA_FOR_ASSERTION); // First subquery
-        assertEquals(0.6247f, doc2Scores.get(1).getKey(), DELTA_FOR_ASSERTION); // Second subquery
-        assertEquals(0.0000f, doc2Scores.get(2).getKey(), DELTA_FOR_ASSERTION); // Third subquery (doc2 not present)
+        normalizer.normalize(
+            NormalizeScoresDTO.builder().queryTopDocs(Collections.singletonList(compoundTopDocs)).normalizationTechnique(normalizer).build()
+        );
 
         // Verify that original ScoreDoc scores were updated with L2 normalized values
         assertEquals(0.5547f, topDocs1.scoreDocs[0].score, DELTA_FOR_ASSERTION); // doc1 in first subquery
@@ -314,11 +332,6 @@ public class L2ScoreNormalizationTechniqueTests extends OpenSearchQueryTestCase
         assertEquals(0.6247f, topDocs2.scoreDocs[0].score, DELTA_FOR_ASSERTION); // doc2 in second subquery
         assertEquals(0.7809f, topDocs2.scoreDocs[1].score, DELTA_FOR_ASSERTION); // doc1 in second subquery
         assertEquals(1.0000f, topDocs3.scoreDocs[0].score, DELTA_FOR_ASSERTION); // doc1 in third subquery
-
-        // Verify explanation descriptions
-        assertTrue(doc1Scores.get(0).getValue().contains("l2 normalization"));
-        assertTrue(doc1Scores.get(1).getValue().contains("l2 normalization"));
-        assertTrue(doc1Scores.get(2).getValue().contains("l2 normalization"));
     }
 
     public void testInvalidParameters() {
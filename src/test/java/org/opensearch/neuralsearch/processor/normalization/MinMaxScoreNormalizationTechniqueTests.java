@@ -12,7 +12,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
@@ -20,8 +19,6 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.neuralsearch.processor.SearchShard;
 import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
-import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
 import org.opensearch.search.SearchShardTarget;
 
@@ -235,37 +232,9 @@ public class MinMaxScoreNormalizationTechniqueTests extends OpenSearchQueryTestC
         );
 
         MinMaxScoreNormalizationTechnique normalizer = new MinMaxScoreNormalizationTechnique();
-        Map<DocIdAtSearchShard, ExplanationDetails> result = normalizer.explain(Collections.singletonList(compoundTopDocs));
-
-        // Verify results
-        DocIdAtSearchShard doc1 = new DocIdAtSearchShard(1, searchShard);
-        DocIdAtSearchShard doc2 = new DocIdAtSearchShard(2, searchShard);
-
-        // Verify document 1 normalized scores
-        ExplanationDetails doc1Details = result.get(doc1);
-        assertNotNull(doc1Details);
-        List<Pair<Float, String>> doc1Scores = doc1Details.getScoreDetails();
-        assertEquals(3, doc1Scores.size());
-
-        // First subquery (0.8 is max, 0.6 is min)
-        assertEquals(1.0f, doc1Scores.get(0).getKey(), DELTA_FOR_SCORE_ASSERTION);
-        // Second subquery (0.9 is max, 0.7 is min)
-        assertEquals(0.0f, doc1Scores.get(1).getKey(), DELTA_FOR_SCORE_ASSERTION);
-        // Third subquery (0.5 is both max and min)
-        assertEquals(1.0f, doc1Scores.get(2).getKey(), DELTA_FOR_SCORE_ASSERTION);
-
-        // Verify document 2 normalized scores
-        ExplanationDetails doc2Details = result.get(doc2);
-        assertNotNull(doc2Details);
-        List<Pair<Float, String>> doc2Scores = doc2Details.getScoreDetails();
-        assertEquals(3, doc2Scores.size());
-
-        // First subquery (0.8 is max, 0.6 is min)
-        assertEquals(0.0f, doc2Scores.get(0).getKey(), DELTA_FOR_SCORE_ASSERTION);
-        // Second subquery (0.9 is max, 0.7 is min)
-        assertEquals(1.0f, doc2Scores.get(1).getKey(), DELTA_FOR_SCORE_ASSERTION);
-        // Third subquery (document 2 not present in third subquery)
-        assertEquals(0.0f, doc2Scores.get(2).getKey(), DELTA_FOR_SCORE_ASSERTION);
+        normalizer.normalize(
+            NormalizeScoresDTO.builder().queryTopDocs(Collections.singletonList(compoundTopDocs)).normalizationTechnique(normalizer).build()
+        );
 
         // Verify that original ScoreDoc scores were updated
         assertEquals(1.0f, topDocs1.scoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION); // doc1 in first subquery
@@ -273,11 +242,6 @@ public class MinMaxScoreNormalizationTechniqueTests extends OpenSearchQueryTestC
         assertEquals(1.0f, topDocs2.scoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION); // doc2 in second subquery
         assertEquals(0.0f, topDocs2.scoreDocs[1].score, DELTA_FOR_SCORE_ASSERTION); // doc1 in second subquery
         assertEquals(1.0f, topDocs3.scoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION); // doc1 in third subquery
-
-        // Verify explanation descriptions
-        assertTrue(doc1Scores.get(0).getValue().contains("min_max normalization"));
-        assertTrue(doc1Scores.get(1).getValue().contains("min_max normalization"));
-        assertTrue(doc1Scores.get(2).getValue().contains("min_max normalization"));
     }
 
     public void testLowerBoundsModeFromString_whenValidValues_thenSuccessful() {
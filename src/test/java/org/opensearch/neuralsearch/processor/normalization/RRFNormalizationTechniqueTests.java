@@ -4,7 +4,6 @@
  */
 package org.opensearch.neuralsearch.processor.normalization;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
@@ -12,14 +11,11 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
 import org.opensearch.neuralsearch.processor.SearchShard;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
-import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
 import org.opensearch.search.SearchShardTarget;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -279,38 +275,13 @@ public class RRFNormalizationTechniqueTests extends OpenSearchQueryTestCase {
         );
 
         RRFNormalizationTechnique normalizer = new RRFNormalizationTechnique(Map.of(), new ScoreNormalizationUtil());
-        Map<DocIdAtSearchShard, ExplanationDetails> result = normalizer.explain(Collections.singletonList(compoundTopDocs));
-
-        // Verify results
-        DocIdAtSearchShard doc1 = new DocIdAtSearchShard(1, searchShard);
-        DocIdAtSearchShard doc2 = new DocIdAtSearchShard(2, searchShard);
+        normalizer.normalize(
+            NormalizeScoresDTO.builder().queryTopDocs(Collections.singletonList(compoundTopDocs)).normalizationTechnique(normalizer).build()
+        );
 
         // Constants for RRF score calculation
         float rank1Score = 1.0f / (60.0f + 1.0f); // ≈ 0.0164
         float rank2Score = 1.0f / (60.0f + 2.0f); // ≈ 0.0161
-        float zeroScore = 0.0f;
-
-        // Verify document 1 normalized scores
-        ExplanationDetails doc1Details = result.get(doc1);
-        assertNotNull(doc1Details);
-        List<Pair<Float, String>> doc1Scores = doc1Details.getScoreDetails();
-        assertEquals(3, doc1Scores.size());
-
-        // Verify RRF scores for document 1
-        assertEquals(rank1Score, doc1Scores.get(0).getKey(), DELTA_FOR_ASSERTION); // First subquery (rank 1)
-        assertEquals(rank2Score, doc1Scores.get(1).getKey(), DELTA_FOR_ASSERTION); // Second subquery (rank 2)
-        assertEquals(rank1Score, doc1Scores.get(2).getKey(), DELTA_FOR_ASSERTION); // Third subquery (rank 1)
-
-        // Verify document 2 normalized scores
-        ExplanationDetails doc2Details = result.get(doc2);
-        assertNotNull(doc2Details);
-        List<Pair<Float, String>> doc2Scores = doc2Details.getScoreDetails();
-        assertEquals(3, doc2Scores.size());
-
-        // Verify RRF scores for document 2
-        assertEquals(rank2Score, doc2Scores.get(0).getKey(), DELTA_FOR_ASSERTION); // First subquery (rank 2)
-        assertEquals(rank1Score, doc2Scores.get(1).getKey(), DELTA_FOR_ASSERTION); // Second subquery (rank 1)
-        assertEquals(zeroScore, doc2Scores.get(2).getKey(), DELTA_FOR_ASSERTION);  // Third subquery (not present)
 
         // Verify that original ScoreDoc scores were updated with RRF scores
         assertEquals(rank1Score, topDocs1.scoreDocs[0].score, DELTA_FOR_ASSERTION); // doc1 in first subquery
@@ -318,32 +289,47 @@ public class RRFNormalizationTechniqueTests extends OpenSearchQueryTestCase {
         assertEquals(rank1Score, topDocs2.scoreDocs[0].score, DELTA_FOR_ASSERTION); // doc2 in second subquery
         assertEquals(rank2Score, topDocs2.scoreDocs[1].score, DELTA_FOR_ASSERTION); // doc1 in second subquery
         assertEquals(rank1Score, topDocs3.scoreDocs[0].score, DELTA_FOR_ASSERTION); // doc1 in third subquery
-
-        // Verify explanation descriptions
-        assertTrue(doc1Scores.get(0).getValue().contains("rrf"));
-        assertTrue(doc1Scores.get(1).getValue().contains("rrf"));
-        assertTrue(doc1Scores.get(2).getValue().contains("rrf"));
     }
 
-    public void testExplainWithEmptyAndNullList() {
+    public void testNormalization_whenDeeperRankWindowInNextSearch_thenScoresByRankPosition() {
         RRFNormalizationTechnique normalizationTechnique = new RRFNormalizationTechnique(Map.of(), scoreNormalizationUtil);
-        normalizationTechnique.explain(List.of());
-
-        List<CompoundTopDocs> compoundTopDocs = new ArrayList<>();
-        compoundTopDocs.add(null);
-        normalizationTechnique.explain(compoundTopDocs);
+        for (int depth : new int[] { 3, 1, 1000 }) {
+            float[] scores = new float[depth];
+            for (int i = 0; i < depth; i++) {
+                scores[i] = 1.0f - (float) i / depth;
+            }
+            CompoundTopDocs compoundTopDocs = createCompoundTopDocs(scores, depth);
+            normalizationTechnique.normalize(
+                NormalizeScoresDTO.builder().queryTopDocs(List.of(compoundTopDocs)).normalizationTechnique(normalizationTechnique).build()
+            );
+
+            ScoreDoc[] scoreDocs = compoundTopDocs.getTopDocs().get(0).scoreDocs;
+            assertEquals(depth, scoreDocs.length);
+            for (int rank = 0; rank < depth; rank++) {
+                assertEquals(rrfNorm(rank), scoreDocs[rank].score, DELTA_FOR_ASSERTION);
+            }
+        }
     }
 
-    public void testExplainWithSingleTopDocs() {
-        RRFNormalizationTechnique normalizationTechnique = new RRFNormalizationTechnique(Map.of(), scoreNormalizationUtil);
-        CompoundTopDocs topDocs = createCompoundTopDocs(new float[] { 0.8f }, 1);
-        List<CompoundTopDocs> queryTopDocs = Collections.singletonList(topDocs);
-
-        Map<DocIdAtSearchShard, ExplanationDetails> explanation = normalizationTechnique.explain(queryTopDocs);
-
-        assertNotNull(explanation);
-        assertEquals(1, explanation.size());
-        assertTrue(explanation.containsKey(new DocIdAtSearchShard(0, new SearchShard("test_index", 0, "uuid"))));
+    public void testNormalization_whenLargeRankConstantAndDeepRanks_thenScoresEqualRoundedReciprocalRank() {
+        for (int rankConstant : new int[] { 1, RANK_CONSTANT, 9_999, 10_000 }) {
+            RRFNormalizationTechnique normalizationTechnique = new RRFNormalizationTechnique(
+                Map.of("rank_constant", rankConstant),
+                scoreNormalizationUtil
+            );
+            int depth = 10_000;
+            CompoundTopDocs compoundTopDocs = createCompoundTopDocs(new float[depth], depth);
+            normalizationTechnique.normalize(
+                NormalizeScoresDTO.builder().queryTopDocs(List.of(compoundTopDocs)).normalizationTechnique(normalizationTechnique).build()
+            );
+
+            ScoreDoc[] scoreDocs = compoundTopDocs.getTopDocs().get(0).scoreDocs;
+            for (int rank = 0; rank < depth; rank++) {
+                float expectedScore = BigDecimal.ONE.divide(BigDecimal.valueOf(rankConstant + rank + 1), 10, RoundingMode.HALF_UP)
+                    .floatValue();
+                assertEquals(expectedScore, scoreDocs[rank].score, 0.0f);
+            }
+        }
     }
 
     private float rrfNorm(int rank) {
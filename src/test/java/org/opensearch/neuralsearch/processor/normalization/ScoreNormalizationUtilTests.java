@@ -4,8 +4,6 @@
  */
 package org.opensearch.neuralsearch.processor.normalization;
 
-import org.opensearch.neuralsearch.processor.SearchShard;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.Arrays;
@@ -15,8 +13,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import static org.opensearch.neuralsearch.util.TestUtils.DELTA_FOR_FLOATS_ASSERTION;
-
 public class ScoreNormalizationUtilTests extends OpenSearchTestCase {
 
     private ScoreNormalizationUtil scoreNormalizationUtil;
@@ -56,24 +52,6 @@ public class ScoreNormalizationUtilTests extends OpenSearchTestCase {
         assertTrue(exception.getMessage().contains("parameter [weights] must be a collection of numbers"));
     }
 
-    public void testSetNormalizedScore() {
-        Map<DocIdAtSearchShard, List<Float>> normalizedScores = new HashMap<>();
-        SearchShard searchShard = new SearchShard("index1", 0, "shard1");
-        DocIdAtSearchShard docId = new DocIdAtSearchShard(1, searchShard);
-        int subQueryIndex = 1;
-        int numberOfSubQueries = 3;
-        float normalizedScore = 0.75f;
-
-        ScoreNormalizationUtil.setNormalizedScore(normalizedScores, docId, subQueryIndex, numberOfSubQueries, normalizedScore);
-
-        assertTrue(normalizedScores.containsKey(docId));
-        List<Float> scores = normalizedScores.get(docId);
-        assertEquals(numberOfSubQueries, scores.size());
-        assertEquals(normalizedScore, scores.get(subQueryIndex), DELTA_FOR_FLOATS_ASSERTION);
-        assertEquals(0.0f, scores.get(0), DELTA_FOR_FLOATS_ASSERTION);
-        assertEquals(0.0f, scores.get(2), DELTA_FOR_FLOATS_ASSERTION);
-    }
-
     public void testValidateParametersWithNullParameters() {
         scoreNormalizationUtil.validateParameters(null, supportedTopLevelParams, supportedNestedParams);
     }
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.SearchShard;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SubQueryScoreStatsTests extends OpenSearchTestCase {
+    private static final float DELTA_FOR_ASSERTION = 0.0001f;
+
+    public void testAddAndMerge_whenScoresAdded_thenStatsAreCollected() {
+        SubQueryScoreStats stats = new SubQueryScoreStats();
+        assertEquals(Float.MAX_VALUE, stats.getMinScore(), 0.0f);
+        assertEquals(Float.MIN_VALUE, stats.getMaxScore(), 0.0f);
+        assertEquals(0, stats.getCount());
+
+        stats.add(0.5f);
+        stats.add(2.0f);
+        SubQueryScoreStats otherStats = new SubQueryScoreStats();
+        otherStats.add(0.1f);
+        stats.merge(otherStats);
+
+        assertEquals(0.1f, stats.getMinScore(), DELTA_FOR_ASSERTION);
+        assertEquals(2.0f, stats.getMaxScore(), DELTA_FOR_ASSERTION);
+        assertEquals(4.26, stats.getSumOfSquares(), DELTA_FOR_ASSERTION);
+        assertEquals(3, stats.getCount());
+        assertEquals((float) Math.sqrt(4.26), stats.getL2Norm(), DELTA_FOR_ASSERTION);
+    }
+
+    public void testCollect_whenResultsOfMultipleShards_thenStatsAreMergedPerSubQuery() {
+        List<CompoundTopDocs> queryTopDocs = Arrays.asList(
+            compoundTopDocs(0, new float[] { 0.9f, 0.3f }, new float[] { 5.0f }),
+            null,
+            compoundTopDocs(1, new float[] { 0.7f }, new float[] {}),
+            compoundTopDocs(2, new float[] {}, new float[] {})
+        );
+
+        SubQueryScoreStats[] stats = SubQueryScoreStats.collect(queryTopDocs, 1);
+
+        assertEquals(2, stats.length);
+        assertEquals(0.3f, stats[0].getMinScore(), DELTA_FOR_ASSERTION);
+        assertEquals(0.9f, stats[0].getMaxScore(), DELTA_FOR_ASSERTION);
+        assertEquals(3, stats[0].getCount());
+        assertEquals((float) Math.sqrt(0.81 + 0.09 + 0.49), stats[0].getL2Norm(), DELTA_FOR_ASSERTION);
+        assertEquals(5.0f, stats[1].getMinScore(), DELTA_FOR_ASSERTION);
+        assertEquals(5.0f, stats[1].getMaxScore(), DELTA_FOR_ASSERTION);
+        assertEquals(1, stats[1].getCount());
+        assertEquals(5.0f, stats[1].getL2Norm(), DELTA_FOR_ASSERTION);
+    }
+
+    public void testCollect_whenInline_thenL2NormEqualsFloatSumInOrderOfShards() {
+        float[] firstShardScores = new float[] { 0.1f, 0.7f, 0.3f, 1.1f };
+        float[] secondShardScores = new float[] { 0.9f, 0.2f, 0.6f };
+        List<CompoundTopDocs> queryTopDocs = List.of(compoundTopDocs(0, firstShardScores), compoundTopDocs(1, secondShardScores));
+        float expectedSumOfSquares = 0.0f;
+        for (float[] shardScores : List.of(firstShardScores, secondShardScores)) {
+            for (float score : shardScores) {
+                expectedSumOfSquares += score * score;
+            }
+        }
+
+        SubQueryScoreStats[] stats = SubQueryScoreStats.collect(queryTopDocs, 1);
+
+        assertEquals(1, stats.length);
+        assertEquals(expectedSumOfSquares, stats[0].getSumOfSquares(), 0.0f);
+        assertEquals((float) Math.sqrt(expectedSumOfSquares), stats[0].getL2Norm(), 0.0f);
+    }
+
+    public void testCollect_whenInParallel_thenShardStatsMergedInOrderOfShardsInDoublePrecision() {
+        TestUtils.initializeEventStatsManager();
+        float[][] scoresPerShard = new float[][] { { 0.1f, 0.7f, 0.3f, 1.1f }, { 0.9f, 0.2f, 0.6f }, { 0.35f, 1.3f } };
+        List<CompoundTopDocs> queryTopDocs = new ArrayList<>();
+        double expectedSumOfSquares = 0.0;
+        for (int shard = 0; shard < scoresPerShard.length; shard++) {
+            queryTopDocs.add(compoundTopDocs(shard, scoresPerShard[shard]));
+            double shardSumOfSquares = 0.0;
+            for (float score : scoresPerShard[shard]) {
+                shardSumOfSquares += (double) score * score;
+            }
+            expectedSumOfSquares += shardSumOfSquares;
+        }
+        SubQueryScoreStats[] inlineStats = SubQueryScoreStats.collect(queryTopDocs, 1);
+
+        for (int shardResultsParallelism : new int[] { 2, 3 }) {
+            SubQueryScoreStats[] stats = SubQueryScoreStats.collect(queryTopDocs, shardResultsParallelism);
+
+            assertEquals(1, stats.length);
+            assertEquals(expectedSumOfSquares, stats[0].getSumOfSquares(), 0.0);
+            assertEquals((float) Math.sqrt(expectedSumOfSquares), stats[0].getL2Norm(), 0.0f);
+            assertEquals(inlineStats[0].getL2Norm(), stats[0].getL2Norm(), DELTA_FOR_ASSERTION);
+            assertEquals(inlineStats[0].getMinScore(), stats[0].getMinScore(), 0.0f);
+            assertEquals(inlineStats[0].getMaxScore(), stats[0].getMaxScore(), 0.0f);
+            assertEquals(inlineStats[0].getCount(), stats[0].getCount());
+        }
+    }
+
+    private static CompoundTopDocs compoundTopDocs(final int shardId, final float[]... scoresPerSubQuery) {
+        TopDocs[] topDocs = new TopDocs[scoresPerSubQuery.length];
+        int totalHits = 0;
+        for (int i = 0; i < scoresPerSubQuery.length; i++) {
+            ScoreDoc[] scoreDocs = new ScoreDoc[scoresPerSubQuery[i].length];
+            for (int j = 0; j < scoreDocs.length; j++) {
+                scoreDocs[j] = new ScoreDoc(j, scoresPerSubQuery[i][j]);
+            }
+            topDocs[i] = new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+            totalHits += scoreDocs.length;
+        }
+        return new CompoundTopDocs(
+            new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO),
+            List.of(topDocs),
+            false,
+            new SearchShard("my_index", shardId, "12345678")
+        );
+    }
+}
@@ -4,7 +4,6 @@
  */
 package org.opensearch.neuralsearch.processor.normalization;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
@@ -13,15 +12,12 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
 import org.opensearch.neuralsearch.processor.SearchShard;
-import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
-import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
 import org.opensearch.search.SearchShardTarget;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -292,45 +288,9 @@ public class ZScoreNormalizationTechniqueTests extends OpenSearchQueryTestCase {
         );
 
         ZScoreNormalizationTechnique normalizer = new ZScoreNormalizationTechnique();
-        Map<DocIdAtSearchShard, ExplanationDetails> result = normalizer.explain(Collections.singletonList(compoundTopDocs));
-
-        // Verify results
-        DocIdAtSearchShard doc1 = new DocIdAtSearchShard(1, searchShard);
-        DocIdAtSearchShard doc2 = new DocIdAtSearchShard(2, searchShard);
-        DocIdAtSearchShard doc3 = new DocIdAtSearchShard(3, searchShard);
-
-        // Verify document 1 normalized scores
-        ExplanationDetails doc1Details = result.get(doc1);
-        assertNotNull(doc1Details);
-        List<Pair<Float, String>> doc1Scores = doc1Details.getScoreDetails();
-        assertEquals(3, doc1Scores.size());
-
-        // Verify zscore normalized scores for document 1
-        assertEquals(0.001f, doc1Scores.get(0).getKey(), DELTA_FOR_ASSERTION); // First subquery
-        assertEquals(0.001f, doc1Scores.get(1).getKey(), DELTA_FOR_ASSERTION); // Second subquery
-        assertEquals(1.0000f, doc1Scores.get(2).getKey(), DELTA_FOR_ASSERTION); // Third subquery
-
-        // Verify document 2 normalized scores
-        ExplanationDetails doc2Details = result.get(doc2);
-        assertNotNull(doc2Details);
-        List<Pair<Float, String>> doc2Scores = doc2Details.getScoreDetails();
-        assertEquals(3, doc2Scores.size());
-
-        // Verify zscore normalized scores for document 2
-        assertEquals(0.41478074f, doc2Scores.get(0).getKey(), DELTA_FOR_ASSERTION); // First subquery
-        assertEquals(0.001f, doc2Scores.get(1).getKey(), DELTA_FOR_ASSERTION); // Second subquery
-        assertEquals(0.0000f, doc2Scores.get(2).getKey(), DELTA_FOR_ASSERTION); // Third subquery (doc2 not present)
-
-        // Verify document 2 normalized scores
-        ExplanationDetails doc3Details = result.get(doc3);
-        assertNotNull(doc3Details);
-        List<Pair<Float, String>> doc3Scores = doc3Details.getScoreDetails();
-        assertEquals(3, doc3Scores.size());
-
-        // Verify zscore normalized scores for document 2
-        assertEquals(0.72586626f, doc3Scores.get(0).getKey(), DELTA_FOR_ASSERTION); // First subquery
-        assertEquals(1.1406468f, doc3Scores.get(1).getKey(), DELTA_FOR_ASSERTION); // Second subquery
-        assertEquals(0.0000f, doc3Scores.get(2).getKey(), DELTA_FOR_ASSERTION); // Third subquery (doc2 not present)
+        normalizer.normalize(
+            NormalizeScoresDTO.builder().queryTopDocs(Collections.singletonList(compoundTopDocs)).normalizationTechnique(normalizer).build()
+        );
 
         // Verify that original ScoreDoc scores were updated with z score normalized values
         assertEquals(0.001f, topDocs1.scoreDocs[0].score, DELTA_FOR_ASSERTION); // doc1 in first subquery
@@ -340,11 +300,6 @@ public class ZScoreNormalizationTechniqueTests extends OpenSearchQueryTestCase {
         assertEquals(0.001f, topDocs2.scoreDocs[1].score, DELTA_FOR_ASSERTION); // doc1 in second subquery
         assertEquals(1.1406468f, topDocs2.scoreDocs[2].score, DELTA_FOR_ASSERTION); // doc3 in second subquery
         assertEquals(1.0000f, topDocs3.scoreDocs[0].score, DELTA_FOR_ASSERTION); // doc1 in third subquery
-
-        // Verify explanation descriptions
-        assertTrue(doc1Scores.get(0).getValue().contains("z_score normalization"));
-        assertTrue(doc1Scores.get(1).getValue().contains("z_score normalization"));
-        assertTrue(doc1Scores.get(2).getValue().contains("z_score normalization"));
     }
 
     private float zscoreNorm(float score, List<Float> scores) {
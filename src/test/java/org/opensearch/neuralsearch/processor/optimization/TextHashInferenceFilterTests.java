@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.optimization;
+
+import org.junit.Before;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TextHashInferenceFilterTests extends OpenSearchTestCase {
+    private static final String TEXT_PATH = "textField";
+    private static final String EMBEDDING_PATH = "embeddingField";
+    private static final String HASH_PATH = EMBEDDING_PATH + TextHashInferenceFilter.TEXT_HASH_FIELD_SUFFIX;
+
+    private TextHashInferenceFilter textHashInferenceFilter;
+
+    @Before
+    public void setup() {
+        textHashInferenceFilter = new TextHashInferenceFilter(Map.of(TEXT_PATH, EMBEDDING_PATH));
+    }
+
+    public void test_getSourceIncludes_shouldFetchEmbeddingAndHashOnly() {
+        assertEquals(Set.of(EMBEDDING_PATH, HASH_PATH), Set.of(textHashInferenceFilter.getSourceIncludes()));
+    }
+
+    public void test_filterInferenceValue_TextUnchanged_ShouldCopyEmbeddingByHash() {
+        List<Double> embeddingValue = Arrays.asList(0.1, 0.2, 0.3);
+        Map<String, Object> existingSourceAndMetadataMap = indexDocument("Hello World");
+        existingSourceAndMetadataMap.put(EMBEDDING_PATH, embeddingValue);
+        // the texts of the existing document are not fetched
+        existingSourceAndMetadataMap.remove(TEXT_PATH);
+
+        Map<String, Object> sourceAndMetadataMap = new HashMap<>();
+        sourceAndMetadataMap.put(TEXT_PATH, "Hello World");
+        Map<String, Object> filteredProcessMap = textHashInferenceFilter.filterAndCopyExistingEmbeddings(
+            existingSourceAndMetadataMap,
+            sourceAndMetadataMap,
+            Map.of(EMBEDDING_PATH, "Hello World")
+        );
+
+        assertNull(filteredProcessMap.get(EMBEDDING_PATH));
+        assertEquals(embeddingValue, sourceAndMetadataMap.get(EMBEDDING_PATH));
+    }
+
+    public void test_filterInferenceValue_TextChanged_ShouldNotCopyEmbedding() {
+        Map<String, Object> existingSourceAndMetadataMap = indexDocument("Old Text");
+        existingSourceAndMetadataMap.put(EMBEDDING_PATH, Arrays.asList(0.1, 0.2, 0.3));
+
+        Map<String, Object> sourceAndMetadataMap = new HashMap<>();
+        sourceAndMetadataMap.put(TEXT_PATH, "New Text");
+        Map<String, Object> filteredProcessMap = textHashInferenceFilter.filterAndCopyExistingEmbeddings(
+            existingSourceAndMetadataMap,
+            sourceAndMetadataMap,
+            Map.of(EMBEDDING_PATH, "New Text")
+        );
+
+        assertEquals("New Text", filteredProcessMap.get(EMBEDDING_PATH));
+        assertNull(sourceAndMetadataMap.get(EMBEDDING_PATH));
+    }
+
+    public void test_filterListValue_ListUnchanged_ShouldCopyEmbeddingsByHashes() {
+        List<Map<String, Object>> embeddingList = List.of(Map.of("knn", List.of(0.1)), Map.of("knn", List.of(0.2)));
+        Map<String, Object> existingSourceAndMetadataMap = indexDocument(List.of("first", "second"));
+        existingSourceAndMetadataMap.put(EMBEDDING_PATH, embeddingList);
+        assertEquals(2, ((List<?>) existingSourceAndMetadataMap.get(HASH_PATH)).size());
+
+        Map<String, Object> sourceAndMetadataMap = new HashMap<>();
+        sourceAndMetadataMap.put(TEXT_PATH, List.of("first", "second"));
+        Map<String, Object> filteredProcessMap = textHashInferenceFilter.filterAndCopyExistingEmbeddings(
+            existingSourceAndMetadataMap,
+            sourceAndMetadataMap,
+            Map.of(EMBEDDING_PATH, List.of("first", "second"))
+        );
+
+        assertNull(filteredProcessMap.get(EMBEDDING_PATH));
+        assertEquals(embeddingList, sourceAndMetadataMap.get(EMBEDDING_PATH));
+    }
+
+    // builds the source of a document as it is indexed by a processor with the hash filter
+    private Map<String, Object> indexDocument(Object text) {
+        Map<String, Object> sourceAndMetadataMap = new HashMap<>();
+        sourceAndMetadataMap.put(TEXT_PATH, text);
+        textHashInferenceFilter.prepareDocument(Map.of(EMBEDDING_PATH, text), sourceAndMetadataMap);
+        assertNotNull(sourceAndMetadataMap.get(HASH_PATH));
+        return sourceAndMetadataMap;
+    }
+}
@@ -4,24 +4,44 @@
  */
 package org.opensearch.neuralsearch.query;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TaskExecutor;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.FixedBitSet;
 import org.junit.Before;
+import org.opensearch.neuralsearch.search.HitsThresholdChecker;
+import org.opensearch.neuralsearch.search.collector.HybridTopScoreDocCollector;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class HybridBulkScorerTests extends OpenSearchTestCase {
 
     private static final int MAX_DOC = 1000;
+    // bulk scorer scores docs in windows of 4096 docs
+    private static final int NUM_DOCS_IN_THREE_WINDOWS = 3 * 4096;
     private Scorer mockScorer1;
     private Scorer mockScorer2;
     private DocIdSetIterator mockIterator1;
@@ -106,4 +126,221 @@ public class HybridBulkScorerTests extends OpenSearchTestCase {
         int result = bulkScorer.score(mockLeafCollector, null, 0, MAX_DOC + 100);
         assertEquals(MAX_DOC, result);
     }
+
+    public void testScore_whenTopScoresAndWindowNotCompetitive_thenSkipSubQuery() throws IOException {
+        Scorer scorer1 = mockScorer(10, 1.0f, 1.0f);
+        Scorer scorer2 = mockScorer(10, 1.0f, 1.0f);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(Arrays.asList(scorer1, scorer2), ScoreMode.TOP_SCORES, MAX_DOC);
+        bulkScorer.getHybridSubQueryScorer().getMinScores()[0] = 2.0f;
+
+        int result = bulkScorer.score(mock(LeafCollector.class), null, 0, MAX_DOC);
+
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, result);
+        verify(scorer1).setMinCompetitiveScore(2.0f);
+        verify(scorer1, never()).score();
+        verify(scorer2, never()).setMinCompetitiveScore(anyFloat());
+        verify(scorer2, times(10)).score();
+        assertTrue(bulkScorer.getHybridSubQueryScorer().isNonCompetitiveHitsSkipped());
+    }
+
+    public void testScore_whenTopScoresAndWindowCompetitive_thenScoreSubQuery() throws IOException {
+        Scorer scorer1 = mockScorer(10, 3.0f, 3.0f);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(List.of(scorer1), ScoreMode.TOP_SCORES, MAX_DOC);
+        bulkScorer.getHybridSubQueryScorer().getMinScores()[0] = 2.0f;
+
+        bulkScorer.score(mock(LeafCollector.class), null, 0, MAX_DOC);
+
+        verify(scorer1, times(10)).score();
+        assertFalse(bulkScorer.getHybridSubQueryScorer().isNonCompetitiveHitsSkipped());
+    }
+
+    public void testScore_whenNotTopScores_thenNoPruning() throws IOException {
+        Scorer scorer1 = mockScorer(10, 1.0f, 1.0f);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(List.of(scorer1), true, MAX_DOC);
+        bulkScorer.getHybridSubQueryScorer().getMinScores()[0] = 2.0f;
+
+        bulkScorer.score(mock(LeafCollector.class), null, 0, MAX_DOC);
+
+        verify(scorer1, never()).setMinCompetitiveScore(anyFloat());
+        verify(scorer1, never()).getMaxScore(anyInt());
+        verify(scorer1, times(10)).score();
+    }
+
+    public void testScore_whenBatchLeafCollector_thenCollectWindow() throws IOException {
+        Scorer scorer1 = mockScorer(10, 1.0f, 1.0f);
+        Scorer scorer2 = mockScorer(5, 2.0f, 2.0f);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(Arrays.asList(scorer1, scorer2), ScoreMode.TOP_SCORES, MAX_DOC);
+        HybridBatchLeafCollector batchLeafCollector = mock(HybridBatchLeafCollector.class);
+        int[] numOfCollectedWindows = new int[1];
+        doAnswer(invocation -> {
+            FixedBitSet matching = invocation.getArgument(1);
+            float[][] windowScores = invocation.getArgument(2);
+            assertEquals(0, (int) invocation.getArgument(0));
+            assertEquals(10, matching.cardinality());
+            assertEquals(1.0f, windowScores[0][9], 0.0f);
+            assertEquals(2.0f, windowScores[1][4], 0.0f);
+            assertEquals(0.0f, windowScores[1][9], 0.0f);
+            numOfCollectedWindows[0]++;
+            return null;
+        }).when(batchLeafCollector).collectWindow(anyInt(), any(FixedBitSet.class), any(float[][].class));
+
+        bulkScorer.score(batchLeafCollector, null, 0, MAX_DOC);
+
+        assertEquals(1, numOfCollectedWindows[0]);
+        // window state is reset after the window is collected
+        assertEquals(0, bulkScorer.getMatching().cardinality());
+        assertEquals(0.0f, bulkScorer.getWindowScores()[0][9], 0.0f);
+    }
+
+    public void testScore_whenScoresNotNeeded_thenNoScoreColumns() throws IOException {
+        Scorer scorer1 = mockScorer(10, 1.0f, 1.0f);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(List.of(scorer1), false, MAX_DOC);
+
+        assertNull(bulkScorer.getWindowScores()[0]);
+        bulkScorer.score(mock(LeafCollector.class), null, 0, MAX_DOC);
+
+        verify(scorer1, never()).score();
+    }
+
+    public void testScore_whenTaskExecutor_thenScoreSubQueriesInParallel() throws IOException {
+        Scorer scorer1 = mockScorer(10, 1.0f, 1.0f);
+        Scorer scorer2 = mockScorer(5, 2.0f, 2.0f);
+        AtomicInteger numOfExecutedTasks = new AtomicInteger();
+        TaskExecutor taskExecutor = new TaskExecutor(command -> {
+            numOfExecutedTasks.incrementAndGet();
+            command.run();
+        });
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(
+            Arrays.asList(scorer1, scorer2),
+            ScoreMode.COMPLETE,
+            HybridBulkScorer.MIN_DOCS_FOR_PARALLEL_SCORING,
+            taskExecutor
+        );
+        HybridBatchLeafCollector batchLeafCollector = mock(HybridBatchLeafCollector.class);
+        doAnswer(invocation -> {
+            FixedBitSet matching = invocation.getArgument(1);
+            float[][] windowScores = invocation.getArgument(2);
+            assertEquals(10, matching.cardinality());
+            assertEquals(1.0f, windowScores[0][9], 0.0f);
+            assertEquals(2.0f, windowScores[1][4], 0.0f);
+            assertEquals(0.0f, windowScores[1][9], 0.0f);
+            return null;
+        }).when(batchLeafCollector).collectWindow(anyInt(), any(FixedBitSet.class), any(float[][].class));
+
+        bulkScorer.score(batchLeafCollector, null, 0, HybridBulkScorer.MIN_DOCS_FOR_PARALLEL_SCORING);
+
+        verify(batchLeafCollector, times(1)).collectWindow(anyInt(), any(FixedBitSet.class), any(float[][].class));
+        assertTrue(numOfExecutedTasks.get() > 0);
+        assertEquals(0, bulkScorer.getMatching().cardinality());
+    }
+
+    public void testScore_whenTaskExecutorAndSingleSubQuery_thenScoreSerially() throws IOException {
+        Scorer scorer1 = mockScorer(10, 1.0f, 1.0f);
+        AtomicInteger numOfExecutedTasks = new AtomicInteger();
+        TaskExecutor taskExecutor = new TaskExecutor(command -> {
+            numOfExecutedTasks.incrementAndGet();
+            command.run();
+        });
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(
+            Arrays.asList(scorer1, null),
+            ScoreMode.COMPLETE,
+            HybridBulkScorer.MIN_DOCS_FOR_PARALLEL_SCORING,
+            taskExecutor
+        );
+
+        bulkScorer.score(mock(LeafCollector.class), null, 0, HybridBulkScorer.MIN_DOCS_FOR_PARALLEL_SCORING);
+
+        verify(scorer1, times(10)).score();
+        assertEquals(0, numOfExecutedTasks.get());
+    }
+
+    public void testScore_whenTaskExecutorAndSmallSegment_thenScoreSerially() throws IOException {
+        Scorer scorer1 = mockScorer(10, 1.0f, 1.0f);
+        Scorer scorer2 = mockScorer(5, 2.0f, 2.0f);
+        AtomicInteger numOfExecutedTasks = new AtomicInteger();
+        TaskExecutor taskExecutor = new TaskExecutor(command -> {
+            numOfExecutedTasks.incrementAndGet();
+            command.run();
+        });
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(Arrays.asList(scorer1, scorer2), ScoreMode.COMPLETE, MAX_DOC, taskExecutor);
+
+        bulkScorer.score(mock(LeafCollector.class), null, 0, MAX_DOC);
+
+        verify(scorer1, times(10)).score();
+        verify(scorer2, times(5)).score();
+        assertEquals(0, numOfExecutedTasks.get());
+    }
+
+    public void testScore_whenTaskExecutorAndSeveralWindows_thenReuseTasksUntilSubQueryExhausted() throws IOException {
+        int numOfDocs = HybridBulkScorer.MIN_DOCS_FOR_PARALLEL_SCORING;
+        Scorer scorer1 = mockScorer(numOfDocs, 1.0f, 1.0f);
+        Scorer scorer2 = mockScorer(5, 2.0f, 2.0f);
+        TaskExecutor taskExecutor = new TaskExecutor(Runnable::run);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(Arrays.asList(scorer1, scorer2), ScoreMode.COMPLETE, numOfDocs, taskExecutor);
+        HybridBatchLeafCollector batchLeafCollector = mock(HybridBatchLeafCollector.class);
+        AtomicInteger numOfMatchingDocs = new AtomicInteger();
+        doAnswer(invocation -> {
+            FixedBitSet matching = invocation.getArgument(1);
+            numOfMatchingDocs.addAndGet(matching.cardinality());
+            return null;
+        }).when(batchLeafCollector).collectWindow(anyInt(), any(FixedBitSet.class), any(float[][].class));
+
+        bulkScorer.score(batchLeafCollector, null, 0, numOfDocs);
+
+        verify(scorer1, times(numOfDocs)).score();
+        verify(scorer2, times(5)).score();
+        assertEquals(numOfDocs, numOfMatchingDocs.get());
+    }
+
+    public void testScore_whenTopScoresAndTotalHitsThresholdNotReached_thenExactTotalHits() throws IOException {
+        TopDocs topDocs = scoreWithTopScoreDocCollector(new HitsThresholdChecker(NUM_DOCS_IN_THREE_WINDOWS + 1));
+
+        assertEquals(NUM_DOCS_IN_THREE_WINDOWS, topDocs.totalHits.value());
+        assertEquals(TotalHits.Relation.EQUAL_TO, topDocs.totalHits.relation());
+    }
+
+    public void testScore_whenTopScoresAndAllHitsTracked_thenExactTotalHits() throws IOException {
+        TopDocs topDocs = scoreWithTopScoreDocCollector(new HitsThresholdChecker(Integer.MAX_VALUE));
+
+        assertEquals(NUM_DOCS_IN_THREE_WINDOWS, topDocs.totalHits.value());
+        assertEquals(TotalHits.Relation.EQUAL_TO, topDocs.totalHits.relation());
+    }
+
+    public void testScore_whenTopScoresAndTotalHitsThresholdReached_thenSkipNonCompetitiveWindows() throws IOException {
+        TopDocs topDocs = scoreWithTopScoreDocCollector(new HitsThresholdChecker(10));
+
+        assertTrue(topDocs.totalHits.value() < NUM_DOCS_IN_THREE_WINDOWS);
+        assertEquals(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO, topDocs.totalHits.relation());
+    }
+
+    /**
+     * Scores a sub query with the same score for every doc, so once the top doc is collected every following window is
+     * non-competitive
+     */
+    private TopDocs scoreWithTopScoreDocCollector(HitsThresholdChecker hitsThresholdChecker) throws IOException {
+        Scorer scorer = mockScorer(NUM_DOCS_IN_THREE_WINDOWS, 1.0f, 1.0f);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(List.of(scorer), ScoreMode.TOP_SCORES, NUM_DOCS_IN_THREE_WINDOWS);
+        HybridTopScoreDocCollector collector = new HybridTopScoreDocCollector(1, hitsThresholdChecker);
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+                writer.addDocument(new Document());
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                LeafCollector leafCollector = collector.getLeafCollector(reader.leaves().get(0));
+                bulkScorer.score(leafCollector, null, 0, NUM_DOCS_IN_THREE_WINDOWS);
+                leafCollector.finish();
+            }
+        }
+        List<TopDocs> topDocs = collector.topDocs();
+        assertEquals(1, topDocs.size());
+        return topDocs.get(0);
+    }
+
+    private Scorer mockScorer(int numDocs, float score, float maxScore) throws IOException {
+        Scorer scorer = mock(Scorer.class);
+        when(scorer.iterator()).thenReturn(DocIdSetIterator.range(0, numDocs));
+        when(scorer.score()).thenReturn(score);
+        when(scorer.getMaxScore(anyInt())).thenReturn(maxScore);
+        return scorer;
+    }
 }
@@ -12,6 +12,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class HybridQueryDocIdStreamTests extends OpenSearchTestCase {
@@ -121,10 +123,50 @@ public class HybridQueryDocIdStreamTests extends OpenSearchTestCase {
         assertTrue(processedDocs.contains(64));
     }
 
+    @SneakyThrows
+    public void testCount_whenMatchingDocs_thenSameAsForEach() {
+        int numDocs = 4096;
+        FixedBitSet matchingDocs = new FixedBitSet(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            if (randomBoolean()) {
+                matchingDocs.set(i);
+            }
+        }
+        HybridBulkScorer mockScorer = mock(HybridBulkScorer.class);
+        when(mockScorer.getMatching()).thenReturn(matchingDocs);
+        when(mockScorer.getMaxDoc()).thenReturn(numDocs);
+        HybridQueryDocIdStream stream = new HybridQueryDocIdStream(mockScorer);
+
+        for (int upTo : new int[] { 0, 1, 63, 64, 65, randomIntBetween(0, numDocs), numDocs, numDocs + 10 }) {
+            int[] expectedCount = new int[1];
+            stream.forEach(upTo, docId -> expectedCount[0]++);
+            assertEquals(expectedCount[0], stream.count(upTo));
+        }
+    }
+
+    @SneakyThrows
+    public void testForEach_whenScoresNotNeeded_thenScoresNotCopied() {
+        FixedBitSet matchingDocs = new FixedBitSet(NUM_DOCS);
+        matchingDocs.set(DOC_ID_1);
+        HybridBulkScorer mockScorer = mock(HybridBulkScorer.class);
+        when(mockScorer.getMatching()).thenReturn(matchingDocs);
+        when(mockScorer.getMaxDoc()).thenReturn(200);
+        when(mockScorer.isNeedsScores()).thenReturn(false);
+        HybridQueryDocIdStream stream = new HybridQueryDocIdStream(mockScorer);
+        List<Integer> processedDocs = new ArrayList<>();
+
+        stream.forEach(docId -> processedDocs.add(docId));
+
+        assertEquals(List.of(DOC_ID_1), processedDocs);
+        verify(mockScorer, never()).getWindowScores();
+        verify(mockScorer, never()).getHybridSubQueryScorer();
+    }
+
     private HybridBulkScorer createMockScorerWithDocs(FixedBitSet matchingDocs, int numDocs) {
         HybridBulkScorer mockScorer = mock(HybridBulkScorer.class);
         when(mockScorer.getMatching()).thenReturn(matchingDocs);
         when(mockScorer.getMaxDoc()).thenReturn(200);
+        when(mockScorer.isNeedsScores()).thenReturn(true);
 
         // setup window scores with the specified number of docs
         float[][] windowScores = new float[2][numDocs];
@@ -146,6 +188,7 @@ public class HybridQueryDocIdStreamTests extends OpenSearchTestCase {
         HybridBulkScorer mockScorer = mock(HybridBulkScorer.class);
         when(mockScorer.getMatching()).thenReturn(matchingDocs);
         when(mockScorer.getMaxDoc()).thenReturn(200);
+        when(mockScorer.isNeedsScores()).thenReturn(true);
 
         // setup window scores
         float[][] windowScores = new float[2][NUM_DOCS]; // 2 sub-queries
@@ -13,6 +13,7 @@ import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.Index;
 import org.opensearch.index.mapper.ObjectMapper;
@@ -28,6 +29,8 @@ import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
 import org.opensearch.knn.index.mapper.KNNVectorFieldType;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.QueryInferenceCacheKey;
 import org.opensearch.neuralsearch.common.VectorUtil;
 import org.opensearch.neuralsearch.constants.SemanticFieldConstants;
 import org.opensearch.neuralsearch.constants.SemanticInfoFieldConstants;
@@ -36,8 +39,11 @@ import org.opensearch.neuralsearch.mapper.dto.SemanticParameters;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.MapInferenceRequest;
 import org.opensearch.neuralsearch.processor.TextInferenceRequest;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterTestUtils;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
+import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.transport.client.Client;
 
@@ -57,6 +63,9 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.neuralsearch.constants.MappingConstants.PROPERTIES;
 import static org.opensearch.neuralsearch.constants.MappingConstants.TYPE;
@@ -180,6 +189,38 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
         assertArrayEquals(VectorUtil.vectorAsListToArray(expectedVector), queryBuilder.vectorSupplier().get(), 0.0f);
     }
 
+    public void testRewrite_whenQueryEmbeddingCached_v3_0_0_thenSkipInference() {
+        setUpClusterService(Version.V_3_0_0);
+        TestUtils.initializeEventStatsManager();
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isQueryEmbeddingCacheEnabled()).thenReturn(true);
+        InferenceResultCache<QueryInferenceCacheKey, float[]> cache = new InferenceResultCache<>(
+            10,
+            TimeValue.timeValueMinutes(1),
+            settingsAccessor::isQueryEmbeddingCacheEnabled,
+            EventStatName.QUERY_EMBEDDING_CACHE_HITS,
+            EventStatName.QUERY_EMBEDDING_CACHE_MISSES,
+            EventStatName.QUERY_EMBEDDING_CACHE_EVICTIONS
+        );
+        float[] cachedVector = VectorUtil.vectorAsListToArray(TEST_VECTOR_LIST);
+        cache.put(QueryInferenceCacheKey.of(MODEL_ID, QUERY_TEXT, null), cachedVector);
+        NeuralQueryBuilder.initialize(mlClient, cache, null);
+
+        NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.builder()
+            .fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .build();
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+
+        NeuralQueryBuilder queryBuilder = (NeuralQueryBuilder) neuralQueryBuilder.doRewrite(queryRewriteContext);
+
+        assertArrayEquals(cachedVector, queryBuilder.vectorSupplier().get(), 0.0f);
+        verify(queryRewriteContext, never()).registerAsyncAction(any());
+        verifyNoInteractions(mlClient);
+    }
+
     public void testRewrite_whenVectorNull_v3_0_0_thenReturnCopy() {
         setUpClusterService(Version.V_3_0_0);
         Supplier<float[]> nullSupplier = () -> null;
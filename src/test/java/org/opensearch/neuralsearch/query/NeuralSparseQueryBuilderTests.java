@@ -9,6 +9,9 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.AbstractQueryBuilder.BOOST_FIELD;
 import static org.opensearch.index.query.AbstractQueryBuilder.NAME_FIELD;
@@ -45,6 +48,7 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.index.analysis.AnalyzerScope;
 import org.opensearch.index.analysis.IndexAnalyzers;
@@ -67,9 +71,14 @@ import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.neuralsearch.cache.InferenceResultCache;
+import org.opensearch.neuralsearch.cache.QueryInferenceCacheKey;
+import org.opensearch.neuralsearch.cache.SparseQueryTokens;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterTestUtils;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
+import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -782,6 +791,37 @@ public class NeuralSparseQueryBuilderTests extends OpenSearchTestCase {
         assertEquals(Map.of("1", 1f), queryBuilder.twoPhaseSharedQueryToken());
     }
 
+    public void testRewrite_whenQueryTokensCached_andPruneSet_thenSkipInferenceAndPrune() {
+        TestUtils.initializeEventStatsManager();
+        InferenceResultCache<QueryInferenceCacheKey, SparseQueryTokens> cache = new InferenceResultCache<>(
+            10,
+            TimeValue.timeValueMinutes(1),
+            () -> true,
+            EventStatName.SPARSE_QUERY_TOKENS_CACHE_HITS,
+            EventStatName.SPARSE_QUERY_TOKENS_CACHE_MISSES,
+            EventStatName.SPARSE_QUERY_TOKENS_CACHE_EVICTIONS
+        );
+        cache.put(QueryInferenceCacheKey.of(MODEL_ID, QUERY_TEXT, null), new SparseQueryTokens(Map.of("1", 1f, "2", 5f)));
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        NeuralSparseQueryBuilder.initialize(mlCommonsClientAccessor, cache);
+        NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .twoPhaseSharedQueryToken(Map.of())
+            .neuralSparseQueryTwoPhaseInfo(
+                new NeuralSparseQueryTwoPhaseInfo(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_ONE, 3f, PruneType.ABS_VALUE)
+            );
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+
+        NeuralSparseQueryBuilder queryBuilder = (NeuralSparseQueryBuilder) sparseEncodingQueryBuilder.doRewrite(queryRewriteContext);
+
+        assertEquals(Map.of("2", 5f), queryBuilder.queryTokensSupplier().get());
+        assertEquals(Map.of("1", 1f), sparseEncodingQueryBuilder.twoPhaseSharedQueryToken());
+        verify(queryRewriteContext, never()).registerAsyncAction(any());
+        verifyNoInteractions(mlCommonsClientAccessor);
+        NeuralSparseQueryBuilder.initialize(mlCommonsClientAccessor);
+    }
+
     @SneakyThrows
     public void testRewrite_whenQueryTokensSupplierSet_thenReturnSelf() {
         NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
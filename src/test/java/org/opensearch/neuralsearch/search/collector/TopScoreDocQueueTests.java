@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import org.apache.lucene.search.HitQueue;
+import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TopScoreDocQueueTests extends OpenSearchTestCase {
+
+    public void testInsertWithOverflow_whenNotFull_thenNoOverflow() {
+        TopScoreDocQueue queue = new TopScoreDocQueue(2);
+
+        assertEquals(TopScoreDocQueue.NO_OVERFLOW, queue.insertWithOverflow(1, 0.5f), 0.0f);
+        assertEquals(TopScoreDocQueue.NO_OVERFLOW, queue.insertWithOverflow(2, 0.7f), 0.0f);
+        assertEquals(2, queue.size());
+    }
+
+    public void testInsertWithOverflow_whenFull_thenReturnLowestScore() {
+        TopScoreDocQueue queue = new TopScoreDocQueue(2);
+        queue.insertWithOverflow(1, 0.5f);
+        queue.insertWithOverflow(2, 0.7f);
+
+        // competitive doc replaces the lowest entry
+        assertEquals(0.5f, queue.insertWithOverflow(3, 0.9f), 0.0f);
+        // non competitive doc is rejected
+        assertEquals(0.2f, queue.insertWithOverflow(4, 0.2f), 0.0f);
+
+        ScoreDoc[] results = new ScoreDoc[2];
+        queue.popInto(results, 2);
+        assertEquals(3, results[0].doc);
+        assertEquals(2, results[1].doc);
+        assertEquals(0, queue.size());
+    }
+
+    public void testInsertWithOverflow_whenZeroSize_thenRejectAll() {
+        TopScoreDocQueue queue = new TopScoreDocQueue(0);
+
+        assertEquals(0.5f, queue.insertWithOverflow(1, 0.5f), 0.0f);
+        assertEquals(0, queue.size());
+    }
+
+    public void testPopInto_whenRandomHits_thenSameAsHitQueue() {
+        int maxSize = randomIntBetween(1, 50);
+        TopScoreDocQueue queue = new TopScoreDocQueue(maxSize);
+        HitQueue hitQueue = new HitQueue(maxSize, false);
+        int numDocs = randomIntBetween(0, 500);
+        for (int doc = 0; doc < numDocs; doc++) {
+            // few distinct scores to have ties broken by doc id
+            float score = randomIntBetween(0, 20) / 10.0f;
+            ScoreDoc overflow = hitQueue.insertWithOverflow(new ScoreDoc(doc, score));
+            float expectedOverflowScore = overflow == null ? TopScoreDocQueue.NO_OVERFLOW : overflow.score;
+            assertEquals(expectedOverflowScore, queue.insertWithOverflow(doc, score), 0.0f);
+        }
+
+        int size = hitQueue.size();
+        assertEquals(size, queue.size());
+        ScoreDoc[] results = new ScoreDoc[size];
+        queue.popInto(results, size);
+        for (int i = size - 1; i >= 0; i--) {
+            ScoreDoc expected = hitQueue.pop();
+            assertEquals(expected.doc, results[i].doc);
+            assertEquals(expected.score, results[i].score, 0.0f);
+        }
+    }
+}
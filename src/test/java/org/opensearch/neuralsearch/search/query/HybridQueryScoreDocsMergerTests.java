@@ -10,6 +10,8 @@ import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
 
+import java.util.List;
+
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createFieldDocDelimiterElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createFieldDocStartStopElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
@@ -339,6 +341,64 @@ public class HybridQueryScoreDocsMergerTests extends OpenSearchQueryTestCase {
         assertEquals(1, mergedFieldDocs[3].fields[0]);
     }
 
+    public void testMergeScoreDocs_whenMultipleTopDocs_thenMergeInOnePass() {
+        HybridQueryScoreDocsMerger<ScoreDoc> scoreDocsMerger = new HybridQueryScoreDocsMerger<>();
+        TopDocsMerger topDocsMerger = new TopDocsMerger(null);
+        ScoreDoc[] scoreDocsFirst = new ScoreDoc[] {
+            createStartStopElementForHybridSearchResults(0),
+            createDelimiterElementForHybridSearchResults(0),
+            new ScoreDoc(0, 0.5f),
+            new ScoreDoc(2, 0.3f),
+            createDelimiterElementForHybridSearchResults(0),
+            createStartStopElementForHybridSearchResults(0) };
+        ScoreDoc[] scoreDocsSecond = new ScoreDoc[] {
+            createStartStopElementForHybridSearchResults(4),
+            createDelimiterElementForHybridSearchResults(4),
+            new ScoreDoc(4, 0.3f),
+            createDelimiterElementForHybridSearchResults(4),
+            new ScoreDoc(4, 0.6f),
+            createStartStopElementForHybridSearchResults(4) };
+        ScoreDoc[] scoreDocsThird = new ScoreDoc[] {
+            createStartStopElementForHybridSearchResults(3),
+            createDelimiterElementForHybridSearchResults(3),
+            new ScoreDoc(3, 0.4f),
+            new ScoreDoc(6, 0.3f),
+            createDelimiterElementForHybridSearchResults(3),
+            new ScoreDoc(7, 0.85f),
+            createStartStopElementForHybridSearchResults(3) };
+
+        ScoreDoc[] mergedScoreDocs = scoreDocsMerger.merge(
+            List.of(scoreDocsFirst, new ScoreDoc[0], scoreDocsSecond, scoreDocsThird),
+            topDocsMerger.SCORE_DOC_BY_SCORE_COMPARATOR,
+            false
+        );
+
+        // same result as merging score docs one by one
+        ScoreDoc[] sequentiallyMergedScoreDocs = scoreDocsMerger.merge(
+            scoreDocsMerger.merge(scoreDocsFirst, scoreDocsSecond, topDocsMerger.SCORE_DOC_BY_SCORE_COMPARATOR, false),
+            scoreDocsThird,
+            topDocsMerger.SCORE_DOC_BY_SCORE_COMPARATOR,
+            false
+        );
+        assertEquals(sequentiallyMergedScoreDocs.length, mergedScoreDocs.length);
+        for (int i = 0; i < mergedScoreDocs.length; i++) {
+            assertSame(sequentiallyMergedScoreDocs[i], mergedScoreDocs[i]);
+        }
+        assertEquals(11, mergedScoreDocs.length);
+        assertEquals(MAGIC_NUMBER_START_STOP, mergedScoreDocs[0].score, 0);
+        assertEquals(MAGIC_NUMBER_DELIMITER, mergedScoreDocs[1].score, 0);
+        assertScoreDoc(mergedScoreDocs[2], 0, 0.5f);
+        assertScoreDoc(mergedScoreDocs[3], 3, 0.4f);
+        // hits with equal scores keep the order of the inputs
+        assertScoreDoc(mergedScoreDocs[4], 2, 0.3f);
+        assertScoreDoc(mergedScoreDocs[5], 4, 0.3f);
+        assertScoreDoc(mergedScoreDocs[6], 6, 0.3f);
+        assertEquals(MAGIC_NUMBER_DELIMITER, mergedScoreDocs[7].score, 0);
+        assertScoreDoc(mergedScoreDocs[8], 7, 0.85f);
+        assertScoreDoc(mergedScoreDocs[9], 4, 0.6f);
+        assertEquals(MAGIC_NUMBER_START_STOP, mergedScoreDocs[10].score, 0);
+    }
+
     private void assertScoreDoc(ScoreDoc scoreDoc, int expectedDocId, float expectedScore) {
         assertEquals(expectedDocId, scoreDoc.doc);
         assertEquals(expectedScore, scoreDoc.score, DELTA_FOR_ASSERTION);
@@ -15,6 +15,8 @@ import org.apache.lucene.search.TotalHits;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
 
+import java.util.List;
+
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createDelimiterElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.MAGIC_NUMBER_START_STOP;
@@ -311,6 +313,63 @@ public class TopDocsMergerTests extends OpenSearchQueryTestCase {
     }
 
     @SneakyThrows
+    public void testMergeMultipleTopDocs_whenSomeTopDocsAreEmpty_thenMergeInOnePass() {
+        TopDocsMerger topDocsMerger = new TopDocsMerger(null);
+        TopDocsAndMaxScore topDocsAndMaxScoreFirst = new TopDocsAndMaxScore(
+            new TopDocs(
+                new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                new ScoreDoc[] {
+                    createStartStopElementForHybridSearchResults(0),
+                    createDelimiterElementForHybridSearchResults(0),
+                    new ScoreDoc(0, 0.5f),
+                    createDelimiterElementForHybridSearchResults(0),
+                    new ScoreDoc(2, 0.3f),
+                    createStartStopElementForHybridSearchResults(0) }
+            ),
+            0.5f
+        );
+        TopDocsAndMaxScore topDocsAndMaxScoreEmpty = new TopDocsAndMaxScore(
+            new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]),
+            0.0f
+        );
+        TopDocsAndMaxScore topDocsAndMaxScoreThird = new TopDocsAndMaxScore(
+            new TopDocs(
+                new TotalHits(3, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO),
+                new ScoreDoc[] {
+                    createStartStopElementForHybridSearchResults(3),
+                    createDelimiterElementForHybridSearchResults(3),
+                    new ScoreDoc(3, 0.7f),
+                    new ScoreDoc(5, 0.1f),
+                    createDelimiterElementForHybridSearchResults(3),
+                    new ScoreDoc(7, 0.4f),
+                    createStartStopElementForHybridSearchResults(3) }
+            ),
+            0.7f
+        );
+
+        TopDocsAndMaxScore mergedTopDocsAndMaxScore = topDocsMerger.merge(
+            List.of(topDocsAndMaxScoreFirst, topDocsAndMaxScoreEmpty, topDocsAndMaxScoreThird)
+        );
+
+        assertEquals(0.7f, mergedTopDocsAndMaxScore.maxScore, DELTA_FOR_ASSERTION);
+        assertEquals(5, mergedTopDocsAndMaxScore.topDocs.totalHits.value());
+        assertEquals(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO, mergedTopDocsAndMaxScore.topDocs.totalHits.relation());
+        ScoreDoc[] scoreDocs = mergedTopDocsAndMaxScore.topDocs.scoreDocs;
+        assertEquals(9, scoreDocs.length);
+        assertEquals(MAGIC_NUMBER_START_STOP, scoreDocs[0].score, 0);
+        assertEquals(MAGIC_NUMBER_DELIMITER, scoreDocs[1].score, 0);
+        assertScoreDoc(scoreDocs[2], 3, 0.7f);
+        assertScoreDoc(scoreDocs[3], 0, 0.5f);
+        assertScoreDoc(scoreDocs[4], 5, 0.1f);
+        assertEquals(MAGIC_NUMBER_DELIMITER, scoreDocs[5].score, 0);
+        assertScoreDoc(scoreDocs[6], 7, 0.4f);
+        assertScoreDoc(scoreDocs[7], 2, 0.3f);
+        assertEquals(MAGIC_NUMBER_START_STOP, scoreDocs[8].score, 0);
+
+        // only empty top docs, the first one is returned
+        assertSame(topDocsAndMaxScoreEmpty, topDocsMerger.merge(List.of(topDocsAndMaxScoreEmpty, topDocsAndMaxScoreEmpty)));
+    }
+
     public void testMergeFieldDocs_whenBothTopDocsHasHits_thenSuccessful() {
         DocValueFormat docValueFormat[] = new DocValueFormat[] { DocValueFormat.RAW };
         SortField sortField = new SortField("stock", SortField.Type.INT, true);
@@ -64,6 +64,23 @@ public class EventStatsManagerTests extends OpenSearchTestCase {
         assertNotNull(result.get(STAT_NAME));
     }
 
+    public void test_registerGauge() {
+        EventStatsManager.registerGauge(EventStatName.INFERENCE_CALLS_QUEUE_DEPTH, () -> 3L);
+        try {
+            Map<EventStatName, TimestampedEventStatSnapshot> result = eventStatsManager.getTimestampedEventStatSnapshots(
+                EnumSet.of(EventStatName.INFERENCE_CALLS_QUEUE_DEPTH)
+            );
+
+            assertEquals(3L, result.get(EventStatName.INFERENCE_CALLS_QUEUE_DEPTH).getValue().longValue());
+        } finally {
+            EventStatsManager.registerGauge(EventStatName.INFERENCE_CALLS_QUEUE_DEPTH, () -> 0L);
+        }
+    }
+
+    public void test_registerGaugeWhenNotGauge() {
+        assertThrows(IllegalArgumentException.class, () -> EventStatsManager.registerGauge(STAT_NAME, () -> 3L));
+    }
+
     public void test_getTimestampedEventStatSnapshotsReturnsEmptyMap() {
         Map<EventStatName, TimestampedEventStatSnapshot> result = eventStatsManager.getTimestampedEventStatSnapshots(
             EnumSet.noneOf(EventStatName.class)
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.stats.events;
+
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.neuralsearch.stats.common.StatSnapshot;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.opensearch.neuralsearch.util.TestUtils.xContentBuilderToMap;
+
+public class GaugeEventStatTests extends OpenSearchTestCase {
+    private static final EventStatName STAT_NAME = EventStatName.INFERENCE_CALLS_QUEUE_DEPTH;
+
+    public void test_initialization() {
+        GaugeEventStat stat = new GaugeEventStat(STAT_NAME);
+        assertEquals(0, stat.getValue());
+    }
+
+    public void test_valueSupplier() {
+        AtomicLong value = new AtomicLong(5);
+        GaugeEventStat stat = new GaugeEventStat(STAT_NAME);
+        stat.setValueSupplier(value::get);
+
+        assertEquals(5, stat.getValue());
+        value.set(2);
+        assertEquals(2, stat.getValue());
+
+        // the value reflects the current state of the node and is kept on reset
+        stat.reset();
+        assertEquals(2, stat.getValue());
+    }
+
+    public void test_increment() {
+        GaugeEventStat stat = new GaugeEventStat(STAT_NAME);
+        stat.setValueSupplier(() -> 3L);
+        assertThrows(AssertionError.class, stat::increment);
+        assertThrows(AssertionError.class, () -> stat.incrementBy(2));
+        assertEquals(3, stat.getValue());
+    }
+
+    public void test_getStatSnapshot() throws IOException {
+        GaugeEventStat stat = new GaugeEventStat(STAT_NAME);
+        stat.setValueSupplier(() -> 7L);
+
+        TimestampedEventStatSnapshot snapshot = stat.getStatSnapshot();
+        assertEquals(STAT_NAME, snapshot.getStatName());
+        assertEquals(7L, snapshot.getValue().longValue());
+
+        XContentBuilder builder = JsonXContent.contentBuilder();
+        snapshot.toXContent(builder, null);
+        Map<String, Object> responseMap = xContentBuilderToMap(builder);
+
+        assertEquals(7, responseMap.get(StatSnapshot.VALUE_FIELD));
+        assertEquals(EventStatType.GAUGE.getTypeString(), responseMap.get(StatSnapshot.STAT_TYPE_FIELD));
+        assertFalse(responseMap.containsKey(TimestampedEventStatSnapshot.TRAILING_INTERVAL_KEY));
+        assertFalse(responseMap.containsKey(TimestampedEventStatSnapshot.MINUTES_SINCE_LAST_EVENT_KEY));
+    }
+}
@@ -43,6 +43,16 @@ public class TimestampedEventStatTests extends OpenSearchTestCase {
         assertEquals(2, stat.getValue());
     }
 
+    public void test_incrementBy() {
+        stat.incrementBy(5);
+        stat.increment();
+        assertEquals(6, stat.getValue());
+
+        // Move to next bucket
+        currentTime += BUCKET_INTERVAL_MS;
+        assertEquals(6, stat.getTrailingIntervalValue());
+    }
+
     public void test_trailingIntervalSingleBucket() {
         // Add events in same bucket
         for (int i = 0; i < 5; i++) {
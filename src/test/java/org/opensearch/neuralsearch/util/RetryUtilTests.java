@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.NodeNotConnectedException;
+
+public class RetryUtilTests extends OpenSearchTestCase {
+
+    @SuppressWarnings("unchecked")
+    public void testHandleRetryOrFailure_whenRetryableWithThreadPool_thenScheduleRetry() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ActionListener<Object> listener = mock(ActionListener.class);
+        AtomicInteger retries = new AtomicInteger();
+
+        RetryUtil.handleRetryOrFailure(createConnectionFailure(), 0, retries::incrementAndGet, listener, threadPool);
+
+        ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<TimeValue> delayCaptor = ArgumentCaptor.forClass(TimeValue.class);
+        verify(threadPool).schedule(retryCaptor.capture(), delayCaptor.capture(), eq(ThreadPool.Names.GENERIC));
+        assertEquals(0, retries.get());
+        assertTrue(delayCaptor.getValue().millis() >= 500);
+
+        retryCaptor.getValue().run();
+        assertEquals(1, retries.get());
+        verifyNoInteractions(listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testHandleRetryOrFailure_whenRetriesExhausted_thenFail() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ActionListener<Object> listener = mock(ActionListener.class);
+        NodeNotConnectedException exception = createConnectionFailure();
+
+        RetryUtil.handleRetryOrFailure(exception, 3, () -> fail("must not retry"), listener, threadPool);
+
+        verify(listener).onFailure(exception);
+        verifyNoInteractions(threadPool);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testHandleRetryOrFailure_whenNotRetryable_thenFail() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ActionListener<Object> listener = mock(ActionListener.class);
+        IllegalArgumentException exception = new IllegalArgumentException("bad input");
+
+        RetryUtil.handleRetryOrFailure(exception, 0, () -> fail("must not retry"), listener, threadPool);
+
+        verify(listener).onFailure(exception);
+        verifyNoInteractions(threadPool);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testScheduleRetry_whenSchedulingRejected_thenFail() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ActionListener<Object> listener = mock(ActionListener.class);
+        NodeNotConnectedException exception = createConnectionFailure();
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), any(String.class))).thenThrow(
+            new OpenSearchRejectedExecutionException("shutting down")
+        );
+
+        RetryUtil.scheduleRetry(exception, 0, () -> fail("must not retry"), listener, threadPool);
+
+        verify(listener).onFailure(exception);
+    }
+
+    private NodeNotConnectedException createConnectionFailure() {
+        return new NodeNotConnectedException(mock(DiscoveryNode.class), "Node not connected");
+    }
+}